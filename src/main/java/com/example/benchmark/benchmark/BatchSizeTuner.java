@@ -0,0 +1,292 @@
+package com.example.benchmark.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 처리량 측정값으로 배치 크기를 찾아가는 hill climbing 튜너.
+ *
+ * <p>현재까지의 최적 크기에서 factor 배만큼 키우거나 줄인 후보를 측정하여,
+ * 처리량이 tolerance 이상 개선되면 같은 방향으로 계속 이동합니다.
+ * 개선되지 않으면 방향을 바꾸고, 양방향 모두 개선이 없으면 factor를 제곱근으로 줄여
+ * 더 작은 보폭으로 탐색합니다. factor가 {@value #MIN_FACTOR} 미만이 되면 수렴한 것으로 봅니다.</p>
+ *
+ * <p>가드레일:</p>
+ * <ul>
+ *   <li>후보 크기는 항상 [minBatchSize, maxBatchSize] 범위로 제한</li>
+ *   <li>배치당 지연 시간이 maxBatchLatencyMs를 넘은 후보는 처리량과 무관하게 채택하지 않음</li>
+ *   <li>시작 크기부터 지연 시간을 넘으면 제한을 만족하는 크기가 나올 때까지 더 작은 크기로 이동하며,
+ *       minBatchSize도 제한을 넘으면 minBatchSize를 최적 크기로 보고</li>
+ * </ul>
+ *
+ * <p>스레드 안전하지 않으며, 한 번의 튜닝 세션에서만 사용합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class BatchSizeTuner {
+
+    private static final double INITIAL_FACTOR = 2.0;
+    private static final double MIN_FACTOR = 1.1;
+    private static final double DEFAULT_TOLERANCE = 0.05;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long maxBatchLatencyMs;
+    private final double tolerance;
+    private final List<Step> trajectory = new ArrayList<>();
+
+    private int candidate;
+    private int bestSize;
+    private double bestRowsPerSecond = -1;
+    private boolean bestWithinLatency;
+    private int direction = 1;
+    private double factor = INITIAL_FACTOR;
+    private boolean reversedAtFactor;
+    private boolean converged;
+
+    /**
+     * BatchSizeTuner 생성자.
+     *
+     * @param initialBatchSize 시작 배치 크기 (범위를 벗어나면 범위 안으로 조정)
+     * @param minBatchSize 최소 배치 크기 (1 이상)
+     * @param maxBatchSize 최대 배치 크기 (minBatchSize 이상)
+     * @param maxBatchLatencyMs 배치당 허용 지연 시간 (ms, 0이면 제한 없음)
+     * @throws IllegalArgumentException 범위가 잘못된 경우
+     */
+    public BatchSizeTuner(int initialBatchSize, int minBatchSize, int maxBatchSize, long maxBatchLatencyMs) {
+        this(initialBatchSize, minBatchSize, maxBatchSize, maxBatchLatencyMs, DEFAULT_TOLERANCE);
+    }
+
+    BatchSizeTuner(int initialBatchSize, int minBatchSize, int maxBatchSize, long maxBatchLatencyMs,
+                   double tolerance) {
+        if (minBatchSize < 1) {
+            throw new IllegalArgumentException("minBatchSize must be at least 1, but was: " + minBatchSize);
+        }
+        if (maxBatchSize < minBatchSize) {
+            throw new IllegalArgumentException("maxBatchSize must be at least minBatchSize(" + minBatchSize
+                    + "), but was: " + maxBatchSize);
+        }
+        if (maxBatchLatencyMs < 0) {
+            throw new IllegalArgumentException("maxBatchLatencyMs must be non-negative, but was: "
+                    + maxBatchLatencyMs);
+        }
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchLatencyMs = maxBatchLatencyMs;
+        this.tolerance = tolerance;
+        this.candidate = clamp(initialBatchSize);
+        this.bestSize = candidate;
+    }
+
+    /**
+     * 다음에 측정할 배치 크기를 반환합니다.
+     *
+     * <p>수렴한 이후에는 최적 크기를 반환합니다.</p>
+     *
+     * @return 배치 크기
+     */
+    public int nextBatchSize() {
+        return converged ? bestSize : candidate;
+    }
+
+    /**
+     * 측정 결과를 기록하고 다음 후보를 결정합니다.
+     *
+     * @param batchSize 측정에 사용한 배치 크기
+     * @param rows 측정 구간에서 삽입한 행 수
+     * @param batches 측정 구간에서 실행한 배치 수 (1 이상)
+     * @param durationNanos 측정 구간 소요 시간 (ns)
+     */
+    public void record(int batchSize, int rows, int batches, long durationNanos) {
+        double seconds = Math.max(durationNanos, 1L) / 1_000_000_000.0;
+        double rowsPerSecond = rows / seconds;
+        double batchLatencyMs = durationNanos / 1_000_000.0 / Math.max(batches, 1);
+        boolean withinLatency = maxBatchLatencyMs == 0 || batchLatencyMs <= maxBatchLatencyMs;
+        trajectory.add(new Step(batchSize, rowsPerSecond, batchLatencyMs, withinLatency));
+
+        if (converged) {
+            return;
+        }
+
+        if (!withinLatency && !bestWithinLatency) {
+            // 지연 시간 제한을 만족한 크기가 아직 없으면 처리량과 무관하게 더 작은 크기로 이동
+            bestRowsPerSecond = rowsPerSecond;
+            bestSize = batchSize;
+            shrinkTowardLatencyLimit();
+            return;
+        }
+
+        if (!bestWithinLatency) {
+            // 지연 시간 제한을 만족한 첫 측정이 기준점
+            bestRowsPerSecond = rowsPerSecond;
+            bestSize = batchSize;
+            bestWithinLatency = true;
+            reversedAtFactor = false;
+            advance();
+            return;
+        }
+
+        if (withinLatency && rowsPerSecond > bestRowsPerSecond * (1 + tolerance)) {
+            bestRowsPerSecond = rowsPerSecond;
+            bestSize = batchSize;
+            reversedAtFactor = false;
+        } else if (!reversedAtFactor) {
+            direction = -direction;
+            reversedAtFactor = true;
+        } else {
+            narrow();
+        }
+        advance();
+    }
+
+    private void advance() {
+        // 범위 경계에 막혀 후보가 최적 크기와 같아지면 방향 전환 또는 보폭 축소
+        for (int attempt = 0; attempt < 64 && !converged; attempt++) {
+            int next = clamp((int) Math.round(direction > 0 ? bestSize * factor : bestSize / factor));
+            if (next != bestSize) {
+                candidate = next;
+                return;
+            }
+            if (!reversedAtFactor) {
+                direction = -direction;
+                reversedAtFactor = true;
+            } else {
+                narrow();
+            }
+        }
+        converged = true;
+    }
+
+    private void shrinkTowardLatencyLimit() {
+        if (bestSize <= minBatchSize) {
+            // 최소 크기도 제한을 넘으면 더 줄일 수 없으므로 종료
+            converged = true;
+            return;
+        }
+        direction = -1;
+        candidate = Math.min(bestSize - 1, clamp((int) Math.round(bestSize / factor)));
+    }
+
+    private void narrow() {
+        factor = Math.sqrt(factor);
+        reversedAtFactor = false;
+        if (factor < MIN_FACTOR) {
+            converged = true;
+        }
+    }
+
+    private int clamp(int batchSize) {
+        return Math.max(minBatchSize, Math.min(maxBatchSize, batchSize));
+    }
+
+    /**
+     * 탐색이 수렴했는지 반환합니다.
+     *
+     * @return 수렴 여부
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * 지금까지 가장 높은 처리량을 보인 배치 크기를 반환합니다.
+     *
+     * @return 최적 배치 크기
+     */
+    public int getBestBatchSize() {
+        return bestSize;
+    }
+
+    /**
+     * 측정 이력을 반환합니다.
+     *
+     * @return 측정 순서대로 정렬된 이력 (불변)
+     */
+    public List<Step> getTrajectory() {
+        return Collections.unmodifiableList(trajectory);
+    }
+
+    /**
+     * 측정 이력을 리포트용 문자열로 변환합니다.
+     *
+     * @return {@code 크기@처리량} 항목을 화살표로 연결한 문자열
+     */
+    public String formatTrajectory() {
+        StringBuilder sb = new StringBuilder();
+        for (Step step : trajectory) {
+            if (sb.length() > 0) {
+                sb.append(" -> ");
+            }
+            sb.append(step.getBatchSize()).append('@').append(String.format("%.0f", step.getRowsPerSecond()));
+            if (!step.isWithinLatency()) {
+                sb.append("(latency)");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 튜닝 측정 한 구간의 결과.
+     */
+    public static final class Step {
+        private final int batchSize;
+        private final double rowsPerSecond;
+        private final double batchLatencyMs;
+        private final boolean withinLatency;
+
+        Step(int batchSize, double rowsPerSecond, double batchLatencyMs, boolean withinLatency) {
+            this.batchSize = batchSize;
+            this.rowsPerSecond = rowsPerSecond;
+            this.batchLatencyMs = batchLatencyMs;
+            this.withinLatency = withinLatency;
+        }
+
+        /**
+         * 측정한 배치 크기를 반환합니다.
+         *
+         * @return 배치 크기
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * 측정 구간의 초당 행 수를 반환합니다.
+         *
+         * @return rows/sec
+         */
+        public double getRowsPerSecond() {
+            return rowsPerSecond;
+        }
+
+        /**
+         * 배치당 평균 지연 시간을 반환합니다.
+         *
+         * @return 지연 시간 (ms)
+         */
+        public double getBatchLatencyMs() {
+            return batchLatencyMs;
+        }
+
+        /**
+         * 지연 시간 가드레일을 만족했는지 반환합니다.
+         *
+         * @return 만족 여부
+         */
+        public boolean isWithinLatency() {
+            return withinLatency;
+        }
+
+        @Override
+        public String toString() {
+            return "Step{" +
+                    "batchSize=" + batchSize +
+                    ", rowsPerSecond=" + String.format("%.2f", rowsPerSecond) +
+                    ", batchLatencyMs=" + String.format("%.2f", batchLatencyMs) +
+                    ", withinLatency=" + withinLatency +
+                    '}';
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.benchmark.benchmark;
 
+import com.example.benchmark.config.Workload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -12,7 +13,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.example.benchmark.util.StringUtils.repeat;
 
@@ -29,7 +32,7 @@ public class BenchmarkReportGenerator {
 
     private static final Logger log = LoggerFactory.getLogger(BenchmarkReportGenerator.class);
 
-    private static final String CSV_HEADER = "Type,RecordCount,BatchSize,Iterations,AvgDuration(ms),MinDuration(ms),MaxDuration(ms),StdDev(ms),AvgTPS";
+    private static final String CSV_HEADER = "Type,RecordCount,BatchSize,Iterations,AvgDuration(ms),MinDuration(ms),MaxDuration(ms),StdDev(ms),AvgTPS,CommitPolicy,Workload,DataProfile";
     private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
 
     /**
@@ -84,27 +87,39 @@ public class BenchmarkReportGenerator {
         for (BenchmarkResult result : results) {
             log.info("");
             log.info("[{}]", result.getRepositoryType());
-            log.info("  Records: {}, BatchSize: {}, Iterations: {}",
-                    result.getRecordCount(), result.getBatchSize(), result.getIterations());
+            log.info("  Workload: {}, Records: {}, BatchSize: {}, Iterations: {}, CommitPolicy: {}, DataProfile: {}",
+                    result.getWorkload(), result.getRecordCount(), result.getBatchSize(), result.getIterations(),
+                    result.getCommitPolicy(), result.getDataProfile());
             log.info("  Durations: {} ms", result.getDurations());
             log.info("  Average Duration: {} ms", String.format("%.2f", result.getAverageDuration()));
             log.info("  Average TPS: {}", String.format("%.2f", result.getAverageTps()));
             log.info("  Std Deviation: {} ms", String.format("%.2f", result.getStandardDeviation()));
             log.info("  Min/Max: {} / {} ms", result.getMinDuration(), result.getMaxDuration());
+            for (Map.Entry<String, String> metric : result.getMetrics().entrySet()) {
+                log.info("  {}: {}", metric.getKey(), metric.getValue());
+            }
         }
 
         log.info("");
 
-        // 성능 비교
-        printPerformanceComparison(results);
+        // 성능 비교 (처리량은 같은 워크로드끼리만 비교)
+        for (Workload workload : Workload.values()) {
+            List<BenchmarkResult> workloadResults = new ArrayList<>();
+            for (BenchmarkResult result : results) {
+                if (result.getWorkload() == workload) {
+                    workloadResults.add(result);
+                }
+            }
+            printPerformanceComparison(workload, workloadResults);
+        }
     }
 
-    private void printPerformanceComparison(List<BenchmarkResult> results) {
+    private void printPerformanceComparison(Workload workload, List<BenchmarkResult> results) {
         if (results.size() < 2) {
             return;
         }
 
-        log.info("PERFORMANCE COMPARISON:");
+        log.info("PERFORMANCE COMPARISON ({}):", workload);
         log.info(repeat("-", 60));
 
         BenchmarkResult fastest = results.get(0);
@@ -144,7 +159,7 @@ public class BenchmarkReportGenerator {
             writer.println(CSV_HEADER);
 
             for (BenchmarkResult result : results) {
-                writer.printf("%s,%d,%d,%d,%.2f,%d,%d,%.2f,%.2f%n",
+                writer.printf("%s,%d,%d,%d,%.2f,%d,%d,%.2f,%.2f,%s,%s,%s%n",
                         result.getRepositoryType(),
                         result.getRecordCount(),
                         result.getBatchSize(),
@@ -153,7 +168,10 @@ public class BenchmarkReportGenerator {
                         result.getMinDuration(),
                         result.getMaxDuration(),
                         result.getStandardDeviation(),
-                        result.getAverageTps());
+                        result.getAverageTps(),
+                        result.getCommitPolicy(),
+                        result.getWorkload(),
+                        result.getDataProfile());
             }
 
             log.info("CSV report saved to: {}", filePath.toAbsolutePath());
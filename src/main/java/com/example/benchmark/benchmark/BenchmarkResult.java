@@ -1,9 +1,15 @@
 package com.example.benchmark.benchmark;
 
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.config.DataProfile;
+import com.example.benchmark.config.Workload;
+
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -17,19 +23,27 @@ import java.util.Objects;
 public final class BenchmarkResult {
 
     private final String repositoryType;
+    private final Workload workload;
     private final int recordCount;
     private final int batchSize;
     private final int iterations;
+    private final CommitPolicy commitPolicy;
+    private final String dataProfile;
     private final List<Long> durations;
     private final Instant executedAt;
+    private final Map<String, String> metrics;
 
     private BenchmarkResult(Builder builder) {
         this.repositoryType = Objects.requireNonNull(builder.repositoryType, "repositoryType must not be null");
+        this.workload = Objects.requireNonNull(builder.workload, "workload must not be null");
         this.recordCount = builder.recordCount;
         this.batchSize = builder.batchSize;
         this.iterations = builder.iterations;
+        this.commitPolicy = Objects.requireNonNull(builder.commitPolicy, "commitPolicy must not be null");
+        this.dataProfile = Objects.requireNonNull(builder.dataProfile, "dataProfile must not be null");
         this.durations = Collections.unmodifiableList(new ArrayList<>(builder.durations));
         this.executedAt = Objects.requireNonNull(builder.executedAt, "executedAt must not be null");
+        this.metrics = Collections.unmodifiableMap(new LinkedHashMap<>(builder.metrics));
     }
 
     /**
@@ -41,6 +55,15 @@ public final class BenchmarkResult {
         return repositoryType;
     }
 
+    /**
+     * 측정한 워크로드를 반환합니다.
+     *
+     * @return 워크로드
+     */
+    public Workload getWorkload() {
+        return workload;
+    }
+
     /**
      * 테스트 레코드 수를 반환합니다.
      *
@@ -68,6 +91,24 @@ public final class BenchmarkResult {
         return iterations;
     }
 
+    /**
+     * 측정에 사용한 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책
+     */
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    /**
+     * 입력 데이터 생성에 사용한 데이터 프로파일 이름을 반환합니다.
+     *
+     * @return 데이터 프로파일 이름
+     */
+    public String getDataProfile() {
+        return dataProfile;
+    }
+
     /**
      * 각 반복의 실행 시간 리스트를 반환합니다.
      *
@@ -86,6 +127,15 @@ public final class BenchmarkResult {
         return executedAt;
     }
 
+    /**
+     * 구현체별 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵 (입력 순서 유지)
+     */
+    public Map<String, String> getMetrics() {
+        return metrics;
+    }
+
     /**
      * 평균 실행 시간을 계산합니다.
      *
@@ -171,9 +221,12 @@ public final class BenchmarkResult {
     public String toString() {
         return "BenchmarkResult{" +
                 "repositoryType='" + repositoryType + '\'' +
+                ", workload=" + workload +
                 ", recordCount=" + recordCount +
                 ", batchSize=" + batchSize +
                 ", iterations=" + iterations +
+                ", commitPolicy=" + commitPolicy +
+                ", dataProfile=" + dataProfile +
                 ", avgDuration=" + String.format("%.2f", getAverageDuration()) + "ms" +
                 ", avgTps=" + String.format("%.2f", getAverageTps()) +
                 '}';
@@ -193,11 +246,15 @@ public final class BenchmarkResult {
      */
     public static final class Builder {
         private String repositoryType;
+        private Workload workload = Workload.INSERT;
         private int recordCount;
         private int batchSize;
         private int iterations;
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+        private String dataProfile = DataProfile.DEFAULT_NAME;
         private List<Long> durations = new ArrayList<>();
         private Instant executedAt = Instant.now();
+        private Map<String, String> metrics = new LinkedHashMap<>();
 
         private Builder() {
         }
@@ -213,6 +270,17 @@ public final class BenchmarkResult {
             return this;
         }
 
+        /**
+         * 워크로드를 설정합니다.
+         *
+         * @param workload 워크로드 (기본값: INSERT)
+         * @return this builder
+         */
+        public Builder workload(Workload workload) {
+            this.workload = workload;
+            return this;
+        }
+
         /**
          * 레코드 수를 설정합니다.
          *
@@ -246,6 +314,28 @@ public final class BenchmarkResult {
             return this;
         }
 
+        /**
+         * 커밋 정책을 설정합니다.
+         *
+         * @param commitPolicy 커밋 정책
+         * @return this builder
+         */
+        public Builder commitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+            return this;
+        }
+
+        /**
+         * 데이터 프로파일 이름을 설정합니다.
+         *
+         * @param dataProfile 데이터 프로파일 이름 (기본값: default)
+         * @return this builder
+         */
+        public Builder dataProfile(String dataProfile) {
+            this.dataProfile = dataProfile;
+            return this;
+        }
+
         /**
          * 실행 시간 리스트를 설정합니다.
          *
@@ -279,6 +369,29 @@ public final class BenchmarkResult {
             return this;
         }
 
+        /**
+         * 부가 지표를 설정합니다.
+         *
+         * @param metrics 지표명과 값의 맵
+         * @return this builder
+         */
+        public Builder metrics(Map<String, String> metrics) {
+            this.metrics = new LinkedHashMap<>(metrics);
+            return this;
+        }
+
+        /**
+         * 부가 지표를 추가합니다.
+         *
+         * @param name 지표명
+         * @param value 지표 값
+         * @return this builder
+         */
+        public Builder addMetric(String name, String value) {
+            this.metrics.put(name, value);
+            return this;
+        }
+
         /**
          * BenchmarkResult 인스턴스를 생성합니다.
          *
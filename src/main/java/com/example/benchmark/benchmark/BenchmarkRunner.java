@@ -1,37 +1,98 @@
 package com.example.benchmark.benchmark;
 
 import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.config.DataProfile;
+import com.example.benchmark.config.TableDefinition;
+import com.example.benchmark.config.WaitStrategy;
+import com.example.benchmark.config.Workload;
+import com.example.benchmark.domain.ColumnarRecordBatch;
 import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.exception.BenchmarkException;
 import com.example.benchmark.repository.BatchInsertRepository;
+import com.example.benchmark.repository.ColumnarBatchInsertRepository;
+import com.example.benchmark.repository.CopyRepository;
+import com.example.benchmark.repository.DeleteRepository;
+import com.example.benchmark.repository.ExportRepository;
+import com.example.benchmark.repository.JdbcTableBatchInsertRepository;
+import com.example.benchmark.repository.LookupRepository;
 import com.example.benchmark.repository.SingleInsertRepository;
+import com.example.benchmark.repository.UpdateRepository;
+import com.example.benchmark.repository.UpsertRepository;
+import com.example.benchmark.service.BlockingQueueIngestStage;
+import com.example.benchmark.service.GroupCommitInsertService;
+import com.example.benchmark.service.IngestStage;
+import com.example.benchmark.service.JdbcIngestWriter;
+import com.example.benchmark.service.RecordRingBuffer;
+import com.example.benchmark.service.RingBufferIngestStage;
+import com.example.benchmark.util.AllocationMeter;
+import com.example.benchmark.util.RecordDatasetFile;
+import com.example.benchmark.util.TableRowGenerator;
 import com.example.benchmark.util.TestDataGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
 
 import static com.example.benchmark.util.StringUtils.repeat;
 
 /**
  * 벤치마크 실행기.
  *
- * <p>JDBC와 MyBatis의 배치/단건 삽입 성능을 측정하고 비교합니다.</p>
+ * <p>JDBC와 MyBatis의 배치/단건 삽입 성능과 MERGE 업서트 성능을 측정하고 비교합니다.</p>
  *
  * <p>실행 순서:</p>
  * <ol>
+ *   <li>datasetDirectory가 설정되어 있으면 INSERT 엔진 공통 입력 데이터셋 파일 준비 (있으면 재사용)</li>
  *   <li>JVM 웜업 (warmupCount 건 삽입 후 삭제)</li>
- *   <li>JDBC Batch Insert 측정</li>
- *   <li>JDBC Single Insert 측정</li>
- *   <li>MyBatis Batch Insert 측정</li>
- *   <li>MyBatis Single Insert 측정</li>
+ *   <li>INSERT 워크로드: 배치 삽입 Repository 측정(columnarInsert이면 컬럼 배치 경로와 행당 할당량 비교) 후
+ *       단건 삽입 Repository 측정,
+ *       이어서 단건 삽입 Repository마다 스레드 수를 1, 2, 4 ... singleScalingMaxThreads로 늘려 측정하고,
+ *       groupCommitSubmitters개 스레드가 {@link GroupCommitInsertService}에 단건씩 제출하는 경우와 비교</li>
+ *   <li>UPSERT 워크로드: 업서트 Repository마다 설정된 갱신 비율별로 측정</li>
+ *   <li>UPDATE 워크로드: UPDATE Repository마다 ID 기준 배치 갱신과 상태 기준 일괄 갱신 측정</li>
+ *   <li>DELETE 워크로드: DELETE Repository마다 purgeRatio 비율의 과거 데이터 청크 삭제 측정</li>
+ *   <li>COPY 워크로드: 복사 Repository마다 원본 테이블 recordCount 건을 test_record로 복사하는 시간 측정</li>
+ *   <li>READ 워크로드: 내보내기 Repository마다 exportFetchSizes의 fetchSize별로 전체 테이블 CSV 내보내기 측정</li>
+ *   <li>MIXED 워크로드: 쓰기 구현체와 조회 Repository 조합마다 부하 없는 조회 지연과 배치 삽입 중 조회 지연 측정</li>
+ *   <li>INGEST 워크로드: 생산자 스레드가 수집 단계에 넘긴 recordCount 건을 소비자 스레드가 배치 삽입하는 처리량과
+ *       할당량을 링 버퍼 대기 전략별, ArrayBlockingQueue 기준으로 측정</li>
+ *   <li>TABLE 워크로드: tables에 선언한 테이블마다 정의대로 테이블을 만들고 생성한 행 recordCount 건의
+ *       배치 삽입 시간 측정 후 테이블 삭제</li>
  *   <li>결과 리포트 생성</li>
  * </ol>
  *
+ * <p>각 워크로드는 {@link BenchmarkProperties#getWorkloads()}에 포함된 경우에만 실행합니다.</p>
+ *
+ * <p>테스트 데이터는 {@link BenchmarkProperties#toDataProfile()}의 데이터 프로파일로 생성하며,
+ * 모든 결과에 프로파일 이름을 기록합니다.</p>
+ *
  * @author Developer Agent
  * @since 1.0
  */
@@ -40,30 +101,81 @@ public class BenchmarkRunner implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(BenchmarkRunner.class);
 
+    private static final int TUNING_PROBE_BATCHES = 5;
+    private static final String STATUS_UPDATE_FROM = "PENDING";
+    private static final String STATUS_UPDATE_TO = "COMPLETED";
+    private static final Duration HISTORY_SPAN = Duration.ofDays(365);
+    private static final String[] LOOKUP_STATUSES = {"ACTIVE", "INACTIVE", "PENDING", "COMPLETED"};
+    private static final Duration LOOKUP_WINDOW = Duration.ofDays(1);
+    private static final int LOOKUP_LIMIT = 100;
+    private static final Duration POOL_SAMPLE_INTERVAL = Duration.ofMillis(1);
+
     private final BenchmarkProperties properties;
     private final List<BatchInsertRepository> batchRepositories;
     private final List<SingleInsertRepository> singleRepositories;
+    private final List<UpsertRepository> upsertRepositories;
+    private final List<UpdateRepository> updateRepositories;
+    private final List<DeleteRepository> deleteRepositories;
+    private final List<CopyRepository> copyRepositories;
+    private final List<ExportRepository> exportRepositories;
+    private final List<LookupRepository> lookupRepositories;
+    private final ConnectionPoolSampler poolSampler;
+    private final JdbcIngestWriter ingestWriter;
+    private final List<JdbcTableBatchInsertRepository> tableRepositories;
     private final BenchmarkReportGenerator reportGenerator;
+    private final DataProfile dataProfile;
     private final TestDataGenerator dataGenerator;
+    private RecordDatasetFile dataset;
 
     /**
      * BenchmarkRunner 생성자.
      *
+     * <p>워크로드별 Repository 목록은 해당 구현체가 없으면 빈 목록을 받습니다.</p>
+     *
      * @param properties 벤치마크 설정
      * @param batchRepositories 배치 삽입 Repository 목록
      * @param singleRepositories 단건 삽입 Repository 목록
+     * @param upsertRepositories 업서트 Repository 목록
+     * @param updateRepositories UPDATE Repository 목록
+     * @param deleteRepositories DELETE Repository 목록
+     * @param copyRepositories 복사 Repository 목록
+     * @param exportRepositories 내보내기 Repository 목록
+     * @param lookupRepositories 인덱스 조회 Repository 목록
+     * @param tableRepositories 선언한 테이블별 배치 삽입 Repository 목록
+     * @param ingestWriter 수집 쓰기 도구 (null이면 INGEST 워크로드를 생략)
+     * @param dataSource 데이터소스 (null이면 커넥션 풀 지표를 기록하지 않음)
      * @param reportGenerator 리포트 생성기
      */
+    @Autowired
     public BenchmarkRunner(
             BenchmarkProperties properties,
             List<BatchInsertRepository> batchRepositories,
             List<SingleInsertRepository> singleRepositories,
+            List<UpsertRepository> upsertRepositories,
+            List<UpdateRepository> updateRepositories,
+            List<DeleteRepository> deleteRepositories,
+            List<CopyRepository> copyRepositories,
+            List<ExportRepository> exportRepositories,
+            List<LookupRepository> lookupRepositories,
+            List<JdbcTableBatchInsertRepository> tableRepositories,
+            JdbcIngestWriter ingestWriter,
+            DataSource dataSource,
             BenchmarkReportGenerator reportGenerator) {
         this.properties = Objects.requireNonNull(properties, "properties must not be null");
         this.batchRepositories = Objects.requireNonNull(batchRepositories, "batchRepositories must not be null");
         this.singleRepositories = Objects.requireNonNull(singleRepositories, "singleRepositories must not be null");
+        this.upsertRepositories = Objects.requireNonNull(upsertRepositories, "upsertRepositories must not be null");
+        this.updateRepositories = Objects.requireNonNull(updateRepositories, "updateRepositories must not be null");
+        this.deleteRepositories = Objects.requireNonNull(deleteRepositories, "deleteRepositories must not be null");
+        this.copyRepositories = Objects.requireNonNull(copyRepositories, "copyRepositories must not be null");
+        this.exportRepositories = Objects.requireNonNull(exportRepositories, "exportRepositories must not be null");
+        this.lookupRepositories = Objects.requireNonNull(lookupRepositories, "lookupRepositories must not be null");
+        this.tableRepositories = Objects.requireNonNull(tableRepositories, "tableRepositories must not be null");
+        this.poolSampler = ConnectionPoolSampler.of(dataSource);
+        this.ingestWriter = ingestWriter;
         this.reportGenerator = Objects.requireNonNull(reportGenerator, "reportGenerator must not be null");
-        this.dataGenerator = new TestDataGenerator();
+        this.dataProfile = properties.toDataProfile();
+        this.dataGenerator = new TestDataGenerator(dataProfile);
     }
 
     @Override
@@ -72,23 +184,131 @@ public class BenchmarkRunner implements CommandLineRunner {
         log.info("Starting Oracle Insert Performance Benchmark");
         log.info(repeat("=", 60));
         log.info("Configuration: {}", properties);
+        log.info("Data profile: {}", dataProfile);
 
         List<BenchmarkResult> results = new ArrayList<>();
 
+        // INSERT 엔진 공통 입력 데이터셋 준비
+        dataset = prepareDataset();
+
         // JVM 웜업
         performWarmup();
 
-        // 배치 삽입 벤치마크
-        for (BatchInsertRepository repository : batchRepositories) {
-            BenchmarkResult result = runBatchBenchmark(repository);
-            results.add(result);
+        if (properties.getWorkloads().contains(Workload.INSERT)) {
+            // 배치 삽입 벤치마크
+            for (BatchInsertRepository repository : batchRepositories) {
+                BenchmarkResult result = runBatchBenchmark(repository);
+                results.add(result);
+                if (isColumnarMeasured(repository)) {
+                    results.add(runColumnarBenchmark((ColumnarBatchInsertRepository) repository));
+                }
+            }
+
+            // 단건 삽입 벤치마크 (레코드 수가 작은 경우만)
+            int singleRecordCount = Math.min(properties.getRecordCount(), 1000);
+            for (SingleInsertRepository repository : singleRepositories) {
+                BenchmarkResult result = runSingleBenchmark(repository, singleRecordCount);
+                results.add(result);
+            }
+
+            // 단건 삽입 스레드 확장 (스레드마다 행 단위로 커넥션을 빌려 삽입)
+            for (SingleInsertRepository repository : singleRepositories) {
+                for (int threadCount : scalingThreadCounts(properties.getSingleScalingMaxThreads())) {
+                    results.add(runSingleScalingBenchmark(repository, threadCount));
+                }
+            }
+
+            // group commit (동시 호출 스레드가 단건씩 제출하고 flusher가 모아서 배치 저장)
+            int submitters = properties.getGroupCommitSubmitters();
+            if (submitters > 0) {
+                for (BatchInsertRepository repository : selectBatchRepositories(
+                        properties.getGroupCommitWriterType(), "groupCommitWriterType")) {
+                    results.add(runGroupCommitBenchmark(repository, submitters));
+                }
+                // 같은 스레드 수의 직접 단건 삽입 (스레드 확장 측정에 이미 있으면 생략)
+                if (!scalingThreadCounts(properties.getSingleScalingMaxThreads()).contains(submitters)) {
+                    for (SingleInsertRepository repository : singleRepositories) {
+                        results.add(runSingleScalingBenchmark(repository, submitters));
+                    }
+                }
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.UPSERT)) {
+            // 업서트 벤치마크 (갱신 비율별)
+            for (UpsertRepository repository : upsertRepositories) {
+                for (double updateRatio : properties.getUpsertUpdateRatios()) {
+                    BenchmarkResult result = runUpsertBenchmark(repository, updateRatio);
+                    results.add(result);
+                }
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.UPDATE)) {
+            // ID 기준 배치 갱신과 상태 기준 일괄 갱신
+            for (UpdateRepository repository : updateRepositories) {
+                results.add(runUpdateByIdBenchmark(repository));
+                results.add(runStatusUpdateBenchmark(repository));
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.DELETE)) {
+            // 과거 데이터 청크 삭제
+            for (DeleteRepository repository : deleteRepositories) {
+                results.add(runDeleteBenchmark(repository));
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.COPY)) {
+            // 서버 측 복사와 클라이언트 왕복 복사
+            for (CopyRepository repository : copyRepositories) {
+                results.add(runCopyBenchmark(repository));
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.READ)) {
+            // 전체 테이블 스트리밍 내보내기 (fetchSize별)
+            for (ExportRepository repository : exportRepositories) {
+                for (int fetchSize : properties.getExportFetchSizes()) {
+                    results.add(runExportBenchmark(repository, fetchSize));
+                }
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.MIXED)) {
+            // 배치 삽입 중 인덱스 조회 지연 (부하 없는 기준값과 비교)
+            for (BatchInsertRepository writer : selectBatchRepositories(
+                    properties.getMixedWriterType(), "mixedWriterType")) {
+                for (LookupRepository lookup : lookupRepositories) {
+                    results.add(runMixedBenchmark(writer, lookup));
+                }
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.INGEST)) {
+            // 생산자 → DB 쓰기 스레드 수집 단계 (링 버퍼 대기 전략별, ArrayBlockingQueue 기준)
+            if (ingestWriter == null) {
+                log.warn("No ingest writer configured, skipping INGEST workload");
+            } else {
+                int bufferSize = properties.getIngestBufferSize();
+                RecordRingBuffer.ProducerType producerType = properties.getIngestProducerThreads() == 1
+                        ? RecordRingBuffer.ProducerType.SINGLE : RecordRingBuffer.ProducerType.MULTI;
+                for (WaitStrategy waitStrategy : properties.getIngestWaitStrategies()) {
+                    results.add(runIngestBenchmark(() ->
+                            new RingBufferIngestStage(ingestWriter, bufferSize, producerType, waitStrategy)));
+                }
+                results.add(runIngestBenchmark(() -> new BlockingQueueIngestStage(ingestWriter, bufferSize)));
+            }
         }
 
-        // 단건 삽입 벤치마크 (레코드 수가 작은 경우만)
-        int singleRecordCount = Math.min(properties.getRecordCount(), 1000);
-        for (SingleInsertRepository repository : singleRepositories) {
-            BenchmarkResult result = runSingleBenchmark(repository, singleRecordCount);
-            results.add(result);
+        if (properties.getWorkloads().contains(Workload.TABLE)) {
+            // 선언한 임의 스키마 테이블에 대한 배치 삽입
+            if (tableRepositories.isEmpty()) {
+                log.warn("No tables declared, skipping TABLE workload");
+            }
+            for (JdbcTableBatchInsertRepository repository : tableRepositories) {
+                results.add(runTableBenchmark(repository));
+            }
         }
 
         // 리포트 생성
@@ -109,12 +329,95 @@ public class BenchmarkRunner implements CommandLineRunner {
         log.info("Performing JVM warmup with {} records...", properties.getWarmupCount());
 
         List<TestRecord> warmupRecords = dataGenerator.generate(properties.getWarmupCount());
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
 
-        for (BatchInsertRepository repository : batchRepositories) {
-            repository.setBatchSize(properties.getBatchSize());
-            repository.truncateTable();
-            repository.insertBatch(warmupRecords);
-            repository.truncateTable();
+        if (properties.getWorkloads().contains(Workload.INSERT)) {
+            for (BatchInsertRepository repository : batchRepositories) {
+                repository.setBatchSize(properties.getBatchSize());
+                repository.setCommitPolicy(commitPolicy);
+                repository.truncateTable();
+                repository.insertBatch(warmupRecords);
+                repository.truncateTable();
+                if (isColumnarMeasured(repository)) {
+                    ((ColumnarBatchInsertRepository) repository).insertColumnar(
+                            ColumnarRecordBatch.from(warmupRecords));
+                    repository.truncateTable();
+                }
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.UPSERT)) {
+            // 신규 키 삽입과 기존 키 갱신 경로를 모두 실행
+            List<TestRecord> warmupUpserts = dataGenerator.generateUpserts(properties.getWarmupCount(), 0, 0.0);
+            for (UpsertRepository repository : upsertRepositories) {
+                repository.setBatchSize(properties.getBatchSize());
+                repository.setCommitPolicy(commitPolicy);
+                repository.truncateTable();
+                repository.upsertBatch(warmupUpserts);
+                repository.upsertBatch(warmupUpserts);
+                repository.truncateTable();
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.UPDATE)) {
+            List<TestRecord> warmupSeed = dataGenerator.generateUpserts(properties.getWarmupCount(), 0, 0.0);
+            for (UpdateRepository repository : updateRepositories) {
+                repository.setBatchSize(properties.getBatchSize());
+                repository.setCommitPolicy(commitPolicy);
+                repository.truncateTable();
+                repository.seed(warmupSeed);
+                repository.updateBatch(warmupSeed);
+                repository.updateStatus(STATUS_UPDATE_FROM, STATUS_UPDATE_TO);
+                repository.truncateTable();
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.DELETE)) {
+            Instant now = Instant.now();
+            List<TestRecord> warmupHistory = dataGenerator.generateHistory(properties.getWarmupCount(),
+                    now.minus(HISTORY_SPAN), now);
+            for (DeleteRepository repository : deleteRepositories) {
+                repository.setBatchSize(properties.getBatchSize());
+                repository.setCommitPolicy(commitPolicy);
+                repository.truncateTable();
+                repository.seed(warmupHistory);
+                repository.deleteCreatedBefore(now);
+                repository.truncateTable();
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.COPY)) {
+            List<TestRecord> warmupSource = dataGenerator.generateUpserts(properties.getWarmupCount(), 0, 0.0);
+            for (CopyRepository repository : copyRepositories) {
+                repository.setBatchSize(properties.getBatchSize());
+                repository.setCommitPolicy(commitPolicy);
+                repository.truncateTable();
+                repository.seedSource(warmupSource);
+                repository.copy();
+                repository.truncateTable();
+                repository.clearSource();
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.READ)) {
+            List<TestRecord> warmupSeed = dataGenerator.generateUpserts(properties.getWarmupCount(), 0, 0.0);
+            for (ExportRepository repository : exportRepositories) {
+                repository.setFetchSize(properties.getFetchSize());
+                repository.truncateTable();
+                repository.seed(warmupSeed);
+                exportToTempFile(repository);
+                repository.truncateTable();
+            }
+        }
+
+        if (properties.getWorkloads().contains(Workload.MIXED)) {
+            // 쓰기 경로는 INSERT 워크로드 웜업과 같으므로 조회 경로만 실행
+            Instant now = Instant.now();
+            for (LookupRepository repository : lookupRepositories) {
+                for (int query = 0; query < properties.getWarmupCount(); query++) {
+                    runLookup(repository, query, now.minus(HISTORY_SPAN), now);
+                }
+            }
         }
 
         log.info("Warmup completed");
@@ -126,9 +429,103 @@ public class BenchmarkRunner implements CommandLineRunner {
         log.info("Running batch benchmark: {}", repository.getTypeName());
         log.info(repeat("-", 60));
 
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+
+        int batchSize = properties.getBatchSize();
+        BatchSizeTuner tuner = null;
+        if (properties.isAutoTune()) {
+            tuner = tuneBatchSize(repository);
+            batchSize = tuner.getBestBatchSize();
+        }
+        repository.setBatchSize(batchSize);
+
+        List<Long> durations = new ArrayList<>();
+        boolean measureAllocation = isColumnarMeasured(repository) && !properties.isStreaming();
+        long totalAllocatedBytes = 0;
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 테이블 초기화
+            repository.truncateTable();
+
+            long duration;
+            if (properties.isStreaming()) {
+                // 지연 생성(또는 데이터셋 디코딩) 소스 - 생성 시간이 측정 시간에 포함됨
+                Iterator<TestRecord> source = insertSource();
+
+                long startTime = System.currentTimeMillis();
+                repository.insertStream(source);
+                duration = System.currentTimeMillis() - startTime;
+            } else {
+                // 테스트 데이터 생성
+                List<TestRecord> records = insertRecords(properties.getRecordCount());
+
+                // 벤치마크 실행
+                long allocatedBefore = measureAllocation ? AllocationMeter.currentThreadAllocatedBytes() : 0;
+                long startTime = System.currentTimeMillis();
+                repository.insertBatch(records);
+                duration = System.currentTimeMillis() - startTime;
+                if (measureAllocation) {
+                    totalAllocatedBytes += AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore;
+                }
+            }
+
+            durations.add(duration);
+            log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(properties.getRecordCount(), duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        BenchmarkResult.Builder builder = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(repository.getTypeName())
+                .recordCount(properties.getRecordCount())
+                .batchSize(batchSize)
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .addMetric("Input", properties.isStreaming() ? "streaming" : "materialized");
+        addDatasetMetric(builder);
+        if (measureAllocation) {
+            builder.addMetric("Bytes/Row", formatBytesPerRow(totalAllocatedBytes));
+        }
+        if (tuner != null) {
+            builder.addMetric("Tuned Batch Size", tuner.getBestBatchSize()
+                            + (tuner.isConverged() ? " (converged)" : " (budget exhausted)"))
+                    .addMetric("Tuning Trajectory", tuner.formatTrajectory());
+        }
+        BenchmarkResult result = builder.build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * 컬럼 배치 경로({@link ColumnarBatchInsertRepository#insertColumnar})를 측정합니다.
+     *
+     * <p>행 경로와 같은 데이터를 {@link ColumnarRecordBatch} 한 개에 담아 반복마다 재사용하며,
+     * 배치를 채우는 시간은 측정에서 제외합니다. 행 경로 결과와 비교할 수 있도록
+     * 삽입 호출 동안 측정 스레드가 할당한 바이트를 행당 값으로 기록합니다.</p>
+     */
+    private BenchmarkResult runColumnarBenchmark(ColumnarBatchInsertRepository repository) {
+        String typeName = repository.getTypeName() + " (columnar)";
+        log.info(repeat("-", 60));
+        log.info("Running columnar batch benchmark: {}", typeName);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
         repository.setBatchSize(properties.getBatchSize());
 
+        int recordCount = properties.getRecordCount();
+        ColumnarRecordBatch batch = new ColumnarRecordBatch(recordCount);
         List<Long> durations = new ArrayList<>();
+        long totalAllocatedBytes = 0;
 
         for (int i = 1; i <= properties.getIterations(); i++) {
             log.info("Iteration {}/{}", i, properties.getIterations());
@@ -136,40 +533,110 @@ public class BenchmarkRunner implements CommandLineRunner {
             // 테이블 초기화
             repository.truncateTable();
 
-            // 테스트 데이터 생성
-            List<TestRecord> records = dataGenerator.generate(properties.getRecordCount());
+            // 테스트 데이터 생성 (배열은 재사용)
+            batch.clear();
+            for (Iterator<TestRecord> source = insertSource(); source.hasNext(); ) {
+                batch.add(source.next());
+            }
 
             // 벤치마크 실행
+            long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
             long startTime = System.currentTimeMillis();
-            repository.insertBatch(records);
+            repository.insertColumnar(batch);
             long duration = System.currentTimeMillis() - startTime;
+            totalAllocatedBytes += AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore;
 
             durations.add(duration);
-            log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(properties.getRecordCount(), duration));
+            log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(recordCount, duration));
         }
 
         // 테이블 정리
         repository.truncateTable();
 
-        BenchmarkResult result = BenchmarkResult.builder()
-                .repositoryType(repository.getTypeName())
-                .recordCount(properties.getRecordCount())
+        BenchmarkResult.Builder builder = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(typeName)
+                .recordCount(recordCount)
                 .batchSize(properties.getBatchSize())
                 .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
                 .durations(durations)
                 .executedAt(Instant.now())
-                .build();
+                .metrics(repository.getLastRunMetrics())
+                .addMetric("Input", "columnar")
+                .addMetric("Bytes/Row", formatBytesPerRow(totalAllocatedBytes));
+        addDatasetMetric(builder);
+        BenchmarkResult result = builder.build();
 
         log.info("Result: {}", result);
         return result;
     }
 
+    /**
+     * 컬럼 배치 경로를 함께 측정할 Repository인지 확인합니다.
+     *
+     * <p>행당 할당량을 비교해야 하므로 스레드 할당량 측정을 지원하지 않는 JVM에서는 측정하지 않습니다.</p>
+     */
+    private boolean isColumnarMeasured(BatchInsertRepository repository) {
+        return properties.isColumnarInsert() && AllocationMeter.isSupported()
+                && repository instanceof ColumnarBatchInsertRepository;
+    }
+
+    private String formatBytesPerRow(long totalAllocatedBytes) {
+        long totalRows = (long) properties.getRecordCount() * properties.getIterations();
+        return String.valueOf(totalAllocatedBytes / totalRows);
+    }
+
+    /**
+     * 측정 전 튜닝 패스를 실행하여 배치 크기를 탐색합니다.
+     *
+     * <p>recordCount 건을 구간으로 나누어, 구간마다 튜너가 제안한 배치 크기로
+     * {@value #TUNING_PROBE_BATCHES}개 배치 분량을 삽입하고 처리량을 측정합니다.
+     * 튜너가 수렴하거나 레코드를 모두 사용하면 종료하고 테이블을 비웁니다.</p>
+     */
+    private BatchSizeTuner tuneBatchSize(BatchInsertRepository repository) {
+        log.info("Auto-tuning batch size: initial={}, range=[{}, {}], maxBatchLatency={}ms",
+                properties.getBatchSize(), properties.getAutoTuneMinBatchSize(),
+                properties.getAutoTuneMaxBatchSize(), properties.getAutoTuneMaxBatchLatencyMs());
+
+        BatchSizeTuner tuner = new BatchSizeTuner(properties.getBatchSize(),
+                properties.getAutoTuneMinBatchSize(), properties.getAutoTuneMaxBatchSize(),
+                properties.getAutoTuneMaxBatchLatencyMs());
+        repository.truncateTable();
+
+        Iterator<TestRecord> source = insertSource();
+        while (source.hasNext() && !tuner.isConverged()) {
+            int size = tuner.nextBatchSize();
+            int segmentSize = size * TUNING_PROBE_BATCHES;
+            List<TestRecord> segment = new ArrayList<>(segmentSize);
+            while (segment.size() < segmentSize && source.hasNext()) {
+                segment.add(source.next());
+            }
+
+            repository.setBatchSize(size);
+            long startNanos = System.nanoTime();
+            int inserted = repository.insertBatch(segment);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            tuner.record(size, inserted, (segment.size() + size - 1) / size, elapsedNanos);
+            log.debug("  Tuning probe: batchSize={}, rows={}, elapsed={}ms", size, inserted, elapsedNanos / 1_000_000);
+        }
+
+        repository.truncateTable();
+        log.info("Tuned batch size: {} (converged={}, trajectory={})",
+                tuner.getBestBatchSize(), tuner.isConverged(), tuner.formatTrajectory());
+        return tuner;
+    }
+
     private BenchmarkResult runSingleBenchmark(SingleInsertRepository repository, int recordCount) {
         log.info(repeat("-", 60));
         log.info("Running single insert benchmark: {} (limited to {} records)",
                 repository.getTypeName(), recordCount);
         log.info(repeat("-", 60));
 
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+
         List<Long> durations = new ArrayList<>();
 
         for (int i = 1; i <= properties.getIterations(); i++) {
@@ -179,7 +646,7 @@ public class BenchmarkRunner implements CommandLineRunner {
             repository.truncateTable();
 
             // 테스트 데이터 생성
-            List<TestRecord> records = dataGenerator.generate(recordCount);
+            List<TestRecord> records = insertRecords(recordCount);
 
             // 벤치마크 실행
             long startTime = System.currentTimeMillis();
@@ -193,19 +660,993 @@ public class BenchmarkRunner implements CommandLineRunner {
         // 테이블 정리
         repository.truncateTable();
 
-        BenchmarkResult result = BenchmarkResult.builder()
+        BenchmarkResult.Builder builder = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
                 .repositoryType(repository.getTypeName())
                 .recordCount(recordCount)
                 .batchSize(1)
                 .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics());
+        addDatasetMetric(builder);
+        BenchmarkResult result = builder.build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * 기존 키 recordCount 건이 있는 테이블에 업서트 배치를 실행하여 측정합니다.
+     *
+     * <p>반복마다 테이블을 비우고 기존 키를 적재(측정 제외)한 뒤, updateRatio 비율은 기존 키를,
+     * 나머지는 신규 키를 가진 recordCount 건을 업서트합니다.</p>
+     */
+    private BenchmarkResult runUpsertBenchmark(UpsertRepository repository, double updateRatio) {
+        String typeName = repository.getTypeName()
+                + String.format(" (update %d%%)", Math.round(updateRatio * 100));
+        log.info(repeat("-", 60));
+        log.info("Running upsert benchmark: {}", typeName);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+        repository.setBatchSize(properties.getBatchSize());
+
+        int recordCount = properties.getRecordCount();
+        List<Long> durations = new ArrayList<>();
+        int updateCount = 0;
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 테이블 초기화 및 기존 키 적재
+            repository.truncateTable();
+            repository.upsertBatch(dataGenerator.generateUpserts(recordCount, 0, 0.0));
+
+            // 테스트 데이터 생성
+            List<TestRecord> records = dataGenerator.generateUpserts(recordCount, recordCount, updateRatio);
+            updateCount = (int) Math.round(recordCount * updateRatio);
+
+            // 벤치마크 실행
+            long startTime = System.currentTimeMillis();
+            repository.upsertBatch(records);
+            long duration = System.currentTimeMillis() - startTime;
+
+            durations.add(duration);
+            log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(recordCount, duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(typeName)
+                .workload(Workload.UPSERT)
+                .recordCount(recordCount)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .addMetric("Update Ratio", String.format("%.2f", updateRatio))
+                .addMetric("Existing Keys", String.valueOf(recordCount))
+                .addMetric("Updated Rows", String.valueOf(updateCount))
+                .addMetric("Inserted Rows", String.valueOf(recordCount - updateCount))
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * recordCount 건을 적재한 테이블의 모든 행을 ID 기준 배치 UPDATE로 갱신하여 측정합니다.
+     */
+    private BenchmarkResult runUpdateByIdBenchmark(UpdateRepository repository) {
+        String typeName = repository.getTypeName() + " (by id)";
+        log.info(repeat("-", 60));
+        log.info("Running update benchmark: {}", typeName);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+        repository.setBatchSize(properties.getBatchSize());
+
+        int recordCount = properties.getRecordCount();
+        List<Long> durations = new ArrayList<>();
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 테이블 초기화 및 갱신 대상 적재
+            repository.truncateTable();
+            repository.seed(dataGenerator.generateUpserts(recordCount, 0, 0.0));
+
+            // 모든 기존 키에 대한 새 값 생성
+            List<TestRecord> records = dataGenerator.generateUpserts(recordCount, recordCount, 1.0);
+
+            // 벤치마크 실행
+            long startTime = System.currentTimeMillis();
+            repository.updateBatch(records);
+            long duration = System.currentTimeMillis() - startTime;
+
+            durations.add(duration);
+            log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(recordCount, duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(typeName)
+                .workload(Workload.UPDATE)
+                .recordCount(recordCount)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * recordCount 건을 적재한 테이블에서 한 상태의 행을 모두 다른 상태로 바꾸는 청크 UPDATE를 측정합니다.
+     *
+     * <p>갱신 대상 행 수는 생성된 상태 분포에 따라 달라지므로, 결과의 레코드 수는 반복 평균 갱신 행 수입니다.</p>
+     */
+    private BenchmarkResult runStatusUpdateBenchmark(UpdateRepository repository) {
+        String typeName = repository.getTypeName() + " (by status)";
+        log.info(repeat("-", 60));
+        log.info("Running update benchmark: {} ({} -> {})", typeName, STATUS_UPDATE_FROM, STATUS_UPDATE_TO);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+        repository.setBatchSize(properties.getBatchSize());
+
+        List<Long> durations = new ArrayList<>();
+        long totalUpdated = 0;
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 테이블 초기화 및 갱신 대상 적재
+            repository.truncateTable();
+            repository.seed(dataGenerator.generateUpserts(properties.getRecordCount(), 0, 0.0));
+
+            // 벤치마크 실행
+            long startTime = System.currentTimeMillis();
+            int updated = repository.updateStatus(STATUS_UPDATE_FROM, STATUS_UPDATE_TO);
+            long duration = System.currentTimeMillis() - startTime;
+
+            totalUpdated += updated;
+            durations.add(duration);
+            log.info("  Duration: {}ms, Updated: {}, TPS: {}", duration, updated, calculateTps(updated, duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(typeName)
+                .workload(Workload.UPDATE)
+                .recordCount((int) (totalUpdated / properties.getIterations()))
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
                 .durations(durations)
                 .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .addMetric("Status Change", STATUS_UPDATE_FROM + " -> " + STATUS_UPDATE_TO)
+                .addMetric("Table Rows", String.valueOf(properties.getRecordCount()))
                 .build();
 
         log.info("Result: {}", result);
         return result;
     }
 
+    /**
+     * 생성 시각이 1년에 고르게 퍼진 recordCount 건 중 오래된 purgeRatio 비율을 청크 DELETE로 삭제하여 측정합니다.
+     */
+    private BenchmarkResult runDeleteBenchmark(DeleteRepository repository) {
+        double purgeRatio = properties.getPurgeRatio();
+        if (purgeRatio < 0.0 || purgeRatio > 1.0) {
+            throw new IllegalArgumentException("purgeRatio must be between 0.0 and 1.0, but was: " + purgeRatio);
+        }
+
+        log.info(repeat("-", 60));
+        log.info("Running delete benchmark: {} (purgeRatio={})", repository.getTypeName(), purgeRatio);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+        repository.setBatchSize(properties.getBatchSize());
+
+        List<Long> durations = new ArrayList<>();
+        int deleted = 0;
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 테이블 초기화 및 이력 데이터 적재
+            Instant now = Instant.now();
+            Instant from = now.minus(HISTORY_SPAN);
+            Instant cutoff = from.plusMillis((long) (HISTORY_SPAN.toMillis() * purgeRatio));
+            repository.truncateTable();
+            repository.seed(dataGenerator.generateHistory(properties.getRecordCount(), from, now));
+
+            // 벤치마크 실행
+            long startTime = System.currentTimeMillis();
+            deleted = repository.deleteCreatedBefore(cutoff);
+            long duration = System.currentTimeMillis() - startTime;
+
+            durations.add(duration);
+            log.info("  Duration: {}ms, Deleted: {}, TPS: {}", duration, deleted, calculateTps(deleted, duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(repository.getTypeName())
+                .workload(Workload.DELETE)
+                .recordCount(deleted)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .addMetric("Purge Ratio", String.format("%.2f", purgeRatio))
+                .addMetric("Table Rows", String.valueOf(properties.getRecordCount()))
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * 원본 테이블에 recordCount 건을 적재(측정 제외)하고 test_record로 복사하는 시간을 측정합니다.
+     */
+    private BenchmarkResult runCopyBenchmark(CopyRepository repository) {
+        log.info(repeat("-", 60));
+        log.info("Running copy benchmark: {}", repository.getTypeName());
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+        repository.setBatchSize(properties.getBatchSize());
+
+        int recordCount = properties.getRecordCount();
+        List<Long> durations = new ArrayList<>();
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 대상 테이블 초기화 및 원본 적재
+            repository.truncateTable();
+            repository.seedSource(dataGenerator.generateUpserts(recordCount, 0, 0.0));
+
+            // 벤치마크 실행
+            long startTime = System.currentTimeMillis();
+            repository.copy();
+            long duration = System.currentTimeMillis() - startTime;
+
+            durations.add(duration);
+            log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(recordCount, duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+        repository.clearSource();
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(repository.getTypeName())
+                .workload(Workload.COPY)
+                .recordCount(recordCount)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * recordCount 건을 한 번 적재(측정 제외)하고, 반복마다 전체 테이블을 임시 CSV 파일로 내보내는 시간을 측정합니다.
+     *
+     * <p>반복마다 힙 최대 사용량을 측정하여 가장 큰 값을 메트릭으로 기록합니다.</p>
+     */
+    private BenchmarkResult runExportBenchmark(ExportRepository repository, int fetchSize) {
+        log.info(repeat("-", 60));
+        log.info("Running export benchmark: {} (fetchSize={})", repository.getTypeName(), fetchSize);
+        log.info(repeat("-", 60));
+
+        repository.setFetchSize(fetchSize);
+
+        int recordCount = properties.getRecordCount();
+        List<Long> durations = new ArrayList<>();
+        long heapPeakBytes = 0;
+
+        // 조회 대상 적재 (반복 간 재사용)
+        repository.truncateTable();
+        repository.seed(dataGenerator.generateUpserts(recordCount, 0, 0.0));
+
+        for (int i = 1; i <= properties.getIterations(); i++) {
+            log.info("Iteration {}/{}", i, properties.getIterations());
+
+            // 벤치마크 실행
+            HeapHighWaterMark heap = HeapHighWaterMark.start();
+            long startTime = System.currentTimeMillis();
+            exportToTempFile(repository);
+            long duration = System.currentTimeMillis() - startTime;
+            heapPeakBytes = Math.max(heapPeakBytes, heap.getPeakUsedBytes());
+
+            durations.add(duration);
+            log.info("  Duration: {}ms, Rows/sec: {}", duration, calculateTps(recordCount, duration));
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(repository.getTypeName() + " (fetch " + fetchSize + ")")
+                .workload(Workload.READ)
+                .recordCount(recordCount)
+                .batchSize(fetchSize)
+                .iterations(properties.getIterations())
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .addMetric("Heap High-Water (MB)", String.format("%.1f", heapPeakBytes / (1024.0 * 1024.0)))
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    private List<BatchInsertRepository> selectBatchRepositories(String writerType, String propertyName) {
+        if (writerType == null || writerType.trim().isEmpty()) {
+            return batchRepositories;
+        }
+        List<BatchInsertRepository> writers = new ArrayList<>();
+        for (BatchInsertRepository repository : batchRepositories) {
+            if (repository.getTypeName().equals(writerType.trim())) {
+                writers.add(repository);
+            }
+        }
+        if (writers.isEmpty()) {
+            log.warn("No batch insert repository matches {}={}, skipping", propertyName, writerType);
+        }
+        return writers;
+    }
+
+    /**
+     * 쓰기 구현체 하나와 조회 Repository 하나로 혼합 워크로드를 측정합니다.
+     *
+     * <p>반복마다 생성 시각이 1년에 퍼진 recordCount 건을 적재(측정 제외)한 뒤:</p>
+     * <ol>
+     *   <li>기준 구간: 조회 스레드만 스레드마다 mixedBaselineQueries 건 조회</li>
+     *   <li>부하 구간: 쓰기 스레드가 recordCount 건을 나눠 insertBatch하는 동안 조회 스레드가 계속 조회</li>
+     * </ol>
+     *
+     * <p>결과의 소요시간과 TPS는 부하 구간의 쓰기 기준이며, 조회 지연 백분위수는 두 구간을 나눠 메트릭으로 기록합니다.</p>
+     */
+    private BenchmarkResult runMixedBenchmark(BatchInsertRepository repository, LookupRepository lookup) {
+        int writerThreads = properties.getMixedWriterThreads();
+        int readerThreads = properties.getMixedReaderThreads();
+        int baselineQueries = properties.getMixedBaselineQueries();
+        if (writerThreads < 1 || readerThreads < 1 || baselineQueries < 1) {
+            throw new IllegalArgumentException("mixedWriterThreads, mixedReaderThreads and mixedBaselineQueries "
+                    + "must be at least 1, but were: " + writerThreads + ", " + readerThreads + ", " + baselineQueries);
+        }
+
+        String repositoryType = repository.getTypeName() + " + " + lookup.getTypeName()
+                + " (" + writerThreads + "w/" + readerThreads + "r)";
+        log.info(repeat("-", 60));
+        log.info("Running mixed benchmark: {}", repositoryType);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+        repository.setBatchSize(properties.getBatchSize());
+
+        int recordCount = properties.getRecordCount();
+        List<Long> durations = new ArrayList<>();
+        LatencyRecorder baseline = new LatencyRecorder();
+        LatencyRecorder loaded = new LatencyRecorder();
+        ExecutorService executor = createExecutor("benchmark-mixed-", writerThreads + readerThreads);
+
+        try {
+            for (int i = 1; i <= properties.getIterations(); i++) {
+                log.info("Iteration {}/{}", i, properties.getIterations());
+
+                // 조회 대상 적재
+                Instant now = Instant.now();
+                Instant from = now.minus(HISTORY_SPAN);
+                repository.truncateTable();
+                repository.insertBatch(dataGenerator.generateHistory(recordCount, from, now));
+
+                // 기준 구간: 쓰기 부하 없이 조회
+                List<Future<LatencyRecorder>> baselineReaders = new ArrayList<>(readerThreads);
+                for (int reader = 0; reader < readerThreads; reader++) {
+                    baselineReaders.add(executor.submit(readerTask(lookup, from, now, query -> query < baselineQueries)));
+                }
+                for (Future<LatencyRecorder> reader : baselineReaders) {
+                    baseline.merge(await(reader));
+                }
+
+                // 부하 구간: 쓰기 스레드가 끝날 때까지 조회
+                List<TestRecord> records = dataGenerator.generate(recordCount);
+                int partitionSize = (records.size() + writerThreads - 1) / writerThreads;
+                AtomicBoolean writing = new AtomicBoolean(true);
+                List<Future<Integer>> writers = new ArrayList<>(writerThreads);
+                List<Future<LatencyRecorder>> loadedReaders = new ArrayList<>(readerThreads);
+
+                long startTime = System.currentTimeMillis();
+                try {
+                    for (int start = 0; start < records.size(); start += partitionSize) {
+                        List<TestRecord> partition = records.subList(start,
+                                Math.min(start + partitionSize, records.size()));
+                        writers.add(executor.submit(() -> repository.insertBatch(partition)));
+                    }
+                    for (int reader = 0; reader < readerThreads; reader++) {
+                        loadedReaders.add(executor.submit(readerTask(lookup, from, now, query -> writing.get())));
+                    }
+                    for (Future<Integer> writer : writers) {
+                        await(writer);
+                    }
+                } finally {
+                    writing.set(false);
+                }
+                long duration = System.currentTimeMillis() - startTime;
+
+                for (Future<LatencyRecorder> reader : loadedReaders) {
+                    loaded.merge(await(reader));
+                }
+
+                durations.add(duration);
+                log.info("  Duration: {}ms, TPS: {}, reader p99: baseline={}ms, loaded={}ms", duration,
+                        calculateTps(recordCount, duration), String.format("%.3f", baseline.getPercentileMillis(99)),
+                        String.format("%.3f", loaded.getPercentileMillis(99)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 테이블 정리
+        repository.truncateTable();
+
+        double baselineP99 = baseline.getPercentileMillis(99);
+        double loadedP99 = loaded.getPercentileMillis(99);
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .repositoryType(repositoryType)
+                .workload(Workload.MIXED)
+                .recordCount(recordCount)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .addMetric("Writer Threads", String.valueOf(writerThreads))
+                .addMetric("Reader Threads", String.valueOf(readerThreads))
+                .addMetric("Baseline Queries", String.valueOf(baseline.getCount()))
+                .addMetric("Baseline p50 (ms)", String.format("%.3f", baseline.getPercentileMillis(50)))
+                .addMetric("Baseline p95 (ms)", String.format("%.3f", baseline.getPercentileMillis(95)))
+                .addMetric("Baseline p99 (ms)", String.format("%.3f", baselineP99))
+                .addMetric("Loaded Queries", String.valueOf(loaded.getCount()))
+                .addMetric("Loaded p50 (ms)", String.format("%.3f", loaded.getPercentileMillis(50)))
+                .addMetric("Loaded p95 (ms)", String.format("%.3f", loaded.getPercentileMillis(95)))
+                .addMetric("Loaded p99 (ms)", String.format("%.3f", loadedP99))
+                .addMetric("Loaded Max (ms)", String.format("%.3f", loaded.getMaxNanos() / 1_000_000.0))
+                .addMetric("p99 Inflation", baselineP99 == 0 ? "N/A" : String.format("%.2fx", loadedP99 / baselineP99))
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    private Callable<LatencyRecorder> readerTask(LookupRepository lookup, Instant from, Instant to,
+                                                 IntPredicate keepRunning) {
+        return () -> {
+            LatencyRecorder recorder = new LatencyRecorder();
+            int query = 0;
+            do {
+                long start = System.nanoTime();
+                runLookup(lookup, query, from, to);
+                recorder.record(System.nanoTime() - start);
+                query++;
+            } while (keepRunning.test(query) && !Thread.currentThread().isInterrupted());
+            return recorder;
+        };
+    }
+
+    /**
+     * 짝수 번째는 상태 조회, 홀수 번째는 임의의 하루 구간 생성 시각 조회를 실행합니다.
+     */
+    private void runLookup(LookupRepository lookup, int query, Instant from, Instant to) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (query % 2 == 0) {
+            lookup.findByStatus(LOOKUP_STATUSES[random.nextInt(LOOKUP_STATUSES.length)], LOOKUP_LIMIT);
+        } else {
+            Instant windowStart = from.plusSeconds(random.nextLong(Duration.between(from, to).getSeconds() + 1));
+            lookup.findCreatedBetween(windowStart, windowStart.plus(LOOKUP_WINDOW), LOOKUP_LIMIT);
+        }
+    }
+
+    /**
+     * 1부터 두 배씩 늘린 스레드 수 목록을 반환합니다. maxThreads가 2의 거듭제곱이 아니면 마지막에 maxThreads를 추가합니다.
+     */
+    static List<Integer> scalingThreadCounts(int maxThreads) {
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads > 0 && threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        if (maxThreads >= 1) {
+            threadCounts.add(maxThreads);
+        }
+        return threadCounts;
+    }
+
+    /**
+     * threadCount개 스레드가 singleScalingRecordCount 건을 나눠 단건 삽입하는 처리량과 지연 시간을 측정합니다.
+     *
+     * <p>요청 스레드 하나가 행 하나를 저장하는 상황을 흉내 내기 위해, 각 스레드는 공유 인덱스에서 다음 행을 가져와
+     * 행마다 {@link SingleInsertRepository#insertSingle(List)}를 호출합니다. 따라서 행마다 풀에서 커넥션을 빌리고
+     * 반납하며, 스레드 수가 maximum-pool-size를 넘으면 커넥션 대기가 지연 시간에 그대로 더해집니다.</p>
+     */
+    private BenchmarkResult runSingleScalingBenchmark(SingleInsertRepository repository, int threadCount) {
+        int recordCount = properties.getSingleScalingRecordCount();
+        if (recordCount < 1) {
+            throw new IllegalArgumentException("singleScalingRecordCount must be at least 1, but was: " + recordCount);
+        }
+
+        log.info(repeat("-", 60));
+        log.info("Running single insert scaling benchmark: {} (threads={}, records={})",
+                repository.getTypeName(), threadCount, recordCount);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setCommitPolicy(commitPolicy);
+
+        BenchmarkResult result = measureConcurrentRows(repository::truncateTable, threadCount, recordCount,
+                record -> repository.insertSingle(Collections.singletonList(record)))
+                .repositoryType(repository.getTypeName() + " (threads " + threadCount + ")")
+                .batchSize(1)
+                .commitPolicy(commitPolicy)
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * threadCount개 스레드가 singleScalingRecordCount 건을 {@link GroupCommitInsertService}에 한 건씩 제출하고
+     * 저장 완료를 기다리는 처리량과 호출 측 지연 시간을 측정합니다.
+     *
+     * <p>호출 방식은 {@link #runSingleScalingBenchmark(SingleInsertRepository, int)}와 같으므로 같은 스레드 수의
+     * 직접 단건 삽입 결과와 바로 비교할 수 있습니다. flush 한 번이 executeBatch 한 번과 커밋 한 번이 되도록
+     * 배치 크기는 groupCommitMaxRows, 커밋 정책은 SINGLE_TRANSACTION으로 고정합니다.</p>
+     */
+    private BenchmarkResult runGroupCommitBenchmark(BatchInsertRepository repository, int threadCount) {
+        int recordCount = properties.getSingleScalingRecordCount();
+        if (recordCount < 1) {
+            throw new IllegalArgumentException("singleScalingRecordCount must be at least 1, but was: " + recordCount);
+        }
+        int maxRows = properties.getGroupCommitMaxRows();
+        long maxWaitMillis = properties.getGroupCommitMaxWaitMillis();
+
+        log.info(repeat("-", 60));
+        log.info("Running group commit benchmark: {} (threads={}, records={}, maxRows={}, maxWait={}ms)",
+                repository.getTypeName(), threadCount, recordCount, maxRows, maxWaitMillis);
+        log.info(repeat("-", 60));
+
+        CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+        repository.setBatchSize(maxRows);
+        repository.setCommitPolicy(commitPolicy);
+
+        BenchmarkResult.Builder builder;
+        long flushCount;
+        long flushedRows;
+        long fullFlushCount;
+        try (GroupCommitInsertService service = new GroupCommitInsertService(repository, maxRows, maxWaitMillis)) {
+            builder = measureConcurrentRows(repository::truncateTable, threadCount, recordCount,
+                    record -> service.submit(record).join());
+            flushCount = service.getFlushCount();
+            flushedRows = service.getFlushedRows();
+            fullFlushCount = service.getFullFlushCount();
+        }
+
+        BenchmarkResult result = builder
+                .repositoryType("GroupCommit " + repository.getTypeName() + " (threads " + threadCount + ")")
+                .batchSize(maxRows)
+                .commitPolicy(commitPolicy)
+                .addMetric("Max Wait (ms)", String.valueOf(maxWaitMillis))
+                .addMetric("Flushes", String.valueOf(flushCount))
+                .addMetric("Rows/Flush", String.format("%.1f", flushCount == 0 ? 0.0 : (double) flushedRows / flushCount))
+                .addMetric("Full Flushes", String.valueOf(fullFlushCount))
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * threadCount개 스레드가 recordCount 건을 나눠 한 건씩 writer로 저장하는 반복 측정을 수행합니다.
+     *
+     * <p>요청 스레드 하나가 행 하나를 저장하는 상황을 흉내 내기 위해, 각 스레드는 공유 인덱스에서 다음 행을 가져와
+     * writer를 호출하고 반환될 때까지의 시간을 호출 측 지연 시간으로 기록합니다. 반복마다 truncate로 테이블을
+     * 비우고, 끝나면 한 번 더 비웁니다.</p>
+     *
+     * @return 소요시간, 스레드 수, 지연 백분위수, 커넥션 풀 지표를 채운 빌더 (타입명, 배치 크기, 커밋 정책은 호출 측에서 설정)
+     */
+    private BenchmarkResult.Builder measureConcurrentRows(Runnable truncate, int threadCount, int recordCount,
+                                                          Consumer<TestRecord> writer) {
+        List<Long> durations = new ArrayList<>();
+        LatencyRecorder latencies = new LatencyRecorder();
+        int peakActive = 0;
+        int peakAwaiting = 0;
+        ExecutorService executor = createExecutor("benchmark-single-", threadCount);
+
+        try {
+            for (int i = 1; i <= properties.getIterations(); i++) {
+                log.info("Iteration {}/{}", i, properties.getIterations());
+
+                // 테이블 초기화
+                truncate.run();
+                List<TestRecord> records = dataGenerator.generate(recordCount);
+                AtomicInteger nextIndex = new AtomicInteger();
+                poolSampler.reset();
+
+                // 벤치마크 실행 (커넥션 풀 표본은 측정 스레드와 별도의 스레드에서 추출)
+                long startTime = System.currentTimeMillis();
+                ConnectionPoolSampler.Sampling sampling = poolSampler.startSampling(POOL_SAMPLE_INTERVAL);
+                try {
+                    List<Future<LatencyRecorder>> workers = new ArrayList<>(threadCount);
+                    for (int worker = 0; worker < threadCount; worker++) {
+                        workers.add(executor.submit(() -> {
+                            LatencyRecorder recorder = new LatencyRecorder();
+                            int index;
+                            while ((index = nextIndex.getAndIncrement()) < records.size()) {
+                                long start = System.nanoTime();
+                                writer.accept(records.get(index));
+                                recorder.record(System.nanoTime() - start);
+                            }
+                            return recorder;
+                        }));
+                    }
+                    for (Future<LatencyRecorder> worker : workers) {
+                        latencies.merge(await(worker));
+                    }
+                } finally {
+                    sampling.close();
+                }
+                long duration = System.currentTimeMillis() - startTime;
+
+                durations.add(duration);
+                peakActive = Math.max(peakActive, poolSampler.getPeakActiveConnections());
+                peakAwaiting = Math.max(peakAwaiting, poolSampler.getPeakThreadsAwaiting());
+                log.info("  Duration: {}ms, TPS: {}, p99: {}ms", duration, calculateTps(recordCount, duration),
+                        String.format("%.3f", latencies.getPercentileMillis(99)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 테이블 정리
+        truncate.run();
+
+        BenchmarkResult.Builder builder = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .recordCount(recordCount)
+                .iterations(properties.getIterations())
+                .durations(durations)
+                .executedAt(Instant.now())
+                .addMetric("Threads", String.valueOf(threadCount))
+                .addMetric("Latency p50 (ms)", String.format("%.3f", latencies.getPercentileMillis(50)))
+                .addMetric("Latency p95 (ms)", String.format("%.3f", latencies.getPercentileMillis(95)))
+                .addMetric("Latency p99 (ms)", String.format("%.3f", latencies.getPercentileMillis(99)));
+        if (poolSampler.isAvailable()) {
+            builder.addMetric("Pool Size", String.valueOf(poolSampler.getMaximumPoolSize()))
+                    .addMetric("Peak Active Connections", String.valueOf(peakActive))
+                    .addMetric("Peak Threads Awaiting", String.valueOf(peakAwaiting));
+        }
+        return builder;
+    }
+
+    /**
+     * 수집 단계 하나로 INGEST 워크로드를 측정합니다.
+     *
+     * <p>반복마다 recordCount 건을 미리 생성(측정 제외)하고 새 단계를 만든 뒤, 생산자 스레드가 공유 인덱스로 행을 나눠
+     * 컬럼 값을 publish합니다. 소요시간은 첫 publish부터 close()가 마지막 커밋을 마칠 때까지입니다.
+     * 할당량은 생산자 스레드와 소비자 스레드가 측정 구간에 할당한 바이트의 합이며,
+     * 링 버퍼는 슬롯을 재사용하고 ArrayBlockingQueue는 행마다 TestRecord를 만드는 차이가 그대로 드러납니다.</p>
+     */
+    private BenchmarkResult runIngestBenchmark(Supplier<IngestStage> stageFactory) {
+        int producerThreads = properties.getIngestProducerThreads();
+        if (producerThreads < 1) {
+            throw new IllegalArgumentException("ingestProducerThreads must be at least 1, but was: " + producerThreads);
+        }
+        int recordCount = properties.getRecordCount();
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        ingestWriter.setBatchSize(properties.getBatchSize());
+        ingestWriter.setCommitPolicy(commitPolicy);
+
+        String typeName = null;
+        List<Long> durations = new ArrayList<>();
+        long totalAllocatedBytes = 0;
+        long totalDurationMs = 0;
+        ExecutorService executor = createExecutor("benchmark-ingest-", producerThreads);
+
+        try {
+            for (int i = 1; i <= properties.getIterations(); i++) {
+                // 테이블 초기화
+                ingestWriter.truncateTable();
+                List<TestRecord> records = dataGenerator.generate(recordCount);
+                AtomicInteger nextIndex = new AtomicInteger();
+
+                IngestStage stage = stageFactory.get();
+                if (typeName == null) {
+                    typeName = stage.getTypeName();
+                    log.info(repeat("-", 60));
+                    log.info("Running ingest benchmark: {} (producers={}, bufferSize={}, records={})",
+                            typeName, producerThreads, properties.getIngestBufferSize(), recordCount);
+                    log.info(repeat("-", 60));
+                }
+                log.info("Iteration {}/{}", i, properties.getIterations());
+
+                // 벤치마크 실행
+                long startTime = System.currentTimeMillis();
+                long producerAllocatedBytes = 0;
+                try {
+                    List<Future<Long>> producers = new ArrayList<>(producerThreads);
+                    for (int producer = 0; producer < producerThreads; producer++) {
+                        producers.add(executor.submit(() -> {
+                            long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
+                            int index;
+                            while ((index = nextIndex.getAndIncrement()) < records.size()) {
+                                TestRecord record = records.get(index);
+                                stage.publish(record.getData1(), record.getData2(), record.getAmount(),
+                                        record.getStatus(), record.getCreatedAt());
+                            }
+                            return AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore;
+                        }));
+                    }
+                    for (Future<Long> producer : producers) {
+                        producerAllocatedBytes += await(producer);
+                    }
+                } finally {
+                    stage.close();
+                }
+                long duration = System.currentTimeMillis() - startTime;
+
+                if (stage.getWrittenCount() != recordCount) {
+                    throw new BenchmarkException(typeName + " wrote " + stage.getWrittenCount()
+                            + " rows, expected " + recordCount);
+                }
+                long allocatedBytes = producerAllocatedBytes + stage.getConsumerAllocatedBytes();
+                durations.add(duration);
+                totalAllocatedBytes += allocatedBytes;
+                totalDurationMs += duration;
+                log.info("  Duration: {}ms, TPS: {}, allocated: {} MB", duration, calculateTps(recordCount, duration),
+                        String.format("%.1f", allocatedBytes / (1024.0 * 1024.0)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 테이블 정리
+        ingestWriter.truncateTable();
+
+        BenchmarkResult.Builder builder = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .workload(Workload.INGEST)
+                .repositoryType(typeName)
+                .recordCount(recordCount)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .addMetric("Producers", String.valueOf(producerThreads))
+                .addMetric("Buffer Size", String.valueOf(properties.getIngestBufferSize()));
+        if (AllocationMeter.isSupported()) {
+            long totalRecords = (long) recordCount * properties.getIterations();
+            builder.addMetric("Allocated (MB)", String.format("%.1f",
+                            totalAllocatedBytes / (1024.0 * 1024.0) / properties.getIterations()))
+                    .addMetric("Alloc Rate (MB/s)", String.format("%.1f", totalDurationMs == 0 ? 0.0
+                            : totalAllocatedBytes / (1024.0 * 1024.0) / (totalDurationMs / 1000.0)))
+                    .addMetric("Bytes/Record", String.valueOf(totalAllocatedBytes / totalRecords));
+        }
+        BenchmarkResult result = builder.build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * 선언한 테이블 하나로 TABLE 워크로드를 측정합니다.
+     *
+     * <p>정의대로 테이블과 인덱스를 새로 만들고 warmupCount 건으로 웜업한 뒤, 반복마다 recordCount 건의 행을
+     * 미리 생성(측정 제외)해 배치 삽입 시간을 잽니다. 측정이 끝나거나 실패하면 테이블을 삭제합니다.</p>
+     */
+    private BenchmarkResult runTableBenchmark(JdbcTableBatchInsertRepository repository) {
+        TableDefinition definition = repository.getDefinition();
+        log.info(repeat("-", 60));
+        log.info("Running table benchmark: {} ({})", repository.getTypeName(), definition);
+        log.info(repeat("-", 60));
+
+        int recordCount = properties.getRecordCount();
+        CommitPolicy commitPolicy = properties.toCommitPolicy();
+        repository.setBatchSize(properties.getBatchSize());
+        repository.setCommitPolicy(commitPolicy);
+        TableRowGenerator rowGenerator = new TableRowGenerator(definition, dataProfile);
+
+        List<Long> durations = new ArrayList<>();
+        repository.createTable();
+        try {
+            if (properties.getWarmupCount() > 0) {
+                repository.insertBatch(rowGenerator.generate(properties.getWarmupCount()));
+            }
+
+            for (int i = 1; i <= properties.getIterations(); i++) {
+                log.info("Iteration {}/{}", i, properties.getIterations());
+
+                // 테이블 초기화
+                repository.truncateTable();
+
+                // 테스트 데이터 생성
+                List<Object[]> rows = rowGenerator.generate(recordCount);
+
+                // 벤치마크 실행
+                long startTime = System.currentTimeMillis();
+                repository.insertBatch(rows);
+                long duration = System.currentTimeMillis() - startTime;
+
+                durations.add(duration);
+                log.info("  Duration: {}ms, TPS: {}", duration, calculateTps(recordCount, duration));
+            }
+        } finally {
+            // 테이블 정리
+            repository.dropTable();
+        }
+
+        BenchmarkResult result = BenchmarkResult.builder()
+                .dataProfile(dataProfile.getName())
+                .workload(Workload.TABLE)
+                .repositoryType(repository.getTypeName())
+                .recordCount(recordCount)
+                .batchSize(properties.getBatchSize())
+                .iterations(properties.getIterations())
+                .commitPolicy(commitPolicy)
+                .durations(durations)
+                .executedAt(Instant.now())
+                .metrics(repository.getLastRunMetrics())
+                .build();
+
+        log.info("Result: {}", result);
+        return result;
+    }
+
+    /**
+     * datasetDirectory가 설정되어 있으면 INSERT 엔진이 공통으로 쓸 데이터셋 파일을 준비합니다.
+     *
+     * <p>같은 seed와 recordCount의 파일이 이미 있으면 이전 실행의 파일을 재사용합니다.</p>
+     *
+     * @return 매핑된 데이터셋 (사용하지 않으면 null)
+     */
+    private RecordDatasetFile prepareDataset() {
+        String directory = properties.getDatasetDirectory();
+        if (directory == null || directory.trim().isEmpty()
+                || !properties.getWorkloads().contains(Workload.INSERT)) {
+            return null;
+        }
+
+        try {
+            Path file = TestDataGenerator.writeDataset(Paths.get(directory), properties.getRecordCount(),
+                    properties.getDatasetSeed(), dataProfile);
+            RecordDatasetFile opened = RecordDatasetFile.open(file);
+            log.info("Using dataset file for INSERT engines: {} (records={}, size={} bytes)",
+                    file, opened.getRecordCount(), opened.getSizeBytes());
+            return opened;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare dataset file in " + directory, e);
+        }
+    }
+
+    /**
+     * INSERT 엔진 입력 recordCount 건을 한 건씩 꺼내는 소스를 반환합니다.
+     *
+     * <p>데이터셋이 있으면 매핑된 파일에서 디코딩하므로 모든 엔진과 반복이 같은 입력을 받고,
+     * 없으면 반복마다 새로 생성합니다.</p>
+     */
+    private Iterator<TestRecord> insertSource() {
+        return dataset != null ? dataset.iterator() : dataGenerator.iterate(properties.getRecordCount());
+    }
+
+    /**
+     * INSERT 엔진 입력의 앞 count 건을 리스트로 반환합니다.
+     *
+     * @see #insertSource()
+     */
+    private List<TestRecord> insertRecords(int count) {
+        if (dataset == null) {
+            return dataGenerator.generate(count);
+        }
+        List<TestRecord> records = new ArrayList<>(count);
+        Iterator<TestRecord> source = dataset.iterator();
+        while (records.size() < count && source.hasNext()) {
+            records.add(source.next());
+        }
+        return records;
+    }
+
+    private void addDatasetMetric(BenchmarkResult.Builder builder) {
+        if (dataset != null) {
+            builder.addMetric("Dataset", dataset.getPath().getFileName().toString());
+        }
+    }
+
+    private ExecutorService createExecutor(String threadNamePrefix, int threadCount) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BenchmarkException("Interrupted while waiting for benchmark worker", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new BenchmarkException("Benchmark worker failed", cause);
+        }
+    }
+
+    private long exportToTempFile(ExportRepository repository) {
+        Path target = null;
+        try {
+            target = Files.createTempFile("benchmark-export-", ".csv");
+            return repository.export(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create export file", e);
+        } finally {
+            if (target != null) {
+                try {
+                    Files.deleteIfExists(target);
+                } catch (IOException e) {
+                    log.warn("Failed to delete export file: {}", target, e);
+                }
+            }
+        }
+    }
+
     private String calculateTps(int count, long durationMs) {
         if (durationMs == 0) {
             return "N/A";
@@ -0,0 +1,167 @@
+package com.example.benchmark.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HikariCP 커넥션 풀의 사용량을 표본 추출하는 유틸리티.
+ *
+ * <p>{@link #startSampling(Duration)}으로 측정 구간 동안 별도 스레드에서 주기적으로 활성 커넥션 수와
+ * 커넥션을 기다리는 스레드 수의 최댓값을 기록합니다. 측정 스레드가 작업 사이(커넥션을 반납한 뒤)에 표본을 추출하면
+ * 자신이 쓰던 커넥션이 빠지므로, 표본은 커넥션을 쥔 스레드와 무관한 스레드에서 추출합니다.
+ * 스레드 수를 늘려 가며 커넥션 대기가 생기기 시작하는 지점(풀 포화)을 찾는 데 사용합니다.</p>
+ *
+ * <p>데이터소스가 HikariCP가 아니면 아무것도 기록하지 않습니다. 스레드 안전합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class ConnectionPoolSampler {
+
+    private final HikariDataSource hikariDataSource;
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final AtomicInteger peakAwaiting = new AtomicInteger();
+
+    private ConnectionPoolSampler(HikariDataSource hikariDataSource) {
+        this.hikariDataSource = hikariDataSource;
+    }
+
+    /**
+     * 데이터소스의 커넥션 풀 표본 추출기를 생성합니다.
+     *
+     * @param dataSource 데이터소스 (null이거나 HikariCP가 아니면 아무것도 기록하지 않음)
+     * @return 표본 추출기
+     */
+    public static ConnectionPoolSampler of(DataSource dataSource) {
+        HikariDataSource hikari = null;
+        if (dataSource instanceof HikariDataSource) {
+            hikari = (HikariDataSource) dataSource;
+        } else if (dataSource != null) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    hikari = dataSource.unwrap(HikariDataSource.class);
+                }
+            } catch (SQLException e) {
+                hikari = null;
+            }
+        }
+        return new ConnectionPoolSampler(hikari);
+    }
+
+    /**
+     * HikariCP 풀 지표를 사용할 수 있는지 반환합니다.
+     *
+     * @return HikariCP 데이터소스이면 true
+     */
+    public boolean isAvailable() {
+        return hikariDataSource != null;
+    }
+
+    /**
+     * 풀의 최대 커넥션 수를 반환합니다.
+     *
+     * @return maximum-pool-size (사용할 수 없으면 0)
+     */
+    public int getMaximumPoolSize() {
+        return hikariDataSource != null ? hikariDataSource.getMaximumPoolSize() : 0;
+    }
+
+    /**
+     * 현재 활성 커넥션 수와 대기 스레드 수를 읽어 최댓값을 갱신합니다.
+     */
+    public void sample() {
+        HikariPoolMXBean pool = hikariDataSource != null ? hikariDataSource.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return;
+        }
+        peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+        peakAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+    }
+
+    /**
+     * 별도 데몬 스레드에서 interval마다 {@link #sample()}을 호출하기 시작합니다.
+     *
+     * <p>HikariCP가 아니면 스레드를 만들지 않고 아무것도 하지 않는 핸들을 반환합니다.</p>
+     *
+     * @param interval 표본 추출 간격 (0보다 커야 함)
+     * @return 닫으면 표본 추출을 멈추는 핸들
+     * @throws IllegalArgumentException interval이 0 이하인 경우
+     */
+    public Sampling startSampling(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive, but was: " + interval);
+        }
+        if (hikariDataSource == null) {
+            return new Sampling(null);
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+        return new Sampling(scheduler);
+    }
+
+    /**
+     * 기록한 최댓값을 초기화합니다.
+     */
+    public void reset() {
+        peakActive.set(0);
+        peakAwaiting.set(0);
+    }
+
+    /**
+     * 마지막 초기화 이후 활성 커넥션 수의 최댓값을 반환합니다.
+     *
+     * @return 최대 활성 커넥션 수
+     */
+    public int getPeakActiveConnections() {
+        return peakActive.get();
+    }
+
+    /**
+     * 마지막 초기화 이후 커넥션을 기다린 스레드 수의 최댓값을 반환합니다.
+     *
+     * @return 최대 대기 스레드 수
+     */
+    public int getPeakThreadsAwaiting() {
+        return peakAwaiting.get();
+    }
+
+    /**
+     * {@link #startSampling(Duration)}으로 시작한 주기적 표본 추출의 핸들.
+     */
+    public final class Sampling implements AutoCloseable {
+
+        private final ScheduledExecutorService scheduler;
+
+        private Sampling(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * 표본 추출을 멈추고 진행 중인 추출이 끝날 때까지 기다립니다.
+         */
+        @Override
+        public void close() {
+            if (scheduler == null) {
+                return;
+            }
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.benchmark.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구간 동안의 힙 최대 사용량(high-water mark)을 측정하는 유틸리티.
+ *
+ * <p>{@link #start()}에서 모든 힙 메모리 풀의 최대 사용량 기록을 초기화하고,
+ * {@link #getPeakUsedBytes()}에서 풀별 최대 사용량을 합산합니다. 풀마다 최댓값에 도달한 시점이 다를 수 있으므로
+ * 합계는 실제 순간 최대 사용량의 상한이며, 같은 조건의 구성끼리 비교하는 용도로 사용합니다.</p>
+ *
+ * <p>메모리 풀은 JVM 전체에서 공유되므로 동시에 여러 구간을 측정하면 값이 섞입니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class HeapHighWaterMark {
+
+    private final List<MemoryPoolMXBean> heapPools;
+
+    private HeapHighWaterMark(List<MemoryPoolMXBean> heapPools) {
+        this.heapPools = heapPools;
+    }
+
+    /**
+     * 힙 메모리 풀의 최대 사용량 기록을 초기화하고 측정을 시작합니다.
+     *
+     * @return 측정 객체
+     */
+    public static HeapHighWaterMark start() {
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+        return new HeapHighWaterMark(heapPools);
+    }
+
+    /**
+     * 측정 시작 이후 힙 메모리 풀별 최대 사용량의 합을 반환합니다.
+     *
+     * @return 최대 사용량 (바이트)
+     */
+    public long getPeakUsedBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage usage = pool.getPeakUsage();
+            if (usage != null) {
+                peak += usage.getUsed();
+            }
+        }
+        return peak;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.benchmark.benchmark;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 개별 작업의 지연 시간을 모아 백분위수를 계산하는 기록기.
+ *
+ * <p>모든 표본을 나노초 단위로 보관하고, 백분위수는 정렬 후 nearest-rank 방식으로 계산합니다.
+ * 스레드 안전하지 않으므로 스레드마다 따로 기록한 뒤 {@link #merge(LatencyRecorder)}로 합칩니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class LatencyRecorder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] samples = new long[INITIAL_CAPACITY];
+    private int count;
+    private boolean sorted = true;
+
+    /**
+     * 지연 시간 표본 하나를 기록합니다.
+     *
+     * @param latencyNanos 지연 시간 (나노초, 0 이상)
+     * @throws IllegalArgumentException latencyNanos가 음수인 경우
+     */
+    public void record(long latencyNanos) {
+        if (latencyNanos < 0) {
+            throw new IllegalArgumentException("latencyNanos must not be negative, but was: " + latencyNanos);
+        }
+        ensureCapacity(count + 1);
+        samples[count++] = latencyNanos;
+        sorted = false;
+    }
+
+    /**
+     * 다른 기록기의 표본을 모두 이 기록기에 추가합니다.
+     *
+     * @param other 합칠 기록기 (null 불가)
+     */
+    public void merge(LatencyRecorder other) {
+        Objects.requireNonNull(other, "other must not be null");
+        ensureCapacity(count + other.count);
+        System.arraycopy(other.samples, 0, samples, count, other.count);
+        count += other.count;
+        sorted = false;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(required, samples.length * 2));
+        }
+    }
+
+    /**
+     * 기록된 표본 수를 반환합니다.
+     *
+     * @return 표본 수
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 백분위수 지연 시간을 반환합니다.
+     *
+     * @param percentile 백분위 (0 초과 100 이하, 예: 99.0)
+     * @return 지연 시간 (나노초, 표본이 없으면 0)
+     * @throws IllegalArgumentException percentile이 범위를 벗어난 경우
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100], but was: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return samples[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * 백분위수 지연 시간을 밀리초로 반환합니다.
+     *
+     * @param percentile 백분위 (0 초과 100 이하)
+     * @return 지연 시간 (밀리초)
+     */
+    public double getPercentileMillis(double percentile) {
+        return getPercentileNanos(percentile) / 1_000_000.0;
+    }
+
+    /**
+     * 가장 큰 지연 시간을 반환합니다.
+     *
+     * @return 최대 지연 시간 (나노초, 표본이 없으면 0)
+     */
+    public long getMaxNanos() {
+        return getPercentileNanos(100);
+    }
+}
@@ -3,6 +3,15 @@ package com.example.benchmark.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 벤치마크 실행 관련 설정 프로퍼티.
  *
@@ -14,6 +23,43 @@ import org.springframework.stereotype.Component;
  *   <li>recordCount: 테스트 레코드 수 (기본값: 100000)</li>
  *   <li>iterations: 반복 횟수 (기본값: 3)</li>
  *   <li>warmupCount: 웜업 레코드 수 (기본값: 1000)</li>
+ *   <li>parallelThreads: 병렬 배치 삽입 워커 스레드 수 (기본값: 4)</li>
+ *   <li>multiRowSize: 다중 행 INSERT 한 문장당 행 수 (기본값: 100)</li>
+ *   <li>clientSideIds: 클라이언트 측 ID 블록 할당 사용 여부 (기본값: false)</li>
+ *   <li>idBlockSize: 시퀀스 라운드 트립 한 번에 예약하는 ID 수 (기본값: 1000)</li>
+ *   <li>streaming: 배치 벤치마크에서 지연 생성 소스로 스트리밍 삽입 여부 (기본값: false)</li>
+ *   <li>pipelineQueueDepth: JDBC-Pipelined 생산자/writer 사이 hand-off 큐 깊이 (기본값: 2)</li>
+ *   <li>commitPolicy: 커밋 정책 모드 (기본값: SINGLE_TRANSACTION)</li>
+ *   <li>commitEveryBatches: EVERY_N_BATCHES 정책의 커밋 간 배치 수 (기본값: 10)</li>
+ *   <li>autoTune: 배치 크기 자동 튜닝 사용 여부 (기본값: false)</li>
+ *   <li>autoTuneMinBatchSize: 자동 튜닝 최소 배치 크기 (기본값: 50)</li>
+ *   <li>autoTuneMaxBatchSize: 자동 튜닝 최대 배치 크기 (기본값: 10000)</li>
+ *   <li>autoTuneMaxBatchLatencyMs: 자동 튜닝 배치당 허용 지연 시간, 0이면 제한 없음 (기본값: 0)</li>
+ *   <li>jooqBulkSize: jOOQ Loader bulkAfter 값, 한 INSERT 문에 담을 행 수 (기본값: 1, 1이면 bulk 미사용)</li>
+ *   <li>workloads: 실행할 워크로드 목록, 나머지 워크로드는 명시해야 실행 (기본값: INSERT)</li>
+ *   <li>upsertUpdateRatios: upsert 워크로드의 기존 키 비율 목록, 비율마다 한 번씩 측정 (기본값: 0.2, 0.8)</li>
+ *   <li>purgeRatio: DELETE 워크로드에서 삭제할 과거 데이터 비율 (기본값: 0.5)</li>
+ *   <li>fetchSize: 조회 시 JDBC fetchSize (기본값: 1000)</li>
+ *   <li>exportFetchSizes: READ 워크로드의 fetchSize 목록, 크기마다 한 번씩 측정 (기본값: 100, 1000, 5000)</li>
+ *   <li>mixedWriterThreads: MIXED 워크로드의 쓰기 스레드 수 (기본값: 2)</li>
+ *   <li>mixedReaderThreads: MIXED 워크로드의 조회 스레드 수 (기본값: 4)</li>
+ *   <li>mixedBaselineQueries: MIXED 워크로드에서 부하 없이 조회 스레드마다 실행할 기준 조회 수 (기본값: 500)</li>
+ *   <li>mixedWriterType: MIXED 워크로드에서 쓰기에 사용할 배치 삽입 구현체 타입명, 비어 있으면 모든 구현체 (기본값: JDBC-Batch)</li>
+ *   <li>singleScalingMaxThreads: 단건 삽입 스레드 확장 측정의 최대 스레드 수, 1부터 두 배씩 늘려 측정하며 0이면 생략 (기본값: 0)</li>
+ *   <li>singleScalingRecordCount: 스레드 확장 측정에서 스레드 수마다 삽입할 총 레코드 수 (기본값: 10000)</li>
+ *   <li>groupCommitSubmitters: group commit 비교 측정의 동시 호출 스레드 수, 0이면 생략 (기본값: 0)</li>
+ *   <li>groupCommitMaxRows: group commit flush 한 번의 최대 레코드 수 (기본값: 100)</li>
+ *   <li>groupCommitMaxWaitMillis: group commit 첫 레코드 도착 후 flush까지 최대 대기 시간(ms) (기본값: 5)</li>
+ *   <li>groupCommitWriterType: group commit flush에 사용할 배치 삽입 구현체 타입명, 비어 있으면 모든 구현체 (기본값: JDBC-Batch)</li>
+ *   <li>ingestProducerThreads: INGEST 워크로드의 생산자 스레드 수, 1이면 링 버퍼를 SINGLE 생산자로 구성 (기본값: 4)</li>
+ *   <li>ingestBufferSize: INGEST 워크로드의 링 버퍼 슬롯 수(2의 거듭제곱), 비교 대상 ArrayBlockingQueue의 용량으로도 사용 (기본값: 8192)</li>
+ *   <li>ingestWaitStrategies: INGEST 워크로드에서 측정할 링 버퍼 대기 전략 목록, 전략마다 한 번씩 측정 (기본값: YIELDING, SLEEPING)</li>
+ *   <li>columnarInsert: INSERT 워크로드에서 컬럼 배치 삽입 경로를 함께 측정할지 여부 (기본값: false)</li>
+ *   <li>datasetDirectory: INSERT 워크로드 입력 데이터셋 파일 디렉터리 (기본값: 없음, 비우면 반복마다 새로 생성)</li>
+ *   <li>datasetSeed: 데이터셋 파일을 생성할 seed (기본값: 42)</li>
+ *   <li>dataProfile: 테스트 데이터 생성에 사용할 프로파일 이름 (기본값: default)</li>
+ *   <li>dataProfiles: 이름별 데이터 프로파일 정의, default를 정의하지 않으면 {@link DataProfile#defaults()} 사용 (기본값: 없음)</li>
+ *   <li>tables: TABLE 워크로드에서 측정할 테이블명별 정의, 비어 있으면 TABLE 워크로드 생략 (기본값: 없음)</li>
  * </ul>
  *
  * @author Developer Agent
@@ -27,11 +73,78 @@ public class BenchmarkProperties {
     private static final int DEFAULT_RECORD_COUNT = 100000;
     private static final int DEFAULT_ITERATIONS = 3;
     private static final int DEFAULT_WARMUP_COUNT = 1000;
+    private static final int DEFAULT_PARALLEL_THREADS = 4;
+    private static final int DEFAULT_MULTI_ROW_SIZE = 100;
+    private static final int DEFAULT_ID_BLOCK_SIZE = 1000;
+    private static final int DEFAULT_PIPELINE_QUEUE_DEPTH = 2;
+    private static final CommitPolicy.Mode DEFAULT_COMMIT_POLICY = CommitPolicy.Mode.SINGLE_TRANSACTION;
+    private static final int DEFAULT_COMMIT_EVERY_BATCHES = 10;
+    private static final int DEFAULT_AUTO_TUNE_MIN_BATCH_SIZE = 50;
+    private static final int DEFAULT_AUTO_TUNE_MAX_BATCH_SIZE = 10000;
+    private static final long DEFAULT_AUTO_TUNE_MAX_BATCH_LATENCY_MS = 0L;
+    private static final int DEFAULT_JOOQ_BULK_SIZE = 1;
+    private static final List<Double> DEFAULT_UPSERT_UPDATE_RATIOS = Collections.unmodifiableList(Arrays.asList(0.2, 0.8));
+    private static final double DEFAULT_PURGE_RATIO = 0.5;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final List<Integer> DEFAULT_EXPORT_FETCH_SIZES =
+            Collections.unmodifiableList(Arrays.asList(100, 1000, 5000));
+    private static final int DEFAULT_MIXED_WRITER_THREADS = 2;
+    private static final int DEFAULT_MIXED_READER_THREADS = 4;
+    private static final int DEFAULT_MIXED_BASELINE_QUERIES = 500;
+    private static final String DEFAULT_MIXED_WRITER_TYPE = "JDBC-Batch";
+    private static final int DEFAULT_SINGLE_SCALING_MAX_THREADS = 0;
+    private static final int DEFAULT_SINGLE_SCALING_RECORD_COUNT = 10000;
+    private static final int DEFAULT_GROUP_COMMIT_SUBMITTERS = 0;
+    private static final int DEFAULT_GROUP_COMMIT_MAX_ROWS = 100;
+    private static final long DEFAULT_GROUP_COMMIT_MAX_WAIT_MILLIS = 5;
+    private static final String DEFAULT_GROUP_COMMIT_WRITER_TYPE = "JDBC-Batch";
+    private static final int DEFAULT_INGEST_PRODUCER_THREADS = 4;
+    private static final int DEFAULT_INGEST_BUFFER_SIZE = 8192;
+    private static final List<WaitStrategy> DEFAULT_INGEST_WAIT_STRATEGIES =
+            Collections.unmodifiableList(Arrays.asList(WaitStrategy.YIELDING, WaitStrategy.SLEEPING));
+    private static final long DEFAULT_DATASET_SEED = 42L;
 
     private int batchSize = DEFAULT_BATCH_SIZE;
     private int recordCount = DEFAULT_RECORD_COUNT;
     private int iterations = DEFAULT_ITERATIONS;
     private int warmupCount = DEFAULT_WARMUP_COUNT;
+    private int parallelThreads = DEFAULT_PARALLEL_THREADS;
+    private int multiRowSize = DEFAULT_MULTI_ROW_SIZE;
+    private boolean clientSideIds;
+    private int idBlockSize = DEFAULT_ID_BLOCK_SIZE;
+    private boolean streaming;
+    private int pipelineQueueDepth = DEFAULT_PIPELINE_QUEUE_DEPTH;
+    private CommitPolicy.Mode commitPolicy = DEFAULT_COMMIT_POLICY;
+    private int commitEveryBatches = DEFAULT_COMMIT_EVERY_BATCHES;
+    private boolean autoTune;
+    private int autoTuneMinBatchSize = DEFAULT_AUTO_TUNE_MIN_BATCH_SIZE;
+    private int autoTuneMaxBatchSize = DEFAULT_AUTO_TUNE_MAX_BATCH_SIZE;
+    private long autoTuneMaxBatchLatencyMs = DEFAULT_AUTO_TUNE_MAX_BATCH_LATENCY_MS;
+    private int jooqBulkSize = DEFAULT_JOOQ_BULK_SIZE;
+    private Set<Workload> workloads = EnumSet.of(Workload.INSERT);
+    private List<Double> upsertUpdateRatios = new ArrayList<>(DEFAULT_UPSERT_UPDATE_RATIOS);
+    private double purgeRatio = DEFAULT_PURGE_RATIO;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private List<Integer> exportFetchSizes = new ArrayList<>(DEFAULT_EXPORT_FETCH_SIZES);
+    private int mixedWriterThreads = DEFAULT_MIXED_WRITER_THREADS;
+    private int mixedReaderThreads = DEFAULT_MIXED_READER_THREADS;
+    private int mixedBaselineQueries = DEFAULT_MIXED_BASELINE_QUERIES;
+    private String mixedWriterType = DEFAULT_MIXED_WRITER_TYPE;
+    private int singleScalingMaxThreads = DEFAULT_SINGLE_SCALING_MAX_THREADS;
+    private int singleScalingRecordCount = DEFAULT_SINGLE_SCALING_RECORD_COUNT;
+    private int groupCommitSubmitters = DEFAULT_GROUP_COMMIT_SUBMITTERS;
+    private int groupCommitMaxRows = DEFAULT_GROUP_COMMIT_MAX_ROWS;
+    private long groupCommitMaxWaitMillis = DEFAULT_GROUP_COMMIT_MAX_WAIT_MILLIS;
+    private String groupCommitWriterType = DEFAULT_GROUP_COMMIT_WRITER_TYPE;
+    private int ingestProducerThreads = DEFAULT_INGEST_PRODUCER_THREADS;
+    private int ingestBufferSize = DEFAULT_INGEST_BUFFER_SIZE;
+    private List<WaitStrategy> ingestWaitStrategies = new ArrayList<>(DEFAULT_INGEST_WAIT_STRATEGIES);
+    private boolean columnarInsert;
+    private String datasetDirectory;
+    private long datasetSeed = DEFAULT_DATASET_SEED;
+    private String dataProfile = DataProfile.DEFAULT_NAME;
+    private Map<String, DataProfile> dataProfiles = new LinkedHashMap<>();
+    private Map<String, TableDefinition> tables = new LinkedHashMap<>();
 
     /**
      * 배치 처리 크기를 반환합니다.
@@ -105,6 +218,735 @@ public class BenchmarkProperties {
         this.warmupCount = warmupCount;
     }
 
+    /**
+     * 병렬 배치 삽입 워커 스레드 수를 반환합니다.
+     *
+     * @return 워커 스레드 수
+     */
+    public int getParallelThreads() {
+        return parallelThreads;
+    }
+
+    /**
+     * 병렬 배치 삽입 워커 스레드 수를 설정합니다.
+     *
+     * <p>각 워커는 커넥션 풀에서 커넥션을 하나씩 점유하므로
+     * maximum-pool-size 이하로 설정해야 합니다.</p>
+     *
+     * @param parallelThreads 워커 스레드 수 (1 이상)
+     */
+    public void setParallelThreads(int parallelThreads) {
+        this.parallelThreads = parallelThreads;
+    }
+
+    /**
+     * 다중 행 INSERT 한 문장당 행 수를 반환합니다.
+     *
+     * @return 문장당 행 수
+     */
+    public int getMultiRowSize() {
+        return multiRowSize;
+    }
+
+    /**
+     * 다중 행 INSERT 한 문장당 행 수를 설정합니다.
+     *
+     * @param multiRowSize 문장당 행 수 (1 이상 1000 이하)
+     */
+    public void setMultiRowSize(int multiRowSize) {
+        this.multiRowSize = multiRowSize;
+    }
+
+    /**
+     * 클라이언트 측 ID 블록 할당 사용 여부를 반환합니다.
+     *
+     * @return 사용 여부
+     */
+    public boolean isClientSideIds() {
+        return clientSideIds;
+    }
+
+    /**
+     * 클라이언트 측 ID 블록 할당 사용 여부를 설정합니다.
+     *
+     * <p>true인 경우 INSERT 문에서 NEXTVAL을 호출하지 않고
+     * 미리 예약한 ID 블록에서 ID를 바인딩합니다.</p>
+     *
+     * @param clientSideIds 사용 여부
+     */
+    public void setClientSideIds(boolean clientSideIds) {
+        this.clientSideIds = clientSideIds;
+    }
+
+    /**
+     * ID 블록 크기를 반환합니다.
+     *
+     * @return 블록당 ID 수
+     */
+    public int getIdBlockSize() {
+        return idBlockSize;
+    }
+
+    /**
+     * ID 블록 크기를 설정합니다.
+     *
+     * @param idBlockSize 블록당 ID 수 (1 이상)
+     */
+    public void setIdBlockSize(int idBlockSize) {
+        this.idBlockSize = idBlockSize;
+    }
+
+    /**
+     * 스트리밍 삽입 모드 여부를 반환합니다.
+     *
+     * @return 스트리밍 모드 여부
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * 스트리밍 삽입 모드 여부를 설정합니다.
+     *
+     * <p>true인 경우 배치 벤치마크가 레코드 리스트를 미리 만들지 않고
+     * 지연 생성 소스를 insertStream으로 전달합니다. 이 경우 측정 시간에 데이터 생성 시간이 포함됩니다.</p>
+     *
+     * @param streaming 스트리밍 모드 여부
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * 파이프라인 큐 깊이를 반환합니다.
+     *
+     * @return 파이프라인 큐 깊이
+     */
+    public int getPipelineQueueDepth() {
+        return pipelineQueueDepth;
+    }
+
+    /**
+     * 파이프라인 큐 깊이를 설정합니다.
+     *
+     * <p>값이 클수록 생산자가 앞서 나갈 수 있지만 대기 중인 배치만큼 메모리를 더 사용합니다.</p>
+     *
+     * @param pipelineQueueDepth 큐에 대기할 수 있는 준비된 배치 수 (1 이상)
+     */
+    public void setPipelineQueueDepth(int pipelineQueueDepth) {
+        this.pipelineQueueDepth = pipelineQueueDepth;
+    }
+
+    /**
+     * 커밋 정책 모드를 반환합니다.
+     *
+     * @return 커밋 정책 모드
+     */
+    public CommitPolicy.Mode getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    /**
+     * 커밋 정책 모드를 설정합니다.
+     *
+     * @param commitPolicy 커밋 정책 모드
+     */
+    public void setCommitPolicy(CommitPolicy.Mode commitPolicy) {
+        this.commitPolicy = commitPolicy;
+    }
+
+    /**
+     * 커밋 간 배치 수를 반환합니다.
+     *
+     * @return 커밋 간 배치 수
+     */
+    public int getCommitEveryBatches() {
+        return commitEveryBatches;
+    }
+
+    /**
+     * 커밋 간 배치 수를 설정합니다.
+     *
+     * @param commitEveryBatches EVERY_N_BATCHES 정책의 커밋 간 배치 수 (1 이상)
+     */
+    public void setCommitEveryBatches(int commitEveryBatches) {
+        this.commitEveryBatches = commitEveryBatches;
+    }
+
+    /**
+     * 설정된 모드와 배치 수로 커밋 정책을 생성합니다.
+     *
+     * @return 커밋 정책
+     * @throws IllegalArgumentException EVERY_N_BATCHES 모드에서 commitEveryBatches가 1 미만인 경우
+     */
+    public CommitPolicy toCommitPolicy() {
+        return CommitPolicy.of(commitPolicy, commitEveryBatches);
+    }
+
+    /**
+     * 배치 크기 자동 튜닝 사용 여부를 반환합니다.
+     *
+     * @return 배치 크기 자동 튜닝 사용 여부
+     */
+    public boolean isAutoTune() {
+        return autoTune;
+    }
+
+    /**
+     * 배치 크기 자동 튜닝 사용 여부를 설정합니다.
+     *
+     * <p>true인 경우 측정 전에 recordCount 건의 튜닝 패스로 배치 크기를 탐색하고, 찾은 크기로 측정합니다.</p>
+     *
+     * @param autoTune 자동 튜닝 사용 여부
+     */
+    public void setAutoTune(boolean autoTune) {
+        this.autoTune = autoTune;
+    }
+
+    /**
+     * 자동 튜닝 최소 배치 크기를 반환합니다.
+     *
+     * @return 자동 튜닝 최소 배치 크기
+     */
+    public int getAutoTuneMinBatchSize() {
+        return autoTuneMinBatchSize;
+    }
+
+    /**
+     * 자동 튜닝 최소 배치 크기를 설정합니다.
+     *
+     * @param autoTuneMinBatchSize 최소 배치 크기 (1 이상)
+     */
+    public void setAutoTuneMinBatchSize(int autoTuneMinBatchSize) {
+        this.autoTuneMinBatchSize = autoTuneMinBatchSize;
+    }
+
+    /**
+     * 자동 튜닝 최대 배치 크기를 반환합니다.
+     *
+     * @return 자동 튜닝 최대 배치 크기
+     */
+    public int getAutoTuneMaxBatchSize() {
+        return autoTuneMaxBatchSize;
+    }
+
+    /**
+     * 자동 튜닝 최대 배치 크기를 설정합니다.
+     *
+     * @param autoTuneMaxBatchSize 최대 배치 크기 (autoTuneMinBatchSize 이상)
+     */
+    public void setAutoTuneMaxBatchSize(int autoTuneMaxBatchSize) {
+        this.autoTuneMaxBatchSize = autoTuneMaxBatchSize;
+    }
+
+    /**
+     * 배치당 허용 지연 시간을 반환합니다.
+     *
+     * @return 배치당 허용 지연 시간
+     */
+    public long getAutoTuneMaxBatchLatencyMs() {
+        return autoTuneMaxBatchLatencyMs;
+    }
+
+    /**
+     * 배치당 허용 지연 시간을 설정합니다.
+     *
+     * @param autoTuneMaxBatchLatencyMs 배치당 허용 지연 시간 (ms, 0이면 제한 없음)
+     */
+    public void setAutoTuneMaxBatchLatencyMs(long autoTuneMaxBatchLatencyMs) {
+        this.autoTuneMaxBatchLatencyMs = autoTuneMaxBatchLatencyMs;
+    }
+
+    /**
+     * jOOQ Loader 문장당 행 수를 반환합니다.
+     *
+     * @return jOOQ Loader 문장당 행 수
+     */
+    public int getJooqBulkSize() {
+        return jooqBulkSize;
+    }
+
+    /**
+     * jOOQ Loader 문장당 행 수를 설정합니다.
+     *
+     * @param jooqBulkSize jOOQ Loader 문장당 행 수 (1 이상)
+     */
+    public void setJooqBulkSize(int jooqBulkSize) {
+        this.jooqBulkSize = jooqBulkSize;
+    }
+
+    /**
+     * 실행할 워크로드 목록을 반환합니다.
+     *
+     * @return 워크로드 집합
+     */
+    public Set<Workload> getWorkloads() {
+        return workloads;
+    }
+
+    /**
+     * 실행할 워크로드 목록을 설정합니다.
+     *
+     * @param workloads 워크로드 목록 (비어 있으면 아무 워크로드도 실행하지 않음)
+     */
+    public void setWorkloads(Set<Workload> workloads) {
+        this.workloads = workloads.isEmpty() ? EnumSet.noneOf(Workload.class) : EnumSet.copyOf(workloads);
+    }
+
+    /**
+     * upsert 워크로드의 기존 키 비율 목록을 반환합니다.
+     *
+     * @return 기존 키 비율 목록 (각 0.0 이상 1.0 이하)
+     */
+    public List<Double> getUpsertUpdateRatios() {
+        return upsertUpdateRatios;
+    }
+
+    /**
+     * upsert 워크로드의 기존 키 비율 목록을 설정합니다.
+     *
+     * @param upsertUpdateRatios 기존 키 비율 목록 (0.0이면 전부 신규 키, 1.0이면 전부 기존 키)
+     */
+    public void setUpsertUpdateRatios(List<Double> upsertUpdateRatios) {
+        this.upsertUpdateRatios = upsertUpdateRatios;
+    }
+
+    /**
+     * DELETE 워크로드에서 삭제할 과거 데이터 비율을 반환합니다.
+     *
+     * @return DELETE 워크로드에서 삭제할 과거 데이터 비율
+     */
+    public double getPurgeRatio() {
+        return purgeRatio;
+    }
+
+    /**
+     * DELETE 워크로드에서 삭제할 과거 데이터 비율을 설정합니다.
+     *
+     * @param purgeRatio 삭제 비율 (0.0 이상 1.0 이하)
+     */
+    public void setPurgeRatio(double purgeRatio) {
+        this.purgeRatio = purgeRatio;
+    }
+
+    /**
+     * 조회 시 JDBC fetchSize를 반환합니다.
+     *
+     * @return 조회 시 JDBC fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * 조회 시 JDBC fetchSize를 설정합니다.
+     *
+     * @param fetchSize fetchSize (1 이상)
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * READ 워크로드에서 측정할 fetchSize 목록을 반환합니다.
+     *
+     * @return fetchSize 목록
+     */
+    public List<Integer> getExportFetchSizes() {
+        return exportFetchSizes;
+    }
+
+    /**
+     * READ 워크로드에서 측정할 fetchSize 목록을 설정합니다.
+     *
+     * @param exportFetchSizes fetchSize 목록 (각 값 1 이상)
+     */
+    public void setExportFetchSizes(List<Integer> exportFetchSizes) {
+        this.exportFetchSizes = exportFetchSizes;
+    }
+
+    /**
+     * MIXED 워크로드의 쓰기 스레드 수를 반환합니다.
+     *
+     * @return MIXED 워크로드의 쓰기 스레드 수
+     */
+    public int getMixedWriterThreads() {
+        return mixedWriterThreads;
+    }
+
+    /**
+     * MIXED 워크로드의 쓰기 스레드 수를 설정합니다.
+     *
+     * @param mixedWriterThreads 쓰기 스레드 수 (1 이상)
+     */
+    public void setMixedWriterThreads(int mixedWriterThreads) {
+        this.mixedWriterThreads = mixedWriterThreads;
+    }
+
+    /**
+     * MIXED 워크로드의 조회 스레드 수를 반환합니다.
+     *
+     * @return MIXED 워크로드의 조회 스레드 수
+     */
+    public int getMixedReaderThreads() {
+        return mixedReaderThreads;
+    }
+
+    /**
+     * MIXED 워크로드의 조회 스레드 수를 설정합니다.
+     *
+     * @param mixedReaderThreads 조회 스레드 수 (1 이상)
+     */
+    public void setMixedReaderThreads(int mixedReaderThreads) {
+        this.mixedReaderThreads = mixedReaderThreads;
+    }
+
+    /**
+     * 조회 스레드별 기준 조회 수를 반환합니다.
+     *
+     * @return 조회 스레드별 기준 조회 수
+     */
+    public int getMixedBaselineQueries() {
+        return mixedBaselineQueries;
+    }
+
+    /**
+     * 조회 스레드별 기준 조회 수를 설정합니다.
+     *
+     * @param mixedBaselineQueries 부하 없는 구간에서 조회 스레드마다 실행할 조회 수 (1 이상)
+     */
+    public void setMixedBaselineQueries(int mixedBaselineQueries) {
+        this.mixedBaselineQueries = mixedBaselineQueries;
+    }
+
+    /**
+     * MIXED 워크로드의 쓰기 구현체 타입명을 반환합니다.
+     *
+     * @return MIXED 워크로드의 쓰기 구현체 타입명
+     */
+    public String getMixedWriterType() {
+        return mixedWriterType;
+    }
+
+    /**
+     * MIXED 워크로드의 쓰기 구현체 타입명을 설정합니다.
+     *
+     * @param mixedWriterType 배치 삽입 Repository 타입명 (비어 있으면 모든 구현체)
+     */
+    public void setMixedWriterType(String mixedWriterType) {
+        this.mixedWriterType = mixedWriterType;
+    }
+
+    /**
+     * 단건 삽입 스레드 확장 측정의 최대 스레드 수를 반환합니다.
+     *
+     * @return 단건 삽입 스레드 확장 측정의 최대 스레드 수
+     */
+    public int getSingleScalingMaxThreads() {
+        return singleScalingMaxThreads;
+    }
+
+    /**
+     * 단건 삽입 스레드 확장 측정의 최대 스레드 수를 설정합니다.
+     *
+     * @param singleScalingMaxThreads 최대 스레드 수 (0이면 스레드 확장 측정 생략)
+     */
+    public void setSingleScalingMaxThreads(int singleScalingMaxThreads) {
+        this.singleScalingMaxThreads = singleScalingMaxThreads;
+    }
+
+    /**
+     * 스레드 확장 측정의 스레드 수별 레코드 수를 반환합니다.
+     *
+     * @return 스레드 확장 측정의 스레드 수별 레코드 수
+     */
+    public int getSingleScalingRecordCount() {
+        return singleScalingRecordCount;
+    }
+
+    /**
+     * 스레드 확장 측정의 스레드 수별 레코드 수를 설정합니다.
+     *
+     * @param singleScalingRecordCount 스레드 수마다 삽입할 총 레코드 수 (1 이상)
+     */
+    public void setSingleScalingRecordCount(int singleScalingRecordCount) {
+        this.singleScalingRecordCount = singleScalingRecordCount;
+    }
+
+    /**
+     * group commit 비교 측정의 동시 호출 스레드 수를 반환합니다.
+     *
+     * @return group commit 비교 측정의 동시 호출 스레드 수
+     */
+    public int getGroupCommitSubmitters() {
+        return groupCommitSubmitters;
+    }
+
+    /**
+     * group commit 비교 측정의 동시 호출 스레드 수를 설정합니다.
+     *
+     * @param groupCommitSubmitters 동시 호출 스레드 수 (0이면 group commit 비교 측정 생략)
+     */
+    public void setGroupCommitSubmitters(int groupCommitSubmitters) {
+        this.groupCommitSubmitters = groupCommitSubmitters;
+    }
+
+    /**
+     * group commit flush 한 번의 최대 레코드 수를 반환합니다.
+     *
+     * @return group commit flush 한 번의 최대 레코드 수
+     */
+    public int getGroupCommitMaxRows() {
+        return groupCommitMaxRows;
+    }
+
+    /**
+     * group commit flush 한 번의 최대 레코드 수를 설정합니다.
+     *
+     * @param groupCommitMaxRows flush 한 번의 최대 레코드 수 (1 이상)
+     */
+    public void setGroupCommitMaxRows(int groupCommitMaxRows) {
+        this.groupCommitMaxRows = groupCommitMaxRows;
+    }
+
+    /**
+     * group commit 최대 대기 시간(ms)를 반환합니다.
+     *
+     * @return group commit 최대 대기 시간(ms)
+     */
+    public long getGroupCommitMaxWaitMillis() {
+        return groupCommitMaxWaitMillis;
+    }
+
+    /**
+     * group commit 최대 대기 시간(ms)를 설정합니다.
+     *
+     * @param groupCommitMaxWaitMillis 첫 레코드 도착 후 flush까지 최대 대기 시간 (0 이상)
+     */
+    public void setGroupCommitMaxWaitMillis(long groupCommitMaxWaitMillis) {
+        this.groupCommitMaxWaitMillis = groupCommitMaxWaitMillis;
+    }
+
+    /**
+     * group commit 배치 삽입 구현체 타입명을 반환합니다.
+     *
+     * @return group commit 배치 삽입 구현체 타입명
+     */
+    public String getGroupCommitWriterType() {
+        return groupCommitWriterType;
+    }
+
+    /**
+     * group commit 배치 삽입 구현체 타입명을 설정합니다.
+     *
+     * @param groupCommitWriterType 배치 삽입 Repository 타입명 (비어 있으면 모든 구현체)
+     */
+    public void setGroupCommitWriterType(String groupCommitWriterType) {
+        this.groupCommitWriterType = groupCommitWriterType;
+    }
+
+    /**
+     * INGEST 워크로드의 생산자 스레드 수를 반환합니다.
+     *
+     * @return INGEST 워크로드의 생산자 스레드 수
+     */
+    public int getIngestProducerThreads() {
+        return ingestProducerThreads;
+    }
+
+    /**
+     * INGEST 워크로드의 생산자 스레드 수를 설정합니다.
+     *
+     * @param ingestProducerThreads 생산자 스레드 수 (1 이상)
+     */
+    public void setIngestProducerThreads(int ingestProducerThreads) {
+        this.ingestProducerThreads = ingestProducerThreads;
+    }
+
+    /**
+     * INGEST 워크로드의 링 버퍼 슬롯 수를 반환합니다.
+     *
+     * @return INGEST 워크로드의 링 버퍼 슬롯 수
+     */
+    public int getIngestBufferSize() {
+        return ingestBufferSize;
+    }
+
+    /**
+     * INGEST 워크로드의 링 버퍼 슬롯 수를 설정합니다.
+     *
+     * @param ingestBufferSize 슬롯 수 (2의 거듭제곱)
+     */
+    public void setIngestBufferSize(int ingestBufferSize) {
+        this.ingestBufferSize = ingestBufferSize;
+    }
+
+    /**
+     * INGEST 워크로드에서 측정할 링 버퍼 대기 전략 목록을 반환합니다.
+     *
+     * @return INGEST 워크로드에서 측정할 링 버퍼 대기 전략 목록
+     */
+    public List<WaitStrategy> getIngestWaitStrategies() {
+        return ingestWaitStrategies;
+    }
+
+    /**
+     * INGEST 워크로드에서 측정할 링 버퍼 대기 전략 목록을 설정합니다.
+     *
+     * @param ingestWaitStrategies 대기 전략 목록
+     */
+    public void setIngestWaitStrategies(List<WaitStrategy> ingestWaitStrategies) {
+        this.ingestWaitStrategies = ingestWaitStrategies;
+    }
+
+    /**
+     * 컬럼 배치 삽입 경로 측정 여부를 반환합니다.
+     *
+     * @return 컬럼 배치 삽입 경로 측정 여부
+     */
+    public boolean isColumnarInsert() {
+        return columnarInsert;
+    }
+
+    /**
+     * 컬럼 배치 삽입 경로 측정 여부를 설정합니다.
+     *
+     * @param columnarInsert 컬럼 배치 삽입 경로 측정 여부
+     */
+    public void setColumnarInsert(boolean columnarInsert) {
+        this.columnarInsert = columnarInsert;
+    }
+
+    /**
+     * 입력 데이터셋 디렉터리를 반환합니다.
+     *
+     * @return 입력 데이터셋 디렉터리
+     */
+    public String getDatasetDirectory() {
+        return datasetDirectory;
+    }
+
+    /**
+     * 입력 데이터셋 디렉터리를 설정합니다.
+     *
+     * @param datasetDirectory 입력 데이터셋 디렉터리 (null 또는 빈 문자열이면 사용 안 함)
+     */
+    public void setDatasetDirectory(String datasetDirectory) {
+        this.datasetDirectory = datasetDirectory;
+    }
+
+    /**
+     * 데이터셋 생성 seed를 반환합니다.
+     *
+     * @return 데이터셋 생성 seed
+     */
+    public long getDatasetSeed() {
+        return datasetSeed;
+    }
+
+    /**
+     * 데이터셋 생성 seed를 설정합니다.
+     *
+     * @param datasetSeed 데이터셋 생성 seed
+     */
+    public void setDatasetSeed(long datasetSeed) {
+        this.datasetSeed = datasetSeed;
+    }
+
+    /**
+     * 사용할 데이터 프로파일 이름을 반환합니다.
+     *
+     * @return 데이터 프로파일 이름
+     */
+    public String getDataProfile() {
+        return dataProfile;
+    }
+
+    /**
+     * 사용할 데이터 프로파일 이름을 설정합니다.
+     *
+     * @param dataProfile 데이터 프로파일 이름 (dataProfiles의 키 또는 default)
+     */
+    public void setDataProfile(String dataProfile) {
+        this.dataProfile = dataProfile;
+    }
+
+    /**
+     * 이름별 데이터 프로파일 정의를 반환합니다.
+     *
+     * @return 이름별 데이터 프로파일
+     */
+    public Map<String, DataProfile> getDataProfiles() {
+        return dataProfiles;
+    }
+
+    /**
+     * 이름별 데이터 프로파일 정의를 설정합니다.
+     *
+     * @param dataProfiles 이름별 데이터 프로파일
+     */
+    public void setDataProfiles(Map<String, DataProfile> dataProfiles) {
+        this.dataProfiles = dataProfiles;
+    }
+
+    /**
+     * dataProfile 이름에 해당하는 데이터 프로파일을 반환합니다.
+     *
+     * <p>dataProfiles에 정의되어 있으면 그 정의를 검증해 이름을 키로 설정하고 반환합니다.
+     * 정의되어 있지 않은 default는 {@link DataProfile#defaults()}를 반환합니다.</p>
+     *
+     * @return 검증된 데이터 프로파일
+     * @throws IllegalArgumentException 정의되지 않은 프로파일 이름이거나 정의가 유효하지 않은 경우
+     */
+    public DataProfile toDataProfile() {
+        String name = dataProfile == null || dataProfile.trim().isEmpty()
+                ? DataProfile.DEFAULT_NAME : dataProfile.trim();
+        DataProfile profile = dataProfiles.get(name);
+        if (profile == null) {
+            if (!DataProfile.DEFAULT_NAME.equals(name)) {
+                throw new IllegalArgumentException("dataProfile must be one of " + dataProfiles.keySet()
+                        + " or " + DataProfile.DEFAULT_NAME + ", but was: " + name);
+            }
+            return DataProfile.defaults();
+        }
+        profile.setName(name);
+        return profile.validate();
+    }
+
+    /**
+     * 테이블명별 정의를 반환합니다.
+     *
+     * @return 테이블명별 정의
+     */
+    public Map<String, TableDefinition> getTables() {
+        return tables;
+    }
+
+    /**
+     * 테이블명별 정의를 설정합니다.
+     *
+     * @param tables 테이블명별 정의
+     */
+    public void setTables(Map<String, TableDefinition> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * tables의 정의를 키를 테이블명으로 설정하고 검증해 선언 순서대로 반환합니다.
+     *
+     * @return 검증된 테이블 정의 목록
+     * @throws IllegalArgumentException 정의가 유효하지 않은 경우
+     */
+    public List<TableDefinition> toTableDefinitions() {
+        List<TableDefinition> definitions = new ArrayList<>(tables.size());
+        for (Map.Entry<String, TableDefinition> entry : tables.entrySet()) {
+            TableDefinition definition = entry.getValue();
+            definition.setName(entry.getKey());
+            definitions.add(definition.validate());
+        }
+        return definitions;
+    }
+
     @Override
     public String toString() {
         return "BenchmarkProperties{" +
@@ -112,6 +954,43 @@ public class BenchmarkProperties {
                 ", recordCount=" + recordCount +
                 ", iterations=" + iterations +
                 ", warmupCount=" + warmupCount +
+                ", parallelThreads=" + parallelThreads +
+                ", multiRowSize=" + multiRowSize +
+                ", clientSideIds=" + clientSideIds +
+                ", idBlockSize=" + idBlockSize +
+                ", streaming=" + streaming +
+                ", pipelineQueueDepth=" + pipelineQueueDepth +
+                ", commitPolicy=" + commitPolicy +
+                ", commitEveryBatches=" + commitEveryBatches +
+                ", autoTune=" + autoTune +
+                ", autoTuneMinBatchSize=" + autoTuneMinBatchSize +
+                ", autoTuneMaxBatchSize=" + autoTuneMaxBatchSize +
+                ", autoTuneMaxBatchLatencyMs=" + autoTuneMaxBatchLatencyMs +
+                ", jooqBulkSize=" + jooqBulkSize +
+                ", workloads=" + workloads +
+                ", upsertUpdateRatios=" + upsertUpdateRatios +
+                ", purgeRatio=" + purgeRatio +
+                ", fetchSize=" + fetchSize +
+                ", exportFetchSizes=" + exportFetchSizes +
+                ", mixedWriterThreads=" + mixedWriterThreads +
+                ", mixedReaderThreads=" + mixedReaderThreads +
+                ", mixedBaselineQueries=" + mixedBaselineQueries +
+                ", mixedWriterType=" + mixedWriterType +
+                ", singleScalingMaxThreads=" + singleScalingMaxThreads +
+                ", singleScalingRecordCount=" + singleScalingRecordCount +
+                ", groupCommitSubmitters=" + groupCommitSubmitters +
+                ", groupCommitMaxRows=" + groupCommitMaxRows +
+                ", groupCommitMaxWaitMillis=" + groupCommitMaxWaitMillis +
+                ", groupCommitWriterType=" + groupCommitWriterType +
+                ", ingestProducerThreads=" + ingestProducerThreads +
+                ", ingestBufferSize=" + ingestBufferSize +
+                ", ingestWaitStrategies=" + ingestWaitStrategies +
+                ", columnarInsert=" + columnarInsert +
+                ", datasetDirectory=" + datasetDirectory +
+                ", datasetSeed=" + datasetSeed +
+                ", dataProfile=" + dataProfile +
+                ", dataProfiles=" + dataProfiles.keySet() +
+                ", tables=" + tables.keySet() +
                 '}';
     }
 }
@@ -0,0 +1,276 @@
+package com.example.benchmark.config;
+
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * 삽입 중 커밋 시점을 결정하는 커밋 정책.
+ *
+ * <p>지원하는 모드:</p>
+ * <ul>
+ *   <li>AUTO_COMMIT: 드라이버 autocommit 사용. 문장(배치 구현체는 드라이버에 따라 executeBatch)마다 커밋</li>
+ *   <li>PER_BATCH: 배치 실행마다 커밋</li>
+ *   <li>EVERY_N_BATCHES: N개 배치마다 커밋, 마지막에 남은 배치 커밋</li>
+ *   <li>SINGLE_TRANSACTION: 전체 적재를 한 번만 커밋 (기본값)</li>
+ * </ul>
+ *
+ * <p>단건 삽입 구현체에서는 한 행이 하나의 배치로 취급됩니다.
+ * 병렬 구현체는 워커별 트랜잭션에 정책을 각각 적용합니다.</p>
+ *
+ * <p>커밋 주기가 짧을수록 undo와 락 유지 시간은 줄어들지만 커밋 라운드 트립과
+ * 로그 동기화 비용이 늘어납니다. 실패 시에는 마지막 커밋 이후의 작업만 롤백됩니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class CommitPolicy {
+
+    /**
+     * 커밋 모드.
+     */
+    public enum Mode {
+        AUTO_COMMIT,
+        PER_BATCH,
+        EVERY_N_BATCHES,
+        SINGLE_TRANSACTION
+    }
+
+    private static final CommitPolicy AUTO_COMMIT = new CommitPolicy(Mode.AUTO_COMMIT, 1);
+    private static final CommitPolicy PER_BATCH = new CommitPolicy(Mode.PER_BATCH, 1);
+    private static final CommitPolicy SINGLE_TRANSACTION = new CommitPolicy(Mode.SINGLE_TRANSACTION, 1);
+
+    private final Mode mode;
+    private final int batchesPerCommit;
+
+    private CommitPolicy(Mode mode, int batchesPerCommit) {
+        this.mode = mode;
+        this.batchesPerCommit = batchesPerCommit;
+    }
+
+    /**
+     * autocommit 정책을 반환합니다.
+     *
+     * @return AUTO_COMMIT 정책
+     */
+    public static CommitPolicy autoCommit() {
+        return AUTO_COMMIT;
+    }
+
+    /**
+     * 배치마다 커밋하는 정책을 반환합니다.
+     *
+     * @return PER_BATCH 정책
+     */
+    public static CommitPolicy perBatch() {
+        return PER_BATCH;
+    }
+
+    /**
+     * N개 배치마다 커밋하는 정책을 생성합니다.
+     *
+     * @param batchesPerCommit 커밋 간 배치 수 (1 이상)
+     * @return EVERY_N_BATCHES 정책
+     * @throws IllegalArgumentException batchesPerCommit이 1 미만인 경우
+     */
+    public static CommitPolicy everyNBatches(int batchesPerCommit) {
+        if (batchesPerCommit < 1) {
+            throw new IllegalArgumentException("batchesPerCommit must be at least 1, but was: " + batchesPerCommit);
+        }
+        return new CommitPolicy(Mode.EVERY_N_BATCHES, batchesPerCommit);
+    }
+
+    /**
+     * 전체 적재를 한 번만 커밋하는 정책을 반환합니다.
+     *
+     * @return SINGLE_TRANSACTION 정책
+     */
+    public static CommitPolicy singleTransaction() {
+        return SINGLE_TRANSACTION;
+    }
+
+    /**
+     * 모드와 배치 수로 정책을 생성합니다.
+     *
+     * @param mode 커밋 모드 (null 불가)
+     * @param batchesPerCommit EVERY_N_BATCHES 모드의 커밋 간 배치 수 (다른 모드에서는 무시)
+     * @return 커밋 정책
+     * @throws IllegalArgumentException EVERY_N_BATCHES 모드에서 batchesPerCommit이 1 미만인 경우
+     */
+    public static CommitPolicy of(Mode mode, int batchesPerCommit) {
+        Objects.requireNonNull(mode, "mode must not be null");
+        switch (mode) {
+            case AUTO_COMMIT:
+                return autoCommit();
+            case PER_BATCH:
+                return perBatch();
+            case EVERY_N_BATCHES:
+                return everyNBatches(batchesPerCommit);
+            default:
+                return singleTransaction();
+        }
+    }
+
+    /**
+     * 커밋 모드를 반환합니다.
+     *
+     * @return 커밋 모드
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 커밋 간 배치 수를 반환합니다.
+     *
+     * @return EVERY_N_BATCHES 모드의 배치 수, 그 외 모드는 1
+     */
+    public int getBatchesPerCommit() {
+        return batchesPerCommit;
+    }
+
+    /**
+     * 드라이버 autocommit 사용 여부를 반환합니다.
+     *
+     * @return AUTO_COMMIT 모드이면 true
+     */
+    public boolean isAutoCommit() {
+        return mode == Mode.AUTO_COMMIT;
+    }
+
+    /**
+     * 지정된 수의 배치를 완료한 시점에 커밋해야 하는지 반환합니다.
+     *
+     * @param completedBatches 지금까지 완료한 배치 수
+     * @return 커밋해야 하면 true
+     */
+    public boolean shouldCommitAfter(int completedBatches) {
+        switch (mode) {
+            case PER_BATCH:
+                return true;
+            case EVERY_N_BATCHES:
+                return completedBatches % batchesPerCommit == 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 커밋 동작을 받아 배치 진행에 따라 커밋하는 Tracker를 생성합니다.
+     *
+     * @param commitAction 실제 커밋 동작 (null 불가)
+     * @return 새 Tracker
+     */
+    public Tracker tracker(CommitAction commitAction) {
+        return new Tracker(this, Objects.requireNonNull(commitAction, "commitAction must not be null"));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CommitPolicy that = (CommitPolicy) o;
+        return batchesPerCommit == that.batchesPerCommit && mode == that.mode;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, batchesPerCommit);
+    }
+
+    @Override
+    public String toString() {
+        if (mode == Mode.EVERY_N_BATCHES) {
+            return mode + "(" + batchesPerCommit + ")";
+        }
+        return mode.name();
+    }
+
+    /**
+     * 커밋 동작.
+     *
+     * <p>JDBC 구현체는 {@code conn::commit}, MyBatis 구현체는 {@code session::commit}을 전달합니다.</p>
+     */
+    @FunctionalInterface
+    public interface CommitAction {
+
+        /**
+         * 현재 트랜잭션을 커밋합니다.
+         *
+         * @throws SQLException 커밋 실패 시
+         */
+        void commit() throws SQLException;
+    }
+
+    /**
+     * 한 번의 적재 동안 완료된 배치 수와 커밋 횟수를 추적합니다.
+     *
+     * <p>스레드 안전하지 않으므로 트랜잭션(커넥션)마다 별도 인스턴스를 사용합니다.</p>
+     */
+    public static final class Tracker {
+        private final CommitPolicy policy;
+        private final CommitAction commitAction;
+        private int completedBatches;
+        private int commitCount;
+        private boolean pending;
+
+        private Tracker(CommitPolicy policy, CommitAction commitAction) {
+            this.policy = policy;
+            this.commitAction = commitAction;
+        }
+
+        /**
+         * 배치 하나가 실행되었음을 알리고, 정책에 따라 커밋합니다.
+         *
+         * @throws SQLException 커밋 실패 시
+         */
+        public void batchCompleted() throws SQLException {
+            completedBatches++;
+            if (policy.isAutoCommit()) {
+                return;
+            }
+            pending = true;
+            if (policy.shouldCommitAfter(completedBatches)) {
+                commit();
+            }
+        }
+
+        /**
+         * 적재를 마치고 커밋되지 않은 작업을 커밋합니다.
+         *
+         * @throws SQLException 커밋 실패 시
+         */
+        public void complete() throws SQLException {
+            if (pending) {
+                commit();
+            }
+        }
+
+        private void commit() throws SQLException {
+            commitAction.commit();
+            commitCount++;
+            pending = false;
+        }
+
+        /**
+         * 완료된 배치 수를 반환합니다.
+         *
+         * @return 배치 수
+         */
+        public int getCompletedBatches() {
+            return completedBatches;
+        }
+
+        /**
+         * 수행한 명시적 커밋 횟수를 반환합니다.
+         *
+         * @return 커밋 횟수 (AUTO_COMMIT 모드는 0)
+         */
+        public int getCommitCount() {
+            return commitCount;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.benchmark.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * 테스트 데이터의 모양을 정하는 데이터 프로파일.
+ *
+ * <p>{@link com.example.benchmark.util.TestDataGenerator}가 생성하는 레코드의 문자열 길이 분포,
+ * data2 null 비율, 문자 집합, status 값 분포를 지정합니다.
+ * application.yml의 {@code benchmark.data-profiles.<이름>} 항목으로 바인딩되며,
+ * 지정하지 않은 항목은 {@link #defaults()}와 같은 값을 가집니다.</p>
+ *
+ * <p>설정 항목:</p>
+ * <ul>
+ *   <li>data1MinLength / data1MaxLength: data1 문자 수 범위, 범위 안에서 균등 분포 (기본값: 50 / 50)</li>
+ *   <li>data2MinLength / data2MaxLength: data2 문자 수 범위, 범위 안에서 균등 분포 (기본값: 100 / 100)</li>
+ *   <li>data2NullRatio: data2가 null일 확률 (기본값: 0.5)</li>
+ *   <li>characterSet: 문자열에 쓸 문자 집합 (기본값: ASCII)</li>
+ *   <li>statusDistribution: status 값 분포 (기본값: UNIFORM)</li>
+ *   <li>zipfExponent: ZIPF 분포의 지수, 클수록 첫 번째 status에 몰림 (기본값: 1.0)</li>
+ * </ul>
+ *
+ * <p>길이는 바이트가 아니라 문자 수입니다. AL32UTF8 데이터베이스에서 한글 한 글자는 3바이트이므로
+ * HANGUL 프로파일의 최대 길이는 컬럼의 바이트 길이(data1 100, data2 200)를 넘지 않게 정해야 합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class DataProfile {
+
+    /**
+     * 기본 프로파일 이름.
+     */
+    public static final String DEFAULT_NAME = "default";
+
+    /**
+     * 문자열 생성에 쓰는 문자 집합.
+     */
+    public enum CharacterSet {
+
+        /**
+         * 영문 대소문자와 숫자 (1바이트).
+         */
+        ASCII,
+
+        /**
+         * 한글 음절 가-힣 (AL32UTF8에서 3바이트).
+         */
+        HANGUL,
+
+        /**
+         * 글자마다 ASCII와 HANGUL을 반씩 섞음.
+         */
+        MIXED
+    }
+
+    /**
+     * 값 분포.
+     */
+    public enum Distribution {
+
+        /**
+         * 모든 값이 같은 확률.
+         */
+        UNIFORM,
+
+        /**
+         * k번째 값의 확률이 1/k^s에 비례하는 Zipf 분포.
+         */
+        ZIPF
+    }
+
+    private static final int DEFAULT_DATA1_LENGTH = 50;
+    private static final int DEFAULT_DATA2_LENGTH = 100;
+    private static final double DEFAULT_DATA2_NULL_RATIO = 0.5;
+    private static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+
+    private String name = DEFAULT_NAME;
+    private int data1MinLength = DEFAULT_DATA1_LENGTH;
+    private int data1MaxLength = DEFAULT_DATA1_LENGTH;
+    private int data2MinLength = DEFAULT_DATA2_LENGTH;
+    private int data2MaxLength = DEFAULT_DATA2_LENGTH;
+    private double data2NullRatio = DEFAULT_DATA2_NULL_RATIO;
+    private CharacterSet characterSet = CharacterSet.ASCII;
+    private Distribution statusDistribution = Distribution.UNIFORM;
+    private double zipfExponent = DEFAULT_ZIPF_EXPONENT;
+
+    /**
+     * 기본 프로파일을 생성합니다.
+     *
+     * <p>data1 50자, data2 100자(50% null), ASCII 문자, 균등 status 분포입니다.</p>
+     *
+     * @return 새 기본 프로파일
+     */
+    public static DataProfile defaults() {
+        return new DataProfile();
+    }
+
+    /**
+     * 설정 값이 유효한지 검사합니다.
+     *
+     * @return this
+     * @throws IllegalArgumentException 길이 범위, 비율, 지수가 유효하지 않은 경우
+     */
+    public DataProfile validate() {
+        if (data1MinLength < 1 || data1MaxLength < data1MinLength) {
+            throw new IllegalArgumentException("data1 length range must satisfy 1 <= min <= max, but was: "
+                    + data1MinLength + ".." + data1MaxLength + " (profile " + name + ")");
+        }
+        if (data2MinLength < 1 || data2MaxLength < data2MinLength) {
+            throw new IllegalArgumentException("data2 length range must satisfy 1 <= min <= max, but was: "
+                    + data2MinLength + ".." + data2MaxLength + " (profile " + name + ")");
+        }
+        if (data2NullRatio < 0.0 || data2NullRatio > 1.0) {
+            throw new IllegalArgumentException("data2NullRatio must be between 0.0 and 1.0, but was: "
+                    + data2NullRatio + " (profile " + name + ")");
+        }
+        Objects.requireNonNull(characterSet, "characterSet must not be null");
+        Objects.requireNonNull(statusDistribution, "statusDistribution must not be null");
+        if (zipfExponent <= 0.0) {
+            throw new IllegalArgumentException("zipfExponent must be positive, but was: "
+                    + zipfExponent + " (profile " + name + ")");
+        }
+        return this;
+    }
+
+    /**
+     * 이름을 제외한 설정 값의 지문을 반환합니다.
+     *
+     * <p>설정 값이 같으면 JVM 실행이 달라도 같은 값을 반환하므로,
+     * 데이터셋 파일이 현재 프로파일 정의로 생성되었는지 구분하는 데 사용합니다.</p>
+     *
+     * @return 8자리 16진수 지문
+     */
+    public String fingerprint() {
+        CRC32 crc = new CRC32();
+        String definition = data1MinLength + "," + data1MaxLength + "," + data2MinLength + "," + data2MaxLength
+                + "," + data2NullRatio + "," + characterSet.name() + "," + statusDistribution.name()
+                + "," + zipfExponent;
+        crc.update(definition.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * 프로파일 이름을 반환합니다.
+     *
+     * @return 프로파일 이름
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 프로파일 이름을 설정합니다.
+     *
+     * <p>{@link BenchmarkProperties#toDataProfile()}가 data-profiles의 키로 설정합니다.</p>
+     *
+     * @param name 프로파일 이름
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * data1 최소 문자 수를 반환합니다.
+     *
+     * @return data1 최소 문자 수
+     */
+    public int getData1MinLength() {
+        return data1MinLength;
+    }
+
+    /**
+     * data1 최소 문자 수를 설정합니다.
+     *
+     * @param data1MinLength data1 최소 문자 수 (1 이상)
+     */
+    public void setData1MinLength(int data1MinLength) {
+        this.data1MinLength = data1MinLength;
+    }
+
+    /**
+     * data1 최대 문자 수를 반환합니다.
+     *
+     * @return data1 최대 문자 수
+     */
+    public int getData1MaxLength() {
+        return data1MaxLength;
+    }
+
+    /**
+     * data1 최대 문자 수를 설정합니다.
+     *
+     * @param data1MaxLength data1 최대 문자 수 (최소 문자 수 이상)
+     */
+    public void setData1MaxLength(int data1MaxLength) {
+        this.data1MaxLength = data1MaxLength;
+    }
+
+    /**
+     * data2 최소 문자 수를 반환합니다.
+     *
+     * @return data2 최소 문자 수
+     */
+    public int getData2MinLength() {
+        return data2MinLength;
+    }
+
+    /**
+     * data2 최소 문자 수를 설정합니다.
+     *
+     * @param data2MinLength data2 최소 문자 수 (1 이상)
+     */
+    public void setData2MinLength(int data2MinLength) {
+        this.data2MinLength = data2MinLength;
+    }
+
+    /**
+     * data2 최대 문자 수를 반환합니다.
+     *
+     * @return data2 최대 문자 수
+     */
+    public int getData2MaxLength() {
+        return data2MaxLength;
+    }
+
+    /**
+     * data2 최대 문자 수를 설정합니다.
+     *
+     * @param data2MaxLength data2 최대 문자 수 (최소 문자 수 이상)
+     */
+    public void setData2MaxLength(int data2MaxLength) {
+        this.data2MaxLength = data2MaxLength;
+    }
+
+    /**
+     * data2가 null일 확률을 반환합니다.
+     *
+     * @return data2 null 확률
+     */
+    public double getData2NullRatio() {
+        return data2NullRatio;
+    }
+
+    /**
+     * data2가 null일 확률을 설정합니다.
+     *
+     * @param data2NullRatio data2 null 확률 (0.0 이상 1.0 이하)
+     */
+    public void setData2NullRatio(double data2NullRatio) {
+        this.data2NullRatio = data2NullRatio;
+    }
+
+    /**
+     * 문자 집합을 반환합니다.
+     *
+     * @return 문자 집합
+     */
+    public CharacterSet getCharacterSet() {
+        return characterSet;
+    }
+
+    /**
+     * 문자 집합을 설정합니다.
+     *
+     * @param characterSet 문자 집합
+     */
+    public void setCharacterSet(CharacterSet characterSet) {
+        this.characterSet = characterSet;
+    }
+
+    /**
+     * status 값 분포를 반환합니다.
+     *
+     * @return status 값 분포
+     */
+    public Distribution getStatusDistribution() {
+        return statusDistribution;
+    }
+
+    /**
+     * status 값 분포를 설정합니다.
+     *
+     * @param statusDistribution status 값 분포
+     */
+    public void setStatusDistribution(Distribution statusDistribution) {
+        this.statusDistribution = statusDistribution;
+    }
+
+    /**
+     * ZIPF 분포의 지수를 반환합니다.
+     *
+     * @return ZIPF 지수
+     */
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    /**
+     * ZIPF 분포의 지수를 설정합니다.
+     *
+     * @param zipfExponent ZIPF 지수 (0보다 큼)
+     */
+    public void setZipfExponent(double zipfExponent) {
+        this.zipfExponent = zipfExponent;
+    }
+
+    @Override
+    public String toString() {
+        return "DataProfile{" +
+                "name='" + name + '\'' +
+                ", data1Length=" + data1MinLength + ".." + data1MaxLength +
+                ", data2Length=" + data2MinLength + ".." + data2MaxLength +
+                ", data2NullRatio=" + data2NullRatio +
+                ", characterSet=" + characterSet +
+                ", statusDistribution=" + statusDistribution +
+                ", zipfExponent=" + zipfExponent +
+                '}';
+    }
+}
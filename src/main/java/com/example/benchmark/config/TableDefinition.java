@@ -0,0 +1,492 @@
+package com.example.benchmark.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * TABLE 워크로드에서 벤치마크할 임의 테이블의 정의.
+ *
+ * <p>application.yml의 {@code benchmark.tables.<테이블명>} 항목으로 바인딩되며, 맵의 키가 테이블명이 됩니다.
+ * 정의로부터 DDL, 테스트 데이터, INSERT 바인딩을 만들므로 test_record 외의 실제 테이블 모양으로
+ * 같은 JDBC 배치 삽입을 측정할 수 있습니다.</p>
+ *
+ * <p>설정 항목:</p>
+ * <ul>
+ *   <li>columns: 컬럼 목록 (순서대로 CREATE TABLE과 INSERT에 사용)</li>
+ *   <li>primaryKey: 기본 키 컬럼명 목록, 기본 키 컬럼은 행 번호(1부터)로 채움 (기본값: 없음)</li>
+ *   <li>indexes: 보조 인덱스 목록 (기본값: 없음)</li>
+ * </ul>
+ *
+ * <p>컬럼의 count가 2 이상이면 {@code name1}..{@code nameN}으로 펼쳐지므로,
+ * 50개 컬럼짜리 넓은 행도 몇 줄로 선언할 수 있습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class TableDefinition {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]{0,29}");
+
+    /**
+     * 컬럼 타입.
+     */
+    public enum ColumnType {
+
+        /**
+         * 가변 길이 문자열. size는 바이트 수입니다.
+         */
+        VARCHAR2,
+
+        /**
+         * 고정 길이 문자열. size는 바이트 수입니다.
+         */
+        CHAR,
+
+        /**
+         * 십진수. size는 전체 자릿수(precision, 1~38)이고 scale은 소수 자릿수입니다.
+         */
+        NUMBER,
+
+        /**
+         * 초 단위 날짜/시각.
+         */
+        DATE,
+
+        /**
+         * 나노초 단위 시각.
+         */
+        TIMESTAMP
+    }
+
+    /**
+     * 컬럼 정의.
+     */
+    public static class Column {
+
+        private String name;
+        private ColumnType type = ColumnType.VARCHAR2;
+        private int size;
+        private int scale;
+        private boolean nullable = true;
+        private int count = 1;
+
+        /**
+         * 기본 생성자 (설정 바인딩용).
+         */
+        public Column() {
+        }
+
+        /**
+         * 컬럼 정의를 생성합니다.
+         *
+         * @param name 컬럼명
+         * @param type 컬럼 타입
+         * @param size 문자열 바이트 수 또는 NUMBER 자릿수
+         * @param nullable null 허용 여부
+         */
+        public Column(String name, ColumnType type, int size, boolean nullable) {
+            this.name = name;
+            this.type = type;
+            this.size = size;
+            this.nullable = nullable;
+        }
+
+        /**
+         * 컬럼명을 반환합니다.
+         *
+         * @return 컬럼명
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 컬럼명을 설정합니다.
+         *
+         * @param name 컬럼명 (count가 2 이상이면 접두어)
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 컬럼 타입을 반환합니다.
+         *
+         * @return 컬럼 타입
+         */
+        public ColumnType getType() {
+            return type;
+        }
+
+        /**
+         * 컬럼 타입을 설정합니다.
+         *
+         * @param type 컬럼 타입 (기본값: VARCHAR2)
+         */
+        public void setType(ColumnType type) {
+            this.type = type;
+        }
+
+        /**
+         * 크기를 반환합니다.
+         *
+         * @return 문자열 바이트 수 또는 NUMBER 자릿수
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * 크기를 설정합니다.
+         *
+         * @param size 문자열 바이트 수(VARCHAR2 1~4000, CHAR 1~2000) 또는 NUMBER 자릿수(1~38), 날짜 타입은 무시
+         */
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        /**
+         * NUMBER 소수 자릿수를 반환합니다.
+         *
+         * @return 소수 자릿수
+         */
+        public int getScale() {
+            return scale;
+        }
+
+        /**
+         * NUMBER 소수 자릿수를 설정합니다.
+         *
+         * @param scale 소수 자릿수 (0 이상 size 이하, 기본값: 0)
+         */
+        public void setScale(int scale) {
+            this.scale = scale;
+        }
+
+        /**
+         * null 허용 여부를 반환합니다.
+         *
+         * @return null 허용 여부
+         */
+        public boolean isNullable() {
+            return nullable;
+        }
+
+        /**
+         * null 허용 여부를 설정합니다.
+         *
+         * @param nullable null 허용 여부 (기본값: true)
+         */
+        public void setNullable(boolean nullable) {
+            this.nullable = nullable;
+        }
+
+        /**
+         * 같은 모양으로 펼칠 컬럼 수를 반환합니다.
+         *
+         * @return 컬럼 수
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * 같은 모양으로 펼칠 컬럼 수를 설정합니다.
+         *
+         * @param count 컬럼 수 (1 이상, 기본값: 1)
+         */
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        /**
+         * CREATE TABLE에 쓰는 타입 표현을 반환합니다.
+         *
+         * @return 예: {@code VARCHAR2(100)}, {@code NUMBER(18,2)}, {@code TIMESTAMP}
+         */
+        public String toSqlType() {
+            switch (type) {
+                case VARCHAR2:
+                case CHAR:
+                    return type.name() + "(" + size + ")";
+                case NUMBER:
+                    return scale == 0 ? "NUMBER(" + size + ")" : "NUMBER(" + size + "," + scale + ")";
+                default:
+                    return type.name();
+            }
+        }
+
+        private Column copy(String columnName) {
+            Column column = new Column(columnName, type, size, nullable);
+            column.setScale(scale);
+            return column;
+        }
+
+        private void validate(String table) {
+            if (name == null || !IDENTIFIER.matcher(name).matches()) {
+                throw new IllegalArgumentException("column name must be a plain identifier of at most 30 characters, "
+                        + "but was: " + name + " (table " + table + ")");
+            }
+            Objects.requireNonNull(type, "type must not be null (column " + name + ")");
+            if (count < 1) {
+                throw new IllegalArgumentException("count must be at least 1, but was: " + count
+                        + " (column " + name + ")");
+            }
+            int maxSize = type == ColumnType.VARCHAR2 ? 4000 : type == ColumnType.CHAR ? 2000 : 38;
+            boolean sized = type == ColumnType.VARCHAR2 || type == ColumnType.CHAR || type == ColumnType.NUMBER;
+            if (sized && (size < 1 || size > maxSize)) {
+                throw new IllegalArgumentException("size of " + type + " must be between 1 and " + maxSize
+                        + ", but was: " + size + " (column " + name + ")");
+            }
+            if (type == ColumnType.NUMBER && (scale < 0 || scale > size)) {
+                throw new IllegalArgumentException("scale must be between 0 and size(" + size + "), but was: "
+                        + scale + " (column " + name + ")");
+            }
+        }
+    }
+
+    /**
+     * 보조 인덱스 정의.
+     */
+    public static class Index {
+
+        private String name;
+        private List<String> columns = new ArrayList<>();
+        private boolean unique;
+
+        /**
+         * 인덱스명을 반환합니다.
+         *
+         * @return 인덱스명
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 인덱스명을 설정합니다.
+         *
+         * @param name 인덱스명
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 인덱스 컬럼 목록을 반환합니다.
+         *
+         * @return 인덱스 컬럼 목록
+         */
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        /**
+         * 인덱스 컬럼 목록을 설정합니다.
+         *
+         * @param columns 인덱스 컬럼 목록 (펼쳐진 컬럼명 기준)
+         */
+        public void setColumns(List<String> columns) {
+            this.columns = columns;
+        }
+
+        /**
+         * 유니크 인덱스 여부를 반환합니다.
+         *
+         * @return 유니크 인덱스 여부
+         */
+        public boolean isUnique() {
+            return unique;
+        }
+
+        /**
+         * 유니크 인덱스 여부를 설정합니다.
+         *
+         * @param unique 유니크 인덱스 여부 (기본값: false)
+         */
+        public void setUnique(boolean unique) {
+            this.unique = unique;
+        }
+    }
+
+    private String name;
+    private List<Column> columns = new ArrayList<>();
+    private List<String> primaryKey = new ArrayList<>();
+    private List<Index> indexes = new ArrayList<>();
+
+    /**
+     * 테이블명을 반환합니다.
+     *
+     * @return 테이블명
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 테이블명을 설정합니다.
+     *
+     * <p>{@link BenchmarkProperties#toTableDefinitions()}가 tables의 키로 설정합니다.</p>
+     *
+     * @param name 테이블명
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 선언된 컬럼 목록을 반환합니다.
+     *
+     * @return 컬럼 목록 (count 펼치기 전)
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * 컬럼 목록을 설정합니다.
+     *
+     * @param columns 컬럼 목록
+     */
+    public void setColumns(List<Column> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * 기본 키 컬럼명 목록을 반환합니다.
+     *
+     * @return 기본 키 컬럼명 목록
+     */
+    public List<String> getPrimaryKey() {
+        return primaryKey;
+    }
+
+    /**
+     * 기본 키 컬럼명 목록을 설정합니다.
+     *
+     * @param primaryKey 기본 키 컬럼명 목록 (펼쳐진 컬럼명 기준)
+     */
+    public void setPrimaryKey(List<String> primaryKey) {
+        this.primaryKey = primaryKey;
+    }
+
+    /**
+     * 보조 인덱스 목록을 반환합니다.
+     *
+     * @return 보조 인덱스 목록
+     */
+    public List<Index> getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * 보조 인덱스 목록을 설정합니다.
+     *
+     * @param indexes 보조 인덱스 목록
+     */
+    public void setIndexes(List<Index> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * count를 펼친 실제 컬럼 목록을 반환합니다.
+     *
+     * @return 펼쳐진 컬럼 목록 (선언 순서)
+     */
+    public List<Column> expandColumns() {
+        List<Column> expanded = new ArrayList<>();
+        for (Column column : columns) {
+            if (column.getCount() == 1) {
+                expanded.add(column.copy(column.getName()));
+            } else {
+                for (int i = 1; i <= column.getCount(); i++) {
+                    expanded.add(column.copy(column.getName() + i));
+                }
+            }
+        }
+        return Collections.unmodifiableList(expanded);
+    }
+
+    /**
+     * 정의가 유효한지 검사합니다.
+     *
+     * @return this
+     * @throws IllegalArgumentException 이름, 컬럼, 기본 키, 인덱스 정의가 유효하지 않은 경우
+     */
+    public TableDefinition validate() {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("table name must be a plain identifier of at most 30 characters, "
+                    + "but was: " + name);
+        }
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("table " + name + " must declare at least one column");
+        }
+        for (Column column : columns) {
+            column.validate(name);
+        }
+
+        Set<String> columnNames = new HashSet<>();
+        for (Column column : expandColumns()) {
+            if (!IDENTIFIER.matcher(column.getName()).matches()) {
+                throw new IllegalArgumentException("expanded column name is not a valid identifier: "
+                        + column.getName() + " (table " + name + ")");
+            }
+            if (!columnNames.add(column.getName().toUpperCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("duplicate column " + column.getName() + " (table " + name + ")");
+            }
+        }
+        for (String key : primaryKey) {
+            requireColumn(columnNames, key, "primaryKey");
+        }
+        for (Index index : indexes) {
+            if (index.getName() == null || !IDENTIFIER.matcher(index.getName()).matches()) {
+                throw new IllegalArgumentException("index name must be a plain identifier of at most 30 characters, "
+                        + "but was: " + index.getName() + " (table " + name + ")");
+            }
+            if (index.getColumns() == null || index.getColumns().isEmpty()) {
+                throw new IllegalArgumentException("index " + index.getName() + " must have at least one column");
+            }
+            for (String column : index.getColumns()) {
+                requireColumn(columnNames, column, "index " + index.getName());
+            }
+        }
+        return this;
+    }
+
+    private void requireColumn(Set<String> columnNames, String column, String owner) {
+        if (column == null || !columnNames.contains(column.toUpperCase(Locale.ROOT))) {
+            throw new IllegalArgumentException(owner + " refers to unknown column " + column + " (table " + name + ")");
+        }
+    }
+
+    /**
+     * 기본 키 컬럼인지 반환합니다.
+     *
+     * @param column 컬럼명
+     * @return 기본 키 컬럼이면 true
+     */
+    public boolean isPrimaryKey(String column) {
+        for (String key : primaryKey) {
+            if (key.equalsIgnoreCase(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "TableDefinition{" +
+                "name='" + name + '\'' +
+                ", columns=" + expandColumns().size() +
+                ", primaryKey=" + primaryKey +
+                ", indexes=" + indexes.size() +
+                '}';
+    }
+}
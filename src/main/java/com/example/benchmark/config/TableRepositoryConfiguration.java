@@ -0,0 +1,84 @@
+package com.example.benchmark.config;
+
+import com.example.benchmark.repository.JdbcTableBatchInsertRepository;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * TABLE 워크로드용 Repository Bean 등록 설정.
+ *
+ * <p>{@code benchmark.tables}에 선언한 테이블마다 {@link JdbcTableBatchInsertRepository} Bean을
+ * 선언 순서대로 하나씩 등록합니다. 실행기는 다른 Repository처럼 목록으로 주입받으며,
+ * 선언이 없으면 빈 목록을 받습니다.</p>
+ *
+ * <p>Bean 정의는 {@link BenchmarkProperties} Bean이 만들어지기 전에 등록해야 하므로,
+ * 같은 설정을 {@link Binder}로 읽어 {@link BenchmarkProperties#toTableDefinitions()}로 검증한 정의를 사용합니다.
+ * 정의가 유효하지 않으면 애플리케이션 시작 시 {@link IllegalArgumentException}으로 실패합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Configuration
+public class TableRepositoryConfiguration {
+
+    static final String TABLES_PROPERTY = "benchmark.tables";
+    static final String BEAN_NAME_PREFIX = "tableRepository.";
+
+    /**
+     * 선언한 테이블마다 Repository Bean 정의를 등록하는 후처리기를 생성합니다.
+     *
+     * @param environment 설정을 읽을 환경
+     * @return Bean 정의 등록 후처리기
+     */
+    @Bean
+    public static BeanDefinitionRegistryPostProcessor tableRepositoryRegistrar(Environment environment) {
+        return new TableRepositoryRegistrar(environment);
+    }
+
+    /**
+     * {@code benchmark.tables}의 정의마다 {@link JdbcTableBatchInsertRepository} Bean 정의를 등록합니다.
+     * 데이터소스는 생성자 자동 주입으로, 테이블 정의는 두 번째 생성자 인자로 전달합니다.
+     */
+    static final class TableRepositoryRegistrar implements BeanDefinitionRegistryPostProcessor {
+
+        private final Environment environment;
+
+        TableRepositoryRegistrar(Environment environment) {
+            this.environment = Objects.requireNonNull(environment, "environment must not be null");
+        }
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+            Map<String, TableDefinition> tables = Binder.get(environment)
+                    .bind(TABLES_PROPERTY, Bindable.mapOf(String.class, TableDefinition.class))
+                    .orElse(Collections.emptyMap());
+            BenchmarkProperties properties = new BenchmarkProperties();
+            properties.setTables(new LinkedHashMap<>(tables));
+
+            for (TableDefinition definition : properties.toTableDefinitions()) {
+                RootBeanDefinition beanDefinition = new RootBeanDefinition(JdbcTableBatchInsertRepository.class);
+                beanDefinition.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+                beanDefinition.getConstructorArgumentValues().addIndexedArgumentValue(1, definition);
+                registry.registerBeanDefinition(BEAN_NAME_PREFIX + definition.getName(), beanDefinition);
+            }
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            // Bean 정의 등록만 수행
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.benchmark.config;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 수집 단계에서 생산자와 소비자가 상대를 기다리는 방식.
+ *
+ * <p>생산자는 빈 슬롯이 생길 때까지, 소비자는 새 레코드가 게시될 때까지 {@link #idle(int)}을 반복 호출합니다.
+ * 지연 시간과 CPU 사용량의 절충이 전략마다 다릅니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public enum WaitStrategy {
+
+    /**
+     * 쉬지 않고 반복 확인. 지연 시간이 가장 짧지만 대기 중에도 코어 하나를 계속 사용합니다.
+     * 생산자와 소비자 스레드 수가 코어 수보다 적을 때만 적합합니다.
+     */
+    BUSY_SPIN {
+        @Override
+        public void idle(int attempt) {
+            // 반복 확인만 수행
+        }
+    },
+
+    /**
+     * 일정 횟수 반복 확인 후 {@link Thread#yield()}로 다른 스레드에 CPU를 양보.
+     */
+    YIELDING {
+        @Override
+        public void idle(int attempt) {
+            if (attempt >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * 반복 확인, 양보 후에도 기다려야 하면 짧게 park. 대기 중 CPU 사용이 가장 적고 깨어나는 지연이 가장 깁니다.
+     */
+    SLEEPING {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                return;
+            }
+            if (attempt < SPIN_TRIES * 2) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long SLEEP_NANOS = 50_000L;
+
+    /**
+     * 기다리는 조건을 다시 확인하기 전에 한 번 대기합니다.
+     *
+     * @param attempt 이번 대기에서 지금까지 조건을 확인한 횟수 (0부터 시작, 조건이 충족되면 호출 측에서 0으로 초기화)
+     */
+    public abstract void idle(int attempt);
+}
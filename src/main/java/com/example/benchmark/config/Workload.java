@@ -0,0 +1,57 @@
+package com.example.benchmark.config;
+
+/**
+ * 벤치마크 실행기가 측정하는 워크로드 종류.
+ *
+ * <p>{@link BenchmarkProperties#getWorkloads()}에 포함된 워크로드만 실행됩니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public enum Workload {
+
+    /**
+     * 배치/단건 INSERT.
+     */
+    INSERT,
+
+    /**
+     * 신규 키와 기존 키가 섞인 MERGE(upsert).
+     */
+    UPSERT,
+
+    /**
+     * ID 기준 배치 UPDATE와 상태 기준 일괄 UPDATE.
+     */
+    UPDATE,
+
+    /**
+     * 생성 시각 범위 기준 청크 단위 DELETE(과거 데이터 정리).
+     */
+    DELETE,
+
+    /**
+     * 원본 테이블에서 test_record로의 서버 측 INSERT ... SELECT 복사와 클라이언트 왕복 복사.
+     */
+    COPY,
+
+    /**
+     * 전체 테이블 스트리밍 조회와 로컬 CSV 내보내기.
+     */
+    READ,
+
+    /**
+     * 배치 삽입 쓰기 스레드와 인덱스 조회 스레드의 동시 실행(조회 지연 영향 측정).
+     */
+    MIXED,
+
+    /**
+     * 생산자 스레드에서 DB 쓰기 스레드로 레코드를 넘기는 수집 단계(링 버퍼와 블로킹 큐 비교).
+     */
+    INGEST,
+
+    /**
+     * YAML로 정의한 임의 테이블({@link TableDefinition})에 대한 JDBC 배치 INSERT.
+     */
+    TABLE
+}
@@ -0,0 +1,267 @@
+package com.example.benchmark.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * test_record 행을 컬럼별 배열로 보관하는 재사용 가능한 배치.
+ *
+ * <p>{@link TestRecord}는 행마다 String 두 개, BigDecimal, Instant를 들고 있고 바인딩 시 Timestamp가 추가로
+ * 만들어집니다. 이 클래스는 같은 데이터를 기본형 배열에 담아 행마다 만드는 객체를 금액 하나로 줄입니다
+ * ({@code com.example.benchmark.repository.ColumnarRowBinder}).</p>
+ *
+ * <ul>
+ *   <li>amount: 소수점 {@value #AMOUNT_SCALE}자리로 스케일한 unscaled 값 ({@code long[]}, null은 {@link #NULL_AMOUNT})</li>
+ *   <li>created_at: epoch 나노초 ({@code long[]})</li>
+ *   <li>status: 사전(dictionary) 코드 ({@code int[]}), 같은 상태 문자열은 한 인스턴스만 보관</li>
+ *   <li>data1, data2: 문자열 참조 배열 ({@code setString}이 String을 요구하므로 복사하지 않음)</li>
+ * </ul>
+ *
+ * <p>배열은 생성 시 용량만큼 한 번 할당되며 {@link #clear()} 후 다시 채워 쓸 수 있습니다.
+ * 상태 사전은 clear 후에도 유지됩니다. 스레드 안전하지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class ColumnarRecordBatch {
+
+    /**
+     * amount 컬럼의 소수점 자릿수 (NUMBER(18,2)).
+     */
+    public static final int AMOUNT_SCALE = 2;
+
+    /**
+     * amount가 null인 행을 나타내는 unscaled 값.
+     */
+    public static final long NULL_AMOUNT = Long.MIN_VALUE;
+
+    /**
+     * status가 null인 행을 나타내는 사전 코드.
+     */
+    public static final int NULL_STATUS = -1;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String[] data1;
+    private final String[] data2;
+    private final long[] amountUnscaled;
+    private final int[] statusCodes;
+    private final long[] createdAtEpochNanos;
+    private final List<String> statusDictionary = new ArrayList<>();
+    private final Map<String, Integer> statusIndex = new HashMap<>();
+    private int size;
+
+    /**
+     * 지정한 용량의 빈 배치를 생성합니다.
+     *
+     * @param capacity 최대 행 수 (1 이상)
+     * @throws IllegalArgumentException capacity가 1 미만인 경우
+     */
+    public ColumnarRecordBatch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1, but was: " + capacity);
+        }
+        this.data1 = new String[capacity];
+        this.data2 = new String[capacity];
+        this.amountUnscaled = new long[capacity];
+        this.statusCodes = new int[capacity];
+        this.createdAtEpochNanos = new long[capacity];
+    }
+
+    /**
+     * 레코드 목록과 같은 크기의 배치를 만들어 모든 레코드를 담습니다.
+     *
+     * @param records 담을 레코드 목록 (null 불가, 비어 있지 않아야 함)
+     * @return 채워진 배치
+     * @throws IllegalArgumentException records가 null이거나 비어 있는 경우
+     */
+    public static ColumnarRecordBatch from(List<TestRecord> records) {
+        if (records == null || records.isEmpty()) {
+            throw new IllegalArgumentException("records must not be null or empty");
+        }
+        ColumnarRecordBatch batch = new ColumnarRecordBatch(records.size());
+        for (TestRecord record : records) {
+            batch.add(record);
+        }
+        return batch;
+    }
+
+    /**
+     * 레코드 한 건을 추가합니다. 레코드의 ID는 무시합니다.
+     *
+     * @param record 추가할 레코드 (null 불가)
+     * @throws IllegalStateException 용량이 가득 찬 경우
+     */
+    public void add(TestRecord record) {
+        Objects.requireNonNull(record, "record must not be null");
+        add(record.getData1(), record.getData2(), toUnscaled(record.getAmount()), record.getStatus(),
+                toEpochNanos(record.getCreatedAt()));
+    }
+
+    /**
+     * 컬럼 값으로 한 행을 추가합니다.
+     *
+     * @param data1 data1 값 (null 불가)
+     * @param data2 data2 값 (null 허용)
+     * @param amountUnscaled 소수점 {@value #AMOUNT_SCALE}자리 unscaled 금액 (null이면 {@link #NULL_AMOUNT})
+     * @param status 상태 (null 허용)
+     * @param createdAtEpochNanos 생성 시각 (epoch 나노초)
+     * @throws IllegalStateException 용량이 가득 찬 경우
+     */
+    public void add(String data1, String data2, long amountUnscaled, String status, long createdAtEpochNanos) {
+        Objects.requireNonNull(data1, "data1 must not be null");
+        if (size == this.data1.length) {
+            throw new IllegalStateException("batch is full: capacity=" + this.data1.length);
+        }
+        this.data1[size] = data1;
+        this.data2[size] = data2;
+        this.amountUnscaled[size] = amountUnscaled;
+        this.statusCodes[size] = statusCode(status);
+        this.createdAtEpochNanos[size] = createdAtEpochNanos;
+        size++;
+    }
+
+    private int statusCode(String status) {
+        if (status == null) {
+            return NULL_STATUS;
+        }
+        Integer code = statusIndex.get(status);
+        if (code == null) {
+            code = statusDictionary.size();
+            statusDictionary.add(status);
+            statusIndex.put(status, code);
+        }
+        return code;
+    }
+
+    /**
+     * 금액을 소수점 {@value #AMOUNT_SCALE}자리 unscaled long으로 변환합니다 (HALF_UP 반올림).
+     *
+     * @param amount 금액 (null 허용)
+     * @return unscaled 값 (amount가 null이면 {@link #NULL_AMOUNT})
+     * @throws ArithmeticException 값이 long 범위를 벗어나는 경우
+     */
+    public static long toUnscaled(BigDecimal amount) {
+        if (amount == null) {
+            return NULL_AMOUNT;
+        }
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 시각을 epoch 나노초로 변환합니다.
+     *
+     * @param instant 시각 (null 불가)
+     * @return epoch 나노초
+     * @throws ArithmeticException 값이 long 범위를 벗어나는 경우
+     */
+    public static long toEpochNanos(Instant instant) {
+        Objects.requireNonNull(instant, "instant must not be null");
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * 모든 행을 비웁니다. 배열과 상태 사전은 재사용됩니다.
+     */
+    public void clear() {
+        Arrays.fill(data1, 0, size, null);
+        Arrays.fill(data2, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 현재 행 수를 반환합니다.
+     *
+     * @return 행 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 최대 행 수를 반환합니다.
+     *
+     * @return 용량
+     */
+    public int capacity() {
+        return data1.length;
+    }
+
+    /**
+     * 행의 data1 값을 반환합니다.
+     *
+     * @param row 행 번호 (0부터)
+     * @return data1 값
+     */
+    public String getData1(int row) {
+        checkRow(row);
+        return data1[row];
+    }
+
+    /**
+     * 행의 data2 값을 반환합니다.
+     *
+     * @param row 행 번호 (0부터)
+     * @return data2 값 (null 가능)
+     */
+    public String getData2(int row) {
+        checkRow(row);
+        return data2[row];
+    }
+
+    /**
+     * 행의 unscaled 금액을 반환합니다.
+     *
+     * @param row 행 번호 (0부터)
+     * @return 소수점 {@value #AMOUNT_SCALE}자리 unscaled 금액 (null이면 {@link #NULL_AMOUNT})
+     */
+    public long getAmountUnscaled(int row) {
+        checkRow(row);
+        return amountUnscaled[row];
+    }
+
+    /**
+     * 행의 상태 문자열을 반환합니다. 같은 상태는 항상 같은 인스턴스입니다.
+     *
+     * @param row 행 번호 (0부터)
+     * @return 상태 (null 가능)
+     */
+    public String getStatus(int row) {
+        checkRow(row);
+        int code = statusCodes[row];
+        return code == NULL_STATUS ? null : statusDictionary.get(code);
+    }
+
+    /**
+     * 행의 생성 시각을 epoch 나노초로 반환합니다.
+     *
+     * @param row 행 번호 (0부터)
+     * @return epoch 나노초
+     */
+    public long getCreatedAtEpochNanos(int row) {
+        checkRow(row);
+        return createdAtEpochNanos[row];
+    }
+
+    /**
+     * 상태 사전에 등록된 서로 다른 상태 수를 반환합니다.
+     *
+     * @return 사전 크기
+     */
+    public int getStatusDictionarySize() {
+        return statusDictionary.size();
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row must be in [0, " + size + "), but was: " + row);
+        }
+    }
+}
@@ -45,6 +45,13 @@ public final class TestRecord {
         this.createdAt = Objects.requireNonNull(builder.createdAt, "createdAt must not be null");
     }
 
+    /**
+     * MyBatis 생성자 매핑(TestRecordResultMap) 전용 생성자.
+     */
+    private TestRecord(Long id, String data1, String data2, BigDecimal amount, String status, Instant createdAt) {
+        this(builder().id(id).data1(data1).data2(data2).amount(amount).status(status).createdAt(createdAt));
+    }
+
     /**
      * 레코드 ID를 반환합니다.
      *
@@ -0,0 +1,142 @@
+package com.example.benchmark.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * TEST_RECORD 테이블의 JPA 엔티티.
+ *
+ * <p>JPA 삽입 벤치마크 전용 매핑이며, 나머지 구현체는 불변 객체인 {@link TestRecord}를 사용합니다.
+ * ID는 pooled 최적화 시퀀스 생성기로 발급하므로 시퀀스 호출은 {@value #ID_ALLOCATION_SIZE}건마다
+ * 한 번으로 줄어듭니다. 시퀀스 test_record_jpa_seq의 INCREMENT BY는 allocationSize와 같아야 합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Entity
+@Table(name = "test_record")
+public class TestRecordEntity {
+
+    /**
+     * 시퀀스 한 번 호출로 예약하는 ID 수.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_record_jpa_gen")
+    @SequenceGenerator(name = "test_record_jpa_gen", sequenceName = "test_record_jpa_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "data1", nullable = false, length = 100)
+    private String data1;
+
+    @Column(name = "data2", length = 200)
+    private String data2;
+
+    @Column(name = "amount", precision = 18, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * JPA 전용 기본 생성자.
+     */
+    protected TestRecordEntity() {
+    }
+
+    /**
+     * 불변 레코드로부터 새 엔티티를 생성합니다.
+     *
+     * <p>record의 id는 복사하지 않으며 persist 시점에 시퀀스 생성기가 할당합니다.</p>
+     *
+     * @param record 원본 레코드 (null 불가)
+     * @return ID가 없는 새 엔티티
+     */
+    public static TestRecordEntity from(TestRecord record) {
+        Objects.requireNonNull(record, "record must not be null");
+        TestRecordEntity entity = new TestRecordEntity();
+        entity.data1 = record.getData1();
+        entity.data2 = record.getData2();
+        entity.amount = record.getAmount();
+        entity.status = record.getStatus();
+        entity.createdAt = record.getCreatedAt();
+        return entity;
+    }
+
+    /**
+     * 레코드 ID를 반환합니다.
+     *
+     * @return 레코드 ID (persist 전에는 null)
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * 데이터1 필드를 반환합니다.
+     *
+     * @return data1 값
+     */
+    public String getData1() {
+        return data1;
+    }
+
+    /**
+     * 데이터2 필드를 반환합니다.
+     *
+     * @return data2 값
+     */
+    public String getData2() {
+        return data2;
+    }
+
+    /**
+     * 금액 필드를 반환합니다.
+     *
+     * @return 금액
+     */
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    /**
+     * 상태 코드를 반환합니다.
+     *
+     * @return 상태 코드
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * 생성 시각을 반환합니다.
+     *
+     * @return 생성 시각
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TestRecordEntity{" +
+                "id=" + id +
+                ", data1='" + data1 + '\'' +
+                ", status='" + status + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -3,6 +3,9 @@ package com.example.benchmark.mapper;
 import com.example.benchmark.domain.TestRecord;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.List;
 
 /**
  * TestRecord 엔티티를 위한 MyBatis Mapper 인터페이스.
@@ -23,6 +26,52 @@ public interface TestRecordMapper {
      */
     int insert(@Param("record") TestRecord record);
 
+    /**
+     * 클라이언트에서 할당한 ID로 단일 레코드를 삽입합니다.
+     *
+     * <p>시퀀스 NEXTVAL을 호출하지 않고 record의 id를 그대로 바인딩합니다.</p>
+     *
+     * @param record 삽입할 레코드 (id 필수)
+     * @return 영향받은 행 수
+     */
+    int insertWithId(@Param("record") TestRecord record);
+
+    /**
+     * H2 다중 VALUES 문 하나로 여러 레코드를 삽입합니다.
+     *
+     * <p>행마다 시퀀스 NEXTVAL을 호출하므로 H2에서만 사용합니다.</p>
+     *
+     * @param records 삽입할 레코드 목록 (1건 이상)
+     * @return 영향받은 행 수
+     */
+    int insertMultiRowH2(@Param("records") List<TestRecord> records);
+
+    /**
+     * 클라이언트에서 할당한 ID로 다중 VALUES 문 하나에 여러 레코드를 삽입합니다.
+     *
+     * @param records 삽입할 레코드 목록 (1건 이상, id 필수)
+     * @return 영향받은 행 수
+     */
+    int insertMultiRowWithId(@Param("records") List<TestRecord> records);
+
+    /**
+     * 클라이언트에서 할당한 ID로 Oracle INSERT ALL 문 하나에 여러 레코드를 삽입합니다.
+     *
+     * <p>드라이버에 따라 INSERT ALL의 반환값은 삽입된 행 수와 다를 수 있습니다.</p>
+     *
+     * @param records 삽입할 레코드 목록 (1건 이상, id 필수)
+     * @return 영향받은 행 수
+     */
+    int insertAllWithId(@Param("records") List<TestRecord> records);
+
+    /**
+     * id를 키로 레코드를 MERGE합니다 (있으면 갱신, 없으면 삽입).
+     *
+     * @param record upsert할 레코드 (id 필수)
+     * @return 영향받은 행 수
+     */
+    int merge(@Param("record") TestRecord record);
+
     /**
      * 테이블의 모든 데이터를 삭제합니다.
      */
@@ -34,4 +83,13 @@ public interface TestRecordMapper {
      * @return 레코드 수
      */
     long count();
+
+    /**
+     * 테이블의 모든 레코드를 커서로 스트리밍 조회합니다.
+     *
+     * <p>fetchSize를 바꿔 실행하려면 {@code SqlSession.selectCursor}로 문장 ID를 지정합니다.</p>
+     *
+     * @return 레코드 커서 (사용 후 닫아야 함)
+     */
+    Cursor<TestRecord> selectAllForExport();
 }
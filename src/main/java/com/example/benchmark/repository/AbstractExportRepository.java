@@ -0,0 +1,185 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.CsvExportWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 내보내기 구현체의 공통 기반 클래스.
+ *
+ * <p>출력 파일의 {@link CsvExportWriter}를 열어 {@link #exportRows(CsvExportWriter)}에 조회를 위임하고,
+ * 첫 행 도달 시간과 파일 크기를 지표로 기록합니다. 적재, 삭제, 건수 조회는 JdbcTemplate으로 처리합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public abstract class AbstractExportRepository implements ExportRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractExportRepository.class);
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    /**
+     * 내보낼 컬럼을 생성 순서대로 조회하는 SELECT 문.
+     */
+    protected static final String SELECT_SQL =
+            "SELECT id, data1, data2, amount, status, created_at FROM test_record";
+
+    private static final String SEED_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final JdbcTemplate jdbcTemplate;
+    private int fetchSize;
+    private volatile long lastTimeToFirstRowMicros;
+    private volatile long lastExportBytes;
+
+    /**
+     * AbstractExportRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     */
+    protected AbstractExportRepository(DataSource dataSource, BenchmarkProperties properties) {
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        setFetchSize(properties.getFetchSize());
+    }
+
+    /**
+     * 테이블의 모든 행을 조회하여 작성기에 씁니다.
+     *
+     * @param writer CSV 작성기
+     * @throws SQLException 조회 오류 시
+     * @throws IOException 파일 쓰기 오류 시
+     */
+    protected abstract void exportRows(CsvExportWriter writer) throws SQLException, IOException;
+
+    @Override
+    public long export(Path target) {
+        if (target == null) {
+            throw new IllegalArgumentException("target must not be null");
+        }
+
+        log.info("Starting {} export: fetchSize={}, target={}", getTypeName(), fetchSize, target);
+        long startNanos = System.nanoTime();
+        long rows;
+
+        try (CsvExportWriter writer = new CsvExportWriter(target)) {
+            exportRows(writer);
+            rows = writer.getRowCount();
+            lastTimeToFirstRowMicros = rows == 0 ? 0 : (writer.getFirstRowNanos() - startNanos) / 1_000;
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to read rows for " + getTypeName() + " export", e) {};
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessException("Failed to write export file: " + target, e) {};
+        }
+
+        try {
+            lastExportBytes = Files.size(target);
+        } catch (IOException e) {
+            log.warn("Failed to read export file size: {}", target, e);
+            lastExportBytes = 0;
+        }
+
+        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("{} export completed: rows={}, bytes={}, duration={}ms, timeToFirstRow={}us",
+                getTypeName(), rows, lastExportBytes, durationMs, lastTimeToFirstRowMicros);
+
+        return rows;
+    }
+
+    @Override
+    public int seed(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        return jdbcTemplate.execute((Connection conn) -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(SEED_SQL)) {
+                int seeded = 0;
+                for (TestRecord record : records) {
+                    if (record.getId() == null) {
+                        throw new IllegalArgumentException("record id must not be null for seed: " + record);
+                    }
+                    ps.setLong(1, record.getId());
+                    ps.setString(2, record.getData1());
+                    ps.setString(3, record.getData2());
+                    ps.setBigDecimal(4, record.getAmount());
+                    ps.setString(5, record.getStatus());
+                    ps.setTimestamp(6, Timestamp.from(record.getCreatedAt()));
+                    ps.addBatch();
+                    if (++seeded % SEED_BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+                conn.commit();
+                return seeded;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Fetch Size", String.valueOf(fetchSize));
+        metrics.put("Time To First Row (ms)", String.format("%.3f", lastTimeToFirstRowMicros / 1000.0));
+        metrics.put("Export Bytes", String.valueOf(lastExportBytes));
+        return metrics;
+    }
+
+    @Override
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be at least 1, but was: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        log.debug("Fetch size set to: {}", fetchSize);
+    }
+
+    @Override
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JDBC 기반 복사 구현체의 공통 기반 클래스.
+ *
+ * <p>쓰기 커넥션을 열고 커밋 정책 Tracker를 만든 뒤 {@link #copyRows(Connection, CommitPolicy.Tracker)}에
+ * 복사를 위임합니다. 구현체는 문장(또는 executeBatch) 하나를 마칠 때마다
+ * {@link CommitPolicy.Tracker#batchCompleted()}를 호출하고, 남은 커밋과 롤백은 이 클래스가 처리합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public abstract class AbstractJdbcCopyRepository implements CopyRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractJdbcCopyRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * 복사할 컬럼 목록.
+     */
+    protected static final String COLUMNS = "id, data1, data2, amount, status, created_at";
+
+    private static final String SEED_SQL =
+            "INSERT INTO test_record_source (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String CLEAR_SOURCE_SQL = "DELETE FROM test_record_source";
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastStatementCount;
+    private volatile int lastCommitCount;
+
+    /**
+     * AbstractJdbcCopyRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    protected AbstractJdbcCopyRepository(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 쓰기 커넥션에서 원본 테이블의 모든 행을 복사합니다.
+     *
+     * @param conn 쓰기 커넥션 (autoCommit은 커밋 정책에 맞게 설정됨)
+     * @param commits 문장 하나를 마칠 때마다 호출할 커밋 Tracker
+     * @return 복사된 행 수
+     * @throws SQLException SQL 실행 오류 시
+     */
+    protected abstract int copyRows(Connection conn, CommitPolicy.Tracker commits) throws SQLException;
+
+    /**
+     * 구현체가 사용하는 데이터소스를 반환합니다.
+     *
+     * @return 데이터소스
+     */
+    protected DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public int copy() {
+        log.info("Starting {} copy: batchSize={}", getTypeName(), batchSize);
+        long startTime = System.currentTimeMillis();
+
+        CommitPolicy policy = commitPolicy;
+        int copied;
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            try {
+                copied = copyRows(conn, commits);
+                commits.complete();
+            } catch (SQLException | RuntimeException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            lastStatementCount = commits.getCompletedBatches();
+            lastCommitCount = commits.getCommitCount();
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to copy rows with " + getTypeName(), e) {};
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("{} copy completed: copied={}, statements={}, duration={}ms, tps={}, commits={}",
+                getTypeName(), copied, lastStatementCount, duration, calculateTps(copied, duration), lastCommitCount);
+
+        return copied;
+    }
+
+    @Override
+    public int seedSource(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        return jdbcTemplate.execute((Connection conn) -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement clear = conn.prepareStatement(CLEAR_SOURCE_SQL);
+                 PreparedStatement ps = conn.prepareStatement(SEED_SQL)) {
+                clear.executeUpdate();
+                int seeded = 0;
+                for (TestRecord record : records) {
+                    if (record.getId() == null) {
+                        throw new IllegalArgumentException("record id must not be null for seed: " + record);
+                    }
+                    ps.setLong(1, record.getId());
+                    ps.setString(2, record.getData1());
+                    ps.setString(3, record.getData2());
+                    ps.setBigDecimal(4, record.getAmount());
+                    ps.setString(5, record.getStatus());
+                    ps.setTimestamp(6, Timestamp.from(record.getCreatedAt()));
+                    ps.addBatch();
+                    if (++seeded % batchSize == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+                conn.commit();
+                return seeded;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    @Override
+    public void clearSource() {
+        log.info("Clearing test_record_source table");
+        jdbcTemplate.update(CLEAR_SOURCE_SQL);
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Statements", String.valueOf(lastStatementCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+}
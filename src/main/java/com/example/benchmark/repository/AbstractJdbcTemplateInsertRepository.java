@@ -0,0 +1,327 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Spring JDBC 추상화(JdbcTemplate 계열)를 사용하는 배치 삽입 구현체의 공통 기반 클래스.
+ *
+ * <p>레코드를 batchSize 단위 청크로 나누어 {@link #executeChunk(List, boolean)}에 위임하고,
+ * 청크 하나를 {@link CommitPolicy}의 배치 하나로 취급합니다. 커넥션을 직접 다루는
+ * {@link JdbcBatchInsertRepository}와 달리 {@link DataSourceTransactionManager}로 트랜잭션을 열어
+ * JdbcTemplate이 같은 커넥션을 사용하도록 하므로, 두 구현체의 차이는 Spring 추상화 비용만 남습니다.</p>
+ *
+ * <p>AUTO_COMMIT 정책에서는 트랜잭션 없이 실행하여 청크(batchUpdate 호출)마다 드라이버가 커밋합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public abstract class AbstractJdbcTemplateInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractJdbcTemplateInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final TransactionDefinition TRANSACTION_DEFINITION = new DefaultTransactionDefinition();
+
+    /**
+     * 시퀀스 NEXTVAL을 사용하는 Oracle용 INSERT 문.
+     */
+    protected static final String INSERT_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (test_record_seq.NEXTVAL, ?, ?, ?, ?, ?)";
+
+    /**
+     * 시퀀스 함수를 사용하는 H2용 INSERT 문.
+     */
+    protected static final String INSERT_SQL_H2 =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
+
+    /**
+     * 클라이언트 할당 ID를 바인딩하는 INSERT 문.
+     */
+    protected static final String INSERT_SQL_CLIENT_ID =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final IdBlockAllocator idAllocator;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile int lastChunkCount;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
+
+    /**
+     * AbstractJdbcTemplateInsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
+     */
+    protected AbstractJdbcTemplateInsertRepository(DataSource dataSource, IdBlockAllocator idAllocator) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionManager = new DataSourceTransactionManager(dataSource);
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    /**
+     * 청크 하나를 한 번의 배치 호출로 삽입합니다.
+     *
+     * <p>clientSideIds가 true이면 청크의 모든 레코드에 ID가 할당되어 있습니다.</p>
+     *
+     * @param chunk 삽입할 레코드 청크 (1건 이상)
+     * @param clientSideIds 클라이언트 할당 ID 사용 여부
+     * @return 삽입된 레코드 수
+     */
+    protected abstract int executeChunk(List<TestRecord> chunk, boolean clientSideIds);
+
+    /**
+     * 구현체가 시퀀스 없이 항상 클라이언트 할당 ID를 사용해야 하는지 반환합니다.
+     *
+     * @return 항상 ID를 할당해야 하면 true (기본값: false)
+     */
+    protected boolean requiresClientSideIds() {
+        return false;
+    }
+
+    /**
+     * 데이터베이스에 맞는 시퀀스 기반 INSERT 문을 반환합니다.
+     *
+     * @param clientSideIds 클라이언트 할당 ID 사용 여부
+     * @return INSERT 문
+     */
+    protected String getInsertSql(boolean clientSideIds) {
+        if (clientSideIds) {
+            return INSERT_SQL_CLIENT_ID;
+        }
+        return isH2Database ? INSERT_SQL_H2 : INSERT_SQL;
+    }
+
+    /**
+     * 구현체가 공유하는 JdbcTemplate을 반환합니다.
+     *
+     * @return JdbcTemplate
+     */
+    protected JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /**
+     * 연결된 데이터베이스가 H2인지 반환합니다.
+     *
+     * @return H2이면 true
+     */
+    protected boolean isH2Database() {
+        return isH2Database;
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            return 0;
+        }
+
+        log.info("Starting {} insert: records={}, batchSize={}", getTypeName(), records.size(), batchSize);
+        return insertRecords(records.iterator());
+    }
+
+    /**
+     * 레코드 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * <p>한 청크(batchSize) 분량만 메모리에 유지합니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting {} streaming insert: batchSize={}", getTypeName(), batchSize);
+        return insertRecords(records);
+    }
+
+    private int insertRecords(Iterator<TestRecord> records) {
+        long startTime = System.currentTimeMillis();
+
+        int chunkSize = batchSize;
+        boolean clientSideIds = requiresClientSideIds() || idAllocator.isEnabled();
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
+        TransactionStatus[] transaction = new TransactionStatus[1];
+        CommitPolicy.Tracker commits = policy.tracker(() -> {
+            transactionManager.commit(transaction[0]);
+            transaction[0] = null;
+        });
+        List<TestRecord> chunk = new ArrayList<>(chunkSize);
+        int chunkCount = 0;
+        int totalInserted = 0;
+
+        try {
+            while (records.hasNext()) {
+                chunk.add(records.next());
+                if (chunk.size() == chunkSize || !records.hasNext()) {
+                    if (!policy.isAutoCommit() && transaction[0] == null) {
+                        transaction[0] = transactionManager.getTransaction(TRANSACTION_DEFINITION);
+                    }
+                    totalInserted += executeChunk(clientSideIds ? assignIds(chunk) : chunk, clientSideIds);
+                    chunk.clear();
+                    chunkCount++;
+                    commits.batchCompleted();
+                    log.debug("Executed chunk: chunks={}, totalInserted={}", chunkCount, totalInserted);
+                }
+            }
+
+            commits.complete();
+        } catch (SQLException e) {
+            rollback(transaction[0]);
+            throw new DataAccessException("Failed to commit " + getTypeName() + " batch", e) {};
+        } catch (RuntimeException e) {
+            rollback(transaction[0]);
+            throw e;
+        }
+
+        lastChunkCount = chunkCount;
+        lastCommitCount = commits.getCommitCount();
+        lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("{} insert completed: totalInserted={}, chunks={}, duration={}ms, tps={}, commits={}",
+                getTypeName(), totalInserted, chunkCount, duration, calculateTps(totalInserted, duration),
+                lastCommitCount);
+
+        return totalInserted;
+    }
+
+    private List<TestRecord> assignIds(List<TestRecord> chunk) {
+        long[] ids = idAllocator.allocate(chunk.size());
+        List<TestRecord> identified = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            identified.add(chunk.get(i).withId(ids[i]));
+        }
+        return identified;
+    }
+
+    private void rollback(TransactionStatus transaction) {
+        if (transaction != null && !transaction.isCompleted()) {
+            transactionManager.rollback(transaction);
+        }
+    }
+
+    /**
+     * 배치 실행 결과의 영향받은 행 수를 합산합니다.
+     *
+     * @param results 문장별 실행 결과
+     * @return 삽입된 행 수 ({@link java.sql.Statement#SUCCESS_NO_INFO}는 1행으로 계산)
+     */
+    protected static int sumResults(int[] results) {
+        int sum = 0;
+        for (int result : results) {
+            if (result >= 0) {
+                sum += result;
+            } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                sum++;
+            }
+        }
+        return sum;
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Chunks", String.valueOf(lastChunkCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+}
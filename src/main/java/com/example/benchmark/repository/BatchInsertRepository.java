@@ -1,8 +1,13 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 배치 삽입 Repository 인터페이스.
@@ -14,6 +19,15 @@ import java.util.List;
  * <ul>
  *   <li>{@link JdbcBatchInsertRepository} - JDBC 기반 배치 삽입</li>
  *   <li>{@link MyBatisBatchInsertRepository} - MyBatis 기반 배치 삽입</li>
+ *   <li>{@link ParallelJdbcBatchInsertRepository} - 다중 커넥션 병렬 JDBC 배치 삽입</li>
+ *   <li>{@link JdbcMultiRowInsertRepository} - 다중 행 INSERT 문 기반 JDBC 삽입</li>
+ *   <li>{@link MyBatisMultiRowInsertRepository} - {@code <foreach>} 다중 행 INSERT 문 기반 MyBatis 삽입</li>
+ *   <li>{@link PipelinedJdbcBatchInsertRepository} - 생산자/writer 파이프라인 JDBC 배치 삽입</li>
+ *   <li>{@link JdbcTemplateBatchInsertRepository} - JdbcTemplate.batchUpdate 기반 삽입</li>
+ *   <li>{@link NamedParameterJdbcBatchInsertRepository} - NamedParameterJdbcTemplate.batchUpdate 기반 삽입</li>
+ *   <li>{@link SimpleJdbcInsertBatchRepository} - SimpleJdbcInsert.executeBatch 기반 삽입</li>
+ *   <li>{@link JpaBatchInsertRepository} - JPA persist + flush/clear 기반 삽입</li>
+ *   <li>{@link JooqLoaderInsertRepository} - jOOQ Loader API 기반 삽입</li>
  * </ul>
  *
  * @author Developer Agent
@@ -34,6 +48,46 @@ public interface BatchInsertRepository {
      */
     int insertBatch(List<TestRecord> records);
 
+    /**
+     * 레코드 소스를 스트리밍 방식으로 배치 삽입합니다.
+     *
+     * <p>전체 데이터를 리스트로 적재하지 않고 소스에서 필요한 만큼만 꺼내어,
+     * 메모리에는 한 배치 분량의 레코드만 유지합니다.
+     * {@code Stream}은 {@code stream.iterator()}로 전달합니다.</p>
+     *
+     * <p>기본 구현은 batchSize 단위로 잘라 {@link #insertBatch(List)}를 반복 호출하므로
+     * 배치마다 별도 트랜잭션으로 커밋됩니다. 단일 트랜잭션 스트리밍이 필요한
+     * 구현체는 이 메서드를 재정의합니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     * @throws IllegalArgumentException records가 null인 경우
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    default int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        int batchSize = getBatchSize();
+        int totalInserted = 0;
+        List<TestRecord> chunk = new ArrayList<>(batchSize);
+
+        while (records.hasNext()) {
+            chunk.add(records.next());
+            if (chunk.size() == batchSize) {
+                totalInserted += insertBatch(chunk);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+
+        // 남은 레코드 처리
+        if (!chunk.isEmpty()) {
+            totalInserted += insertBatch(chunk);
+        }
+        return totalInserted;
+    }
+
     /**
      * 배치 크기를 설정합니다.
      *
@@ -52,6 +106,23 @@ public interface BatchInsertRepository {
      */
     int getBatchSize();
 
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * <p>한 배치는 executeBatch(또는 flushStatements) 한 번에 해당합니다.</p>
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     * @throws NullPointerException commitPolicy가 null인 경우
+     */
+    void setCommitPolicy(CommitPolicy commitPolicy);
+
+    /**
+     * 현재 설정된 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책 (기본값: SINGLE_TRANSACTION)
+     */
+    CommitPolicy getCommitPolicy();
+
     /**
      * 테이블의 모든 데이터를 삭제합니다.
      *
@@ -73,4 +144,16 @@ public interface BatchInsertRepository {
      * @return 구현체 타입명 (예: "JDBC", "MyBatis")
      */
     String getTypeName();
+
+    /**
+     * 마지막 insertBatch 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * <p>워커별 처리량 등 구현체 고유의 측정값을 리포트에 노출할 때 사용합니다.
+     * 기본 구현은 빈 맵을 반환합니다.</p>
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
 }
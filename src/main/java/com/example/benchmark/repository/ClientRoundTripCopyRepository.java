@@ -0,0 +1,144 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 원본 행을 JVM으로 읽어 JDBC 배치로 다시 쓰는 왕복 복사 구현체.
+ *
+ * <p>별도의 읽기 커넥션에서 forward-only/read-only 커서를 fetchSize 단위로 가져오고,
+ * 쓰기 커넥션에서 batchSize마다 executeBatch합니다. 쓰기 쪽 커밋이 읽기 커서에 영향을 주지 않도록
+ * 두 커넥션을 분리합니다. 애플리케이션 계층에서 ETL을 수행할 때의 비용을 서버 측 복사와 비교하기 위한 기준선입니다.</p>
+ *
+ * <p>{@link CommitPolicy}에서는 executeBatch 한 번을 하나의 배치로 취급합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class ClientRoundTripCopyRepository extends AbstractJdbcCopyRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientRoundTripCopyRepository.class);
+
+    private static final String TYPE_NAME = "JDBC-RoundTrip";
+
+    private static final String SELECT_SQL = "SELECT " + COLUMNS + " FROM test_record_source";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO test_record (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    private int fetchSize;
+    private volatile int lastFetchRoundTrips;
+
+    /**
+     * ClientRoundTripCopyRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     */
+    public ClientRoundTripCopyRepository(DataSource dataSource, BenchmarkProperties properties) {
+        super(dataSource);
+        Objects.requireNonNull(properties, "properties must not be null");
+        setFetchSize(properties.getFetchSize());
+    }
+
+    @Override
+    protected int copyRows(Connection conn, CommitPolicy.Tracker commits) throws SQLException {
+        int chunkSize = getBatchSize();
+        int rowsPerFetch = fetchSize;
+        int totalCopied = 0;
+        int pending = 0;
+
+        try (Connection readConn = getDataSource().getConnection()) {
+            readConn.setReadOnly(true);
+            readConn.setAutoCommit(false);
+
+            try (PreparedStatement select = readConn.prepareStatement(SELECT_SQL,
+                         ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 PreparedStatement insert = conn.prepareStatement(INSERT_SQL)) {
+                select.setFetchSize(rowsPerFetch);
+
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        insert.setLong(1, rs.getLong(1));
+                        insert.setString(2, rs.getString(2));
+                        insert.setString(3, rs.getString(3));
+                        insert.setBigDecimal(4, rs.getBigDecimal(4));
+                        insert.setString(5, rs.getString(5));
+                        insert.setTimestamp(6, rs.getTimestamp(6));
+                        insert.addBatch();
+                        totalCopied++;
+
+                        if (++pending == chunkSize) {
+                            insert.executeBatch();
+                            commits.batchCompleted();
+                            pending = 0;
+                            log.debug("Wrote batch: totalCopied={}", totalCopied);
+                        }
+                    }
+                }
+
+                // 남은 레코드 처리
+                if (pending > 0) {
+                    insert.executeBatch();
+                    commits.batchCompleted();
+                }
+            } finally {
+                readConn.rollback();
+                readConn.setReadOnly(false);
+            }
+        }
+
+        // 마지막 빈 fetch까지 포함한 조회 왕복 횟수
+        lastFetchRoundTrips = totalCopied / rowsPerFetch + 1;
+        return totalCopied;
+    }
+
+    /**
+     * 원본 조회 시 사용할 JDBC fetchSize를 설정합니다.
+     *
+     * @param fetchSize 한 번에 가져올 행 수 (1 이상)
+     * @throws IllegalArgumentException fetchSize가 1 미만인 경우
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be at least 1, but was: " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+        log.debug("Fetch size set to: {}", fetchSize);
+    }
+
+    /**
+     * 현재 설정된 fetchSize를 반환합니다.
+     *
+     * @return fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>(super.getLastRunMetrics());
+        metrics.put("Fetch Size", String.valueOf(fetchSize));
+        metrics.put("Fetch Round Trips", String.valueOf(lastFetchRoundTrips));
+        return metrics;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.ColumnarRecordBatch;
+
+/**
+ * {@link ColumnarRecordBatch}를 직접 삽입할 수 있는 배치 삽입 Repository.
+ *
+ * <p>{@link BatchInsertRepository#insertBatch(java.util.List)}와 같은 배치 크기와 커밋 정책을 따르며,
+ * 행마다 TestRecord와 Timestamp를 만들지 않고 기본형 배열에서 바로 바인딩한다는 점만 다릅니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link JdbcBatchInsertRepository} - {@link ColumnarRowBinder} 기반 JDBC 배치 삽입</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface ColumnarBatchInsertRepository extends BatchInsertRepository {
+
+    /**
+     * 컬럼 배치의 모든 행을 삽입합니다.
+     *
+     * @param batch 삽입할 컬럼 배치 (null 불가)
+     * @return 삽입된 레코드 수
+     * @throws IllegalArgumentException batch가 null인 경우
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    int insertColumnar(ColumnarRecordBatch batch);
+}
@@ -0,0 +1,75 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.ColumnarRecordBatch;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Objects;
+
+/**
+ * {@link ColumnarRecordBatch}의 한 행을 PreparedStatement 파라미터로 바인딩합니다.
+ *
+ * <p>바인딩 순서는 data1, data2, amount, status, created_at으로 행 경로와 같은 INSERT 문을 그대로 씁니다.
+ * created_at은 바인더가 가진 Timestamp 한 개를 매 행 갱신해 넘기므로 행마다 Timestamp를 만들지 않습니다.
+ * 드라이버는 setTimestamp 시점에 값을 변환해 보관하므로 재사용해도 안전합니다.</p>
+ *
+ * <p>amount는 {@link BigDecimal#valueOf(long, int)}로 넘깁니다. unscaled long을 그대로 담는 compact 형태라
+ * BigInteger 없이 객체 하나만 만들어지며, SQL에서 {@code / 100}으로 스케일을 되돌리는 방식보다
+ * 문장이 단순하고 서버(내장 H2의 경우 같은 스레드)의 십진 나눗셈 비용도 들지 않습니다.</p>
+ *
+ * <p>스레드 안전하지 않습니다. 커넥션(문장)마다 하나씩 사용합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class ColumnarRowBinder {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Timestamp timestamp = new Timestamp(0L);
+
+    /**
+     * 배치의 한 행을 바인딩합니다.
+     *
+     * @param ps 대상 문장 (null 불가)
+     * @param batch 컬럼 배치 (null 불가)
+     * @param row 행 번호 (0부터)
+     * @param firstIndex 첫 파라미터 인덱스 (1부터)
+     * @throws SQLException 바인딩 실패 시
+     */
+    public void bind(PreparedStatement ps, ColumnarRecordBatch batch, int row, int firstIndex) throws SQLException {
+        Objects.requireNonNull(ps, "ps must not be null");
+        Objects.requireNonNull(batch, "batch must not be null");
+
+        ps.setString(firstIndex, batch.getData1(row));
+        ps.setString(firstIndex + 1, batch.getData2(row));
+
+        long amount = batch.getAmountUnscaled(row);
+        if (amount == ColumnarRecordBatch.NULL_AMOUNT) {
+            ps.setNull(firstIndex + 2, Types.DECIMAL);
+        } else {
+            ps.setBigDecimal(firstIndex + 2, BigDecimal.valueOf(amount, ColumnarRecordBatch.AMOUNT_SCALE));
+        }
+
+        ps.setString(firstIndex + 3, batch.getStatus(row));
+        ps.setTimestamp(firstIndex + 4, toTimestamp(batch.getCreatedAtEpochNanos(row)));
+    }
+
+    /**
+     * 재사용 Timestamp를 epoch 나노초 값으로 갱신해 반환합니다.
+     *
+     * @param epochNanos epoch 나노초
+     * @return 갱신된 재사용 Timestamp (다음 호출 시 값이 바뀜)
+     */
+    private Timestamp toTimestamp(long epochNanos) {
+        long seconds = Math.floorDiv(epochNanos, NANOS_PER_SECOND);
+        int nanos = (int) Math.floorMod(epochNanos, NANOS_PER_SECOND);
+        // setTime은 밀리초 이하를 nanos로 덮어쓰므로 초 단위로 맞춘 뒤 nanos를 설정
+        timestamp.setTime(seconds * 1000L);
+        timestamp.setNanos(nanos);
+        return timestamp;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블 간 복사 Repository 인터페이스.
+ *
+ * <p>이미 데이터베이스에 있는 {@code test_record_source}의 모든 행을 {@code test_record}로 복사합니다.
+ * 서버 안에서 끝나는 집합 단위 복사와 JVM을 거치는 왕복 복사의 비용 차이를 측정하기 위한 인터페이스입니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link InsertSelectCopyRepository} - INSERT ... SELECT 한 문장</li>
+ *   <li>{@link ChunkedInsertSelectCopyRepository} - ID 범위별 INSERT ... SELECT 반복</li>
+ *   <li>{@link ClientRoundTripCopyRepository} - fetchSize 조회 후 JDBC 배치 쓰기</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface CopyRepository {
+
+    /**
+     * 원본 테이블을 비우고 레코드를 적재합니다.
+     *
+     * <p>측정 대상이 아닌 준비 단계이며, 커밋 정책과 무관하게 한 트랜잭션으로 커밋합니다.</p>
+     *
+     * @param records 적재할 레코드 목록 (null 불가, 모든 레코드에 id 필수)
+     * @return 적재된 레코드 수
+     */
+    int seedSource(List<TestRecord> records);
+
+    /**
+     * 원본 테이블의 모든 행을 test_record로 복사합니다.
+     *
+     * @return 복사된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    int copy();
+
+    /**
+     * 원본 테이블의 모든 데이터를 삭제합니다.
+     */
+    void clearSource();
+
+    /**
+     * 배치 크기를 설정합니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     * @throws IllegalArgumentException batchSize가 1 미만인 경우
+     */
+    void setBatchSize(int batchSize);
+
+    /**
+     * 현재 설정된 배치 크기를 반환합니다.
+     *
+     * @return 배치 크기
+     */
+    int getBatchSize();
+
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     * @throws NullPointerException commitPolicy가 null인 경우
+     */
+    void setCommitPolicy(CommitPolicy commitPolicy);
+
+    /**
+     * 현재 설정된 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책 (기본값: SINGLE_TRANSACTION)
+     */
+    CommitPolicy getCommitPolicy();
+
+    /**
+     * 대상 테이블(test_record)의 모든 데이터를 삭제합니다.
+     */
+    void truncateTable();
+
+    /**
+     * 대상 테이블(test_record)의 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    long count();
+
+    /**
+     * Repository 타입명을 반환합니다.
+     *
+     * @return 구현체 타입명 (예: "SQL-InsertSelect")
+     */
+    String getTypeName();
+
+    /**
+     * 마지막 copy 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
+}
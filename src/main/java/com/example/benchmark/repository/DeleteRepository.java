@@ -0,0 +1,106 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과거 데이터 정리(purge) DELETE Repository 인터페이스.
+ *
+ * <p>생성 시각 인덱스(idx_test_record_created_at)를 타는 범위 DELETE를 batchSize 행씩 나누어 반복합니다.
+ * 한 문장으로 지우는 것보다 undo/redo와 잠금 범위를 작게 유지하는 야간 정리 작업의 패턴입니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link JdbcChunkedDeleteRepository} - JDBC 기반 청크 DELETE</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface DeleteRepository {
+
+    /**
+     * 생성 시각이 cutoff 이전인 행을 모두 삭제합니다.
+     *
+     * <p>한 문장에 최대 batchSize 행씩 삭제하며, 문장 하나를 커밋 정책의 배치 하나로 취급합니다.</p>
+     *
+     * @param cutoff 기준 시각, 이 시각 이전에 생성된 행을 삭제 (null 불가)
+     * @return 삭제된 행 수
+     * @throws IllegalArgumentException cutoff가 null인 경우
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    int deleteCreatedBefore(Instant cutoff);
+
+    /**
+     * 측정 전에 ID가 지정된 레코드를 적재합니다.
+     *
+     * <p>측정 대상이 아닌 준비 단계이며, 커밋 정책과 무관하게 한 트랜잭션으로 커밋합니다.</p>
+     *
+     * @param records 적재할 레코드 목록 (null 불가, 모든 레코드에 id 필수)
+     * @return 적재된 레코드 수
+     */
+    int seed(List<TestRecord> records);
+
+    /**
+     * 배치 크기를 설정합니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     * @throws IllegalArgumentException batchSize가 1 미만인 경우
+     */
+    void setBatchSize(int batchSize);
+
+    /**
+     * 현재 설정된 배치 크기를 반환합니다.
+     *
+     * @return 배치 크기
+     */
+    int getBatchSize();
+
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     * @throws NullPointerException commitPolicy가 null인 경우
+     */
+    void setCommitPolicy(CommitPolicy commitPolicy);
+
+    /**
+     * 현재 설정된 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책 (기본값: SINGLE_TRANSACTION)
+     */
+    CommitPolicy getCommitPolicy();
+
+    /**
+     * 테이블의 모든 데이터를 삭제합니다.
+     */
+    void truncateTable();
+
+    /**
+     * 테이블의 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    long count();
+
+    /**
+     * Repository 타입명을 반환합니다.
+     *
+     * @return 구현체 타입명 (예: "JDBC-Purge")
+     */
+    String getTypeName();
+
+    /**
+     * 마지막 삭제 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 테이블 스트리밍 조회 및 CSV 내보내기 Repository 인터페이스.
+ *
+ * <p>test_record 전체를 한 번에 메모리에 올리지 않고 fetchSize 단위로 가져와 로컬 CSV 파일로 씁니다.
+ * 일일 내보내기 작업의 조회 방식별 처리량, 첫 행 도달 시간, 힙 사용량을 비교하기 위한 인터페이스입니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link JdbcCursorExportRepository} - forward-only/read-only JDBC 커서</li>
+ *   <li>{@link MyBatisCursorExportRepository} - MyBatis {@code Cursor}</li>
+ *   <li>{@link MyBatisResultHandlerExportRepository} - MyBatis {@code ResultHandler}</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface ExportRepository {
+
+    /**
+     * 측정 전에 ID가 지정된 레코드를 적재합니다.
+     *
+     * <p>측정 대상이 아닌 준비 단계이며, 한 트랜잭션으로 커밋합니다.</p>
+     *
+     * @param records 적재할 레코드 목록 (null 불가, 모든 레코드에 id 필수)
+     * @return 적재된 레코드 수
+     */
+    int seed(List<TestRecord> records);
+
+    /**
+     * 테이블의 모든 행을 CSV 파일로 내보냅니다.
+     *
+     * @param target 출력 파일 경로 (null 불가, 있으면 덮어씀)
+     * @return 내보낸 행 수
+     * @throws IllegalArgumentException target이 null인 경우
+     * @throws org.springframework.dao.DataAccessException 조회 또는 파일 쓰기 오류 시
+     */
+    long export(Path target);
+
+    /**
+     * 조회 시 사용할 JDBC fetchSize를 설정합니다.
+     *
+     * @param fetchSize 한 번에 가져올 행 수 (1 이상)
+     * @throws IllegalArgumentException fetchSize가 1 미만인 경우
+     */
+    void setFetchSize(int fetchSize);
+
+    /**
+     * 현재 설정된 fetchSize를 반환합니다.
+     *
+     * @return fetchSize
+     */
+    int getFetchSize();
+
+    /**
+     * 테이블의 모든 데이터를 삭제합니다.
+     */
+    void truncateTable();
+
+    /**
+     * 테이블의 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    long count();
+
+    /**
+     * Repository 타입명을 반환합니다.
+     *
+     * @return 구현체 타입명 (예: "JDBC-Cursor")
+     */
+    String getTypeName();
+
+    /**
+     * 마지막 export 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 시퀀스 기반 ID 블록 할당기.
+ *
+ * <p>조회 한 번으로 test_record_seq.NEXTVAL을 blockSize번 평가해(Oracle은 {@code CONNECT BY LEVEL},
+ * H2는 {@code SYSTEM_RANGE}) blockSize개의 ID 블록을 예약하고 클라이언트에서 순차 할당하므로,
+ * 행마다 발생하던 NEXTVAL 라운드 트립이 블록당 한 번으로 줄어듭니다.</p>
+ *
+ * <p>블록의 ID는 모두 시퀀스가 실제로 발급한 값이므로, 같은 시퀀스를 행 단위 NEXTVAL로 계속 사용하는
+ * 구현체(단건 삽입, JdbcTemplate 계열, 수집 쓰기 도구 등)가 블록 예약 전후에 발급하는 ID와 겹치지 않습니다.
+ * 시퀀스는 INCREMENT BY 1 그대로 사용하며, 다른 세션이 동시에 NEXTVAL을 호출하면
+ * 블록 안의 ID가 연속되지 않을 수 있습니다.</p>
+ *
+ * <p>모든 할당 메서드는 동기화되어 있어 여러 writer 스레드가 공유할 수 있습니다.
+ * JDBC 구현체는 ID를 일반 파라미터로 바인딩하고, MyBatis 구현체는
+ * {@link com.example.benchmark.domain.TestRecord#withId(Long)}로 ID를 채워 전달합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Component
+public class IdBlockAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(IdBlockAllocator.class);
+
+    private static final String NEXTVAL_SQL =
+            "SELECT test_record_seq.NEXTVAL FROM dual CONNECT BY LEVEL <= ?";
+    private static final String NEXTVAL_SQL_H2 = "SELECT NEXTVAL('test_record_seq') FROM SYSTEM_RANGE(1, ?)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private volatile boolean enabled;
+    private boolean isH2Database;
+
+    private long[] block = new long[0];
+    private int blockPosition;
+    private long allocatedIds;
+    private long sequenceRoundTrips;
+
+    /**
+     * IdBlockAllocator 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     * @throws IllegalArgumentException idBlockSize가 1 미만인 경우
+     */
+    public IdBlockAllocator(DataSource dataSource, BenchmarkProperties properties) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        if (properties.getIdBlockSize() < 1) {
+            throw new IllegalArgumentException("idBlockSize must be at least 1, but was: "
+                    + properties.getIdBlockSize());
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.blockSize = properties.getIdBlockSize();
+        this.enabled = properties.isClientSideIds();
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    /**
+     * 다음 ID 하나를 할당합니다.
+     *
+     * @return 할당된 ID
+     * @throws DataAccessException 시퀀스 조회 실패 시
+     */
+    public synchronized long nextId() {
+        if (blockPosition == block.length) {
+            reserveBlock();
+        }
+        allocatedIds++;
+        return block[blockPosition++];
+    }
+
+    /**
+     * 지정된 개수의 ID를 한 번에 할당합니다.
+     *
+     * <p>현재 블록의 남은 ID를 먼저 사용하고, 부족하면 새 블록을 예약합니다.
+     * 반환되는 ID는 호출 내에서 오름차순이지만 블록 경계에서 연속되지 않을 수 있습니다.</p>
+     *
+     * @param count 할당할 ID 수 (0 이상)
+     * @return 할당된 ID 배열
+     * @throws IllegalArgumentException count가 음수인 경우
+     * @throws DataAccessException 시퀀스 조회 실패 시
+     */
+    public synchronized long[] allocate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative, but was: " + count);
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            if (blockPosition == block.length) {
+                reserveBlock();
+            }
+            ids[i] = block[blockPosition++];
+        }
+        allocatedIds += count;
+        return ids;
+    }
+
+    private void reserveBlock() {
+        List<Long> values = jdbcTemplate.queryForList(
+                isH2Database ? NEXTVAL_SQL_H2 : NEXTVAL_SQL, Long.class, blockSize);
+        if (values.size() != blockSize) {
+            throw new DataAccessException("Sequence test_record_seq returned " + values.size()
+                    + " values, expected " + blockSize) {};
+        }
+        sequenceRoundTrips++;
+        long[] reserved = new long[blockSize];
+        for (int i = 0; i < blockSize; i++) {
+            reserved[i] = values.get(i);
+        }
+        Arrays.sort(reserved);
+        block = reserved;
+        blockPosition = 0;
+        log.debug("Reserved id block: size={}, range=[{}, {}]", blockSize, reserved[0], reserved[blockSize - 1]);
+    }
+
+    /**
+     * 현재까지의 누적 할당 통계를 반환합니다.
+     *
+     * @return 할당 통계 스냅샷
+     */
+    public synchronized Statistics snapshot() {
+        return new Statistics(allocatedIds, sequenceRoundTrips);
+    }
+
+    /**
+     * 클라이언트 측 ID 할당 사용 여부를 반환합니다.
+     *
+     * <p>false인 경우 각 Repository는 INSERT 문에서 NEXTVAL을 직접 호출합니다.</p>
+     *
+     * @return 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 클라이언트 측 ID 할당 사용 여부를 설정합니다.
+     *
+     * @param enabled 사용 여부
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        log.debug("Client-side id allocation enabled: {}", enabled);
+    }
+
+    /**
+     * 블록 크기를 반환합니다.
+     *
+     * @return 시퀀스 라운드 트립 한 번에 예약하는 ID 수
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * ID 할당 통계 스냅샷.
+     *
+     * <p>두 스냅샷의 차이로 특정 실행 구간의 통계를 계산할 수 있습니다.</p>
+     */
+    public static final class Statistics {
+
+        /**
+         * 할당이 없었음을 나타내는 빈 통계.
+         */
+        public static final Statistics EMPTY = new Statistics(0L, 0L);
+
+        private final long allocatedIds;
+        private final long sequenceRoundTrips;
+
+        Statistics(long allocatedIds, long sequenceRoundTrips) {
+            this.allocatedIds = allocatedIds;
+            this.sequenceRoundTrips = sequenceRoundTrips;
+        }
+
+        /**
+         * 할당된 ID 수를 반환합니다.
+         *
+         * @return 할당된 ID 수
+         */
+        public long getAllocatedIds() {
+            return allocatedIds;
+        }
+
+        /**
+         * 실제 발생한 시퀀스 라운드 트립 수를 반환합니다.
+         *
+         * @return 시퀀스 조회 횟수
+         */
+        public long getSequenceRoundTrips() {
+            return sequenceRoundTrips;
+        }
+
+        /**
+         * 행 단위 NEXTVAL 대비 절약된 시퀀스 라운드 트립 수를 반환합니다.
+         *
+         * @return 절약된 라운드 트립 수
+         */
+        public long getSavedRoundTrips() {
+            return allocatedIds - sequenceRoundTrips;
+        }
+
+        /**
+         * 이전 스냅샷 이후 구간의 통계를 계산합니다.
+         *
+         * @param earlier 이전 스냅샷
+         * @return 구간 통계
+         */
+        public Statistics since(Statistics earlier) {
+            return new Statistics(allocatedIds - earlier.allocatedIds,
+                    sequenceRoundTrips - earlier.sequenceRoundTrips);
+        }
+
+        /**
+         * 리포트용 지표 맵으로 변환합니다.
+         *
+         * @return 할당이 없으면 빈 맵, 있으면 ID 수와 라운드 트립 지표
+         */
+        public Map<String, String> toMetrics() {
+            if (allocatedIds == 0) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> metrics = new LinkedHashMap<>();
+            metrics.put("Client IDs", String.valueOf(allocatedIds));
+            metrics.put("Sequence Round Trips", String.valueOf(sequenceRoundTrips));
+            metrics.put("Round Trips Saved", String.valueOf(getSavedRoundTrips()));
+            return metrics;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "allocatedIds=" + allocatedIds +
+                    ", sequenceRoundTrips=" + sequenceRoundTrips +
+                    ", savedRoundTrips=" + getSavedRoundTrips() +
+                    '}';
+        }
+    }
+}
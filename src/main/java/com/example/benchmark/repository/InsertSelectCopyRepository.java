@@ -0,0 +1,50 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * 집합 단위 INSERT ... SELECT 한 문장으로 복사하는 구현체.
+ *
+ * <p>행이 JVM을 거치지 않으므로 네트워크 왕복은 문장 하나뿐입니다.
+ * 문장 하나가 {@link CommitPolicy}의 배치 하나이므로 AUTO_COMMIT을 제외한 모든 정책에서 커밋은 한 번입니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class InsertSelectCopyRepository extends AbstractJdbcCopyRepository {
+
+    private static final String TYPE_NAME = "SQL-InsertSelect";
+
+    private static final String COPY_SQL =
+            "INSERT INTO test_record (" + COLUMNS + ") SELECT " + COLUMNS + " FROM test_record_source";
+
+    /**
+     * InsertSelectCopyRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    public InsertSelectCopyRepository(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected int copyRows(Connection conn, CommitPolicy.Tracker commits) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(COPY_SQL)) {
+            int copied = ps.executeUpdate();
+            commits.batchCompleted();
+            return copied;
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -1,19 +1,23 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.ColumnarRecordBatch;
 import com.example.benchmark.domain.TestRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,15 +29,19 @@ import java.util.Objects;
  * <p>특징:</p>
  * <ul>
  *   <li>배치 크기 설정 가능 (기본값: 1000)</li>
- *   <li>트랜잭션 지원</li>
+ *   <li>커밋 정책 지원 ({@link CommitPolicy}, 기본값: 단일 트랜잭션)</li>
+ *   <li>커넥션을 직접 얻어 커밋하므로 Spring 트랜잭션에 참여하지 않음 (호출당 풀 커넥션 하나)</li>
  *   <li>try-with-resources를 통한 리소스 관리</li>
+ *   <li>클라이언트 측 ID 블록 할당 지원 ({@link IdBlockAllocator})</li>
+ *   <li>Iterator 소스 스트리밍 삽입 지원 (한 배치 분량만 메모리에 유지)</li>
+ *   <li>{@link ColumnarRecordBatch} 삽입 지원 (행 단위 객체 없이 바인딩, {@link ColumnarRowBinder})</li>
  * </ul>
  *
  * @author Developer Agent
  * @since 1.0
  */
 @Repository
-public class JdbcBatchInsertRepository implements BatchInsertRepository {
+public class JdbcBatchInsertRepository implements ColumnarBatchInsertRepository {
 
     private static final Logger log = LoggerFactory.getLogger(JdbcBatchInsertRepository.class);
 
@@ -48,21 +56,31 @@ public class JdbcBatchInsertRepository implements BatchInsertRepository {
             "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
                     "VALUES (NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
 
+    private static final String INSERT_SQL_CLIENT_ID =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
     private static final String TRUNCATE_SQL = "DELETE FROM test_record";
     private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
 
     private final DataSource dataSource;
     private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idAllocator;
     private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
     private boolean isH2Database;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
 
     /**
      * JdbcBatchInsertRepository 생성자.
      *
      * @param dataSource 데이터소스 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
      */
-    public JdbcBatchInsertRepository(DataSource dataSource) {
+    public JdbcBatchInsertRepository(DataSource dataSource, IdBlockAllocator idAllocator) {
         this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
         this.jdbcTemplate = new JdbcTemplate(dataSource);
         detectDatabaseType();
     }
@@ -79,7 +97,6 @@ public class JdbcBatchInsertRepository implements BatchInsertRepository {
     }
 
     @Override
-    @Transactional
     public int insertBatch(List<TestRecord> records) {
         if (records == null) {
             throw new IllegalArgumentException("records must not be null");
@@ -91,53 +108,130 @@ public class JdbcBatchInsertRepository implements BatchInsertRepository {
         }
 
         log.info("Starting batch insert: records={}, batchSize={}", records.size(), batchSize);
+        return insertRecords(records.iterator(), records.size() + " records");
+    }
+
+    /**
+     * 레코드 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * <p>소스에서 한 건씩 꺼내 바인딩하고 batchSize마다 executeBatch하므로
+     * 드라이버 배치 버퍼에 쌓인 한 배치 분량만 메모리에 유지됩니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting streaming batch insert: batchSize={}", batchSize);
+        return insertRecords(records, "streamed records");
+    }
+
+    private int insertRecords(Iterator<TestRecord> records, String description) {
+        return executeInsert(description, (ps, firstIndex) -> {
+            if (!records.hasNext()) {
+                return false;
+            }
+            setParameters(ps, records.next(), firstIndex);
+            return true;
+        });
+    }
+
+    /**
+     * 컬럼 배치를 커밋 정책에 따라 삽입합니다.
+     *
+     * <p>행 경로와 같은 INSERT 문을 쓰되, {@link ColumnarRowBinder}가 기본형 배열에서 바로 바인딩하므로
+     * 행마다 TestRecord와 Timestamp를 만들지 않습니다.</p>
+     *
+     * @param batch 삽입할 컬럼 배치 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertColumnar(ColumnarRecordBatch batch) {
+        if (batch == null) {
+            throw new IllegalArgumentException("batch must not be null");
+        }
+
+        if (batch.size() == 0) {
+            log.debug("Empty columnar batch, nothing to insert");
+            return 0;
+        }
+
+        log.info("Starting columnar batch insert: records={}, batchSize={}", batch.size(), batchSize);
+        ColumnarRowBinder binder = new ColumnarRowBinder();
+        int[] row = new int[1];
+        return executeInsert(batch.size() + " columnar records", (ps, firstIndex) -> {
+            if (row[0] == batch.size()) {
+                return false;
+            }
+            binder.bind(ps, batch, row[0]++, firstIndex);
+            return true;
+        });
+    }
+
+    private int executeInsert(String description, RowSource rows) {
         long startTime = System.currentTimeMillis();
 
-        String sql = isH2Database ? INSERT_SQL_H2 : INSERT_SQL;
+        boolean clientSideIds = idAllocator.isEnabled();
+        String sql = clientSideIds ? INSERT_SQL_CLIENT_ID : (isH2Database ? INSERT_SQL_H2 : INSERT_SQL);
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
+        int processed = 0;
         int totalInserted = 0;
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            conn.setAutoCommit(false);
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
 
-            for (int i = 0; i < records.size(); i++) {
-                TestRecord record = records.get(i);
-                setParameters(ps, record);
+            int firstIndex = clientSideIds ? 2 : 1;
+            while (rows.bindNext(ps, firstIndex)) {
+                if (clientSideIds) {
+                    ps.setLong(1, idAllocator.nextId());
+                }
                 ps.addBatch();
+                processed++;
 
-                if ((i + 1) % batchSize == 0) {
+                if (processed % batchSize == 0) {
                     int[] results = ps.executeBatch();
                     totalInserted += sumResults(results);
-                    log.debug("Executed batch: processed={}, totalInserted={}", i + 1, totalInserted);
+                    commits.batchCompleted();
+                    log.debug("Executed batch: processed={}, totalInserted={}", processed, totalInserted);
                 }
             }
 
             // 남은 레코드 처리
-            if (records.size() % batchSize != 0) {
+            if (processed % batchSize != 0) {
                 int[] results = ps.executeBatch();
                 totalInserted += sumResults(results);
+                commits.batchCompleted();
             }
 
-            conn.commit();
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
 
             long duration = System.currentTimeMillis() - startTime;
-            log.info("Batch insert completed: totalInserted={}, duration={}ms, tps={}",
-                    totalInserted, duration, calculateTps(totalInserted, duration));
+            log.info("Batch insert completed: totalInserted={}, duration={}ms, tps={}, commits={}",
+                    totalInserted, duration, calculateTps(totalInserted, duration), lastCommitCount);
 
             return totalInserted;
 
         } catch (SQLException e) {
-            throw new DataAccessException("Failed to insert batch: " + records.size() + " records", e) {};
+            throw new DataAccessException("Failed to insert batch: " + description, e) {};
         }
     }
 
-    private void setParameters(PreparedStatement ps, TestRecord record) throws SQLException {
-        ps.setString(1, record.getData1());
-        ps.setString(2, record.getData2());
-        ps.setBigDecimal(3, record.getAmount());
-        ps.setString(4, record.getStatus());
-        ps.setTimestamp(5, Timestamp.from(record.getCreatedAt()));
+    private void setParameters(PreparedStatement ps, TestRecord record, int firstIndex) throws SQLException {
+        ps.setString(firstIndex, record.getData1());
+        ps.setString(firstIndex + 1, record.getData2());
+        ps.setBigDecimal(firstIndex + 2, record.getAmount());
+        ps.setString(firstIndex + 3, record.getStatus());
+        ps.setTimestamp(firstIndex + 4, Timestamp.from(record.getCreatedAt()));
     }
 
     private int sumResults(int[] results) {
@@ -173,6 +267,17 @@ public class JdbcBatchInsertRepository implements BatchInsertRepository {
         return batchSize;
     }
 
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
     @Override
     public void truncateTable() {
         log.info("Truncating test_record table");
@@ -189,4 +294,29 @@ public class JdbcBatchInsertRepository implements BatchInsertRepository {
     public String getTypeName() {
         return TYPE_NAME;
     }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    /**
+     * 다음 행의 파라미터를 바인딩하는 소스.
+     */
+    @FunctionalInterface
+    private interface RowSource {
+
+        /**
+         * 다음 행을 바인딩합니다.
+         *
+         * @param ps 대상 문장
+         * @param firstIndex 첫 데이터 파라미터 인덱스
+         * @return 바인딩한 행이 있으면 true, 소스가 끝났으면 false
+         * @throws SQLException 바인딩 실패 시
+         */
+        boolean bindNext(PreparedStatement ps, int firstIndex) throws SQLException;
+    }
 }
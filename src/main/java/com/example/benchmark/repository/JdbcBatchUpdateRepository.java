@@ -0,0 +1,313 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JDBC를 사용한 배치 UPDATE 구현체.
+ *
+ * <p>ID 기준 갱신은 {@code UPDATE ... WHERE id = ?}를 행마다 addBatch하고 batchSize마다 executeBatch합니다.
+ * 상태 기준 갱신은 {@code WHERE status = ? AND ROWNUM <= ?} 조건으로 한 문장에 최대 batchSize 행만 바꾸고,
+ * 갱신된 행이 batchSize보다 적을 때까지 반복합니다. 바뀐 행은 더 이상 조건에 맞지 않으므로
+ * 매 문장이 상태 인덱스에서 남은 행만 찾습니다.</p>
+ *
+ * <p>{@link CommitPolicy}에서는 executeBatch 또는 청크 UPDATE 문 하나를 하나의 배치로 취급합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JdbcBatchUpdateRepository implements UpdateRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcBatchUpdateRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JDBC-Update";
+
+    private static final String UPDATE_BY_ID_SQL =
+            "UPDATE test_record SET data1 = ?, data2 = ?, amount = ?, status = ?, created_at = ? WHERE id = ?";
+
+    private static final String UPDATE_STATUS_CHUNK_SQL =
+            "UPDATE test_record SET status = ? WHERE status = ? AND ROWNUM <= ?";
+
+    private static final String SEED_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastStatementCount;
+    private volatile int lastCommitCount;
+
+    /**
+     * JdbcBatchUpdateRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    public JdbcBatchUpdateRepository(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public int updateBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to update");
+            return 0;
+        }
+
+        log.info("Starting JDBC batch update: records={}, batchSize={}", records.size(), batchSize);
+        long startTime = System.currentTimeMillis();
+
+        CommitPolicy policy = commitPolicy;
+        int totalUpdated = 0;
+        int statementCount = 0;
+        int pending = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(UPDATE_BY_ID_SQL)) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            try {
+                for (TestRecord record : records) {
+                    if (record.getId() == null) {
+                        throw new IllegalArgumentException("record id must not be null for update: " + record);
+                    }
+                    ps.setString(1, record.getData1());
+                    ps.setString(2, record.getData2());
+                    ps.setBigDecimal(3, record.getAmount());
+                    ps.setString(4, record.getStatus());
+                    ps.setTimestamp(5, Timestamp.from(record.getCreatedAt()));
+                    ps.setLong(6, record.getId());
+                    ps.addBatch();
+                    pending++;
+
+                    if (pending == batchSize) {
+                        totalUpdated += sumResults(ps.executeBatch());
+                        statementCount++;
+                        commits.batchCompleted();
+                        pending = 0;
+                        log.debug("Executed update batch: totalUpdated={}", totalUpdated);
+                    }
+                }
+
+                // 남은 레코드 처리
+                if (pending > 0) {
+                    totalUpdated += sumResults(ps.executeBatch());
+                    statementCount++;
+                    commits.batchCompleted();
+                }
+
+                commits.complete();
+            } catch (SQLException | RuntimeException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            lastStatementCount = statementCount;
+            lastCommitCount = commits.getCommitCount();
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("JDBC batch update completed: totalUpdated={}, duration={}ms, tps={}, commits={}",
+                    totalUpdated, duration, calculateTps(totalUpdated, duration), lastCommitCount);
+
+            return totalUpdated;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to update batch: " + records.size() + " records", e) {};
+        }
+    }
+
+    @Override
+    public int updateStatus(String fromStatus, String toStatus) {
+        if (fromStatus == null || toStatus == null) {
+            throw new IllegalArgumentException("fromStatus and toStatus must not be null");
+        }
+        if (fromStatus.equals(toStatus)) {
+            throw new IllegalArgumentException("toStatus must differ from fromStatus, but both were: " + fromStatus);
+        }
+
+        log.info("Starting JDBC chunked status update: {} -> {}, batchSize={}", fromStatus, toStatus, batchSize);
+        long startTime = System.currentTimeMillis();
+
+        CommitPolicy policy = commitPolicy;
+        int chunkSize = batchSize;
+        int totalUpdated = 0;
+        int statementCount = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(UPDATE_STATUS_CHUNK_SQL)) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            try {
+                ps.setString(1, toStatus);
+                ps.setString(2, fromStatus);
+                ps.setInt(3, chunkSize);
+
+                int updated;
+                do {
+                    updated = ps.executeUpdate();
+                    totalUpdated += updated;
+                    statementCount++;
+                    commits.batchCompleted();
+                    log.debug("Executed status update chunk: updated={}, totalUpdated={}", updated, totalUpdated);
+                } while (updated == chunkSize);
+
+                commits.complete();
+            } catch (SQLException | RuntimeException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            lastStatementCount = statementCount;
+            lastCommitCount = commits.getCommitCount();
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("JDBC chunked status update completed: totalUpdated={}, statements={}, duration={}ms, commits={}",
+                    totalUpdated, statementCount, duration, lastCommitCount);
+
+            return totalUpdated;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to update status from " + fromStatus + " to " + toStatus, e) {};
+        }
+    }
+
+    @Override
+    public int seed(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        return jdbcTemplate.execute((Connection conn) -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(SEED_SQL)) {
+                int seeded = 0;
+                for (TestRecord record : records) {
+                    if (record.getId() == null) {
+                        throw new IllegalArgumentException("record id must not be null for seed: " + record);
+                    }
+                    ps.setLong(1, record.getId());
+                    ps.setString(2, record.getData1());
+                    ps.setString(3, record.getData2());
+                    ps.setBigDecimal(4, record.getAmount());
+                    ps.setString(5, record.getStatus());
+                    ps.setTimestamp(6, Timestamp.from(record.getCreatedAt()));
+                    ps.addBatch();
+                    if (++seeded % batchSize == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+                conn.commit();
+                return seeded;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private int sumResults(int[] results) {
+        int sum = 0;
+        for (int result : results) {
+            if (result >= 0) {
+                sum += result;
+            } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                sum++;
+            }
+        }
+        return sum;
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Statements", String.valueOf(lastStatementCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
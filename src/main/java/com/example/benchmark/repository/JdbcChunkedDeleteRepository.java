@@ -0,0 +1,218 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JDBC를 사용한 청크 단위 범위 DELETE 구현체.
+ *
+ * <p>{@code DELETE ... WHERE created_at < ? AND ROWNUM <= ?} 조건으로 한 문장에 최대 batchSize 행만 지우고,
+ * 삭제된 행이 batchSize보다 적을 때까지 반복합니다. 지운 행은 다시 조건에 맞지 않으므로
+ * 매 문장이 생성 시각 인덱스에서 남은 범위만 찾습니다.</p>
+ *
+ * <p>{@link CommitPolicy}에서는 청크 DELETE 문 하나를 하나의 배치로 취급하므로,
+ * PER_BATCH/EVERY_N_BATCHES로 청크 단위 커밋을 측정할 수 있습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JdbcChunkedDeleteRepository implements DeleteRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcChunkedDeleteRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JDBC-Purge";
+
+    private static final String DELETE_CHUNK_SQL =
+            "DELETE FROM test_record WHERE created_at < ? AND ROWNUM <= ?";
+
+    private static final String SEED_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastStatementCount;
+    private volatile int lastCommitCount;
+
+    /**
+     * JdbcChunkedDeleteRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    public JdbcChunkedDeleteRepository(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public int deleteCreatedBefore(Instant cutoff) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("cutoff must not be null");
+        }
+
+        log.info("Starting JDBC chunked delete: createdBefore={}, batchSize={}", cutoff, batchSize);
+        long startTime = System.currentTimeMillis();
+
+        CommitPolicy policy = commitPolicy;
+        int chunkSize = batchSize;
+        int totalDeleted = 0;
+        int statementCount = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(DELETE_CHUNK_SQL)) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            try {
+                ps.setTimestamp(1, Timestamp.from(cutoff));
+                ps.setInt(2, chunkSize);
+
+                int deleted;
+                do {
+                    deleted = ps.executeUpdate();
+                    totalDeleted += deleted;
+                    statementCount++;
+                    commits.batchCompleted();
+                    log.debug("Executed delete chunk: deleted={}, totalDeleted={}", deleted, totalDeleted);
+                } while (deleted == chunkSize);
+
+                commits.complete();
+            } catch (SQLException | RuntimeException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            lastStatementCount = statementCount;
+            lastCommitCount = commits.getCommitCount();
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("JDBC chunked delete completed: totalDeleted={}, statements={}, duration={}ms, tps={}, commits={}",
+                    totalDeleted, statementCount, duration, calculateTps(totalDeleted, duration), lastCommitCount);
+
+            return totalDeleted;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to delete rows created before " + cutoff, e) {};
+        }
+    }
+
+    @Override
+    public int seed(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        return jdbcTemplate.execute((Connection conn) -> {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(SEED_SQL)) {
+                int seeded = 0;
+                for (TestRecord record : records) {
+                    if (record.getId() == null) {
+                        throw new IllegalArgumentException("record id must not be null for seed: " + record);
+                    }
+                    ps.setLong(1, record.getId());
+                    ps.setString(2, record.getData1());
+                    ps.setString(3, record.getData2());
+                    ps.setBigDecimal(4, record.getAmount());
+                    ps.setString(5, record.getStatus());
+                    ps.setTimestamp(6, Timestamp.from(record.getCreatedAt()));
+                    ps.addBatch();
+                    if (++seeded % batchSize == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+                conn.commit();
+                return seeded;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Statements", String.valueOf(lastStatementCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.util.CsvExportWriter;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * forward-only/read-only JDBC 커서로 조회하여 내보내는 구현체.
+ *
+ * <p>읽기 전용 커넥션에서 {@code TYPE_FORWARD_ONLY}, {@code CONCUR_READ_ONLY} 문장에 fetchSize를 지정하고,
+ * ResultSet 컬럼을 {@link CsvExportWriter}에 바로 씁니다. 행마다 도메인 객체를 만들지 않으므로
+ * 다른 구현체와의 차이는 매핑 계층의 비용입니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JdbcCursorExportRepository extends AbstractExportRepository {
+
+    private static final String TYPE_NAME = "JDBC-Cursor";
+
+    private final DataSource dataSource;
+
+    /**
+     * JdbcCursorExportRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     */
+    public JdbcCursorExportRepository(DataSource dataSource, BenchmarkProperties properties) {
+        super(dataSource, properties);
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    protected void exportRows(CsvExportWriter writer) throws SQLException, IOException {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setReadOnly(true);
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement ps = conn.prepareStatement(SELECT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(getFetchSize());
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        Timestamp createdAt = rs.getTimestamp(6);
+                        writer.writeRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getBigDecimal(4),
+                                rs.getString(5), createdAt != null ? createdAt.toInstant() : null);
+                    }
+                }
+            } finally {
+                conn.rollback();
+                conn.setReadOnly(false);
+            }
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JdbcTemplate을 사용한 인덱스 조회 구현체.
+ *
+ * <p>{@code idx_test_record_status}, {@code idx_test_record_created_at} 인덱스를 타는 조회를
+ * {@code ROWNUM <= ?}로 제한하여 실행합니다. 조회 한 건이 짧게 끝나므로 지연 시간은
+ * 동시에 실행되는 쓰기 부하(잠금, 인덱스 유지, 커넥션 풀 경합)의 영향을 그대로 반영합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JdbcLookupRepository implements LookupRepository {
+
+    private static final String TYPE_NAME = "JDBC-Lookup";
+
+    private static final String FIND_BY_STATUS_SQL =
+            "SELECT id, data1, data2, amount, status, created_at FROM test_record " +
+                    "WHERE status = ? AND ROWNUM <= ?";
+
+    private static final String FIND_CREATED_BETWEEN_SQL =
+            "SELECT id, data1, data2, amount, status, created_at FROM test_record " +
+                    "WHERE created_at >= ? AND created_at < ? AND ROWNUM <= ?";
+
+    private static final RowMapper<TestRecord> ROW_MAPPER = (rs, rowNum) -> TestRecord.builder()
+            .id(rs.getLong("id"))
+            .data1(rs.getString("data1"))
+            .data2(rs.getString("data2"))
+            .amount(rs.getBigDecimal("amount"))
+            .status(rs.getString("status"))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * JdbcLookupRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    public JdbcLookupRepository(DataSource dataSource) {
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<TestRecord> findByStatus(String status, int limit) {
+        if (status == null) {
+            throw new IllegalArgumentException("status must not be null");
+        }
+        validateLimit(limit);
+        return jdbcTemplate.query(FIND_BY_STATUS_SQL, ROW_MAPPER, status, limit);
+    }
+
+    @Override
+    public List<TestRecord> findCreatedBetween(Instant from, Instant to, int limit) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to must not be null");
+        }
+        validateLimit(limit);
+        return jdbcTemplate.query(FIND_CREATED_BETWEEN_SQL, ROW_MAPPER,
+                Timestamp.from(from), Timestamp.from(to), limit);
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1, but was: " + limit);
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
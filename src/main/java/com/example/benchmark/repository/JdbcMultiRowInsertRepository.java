@@ -0,0 +1,323 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 다중 행 INSERT 문을 사용한 JDBC 배치 삽입 구현체.
+ *
+ * <p>한 문장에 여러 행을 담아 문장 수 자체를 줄입니다.
+ * 데이터베이스별로 다음 문법을 사용합니다.</p>
+ * <ul>
+ *   <li>Oracle: {@code INSERT ALL INTO ... VALUES (...) INTO ... SELECT 1 FROM dual}</li>
+ *   <li>H2: {@code INSERT INTO ... VALUES (...), (...), ...}</li>
+ * </ul>
+ *
+ * <p>Oracle의 INSERT ALL은 한 문장 안에서 시퀀스 NEXTVAL을 한 번만 평가하므로
+ * 모든 행이 같은 ID를 받게 됩니다. 따라서 Oracle 경로는 항상 {@link IdBlockAllocator}에서
+ * 예약한 ID를 바인딩하며, H2 경로는 할당기가 활성화된 경우에만 ID를 바인딩합니다.</p>
+ *
+ * <p>행 수별 SQL은 한 번 생성한 뒤 캐시하며, 꽉 찬 문장은 addBatch로 묶어
+ * batchSize 행마다 executeBatch합니다. 마지막 남은 행은 별도 문장으로 실행합니다.</p>
+ *
+ * <p>{@link CommitPolicy}에서는 executeBatch 한 번과 마지막 잔여 문장을 각각 하나의 배치로 취급합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JdbcMultiRowInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcMultiRowInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+    private static final String TYPE_NAME = "JDBC-MultiRow";
+
+    private static final String COLUMNS = "test_record (id, data1, data2, amount, status, created_at)";
+    private static final String ROW_VALUES_CLIENT_ID = "(?, ?, ?, ?, ?, ?)";
+    private static final String ROW_VALUES_H2 = "(NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idAllocator;
+    private final ConcurrentMap<Integer, String> sqlCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, String> clientIdSqlCache = new ConcurrentHashMap<>();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int rowsPerStatement;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile int lastStatementCount;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
+
+    /**
+     * JdbcMultiRowInsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
+     */
+    public JdbcMultiRowInsertRepository(DataSource dataSource, BenchmarkProperties properties,
+                                        IdBlockAllocator idAllocator) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        setRowsPerStatement(properties.getMultiRowSize());
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            lastStatementCount = 0;
+            return 0;
+        }
+
+        int rowsPerStmt = rowsPerStatement;
+        int statementsPerBatch = Math.max(1, batchSize / rowsPerStmt);
+        log.info("Starting multi-row insert: records={}, rowsPerStatement={}, statementsPerBatch={}",
+                records.size(), rowsPerStmt, statementsPerBatch);
+        long startTime = System.currentTimeMillis();
+
+        boolean clientSideIds = !isH2Database || idAllocator.isEnabled();
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        int fullStatements = records.size() / rowsPerStmt;
+        int remainder = records.size() % rowsPerStmt;
+        CommitPolicy policy = commitPolicy;
+        int totalInserted = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(getSql(rowsPerStmt, clientSideIds))) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            try {
+                for (int stmt = 0; stmt < fullStatements; stmt++) {
+                    bindRows(ps, records, stmt * rowsPerStmt, rowsPerStmt, clientSideIds);
+                    ps.addBatch();
+
+                    if ((stmt + 1) % statementsPerBatch == 0) {
+                        totalInserted += sumResults(ps.executeBatch(), rowsPerStmt);
+                        commits.batchCompleted();
+                        log.debug("Executed batch: statements={}, totalInserted={}", stmt + 1, totalInserted);
+                    }
+                }
+
+                if (fullStatements % statementsPerBatch != 0) {
+                    totalInserted += sumResults(ps.executeBatch(), rowsPerStmt);
+                    commits.batchCompleted();
+                }
+
+                // 남은 레코드 처리
+                if (remainder > 0) {
+                    try (PreparedStatement tailPs = conn.prepareStatement(getSql(remainder, clientSideIds))) {
+                        bindRows(tailPs, records, fullStatements * rowsPerStmt, remainder, clientSideIds);
+                        totalInserted += tailPs.executeUpdate();
+                        commits.batchCompleted();
+                    }
+                }
+
+                commits.complete();
+            } catch (SQLException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            lastCommitCount = commits.getCommitCount();
+            lastStatementCount = fullStatements + (remainder > 0 ? 1 : 0);
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Multi-row insert completed: totalInserted={}, statements={}, duration={}ms, tps={}",
+                    totalInserted, lastStatementCount, duration, calculateTps(totalInserted, duration));
+
+            return totalInserted;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to insert multi-row batch: " + records.size() + " records", e) {};
+        }
+    }
+
+    private String getSql(int rowCount, boolean clientSideIds) {
+        if (clientSideIds) {
+            return clientIdSqlCache.computeIfAbsent(rowCount, count -> buildSql(count, true));
+        }
+        return sqlCache.computeIfAbsent(rowCount, count -> buildSql(count, false));
+    }
+
+    private String buildSql(int rowCount, boolean clientSideIds) {
+        StringBuilder sql = new StringBuilder();
+        if (isH2Database) {
+            String rowValues = clientSideIds ? ROW_VALUES_CLIENT_ID : ROW_VALUES_H2;
+            sql.append("INSERT INTO ").append(COLUMNS).append(" VALUES ");
+            for (int i = 0; i < rowCount; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(rowValues);
+            }
+        } else {
+            sql.append("INSERT ALL");
+            for (int i = 0; i < rowCount; i++) {
+                sql.append(" INTO ").append(COLUMNS).append(" VALUES ").append(ROW_VALUES_CLIENT_ID);
+            }
+            sql.append(" SELECT 1 FROM dual");
+        }
+        log.debug("Built multi-row insert SQL for {} rows", rowCount);
+        return sql.toString();
+    }
+
+    private void bindRows(PreparedStatement ps, List<TestRecord> records, int offset, int rowCount,
+                          boolean clientSideIds) throws SQLException {
+        long[] ids = clientSideIds ? idAllocator.allocate(rowCount) : null;
+        int index = 1;
+        for (int i = 0; i < rowCount; i++) {
+            TestRecord record = records.get(offset + i);
+            if (ids != null) {
+                ps.setLong(index++, ids[i]);
+            }
+            ps.setString(index++, record.getData1());
+            ps.setString(index++, record.getData2());
+            ps.setBigDecimal(index++, record.getAmount());
+            ps.setString(index++, record.getStatus());
+            ps.setTimestamp(index++, Timestamp.from(record.getCreatedAt()));
+        }
+    }
+
+    private int sumResults(int[] results, int rowsPerStmt) {
+        int sum = 0;
+        for (int result : results) {
+            if (result >= 0) {
+                sum += result;
+            } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                sum += rowsPerStmt;
+            }
+        }
+        return sum;
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    /**
+     * 한 INSERT 문에 담을 행 수를 설정합니다.
+     *
+     * @param rowsPerStatement 문장당 행 수 (1 이상 1000 이하)
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     */
+    public void setRowsPerStatement(int rowsPerStatement) {
+        if (rowsPerStatement < 1 || rowsPerStatement > MAX_ROWS_PER_STATEMENT) {
+            throw new IllegalArgumentException("rowsPerStatement must be between 1 and "
+                    + MAX_ROWS_PER_STATEMENT + ", but was: " + rowsPerStatement);
+        }
+        this.rowsPerStatement = rowsPerStatement;
+        log.debug("Rows per statement set to: {}", rowsPerStatement);
+    }
+
+    /**
+     * 현재 설정된 문장당 행 수를 반환합니다.
+     *
+     * @return 문장당 행 수
+     */
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Rows/Statement", String.valueOf(rowsPerStatement));
+        metrics.put("Statements", String.valueOf(lastStatementCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -1,19 +1,21 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -22,6 +24,11 @@ import java.util.Objects;
  * <p>각 레코드를 개별 INSERT 문으로 처리합니다.
  * 배치 삽입과의 성능 비교를 위해 사용됩니다.</p>
  *
+ * <p>{@link IdBlockAllocator}가 활성화된 경우 NEXTVAL 대신 예약된 ID를 바인딩합니다.</p>
+ *
+ * <p>{@link CommitPolicy}에서 한 행을 하나의 배치로 취급하므로 PER_BATCH는 행마다 커밋합니다.
+ * 커넥션과 커밋을 직접 관리하므로 호출 한 번이 풀에서 커넥션 하나만 사용합니다.</p>
+ *
  * @author Developer Agent
  * @since 1.0
  */
@@ -40,20 +47,30 @@ public class JdbcSingleInsertRepository implements SingleInsertRepository {
             "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
                     "VALUES (NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
 
+    private static final String INSERT_SQL_CLIENT_ID =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
     private static final String TRUNCATE_SQL = "DELETE FROM test_record";
     private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
 
     private final DataSource dataSource;
     private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idAllocator;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
     private boolean isH2Database;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
 
     /**
      * JdbcSingleInsertRepository 생성자.
      *
      * @param dataSource 데이터소스 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
      */
-    public JdbcSingleInsertRepository(DataSource dataSource) {
+    public JdbcSingleInsertRepository(DataSource dataSource, IdBlockAllocator idAllocator) {
         this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
         this.jdbcTemplate = new JdbcTemplate(dataSource);
         detectDatabaseType();
     }
@@ -70,7 +87,6 @@ public class JdbcSingleInsertRepository implements SingleInsertRepository {
     }
 
     @Override
-    @Transactional
     public int insertSingle(List<TestRecord> records) {
         if (records == null) {
             throw new IllegalArgumentException("records must not be null");
@@ -81,33 +97,44 @@ public class JdbcSingleInsertRepository implements SingleInsertRepository {
             return 0;
         }
 
-        log.info("Starting single insert: records={}", records.size());
+        log.debug("Starting single insert: records={}", records.size());
         long startTime = System.currentTimeMillis();
 
-        String sql = isH2Database ? INSERT_SQL_H2 : INSERT_SQL;
+        boolean clientSideIds = idAllocator.isEnabled();
+        String sql = clientSideIds ? INSERT_SQL_CLIENT_ID : (isH2Database ? INSERT_SQL_H2 : INSERT_SQL);
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
         int totalInserted = 0;
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            conn.setAutoCommit(false);
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
 
             for (int i = 0; i < records.size(); i++) {
                 TestRecord record = records.get(i);
-                setParameters(ps, record);
+                int index = 1;
+                if (clientSideIds) {
+                    ps.setLong(index++, idAllocator.nextId());
+                }
+                setParameters(ps, record, index);
                 int result = ps.executeUpdate();
                 totalInserted += result;
+                commits.batchCompleted();
 
                 if ((i + 1) % 1000 == 0) {
                     log.debug("Single insert progress: processed={}, totalInserted={}", i + 1, totalInserted);
                 }
             }
 
-            conn.commit();
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
 
             long duration = System.currentTimeMillis() - startTime;
-            log.info("Single insert completed: totalInserted={}, duration={}ms, tps={}",
-                    totalInserted, duration, calculateTps(totalInserted, duration));
+            log.debug("Single insert completed: totalInserted={}, duration={}ms, tps={}, commits={}",
+                    totalInserted, duration, calculateTps(totalInserted, duration), lastCommitCount);
 
             return totalInserted;
 
@@ -116,12 +143,12 @@ public class JdbcSingleInsertRepository implements SingleInsertRepository {
         }
     }
 
-    private void setParameters(PreparedStatement ps, TestRecord record) throws SQLException {
-        ps.setString(1, record.getData1());
-        ps.setString(2, record.getData2());
-        ps.setBigDecimal(3, record.getAmount());
-        ps.setString(4, record.getStatus());
-        ps.setTimestamp(5, Timestamp.from(record.getCreatedAt()));
+    private void setParameters(PreparedStatement ps, TestRecord record, int firstIndex) throws SQLException {
+        ps.setString(firstIndex, record.getData1());
+        ps.setString(firstIndex + 1, record.getData2());
+        ps.setBigDecimal(firstIndex + 2, record.getAmount());
+        ps.setString(firstIndex + 3, record.getStatus());
+        ps.setTimestamp(firstIndex + 4, Timestamp.from(record.getCreatedAt()));
     }
 
     private double calculateTps(int count, long durationMs) {
@@ -131,6 +158,17 @@ public class JdbcSingleInsertRepository implements SingleInsertRepository {
         return (count * 1000.0) / durationMs;
     }
 
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
     @Override
     public void truncateTable() {
         log.info("Truncating test_record table");
@@ -147,4 +185,12 @@ public class JdbcSingleInsertRepository implements SingleInsertRepository {
     public String getTypeName() {
         return TYPE_NAME;
     }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
 }
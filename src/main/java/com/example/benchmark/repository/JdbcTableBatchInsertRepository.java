@@ -0,0 +1,314 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.config.TableDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link TableDefinition}으로 선언한 임의 테이블에 대한 JDBC 배치 삽입 구현체.
+ *
+ * <p>{@link JdbcBatchInsertRepository}와 같은 방식(PreparedStatement addBatch/executeBatch,
+ * batchSize마다 실행, {@link CommitPolicy}에 따른 커밋)으로 삽입하되, INSERT 문과 바인딩을 정의에서 만듭니다.
+ * 행은 펼쳐진 컬럼 순서의 {@code Object[]}이며 {@link TableRowBinder}가 컬럼 타입별로 바인딩합니다.</p>
+ *
+ * <p>{@link #createTable()}은 같은 이름의 테이블이 있으면 삭제한 뒤 정의대로 다시 만들고,
+ * {@link #dropTable()}은 테이블을 삭제합니다. 벤치마크 전용 스키마에서만 사용해야 합니다.</p>
+ *
+ * <p>{@link com.example.benchmark.config.TableRepositoryConfiguration}이 선언된 테이블마다 하나씩 Bean으로 등록합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class JdbcTableBatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcTableBatchInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JDBC-Batch";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TableDefinition definition;
+    private final TableRowBinder binder;
+    private final String insertSql;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastCommitCount;
+
+    /**
+     * JdbcTableBatchInsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param definition 테이블 정의 (null 불가)
+     * @throws IllegalArgumentException 정의가 유효하지 않은 경우
+     */
+    public JdbcTableBatchInsertRepository(DataSource dataSource, TableDefinition definition) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.definition = Objects.requireNonNull(definition, "definition must not be null").validate();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.binder = new TableRowBinder(definition.expandColumns());
+        this.insertSql = insertSql(definition);
+    }
+
+    /**
+     * 정의의 CREATE TABLE 문을 생성합니다.
+     *
+     * @param definition 유효한 테이블 정의
+     * @return CREATE TABLE 문
+     */
+    public static String createTableSql(TableDefinition definition) {
+        List<String> parts = new ArrayList<>();
+        for (TableDefinition.Column column : definition.expandColumns()) {
+            parts.add(column.getName() + " " + column.toSqlType()
+                    + (column.isNullable() && !definition.isPrimaryKey(column.getName()) ? "" : " NOT NULL"));
+        }
+        if (!definition.getPrimaryKey().isEmpty()) {
+            parts.add("PRIMARY KEY (" + String.join(", ", definition.getPrimaryKey()) + ")");
+        }
+        return "CREATE TABLE " + definition.getName() + " (" + String.join(", ", parts) + ")";
+    }
+
+    /**
+     * 정의의 CREATE INDEX 문 목록을 생성합니다.
+     *
+     * @param definition 유효한 테이블 정의
+     * @return 인덱스마다 하나의 CREATE [UNIQUE] INDEX 문
+     */
+    public static List<String> createIndexSql(TableDefinition definition) {
+        List<String> statements = new ArrayList<>();
+        for (TableDefinition.Index index : definition.getIndexes()) {
+            statements.add("CREATE " + (index.isUnique() ? "UNIQUE " : "") + "INDEX " + index.getName()
+                    + " ON " + definition.getName() + " (" + String.join(", ", index.getColumns()) + ")");
+        }
+        return Collections.unmodifiableList(statements);
+    }
+
+    /**
+     * 정의의 INSERT 문을 생성합니다. 파라미터 순서는 펼쳐진 컬럼 순서입니다.
+     *
+     * @param definition 유효한 테이블 정의
+     * @return INSERT 문
+     */
+    public static String insertSql(TableDefinition definition) {
+        List<String> names = new ArrayList<>();
+        List<String> markers = new ArrayList<>();
+        for (TableDefinition.Column column : definition.expandColumns()) {
+            names.add(column.getName());
+            markers.add("?");
+        }
+        return "INSERT INTO " + definition.getName() + " (" + String.join(", ", names) + ") "
+                + "VALUES (" + String.join(", ", markers) + ")";
+    }
+
+    /**
+     * 같은 이름의 테이블이 있으면 삭제하고, 정의대로 테이블과 인덱스를 생성합니다.
+     *
+     * @throws DataAccessException DDL 실행 오류 시
+     */
+    public void createTable() {
+        dropTable();
+        String ddl = createTableSql(definition);
+        log.info("Creating table: {}", ddl);
+        jdbcTemplate.execute(ddl);
+        for (String indexDdl : createIndexSql(definition)) {
+            log.debug("Creating index: {}", indexDdl);
+            jdbcTemplate.execute(indexDdl);
+        }
+    }
+
+    /**
+     * 테이블을 삭제합니다. 테이블이 없으면 무시합니다.
+     */
+    public void dropTable() {
+        try {
+            jdbcTemplate.execute("DROP TABLE " + definition.getName());
+            log.info("Dropped table {}", definition.getName());
+        } catch (DataAccessException e) {
+            log.debug("Table {} was not dropped: {}", definition.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 행 리스트를 커밋 정책에 따라 배치 삽입합니다.
+     *
+     * @param rows 삽입할 행 리스트 (null 불가)
+     * @return 삽입된 행 수
+     * @throws DataAccessException SQL 실행 오류 시
+     */
+    public int insertBatch(List<Object[]> rows) {
+        if (rows == null) {
+            throw new IllegalArgumentException("rows must not be null");
+        }
+
+        if (rows.isEmpty()) {
+            log.debug("Empty row list, nothing to insert");
+            return 0;
+        }
+
+        log.info("Starting batch insert into {}: rows={}, batchSize={}",
+                definition.getName(), rows.size(), batchSize);
+        return insertStream(rows.iterator());
+    }
+
+    /**
+     * 행 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * @param rows 삽입할 행 소스 (null 불가)
+     * @return 삽입된 행 수
+     * @throws DataAccessException SQL 실행 오류 시
+     */
+    public int insertStream(Iterator<Object[]> rows) {
+        if (rows == null) {
+            throw new IllegalArgumentException("rows must not be null");
+        }
+
+        long startTime = System.currentTimeMillis();
+        CommitPolicy policy = commitPolicy;
+        int processed = 0;
+        int totalInserted = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(insertSql)) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            while (rows.hasNext()) {
+                binder.bind(ps, rows.next(), 1);
+                ps.addBatch();
+                processed++;
+
+                if (processed % batchSize == 0) {
+                    totalInserted += sumResults(ps.executeBatch());
+                    commits.batchCompleted();
+                    log.debug("Executed batch: processed={}, totalInserted={}", processed, totalInserted);
+                }
+            }
+
+            // 남은 행 처리
+            if (processed % batchSize != 0) {
+                totalInserted += sumResults(ps.executeBatch());
+                commits.batchCompleted();
+            }
+
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Batch insert into {} completed: totalInserted={}, duration={}ms, commits={}",
+                    definition.getName(), totalInserted, duration, lastCommitCount);
+
+            return totalInserted;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to insert batch into " + definition.getName(), e) {};
+        }
+    }
+
+    private int sumResults(int[] results) {
+        int sum = 0;
+        for (int result : results) {
+            if (result >= 0) {
+                sum += result;
+            } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                sum += 1;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 배치 크기를 설정합니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     * @throws IllegalArgumentException batchSize가 1 미만인 경우
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     */
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    /**
+     * 테이블의 모든 데이터를 삭제합니다.
+     */
+    public void truncateTable() {
+        log.info("Truncating {} table", definition.getName());
+        jdbcTemplate.update("DELETE FROM " + definition.getName());
+    }
+
+    /**
+     * 테이블의 행 수를 반환합니다.
+     *
+     * @return 행 수
+     */
+    public long count() {
+        Long result = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + definition.getName(), Long.class);
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * 테이블 정의를 반환합니다.
+     *
+     * @return 테이블 정의
+     */
+    public TableDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * 결과에 표시할 구현체 타입명을 반환합니다.
+     *
+     * @return 예: {@code JDBC-Batch (orders)}
+     */
+    public String getTypeName() {
+        return TYPE_NAME + " (" + definition.getName() + ")";
+    }
+
+    /**
+     * 마지막 실행의 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵
+     */
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.put("Columns", String.valueOf(binder.getColumnCount()));
+        return metrics;
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Loader;
+import org.jooq.LoaderError;
+import org.jooq.LoaderOptionsStep;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.RenderQuotedNames;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * jOOQ Loader API를 사용한 배치 삽입 구현체.
+ *
+ * <p>{@code DSLContext.loadInto(test_record)}에 레코드를 Object[] 행으로 지연 변환하여 전달하고,
+ * Loader의 bulk/batch/commit 옵션을 다음과 같이 벤치마크 설정에 대응시킵니다.</p>
+ * <ul>
+ *   <li>bulkAfter: {@link BenchmarkProperties#getJooqBulkSize()} (1이면 bulkNone)</li>
+ *   <li>batchAfter: batchSize / bulk 크기 (최소 1), 즉 executeBatch 한 번에 약 batchSize 행</li>
+ *   <li>commit: {@link CommitPolicy} - AUTO_COMMIT은 commitNone + 드라이버 autocommit,
+ *       PER_BATCH는 commitEach, EVERY_N_BATCHES는 commitAfter(N), SINGLE_TRANSACTION은 commitAll</li>
+ * </ul>
+ *
+ * <p>H2는 {@link SQLDialect#H2}를 사용합니다. 오픈소스 jOOQ에는 Oracle 방언이 없으므로 Oracle은
+ * {@link SQLDialect#DEFAULT}로 렌더링하며, 표준 다중 VALUES 구문을 쓸 수 없어 bulk 크기는 항상 1입니다.
+ * Loader는 값만 바인딩하여 시퀀스 식을 쓸 수 없으므로 ID는 항상 {@link IdBlockAllocator}에서 할당합니다.</p>
+ *
+ * <p>Loader는 실패를 예외 대신 오류 목록으로 보고하므로(onErrorAbort), 오류가 있으면
+ * 마지막 커밋 이후의 작업을 롤백하고 DataAccessException을 던집니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JooqLoaderInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JooqLoaderInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "jOOQ-Loader";
+
+    private static final Table<Record> TEST_RECORD = DSL.table(DSL.name("test_record"));
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), SQLDataType.BIGINT);
+    private static final Field<String> DATA1 = DSL.field(DSL.name("data1"), SQLDataType.VARCHAR(100));
+    private static final Field<String> DATA2 = DSL.field(DSL.name("data2"), SQLDataType.VARCHAR(200));
+    private static final Field<BigDecimal> AMOUNT = DSL.field(DSL.name("amount"), SQLDataType.NUMERIC(18, 2));
+    private static final Field<String> STATUS = DSL.field(DSL.name("status"), SQLDataType.VARCHAR(20));
+    private static final Field<Timestamp> CREATED_AT = DSL.field(DSL.name("created_at"), SQLDataType.TIMESTAMP);
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idAllocator;
+    private final Settings settings = new Settings()
+            .withRenderQuotedNames(RenderQuotedNames.NEVER)
+            .withExecuteLogging(false);
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int bulkSize;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile int lastExecutedCount;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
+
+    /**
+     * JooqLoaderInsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
+     */
+    public JooqLoaderInsertRepository(DataSource dataSource, BenchmarkProperties properties,
+                                      IdBlockAllocator idAllocator) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        setBulkSize(properties.getJooqBulkSize());
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            return 0;
+        }
+
+        log.info("Starting jOOQ Loader insert: records={}, batchSize={}", records.size(), batchSize);
+        return insertRecords(records.iterator());
+    }
+
+    /**
+     * 레코드 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * <p>Loader가 행을 하나씩 당겨 가므로 한 batch 분량의 바인딩 값만 메모리에 유지됩니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting jOOQ Loader streaming insert: batchSize={}", batchSize);
+        return insertRecords(records);
+    }
+
+    private int insertRecords(Iterator<TestRecord> records) {
+        long startTime = System.currentTimeMillis();
+
+        int bulk = isH2Database ? bulkSize : 1;
+        int batchAfter = Math.max(1, batchSize / bulk);
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
+        AtomicInteger commitCount = new AtomicInteger();
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(policy.isAutoCommit());
+            DSLContext dsl = DSL.using(countingCommits(conn, commitCount),
+                    isH2Database ? SQLDialect.H2 : SQLDialect.DEFAULT, settings);
+
+            LoaderOptionsStep<Record> options = dsl.loadInto(TEST_RECORD).onErrorAbort();
+            options = bulk > 1 ? options.bulkAfter(bulk) : options.bulkNone();
+            options = applyCommitPolicy(options.batchAfter(batchAfter), policy);
+
+            Loader<Record> loader;
+            try {
+                loader = options.loadArrays(toRows(records))
+                        .fields(ID, DATA1, DATA2, AMOUNT, STATUS, CREATED_AT)
+                        .execute();
+            } catch (IOException e) {
+                throw new IllegalStateException("jOOQ Loader failed to read rows", e);
+            }
+
+            if (!loader.errors().isEmpty()) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                LoaderError error = loader.errors().get(0);
+                throw new DataAccessException("jOOQ Loader aborted at row " + error.rowIndex()
+                        + ": " + Arrays.toString(error.row()), error.exception()) {};
+            }
+
+            lastExecutedCount = loader.executed();
+            lastCommitCount = commitCount.get();
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+
+            int totalInserted = loader.stored();
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("jOOQ Loader insert completed: totalInserted={}, executed={}, duration={}ms, tps={}, commits={}",
+                    totalInserted, lastExecutedCount, duration, calculateTps(totalInserted, duration),
+                    lastCommitCount);
+
+            return totalInserted;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to load records with jOOQ Loader", e) {};
+        }
+    }
+
+    private LoaderOptionsStep<Record> applyCommitPolicy(LoaderOptionsStep<Record> options, CommitPolicy policy) {
+        switch (policy.getMode()) {
+            case AUTO_COMMIT:
+                return options.commitNone();
+            case PER_BATCH:
+                return options.commitEach();
+            case EVERY_N_BATCHES:
+                return options.commitAfter(policy.getBatchesPerCommit());
+            default:
+                return options.commitAll();
+        }
+    }
+
+    private Iterator<Object[]> toRows(Iterator<TestRecord> records) {
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                TestRecord record = records.next();
+                return new Object[] {
+                        idAllocator.nextId(),
+                        record.getData1(),
+                        record.getData2(),
+                        record.getAmount(),
+                        record.getStatus(),
+                        Timestamp.from(record.getCreatedAt())
+                };
+            }
+        };
+    }
+
+    /**
+     * Loader가 수행한 실제 커밋 횟수를 세기 위해 commit 호출을 가로채는 커넥션 프록시를 만듭니다.
+     */
+    private static Connection countingCommits(Connection conn, AtomicInteger commitCount) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    if ("commit".equals(method.getName())) {
+                        commitCount.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(conn, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    /**
+     * Loader의 bulkAfter 값(한 INSERT 문에 담을 행 수)을 설정합니다.
+     *
+     * <p>Oracle에서는 설정값과 무관하게 1로 실행합니다.</p>
+     *
+     * @param bulkSize 문장당 행 수 (1 이상)
+     * @throws IllegalArgumentException bulkSize가 1 미만인 경우
+     */
+    public void setBulkSize(int bulkSize) {
+        if (bulkSize < 1) {
+            throw new IllegalArgumentException("bulkSize must be at least 1, but was: " + bulkSize);
+        }
+        this.bulkSize = bulkSize;
+        log.debug("Bulk size set to: {}", bulkSize);
+    }
+
+    /**
+     * 현재 설정된 bulkAfter 값을 반환합니다.
+     *
+     * @return 문장당 행 수
+     */
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Bulk Size", String.valueOf(isH2Database ? bulkSize : 1));
+        metrics.put("Executions", String.valueOf(lastExecutedCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
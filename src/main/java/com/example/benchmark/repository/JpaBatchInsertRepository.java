@@ -0,0 +1,237 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.domain.TestRecordEntity;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.PersistenceException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JPA(Hibernate)를 사용한 배치 삽입 구현체.
+ *
+ * <p>{@link TestRecordEntity}를 persist하고 batchSize건마다 flush/clear하여
+ * 1차 캐시가 커지지 않도록 합니다. Hibernate 세션의 JDBC 배치 크기를 batchSize로 맞추고
+ * {@code hibernate.order_inserts}를 켜 두므로 flush 한 번이 executeBatch 한 번으로 실행됩니다.</p>
+ *
+ * <p>특징:</p>
+ * <ul>
+ *   <li>pooled 시퀀스 생성기 사용 (시퀀스 호출은 {@link TestRecordEntity#ID_ALLOCATION_SIZE}건마다 한 번)</li>
+ *   <li>Spring 트랜잭션과 분리된 resource-local EntityManager/EntityTransaction 사용</li>
+ *   <li>커밋 정책 지원 ({@link CommitPolicy}, 기본값: 단일 트랜잭션)</li>
+ * </ul>
+ *
+ * <p>JPA는 트랜잭션 밖의 쓰기를 지원하지 않으므로 AUTO_COMMIT 정책은 flush마다 커밋(PER_BATCH)으로 처리합니다.
+ * ID는 엔티티의 시퀀스 생성기가 할당하므로 {@link IdBlockAllocator} 설정은 적용되지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class JpaBatchInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaBatchInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JPA-Batch";
+
+    private static final String DELETE_JPQL = "DELETE FROM TestRecordEntity";
+    private static final String COUNT_JPQL = "SELECT COUNT(e) FROM TestRecordEntity e";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastFlushCount;
+    private volatile int lastCommitCount;
+
+    /**
+     * JpaBatchInsertRepository 생성자.
+     *
+     * @param entityManagerFactory EntityManagerFactory (null 불가)
+     */
+    public JpaBatchInsertRepository(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory,
+                "entityManagerFactory must not be null");
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            return 0;
+        }
+
+        log.info("Starting JPA batch insert: records={}, batchSize={}", records.size(), batchSize);
+        return insertRecords(records.iterator());
+    }
+
+    /**
+     * 레코드 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * <p>batchSize건마다 flush/clear하므로 한 배치 분량의 엔티티만 영속성 컨텍스트에 유지됩니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting JPA streaming batch insert: batchSize={}", batchSize);
+        return insertRecords(records);
+    }
+
+    private int insertRecords(Iterator<TestRecord> records) {
+        long startTime = System.currentTimeMillis();
+
+        int size = batchSize;
+        CommitPolicy policy = commitPolicy.isAutoCommit() ? CommitPolicy.perBatch() : commitPolicy;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        int flushCount = 0;
+        int totalInserted = 0;
+
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(size);
+            CommitPolicy.Tracker commits = policy.tracker(transaction::commit);
+
+            while (records.hasNext()) {
+                if (!transaction.isActive()) {
+                    transaction.begin();
+                }
+                entityManager.persist(TestRecordEntity.from(records.next()));
+                totalInserted++;
+
+                if (totalInserted % size == 0) {
+                    flushAndClear(entityManager);
+                    flushCount++;
+                    commits.batchCompleted();
+                    log.debug("Flushed batch: totalInserted={}", totalInserted);
+                }
+            }
+
+            // 남은 레코드 처리
+            if (totalInserted % size != 0) {
+                flushAndClear(entityManager);
+                flushCount++;
+                commits.batchCompleted();
+            }
+
+            commits.complete();
+            lastFlushCount = flushCount;
+            lastCommitCount = commits.getCommitCount();
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to commit JPA batch", e) {};
+        } catch (PersistenceException e) {
+            throw EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+        } finally {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            entityManager.close();
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("JPA batch insert completed: totalInserted={}, flushes={}, duration={}ms, tps={}, commits={}",
+                totalInserted, flushCount, duration, calculateTps(totalInserted, duration), lastCommitCount);
+
+        return totalInserted;
+    }
+
+    private void flushAndClear(EntityManager entityManager) {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Flushes", String.valueOf(lastFlushCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.put("ID Allocation Size", String.valueOf(TestRecordEntity.ID_ALLOCATION_SIZE));
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table via JPA");
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createQuery(DELETE_JPQL).executeUpdate();
+            entityManager.getTransaction().commit();
+        } finally {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            entityManager.close();
+        }
+    }
+
+    @Override
+    public long count() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(COUNT_JPQL, Long.class).getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
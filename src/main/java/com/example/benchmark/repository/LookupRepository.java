@@ -0,0 +1,51 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 인덱스 조회 Repository 인터페이스.
+ *
+ * <p>OLTP 조회를 흉내 내는 짧은 조회를 제공합니다. 대량 적재와 동시에 실행하여
+ * 적재가 조회 지연에 주는 영향을 측정하는 데 사용합니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link JdbcLookupRepository} - JdbcTemplate 기반 상태/생성 시각 인덱스 조회</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface LookupRepository {
+
+    /**
+     * 상태가 일치하는 레코드를 최대 limit 건 조회합니다.
+     *
+     * @param status 상태 (null 불가)
+     * @param limit 최대 조회 건수 (1 이상)
+     * @return 조회된 레코드 목록
+     * @throws IllegalArgumentException status가 null이거나 limit이 1 미만인 경우
+     */
+    List<TestRecord> findByStatus(String status, int limit);
+
+    /**
+     * 생성 시각이 [from, to) 구간인 레코드를 최대 limit 건 조회합니다.
+     *
+     * @param from 구간 시작 (포함, null 불가)
+     * @param to 구간 끝 (제외, null 불가)
+     * @param limit 최대 조회 건수 (1 이상)
+     * @return 조회된 레코드 목록
+     * @throws IllegalArgumentException from 또는 to가 null이거나 limit이 1 미만인 경우
+     */
+    List<TestRecord> findCreatedBetween(Instant from, Instant to, int limit);
+
+    /**
+     * Repository 타입명을 반환합니다.
+     *
+     * @return 구현체 타입명 (예: "JDBC-Lookup")
+     */
+    String getTypeName();
+}
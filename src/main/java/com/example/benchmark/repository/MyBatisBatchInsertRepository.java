@@ -1,5 +1,6 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.mapper.TestRecordMapper;
 import org.apache.ibatis.session.ExecutorType;
@@ -7,9 +8,14 @@ import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
 
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -22,7 +28,9 @@ import java.util.Objects;
  * <ul>
  *   <li>배치 크기 설정 가능 (기본값: 1000)</li>
  *   <li>flushStatements를 통한 배치 실행</li>
- *   <li>트랜잭션 지원</li>
+ *   <li>커밋 정책 지원 ({@link CommitPolicy}, 기본값: 단일 트랜잭션, {@link MyBatisCommitSessions}로 커넥션 직접 제어)</li>
+ *   <li>클라이언트 측 ID 블록 할당 지원 ({@link IdBlockAllocator})</li>
+ *   <li>Iterator 소스 스트리밍 삽입 지원 (한 배치 분량만 메모리에 유지)</li>
  * </ul>
  *
  * @author Developer Agent
@@ -38,17 +46,24 @@ public class MyBatisBatchInsertRepository implements BatchInsertRepository {
 
     private final SqlSessionFactory sqlSessionFactory;
     private final TestRecordMapper mapper;
+    private final IdBlockAllocator idAllocator;
     private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
 
     /**
      * MyBatisBatchInsertRepository 생성자.
      *
      * @param sqlSessionFactory SqlSessionFactory (null 불가)
      * @param mapper TestRecordMapper (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
      */
-    public MyBatisBatchInsertRepository(SqlSessionFactory sqlSessionFactory, TestRecordMapper mapper) {
+    public MyBatisBatchInsertRepository(SqlSessionFactory sqlSessionFactory, TestRecordMapper mapper,
+                                        IdBlockAllocator idAllocator) {
         this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
         this.mapper = Objects.requireNonNull(mapper, "mapper must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
     }
 
     @Override
@@ -63,36 +78,73 @@ public class MyBatisBatchInsertRepository implements BatchInsertRepository {
         }
 
         log.info("Starting MyBatis batch insert: records={}, batchSize={}", records.size(), batchSize);
+        return insertRecords(records.iterator());
+    }
+
+    /**
+     * 레코드 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * <p>batchSize마다 flushStatements를 호출하여 BATCH Executor에
+     * 쌓인 파라미터 객체를 해제하므로 한 배치 분량만 메모리에 유지됩니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting MyBatis streaming batch insert: batchSize={}", batchSize);
+        return insertRecords(records);
+    }
+
+    private int insertRecords(Iterator<TestRecord> records) {
         long startTime = System.currentTimeMillis();
 
+        boolean clientSideIds = idAllocator.isEnabled();
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
         int totalInserted = 0;
 
-        try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+        try (SqlSession batchSession = MyBatisCommitSessions.open(sqlSessionFactory, ExecutorType.BATCH, policy)) {
             TestRecordMapper batchMapper = batchSession.getMapper(TestRecordMapper.class);
-
-            for (int i = 0; i < records.size(); i++) {
-                TestRecord record = records.get(i);
-                batchMapper.insert(record);
+            CommitPolicy.Tracker commits = policy.tracker(() -> batchSession.commit(true));
+
+            while (records.hasNext()) {
+                TestRecord record = records.next();
+                if (clientSideIds) {
+                    batchMapper.insertWithId(record.withId(idAllocator.nextId()));
+                } else {
+                    batchMapper.insert(record);
+                }
                 totalInserted++;
 
-                if ((i + 1) % batchSize == 0) {
+                if (totalInserted % batchSize == 0) {
                     batchSession.flushStatements();
-                    log.debug("Flushed batch: processed={}, totalInserted={}", i + 1, totalInserted);
+                    commits.batchCompleted();
+                    log.debug("Flushed batch: processed={}, totalInserted={}", totalInserted, totalInserted);
                 }
             }
 
             // 남은 레코드 처리
-            if (records.size() % batchSize != 0) {
+            if (totalInserted % batchSize != 0) {
                 batchSession.flushStatements();
+                commits.batchCompleted();
             }
 
-            batchSession.commit();
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
 
             long duration = System.currentTimeMillis() - startTime;
-            log.info("MyBatis batch insert completed: totalInserted={}, duration={}ms, tps={}",
-                    totalInserted, duration, calculateTps(totalInserted, duration));
+            log.info("MyBatis batch insert completed: totalInserted={}, duration={}ms, tps={}, commits={}",
+                    totalInserted, duration, calculateTps(totalInserted, duration), lastCommitCount);
 
             return totalInserted;
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to commit MyBatis batch", e) {};
         }
     }
 
@@ -117,6 +169,17 @@ public class MyBatisBatchInsertRepository implements BatchInsertRepository {
         return batchSize;
     }
 
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
     @Override
     public void truncateTable() {
         log.info("Truncating test_record table via MyBatis");
@@ -132,4 +195,12 @@ public class MyBatisBatchInsertRepository implements BatchInsertRepository {
     public String getTypeName() {
         return TYPE_NAME;
     }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
 }
@@ -0,0 +1,61 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커밋 정책을 직접 제어하는 MyBatis SqlSession을 여는 유틸리티.
+ *
+ * <p>MyBatis-Spring의 {@code SpringManagedTransactionFactory}는 {@code openSession(ExecutorType, boolean)}의
+ * autoCommit 인자를 무시하고 커넥션의 autoCommit(풀 기본값 true)을 그대로 쓰므로 {@code commit(true)}가
+ * 아무 일도 하지 않습니다. 또한 {@code openSession(ExecutorType, Connection)}은 지원하지 않습니다.
+ * 그래서 DataSource에서 커넥션을 직접 꺼내 {@link CommitPolicy#isAutoCommit()}으로 설정하고,
+ * 그 커넥션에 묶인 {@link JdbcTransaction}으로 세션을 만듭니다.</p>
+ *
+ * <p>세션의 {@code commit(true)}는 이 커넥션을 커밋하고, 커밋하지 않은 변경이 남은 채로 세션을 닫으면
+ * (예: 배치 실행 실패) 이 커넥션을 롤백합니다. 닫을 때 autoCommit을 되돌리고 커넥션을 반환합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+final class MyBatisCommitSessions {
+
+    private MyBatisCommitSessions() {
+    }
+
+    /**
+     * 커밋 정책의 autoCommit을 적용한 커넥션으로 세션을 엽니다.
+     *
+     * @param sqlSessionFactory SqlSessionFactory (DataSource와 매퍼 설정 제공)
+     * @param executorType Executor 유형
+     * @param policy 커밋 정책
+     * @return 새 세션 (사용 후 close 필수)
+     * @throws SQLException 커넥션을 얻거나 설정할 수 없는 경우
+     */
+    static SqlSession open(SqlSessionFactory sqlSessionFactory, ExecutorType executorType, CommitPolicy policy)
+            throws SQLException {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        Connection conn = configuration.getEnvironment().getDataSource().getConnection();
+        try {
+            conn.setAutoCommit(policy.isAutoCommit());
+            Executor executor = configuration.newExecutor(new JdbcTransaction(conn), executorType);
+            return new DefaultSqlSession(configuration, executor, policy.isAutoCommit());
+        } catch (SQLException | RuntimeException e) {
+            try {
+                conn.close();
+            } catch (SQLException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.mapper.TestRecordMapper;
+import com.example.benchmark.util.CsvExportWriter;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * MyBatis {@link Cursor}로 스트리밍 조회하여 내보내는 구현체.
+ *
+ * <p>{@link TestRecordMapper#selectAllForExport()} 문장을 fetchSize만 바꾼 파생 문장으로 실행하고,
+ * 커서를 순회하며 매핑된 {@link TestRecord}를 한 건씩 씁니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class MyBatisCursorExportRepository extends AbstractExportRepository {
+
+    private static final String TYPE_NAME = "MyBatis-Cursor";
+    private static final String STATEMENT_ID = TestRecordMapper.class.getName() + ".selectAllForExport";
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    /**
+     * MyBatisCursorExportRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param sqlSessionFactory SqlSessionFactory (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     */
+    public MyBatisCursorExportRepository(DataSource dataSource, SqlSessionFactory sqlSessionFactory,
+                                         BenchmarkProperties properties) {
+        super(dataSource, properties);
+        this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
+    }
+
+    @Override
+    protected void exportRows(CsvExportWriter writer) throws SQLException, IOException {
+        String statementId = MyBatisFetchSizeStatements.resolve(sqlSessionFactory.getConfiguration(),
+                STATEMENT_ID, getFetchSize());
+
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)) {
+            session.getConnection().setReadOnly(true);
+            try (Cursor<TestRecord> cursor = session.selectCursor(statementId)) {
+                for (TestRecord record : cursor) {
+                    writer.writeRecord(record);
+                }
+            } finally {
+                session.rollback(true);
+                session.getConnection().setReadOnly(false);
+            }
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.benchmark.repository;
+
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * 매퍼 SELECT 문을 fetchSize만 바꾼 파생 문장으로 등록하는 유틸리티.
+ *
+ * <p>MyBatis의 fetchSize는 문장 선언 또는 전역 설정으로만 정할 수 있으므로,
+ * 원래 문장의 SQL과 결과 매핑을 그대로 쓰고 fetchSize만 다른 문장을
+ * {@code 원래ID#fetch<크기>} ID로 한 번 등록하여 재사용합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+final class MyBatisFetchSizeStatements {
+
+    private MyBatisFetchSizeStatements() {
+    }
+
+    /**
+     * fetchSize를 적용한 파생 문장 ID를 반환합니다. 없으면 등록합니다.
+     *
+     * @param configuration MyBatis 설정
+     * @param statementId 원래 SELECT 문장 ID
+     * @param fetchSize 적용할 fetchSize (1 이상)
+     * @return 파생 문장 ID
+     */
+    static String resolve(Configuration configuration, String statementId, int fetchSize) {
+        String derivedId = statementId + "#fetch" + fetchSize;
+        synchronized (configuration) {
+            if (!configuration.hasStatement(derivedId, false)) {
+                MappedStatement source = configuration.getMappedStatement(statementId);
+                MappedStatement derived = new MappedStatement.Builder(configuration, derivedId,
+                        source.getSqlSource(), source.getSqlCommandType())
+                        .resource(source.getResource())
+                        .statementType(source.getStatementType())
+                        .resultSetType(ResultSetType.FORWARD_ONLY)
+                        .fetchSize(fetchSize)
+                        .timeout(source.getTimeout())
+                        .resultMaps(source.getResultMaps())
+                        .flushCacheRequired(false)
+                        .useCache(false)
+                        .databaseId(source.getDatabaseId())
+                        .lang(source.getLang())
+                        .build();
+                configuration.addMappedStatement(derived);
+            }
+        }
+        return derivedId;
+    }
+}
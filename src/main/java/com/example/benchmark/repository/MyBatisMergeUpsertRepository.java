@@ -0,0 +1,163 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.mapper.TestRecordMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MyBatis를 사용한 배치 MERGE(upsert) 구현체.
+ *
+ * <p>ExecutorType.BATCH 세션에서 매퍼의 {@code merge} 문을 반복 호출하고
+ * batchSize마다 flushStatements합니다. 커밋 정책에서는 flush 한 번을 하나의 배치로 취급하며,
+ * 세션은 {@link MyBatisCommitSessions}로 열어 JDBC MERGE 구현체와 같은 트랜잭션 경계로 커밋합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class MyBatisMergeUpsertRepository implements UpsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(MyBatisMergeUpsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "MyBatis-Merge";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final TestRecordMapper mapper;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastCommitCount;
+
+    /**
+     * MyBatisMergeUpsertRepository 생성자.
+     *
+     * @param sqlSessionFactory SqlSessionFactory (null 불가)
+     * @param mapper TestRecordMapper (null 불가)
+     */
+    public MyBatisMergeUpsertRepository(SqlSessionFactory sqlSessionFactory, TestRecordMapper mapper) {
+        this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper must not be null");
+    }
+
+    @Override
+    public int upsertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to upsert");
+            return 0;
+        }
+
+        log.info("Starting MyBatis merge upsert: records={}, batchSize={}", records.size(), batchSize);
+        long startTime = System.currentTimeMillis();
+
+        CommitPolicy policy = commitPolicy;
+        int totalMerged = 0;
+
+        try (SqlSession batchSession = MyBatisCommitSessions.open(sqlSessionFactory, ExecutorType.BATCH, policy)) {
+            TestRecordMapper batchMapper = batchSession.getMapper(TestRecordMapper.class);
+            CommitPolicy.Tracker commits = policy.tracker(() -> batchSession.commit(true));
+
+            for (TestRecord record : records) {
+                if (record.getId() == null) {
+                    throw new IllegalArgumentException("record id must not be null for upsert: " + record);
+                }
+                batchMapper.merge(record);
+                totalMerged++;
+
+                if (totalMerged % batchSize == 0) {
+                    batchSession.flushStatements();
+                    commits.batchCompleted();
+                    log.debug("Flushed merge batch: totalMerged={}", totalMerged);
+                }
+            }
+
+            // 남은 레코드 처리
+            if (totalMerged % batchSize != 0) {
+                batchSession.flushStatements();
+                commits.batchCompleted();
+            }
+
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("MyBatis merge upsert completed: totalMerged={}, duration={}ms, tps={}, commits={}",
+                    totalMerged, duration, calculateTps(totalMerged, duration), lastCommitCount);
+
+            return totalMerged;
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to commit MyBatis merge batch", e) {};
+        }
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table via MyBatis");
+        mapper.truncateTable();
+    }
+
+    @Override
+    public long count() {
+        return mapper.count();
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
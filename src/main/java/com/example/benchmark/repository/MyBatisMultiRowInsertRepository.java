@@ -0,0 +1,278 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.mapper.TestRecordMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MyBatis 동적 SQL({@code <foreach>})로 만든 다중 행 INSERT 문을 사용한 배치 삽입 구현체.
+ *
+ * <p>레코드를 rowsPerStatement 단위 청크로 나누어 청크 하나를 하나의 INSERT 문으로 실행합니다.
+ * {@link MyBatisBatchInsertRepository}가 BATCH Executor로 같은 문장을 여러 번 묶어 보내는 것과 달리,
+ * 문장 수 자체를 줄이는 방식입니다. 데이터베이스별로 다음 매퍼 문장을 사용합니다.</p>
+ * <ul>
+ *   <li>Oracle: {@code insertAllWithId} ({@code INSERT ALL INTO ... SELECT 1 FROM dual})</li>
+ *   <li>H2: {@code insertMultiRowH2} 또는 {@code insertMultiRowWithId} ({@code INSERT INTO ... VALUES (...), (...)})</li>
+ * </ul>
+ *
+ * <p>Oracle의 INSERT ALL은 시퀀스 NEXTVAL을 문장당 한 번만 평가하므로 Oracle 경로는 항상
+ * {@link IdBlockAllocator}에서 예약한 ID를 사용하며, H2 경로는 할당기가 활성화된 경우에만 ID를 할당합니다.</p>
+ *
+ * <p>ExecutorType.REUSE 세션을 사용하여 같은 행 수의 SQL은 PreparedStatement를 재사용합니다.
+ * {@link CommitPolicy}에서는 batchSize 행 분량의 문장(최소 1개)을 하나의 배치로 취급하며,
+ * 세션은 {@link MyBatisCommitSessions}로 열어 커넥션의 커밋을 직접 제어합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class MyBatisMultiRowInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(MyBatisMultiRowInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+    private static final String TYPE_NAME = "MyBatis-MultiRow";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final TestRecordMapper mapper;
+    private final IdBlockAllocator idAllocator;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int rowsPerStatement;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile int lastStatementCount;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
+
+    /**
+     * MyBatisMultiRowInsertRepository 생성자.
+     *
+     * @param sqlSessionFactory SqlSessionFactory (null 불가)
+     * @param mapper TestRecordMapper (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
+     */
+    public MyBatisMultiRowInsertRepository(SqlSessionFactory sqlSessionFactory, TestRecordMapper mapper,
+                                           BenchmarkProperties properties, IdBlockAllocator idAllocator) {
+        this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        setRowsPerStatement(properties.getMultiRowSize());
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource().getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            lastStatementCount = 0;
+            return 0;
+        }
+
+        log.info("Starting MyBatis multi-row insert: records={}, rowsPerStatement={}",
+                records.size(), rowsPerStatement);
+        return insertRecords(records.iterator());
+    }
+
+    /**
+     * 레코드 소스를 커밋 정책에 따라 스트리밍 삽입합니다.
+     *
+     * <p>한 문장 분량(rowsPerStatement)의 청크만 메모리에 유지합니다.</p>
+     *
+     * @param records 삽입할 레코드 소스 (null 불가)
+     * @return 삽입된 레코드 수
+     */
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting MyBatis streaming multi-row insert: rowsPerStatement={}", rowsPerStatement);
+        return insertRecords(records);
+    }
+
+    private int insertRecords(Iterator<TestRecord> records) {
+        long startTime = System.currentTimeMillis();
+
+        int rowsPerStmt = rowsPerStatement;
+        int statementsPerBatch = Math.max(1, batchSize / rowsPerStmt);
+        boolean clientSideIds = !isH2Database || idAllocator.isEnabled();
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
+        List<TestRecord> chunk = new ArrayList<>(rowsPerStmt);
+        int statementCount = 0;
+        int totalInserted = 0;
+
+        try (SqlSession session = MyBatisCommitSessions.open(sqlSessionFactory, ExecutorType.REUSE, policy)) {
+            TestRecordMapper sessionMapper = session.getMapper(TestRecordMapper.class);
+            CommitPolicy.Tracker commits = policy.tracker(() -> session.commit(true));
+
+            while (records.hasNext()) {
+                chunk.add(records.next());
+                if (chunk.size() == rowsPerStmt || !records.hasNext()) {
+                    totalInserted += insertChunk(sessionMapper, chunk, clientSideIds);
+                    chunk.clear();
+                    statementCount++;
+
+                    if (statementCount % statementsPerBatch == 0) {
+                        commits.batchCompleted();
+                        log.debug("Completed batch: statements={}, totalInserted={}", statementCount, totalInserted);
+                    }
+                }
+            }
+
+            // 배치 단위에 못 미친 나머지 문장 처리
+            if (statementCount % statementsPerBatch != 0) {
+                commits.batchCompleted();
+            }
+
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+            lastStatementCount = statementCount;
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("MyBatis multi-row insert completed: totalInserted={}, statements={}, duration={}ms, tps={}",
+                    totalInserted, statementCount, duration, calculateTps(totalInserted, duration));
+
+            return totalInserted;
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to commit MyBatis multi-row insert", e) {};
+        }
+    }
+
+    private int insertChunk(TestRecordMapper sessionMapper, List<TestRecord> chunk, boolean clientSideIds) {
+        if (!clientSideIds) {
+            return sessionMapper.insertMultiRowH2(chunk);
+        }
+
+        long[] ids = idAllocator.allocate(chunk.size());
+        List<TestRecord> identified = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            identified.add(chunk.get(i).withId(ids[i]));
+        }
+        if (isH2Database) {
+            return sessionMapper.insertMultiRowWithId(identified);
+        }
+        sessionMapper.insertAllWithId(identified);
+        // INSERT ALL의 반환값은 드라이버마다 다르므로 청크 크기를 삽입 건수로 사용
+        return identified.size();
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    /**
+     * 한 INSERT 문에 담을 행 수를 설정합니다.
+     *
+     * @param rowsPerStatement 문장당 행 수 (1 이상 1000 이하)
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     */
+    public void setRowsPerStatement(int rowsPerStatement) {
+        if (rowsPerStatement < 1 || rowsPerStatement > MAX_ROWS_PER_STATEMENT) {
+            throw new IllegalArgumentException("rowsPerStatement must be between 1 and "
+                    + MAX_ROWS_PER_STATEMENT + ", but was: " + rowsPerStatement);
+        }
+        this.rowsPerStatement = rowsPerStatement;
+        log.debug("Rows per statement set to: {}", rowsPerStatement);
+    }
+
+    /**
+     * 현재 설정된 문장당 행 수를 반환합니다.
+     *
+     * @return 문장당 행 수
+     */
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Rows/Statement", String.valueOf(rowsPerStatement));
+        metrics.put("Statements", String.valueOf(lastStatementCount));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table via MyBatis");
+        mapper.truncateTable();
+    }
+
+    @Override
+    public long count() {
+        return mapper.count();
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.mapper.TestRecordMapper;
+import com.example.benchmark.util.CsvExportWriter;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * MyBatis {@link ResultHandler}로 스트리밍 조회하여 내보내는 구현체.
+ *
+ * <p>{@link TestRecordMapper#selectAllForExport()} 문장을 fetchSize만 바꾼 파생 문장으로 실행하고,
+ * MyBatis가 행을 매핑할 때마다 호출하는 콜백에서 바로 씁니다. 결과 리스트를 만들지 않으므로
+ * 메모리 사용량은 fetchSize에만 비례합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class MyBatisResultHandlerExportRepository extends AbstractExportRepository {
+
+    private static final String TYPE_NAME = "MyBatis-ResultHandler";
+    private static final String STATEMENT_ID = TestRecordMapper.class.getName() + ".selectAllForExport";
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    /**
+     * MyBatisResultHandlerExportRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param sqlSessionFactory SqlSessionFactory (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     */
+    public MyBatisResultHandlerExportRepository(DataSource dataSource, SqlSessionFactory sqlSessionFactory,
+                                                BenchmarkProperties properties) {
+        super(dataSource, properties);
+        this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
+    }
+
+    @Override
+    protected void exportRows(CsvExportWriter writer) throws SQLException, IOException {
+        String statementId = MyBatisFetchSizeStatements.resolve(sqlSessionFactory.getConfiguration(),
+                STATEMENT_ID, getFetchSize());
+
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.SIMPLE, false)) {
+            session.getConnection().setReadOnly(true);
+            try {
+                session.select(statementId, (ResultHandler<TestRecord>) context -> {
+                    try {
+                        writer.writeRecord(context.getResultObject());
+                    } catch (IOException e) {
+                        // ResultHandler는 검사 예외를 던질 수 없으므로 감싸서 전달 (상위에서 변환)
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                session.rollback(true);
+                session.getConnection().setReadOnly(false);
+            }
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
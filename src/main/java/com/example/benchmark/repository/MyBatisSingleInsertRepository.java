@@ -1,13 +1,20 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.mapper.TestRecordMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -16,6 +23,11 @@ import java.util.Objects;
  * <p>각 레코드를 개별 INSERT 문으로 처리합니다.
  * 배치 삽입과의 성능 비교를 위해 사용됩니다.</p>
  *
+ * <p>{@link IdBlockAllocator}가 활성화된 경우 NEXTVAL 대신 예약된 ID를 바인딩합니다.</p>
+ *
+ * <p>{@link CommitPolicy}를 적용하기 위해 {@link MyBatisCommitSessions}로 ExecutorType.SIMPLE 세션을 직접 열어
+ * 커밋 시점을 제어합니다. 한 행을 하나의 배치로 취급하므로 PER_BATCH는 행마다 커밋합니다.</p>
+ *
  * @author Developer Agent
  * @since 1.0
  */
@@ -26,19 +38,28 @@ public class MyBatisSingleInsertRepository implements SingleInsertRepository {
 
     private static final String TYPE_NAME = "MyBatis-Single";
 
+    private final SqlSessionFactory sqlSessionFactory;
     private final TestRecordMapper mapper;
+    private final IdBlockAllocator idAllocator;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
 
     /**
      * MyBatisSingleInsertRepository 생성자.
      *
+     * @param sqlSessionFactory SqlSessionFactory (null 불가)
      * @param mapper TestRecordMapper (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
      */
-    public MyBatisSingleInsertRepository(TestRecordMapper mapper) {
+    public MyBatisSingleInsertRepository(SqlSessionFactory sqlSessionFactory, TestRecordMapper mapper,
+                                         IdBlockAllocator idAllocator) {
+        this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
         this.mapper = Objects.requireNonNull(mapper, "mapper must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
     }
 
     @Override
-    @Transactional
     public int insertSingle(List<TestRecord> records) {
         if (records == null) {
             throw new IllegalArgumentException("records must not be null");
@@ -49,24 +70,42 @@ public class MyBatisSingleInsertRepository implements SingleInsertRepository {
             return 0;
         }
 
-        log.info("Starting MyBatis single insert: records={}", records.size());
+        log.debug("Starting MyBatis single insert: records={}", records.size());
         long startTime = System.currentTimeMillis();
 
+        boolean clientSideIds = idAllocator.isEnabled();
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        CommitPolicy policy = commitPolicy;
         int totalInserted = 0;
 
-        for (int i = 0; i < records.size(); i++) {
-            TestRecord record = records.get(i);
-            int result = mapper.insert(record);
-            totalInserted += result;
-
-            if ((i + 1) % 1000 == 0) {
-                log.debug("Single insert progress: processed={}, totalInserted={}", i + 1, totalInserted);
+        try (SqlSession session = MyBatisCommitSessions.open(sqlSessionFactory, ExecutorType.SIMPLE, policy)) {
+            TestRecordMapper sessionMapper = session.getMapper(TestRecordMapper.class);
+            CommitPolicy.Tracker commits = policy.tracker(() -> session.commit(true));
+
+            for (int i = 0; i < records.size(); i++) {
+                TestRecord record = records.get(i);
+                int result = clientSideIds
+                        ? sessionMapper.insertWithId(record.withId(idAllocator.nextId()))
+                        : sessionMapper.insert(record);
+                totalInserted += result;
+                commits.batchCompleted();
+
+                if ((i + 1) % 1000 == 0) {
+                    log.debug("Single insert progress: processed={}, totalInserted={}", i + 1, totalInserted);
+                }
             }
+
+            commits.complete();
+            lastCommitCount = commits.getCommitCount();
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to commit MyBatis single insert", e) {};
         }
 
+        lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+
         long duration = System.currentTimeMillis() - startTime;
-        log.info("MyBatis single insert completed: totalInserted={}, duration={}ms, tps={}",
-                totalInserted, duration, calculateTps(totalInserted, duration));
+        log.debug("MyBatis single insert completed: totalInserted={}, duration={}ms, tps={}, commits={}",
+                totalInserted, duration, calculateTps(totalInserted, duration), lastCommitCount);
 
         return totalInserted;
     }
@@ -78,6 +117,17 @@ public class MyBatisSingleInsertRepository implements SingleInsertRepository {
         return (count * 1000.0) / durationMs;
     }
 
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
     @Override
     public void truncateTable() {
         log.info("Truncating test_record table via MyBatis");
@@ -93,4 +143,12 @@ public class MyBatisSingleInsertRepository implements SingleInsertRepository {
     public String getTypeName() {
         return TYPE_NAME;
     }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
 }
@@ -0,0 +1,454 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 커넥션을 사용한 병렬 JDBC 배치 삽입 구현체.
+ *
+ * <p>입력 레코드를 워커 수만큼 연속 구간으로 분할하고, 각 워커가
+ * 커넥션 풀에서 별도의 커넥션을 받아 독립적인 addBatch/executeBatch 루프를 실행합니다.</p>
+ *
+ * <p>특징:</p>
+ * <ul>
+ *   <li>워커 수 설정 가능 (benchmark.parallel-threads, 기본값: 4)</li>
+ *   <li>워커 수로 크기가 고정된 bounded executor 사용</li>
+ *   <li>워커별 처리량(TPS) 측정 및 리포트 노출</li>
+ *   <li>커밋 정책 지원 ({@link CommitPolicy}) - 워커별 트랜잭션에 각각 적용</li>
+ * </ul>
+ *
+ * <p>각 파티션은 자체 트랜잭션으로 커밋되므로, 한 워커가 실패해도
+ * 이미 커밋된 다른 파티션은 롤백되지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class ParallelJdbcBatchInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelJdbcBatchInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JDBC-Parallel";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (test_record_seq.NEXTVAL, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL_H2 =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL_CLIENT_ID =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idAllocator;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int threadCount;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile List<WorkerStatistics> lastWorkerStatistics = Collections.emptyList();
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
+
+    /**
+     * ParallelJdbcBatchInsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
+     */
+    public ParallelJdbcBatchInsertRepository(DataSource dataSource, BenchmarkProperties properties,
+                                             IdBlockAllocator idAllocator) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        setThreadCount(properties.getParallelThreads());
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            lastWorkerStatistics = Collections.emptyList();
+            return 0;
+        }
+
+        int workerCount = Math.min(threadCount, records.size());
+        log.info("Starting parallel batch insert: records={}, batchSize={}, workers={}",
+                records.size(), batchSize, workerCount);
+        long startTime = System.currentTimeMillis();
+
+        boolean clientSideIds = idAllocator.isEnabled();
+        CommitPolicy policy = commitPolicy;
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        ThreadPoolExecutor executor = createExecutor(workerCount);
+        try {
+            List<Future<WorkerStatistics>> futures = new ArrayList<>(workerCount);
+            int partitionSize = (records.size() + workerCount - 1) / workerCount;
+
+            for (int worker = 0; worker < workerCount; worker++) {
+                int from = worker * partitionSize;
+                int to = Math.min(from + partitionSize, records.size());
+                if (from >= to) {
+                    break;
+                }
+                List<TestRecord> partition = records.subList(from, to);
+                int workerIndex = worker;
+                futures.add(executor.submit(() -> insertPartition(workerIndex, partition, clientSideIds, policy)));
+            }
+
+            List<WorkerStatistics> statistics = new ArrayList<>(futures.size());
+            int totalInserted = 0;
+            for (Future<WorkerStatistics> future : futures) {
+                WorkerStatistics stat = awaitWorker(future, records.size());
+                statistics.add(stat);
+                totalInserted += stat.getInsertedCount();
+            }
+            lastWorkerStatistics = Collections.unmodifiableList(statistics);
+            lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Parallel batch insert completed: totalInserted={}, duration={}ms, tps={}",
+                    totalInserted, duration, calculateTps(totalInserted, duration));
+            for (WorkerStatistics stat : statistics) {
+                log.debug("  {}", stat);
+            }
+
+            return totalInserted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ThreadPoolExecutor createExecutor(int workerCount) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "jdbc-parallel-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private WorkerStatistics awaitWorker(Future<WorkerStatistics> future, int recordCount) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while inserting batch: " + recordCount + " records", e) {};
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataAccessException) {
+                throw (DataAccessException) cause;
+            }
+            throw new DataAccessException("Failed to insert batch: " + recordCount + " records", cause) {};
+        }
+    }
+
+    private WorkerStatistics insertPartition(int workerIndex, List<TestRecord> partition, boolean clientSideIds,
+                                             CommitPolicy policy) {
+        String sql = clientSideIds ? INSERT_SQL_CLIENT_ID : (isH2Database ? INSERT_SQL_H2 : INSERT_SQL);
+        long startTime = System.currentTimeMillis();
+        int inserted = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            try {
+                long[] ids = null;
+                for (int i = 0; i < partition.size(); i++) {
+                    int index = 1;
+                    if (clientSideIds) {
+                        // 배치 단위로 ID를 예약하여 할당기 락 경합을 줄임
+                        if (i % batchSize == 0) {
+                            ids = idAllocator.allocate(Math.min(batchSize, partition.size() - i));
+                        }
+                        ps.setLong(index++, ids[i % batchSize]);
+                    }
+                    setParameters(ps, partition.get(i), index);
+                    ps.addBatch();
+
+                    if ((i + 1) % batchSize == 0) {
+                        inserted += sumResults(ps.executeBatch());
+                        commits.batchCompleted();
+                    }
+                }
+
+                // 남은 레코드 처리
+                if (partition.size() % batchSize != 0) {
+                    inserted += sumResults(ps.executeBatch());
+                    commits.batchCompleted();
+                }
+
+                commits.complete();
+            } catch (SQLException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            return new WorkerStatistics(workerIndex, inserted, System.currentTimeMillis() - startTime,
+                    commits.getCommitCount());
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Worker " + workerIndex + " failed to insert partition: "
+                    + partition.size() + " records", e) {};
+        }
+    }
+
+    private void setParameters(PreparedStatement ps, TestRecord record, int firstIndex) throws SQLException {
+        ps.setString(firstIndex, record.getData1());
+        ps.setString(firstIndex + 1, record.getData2());
+        ps.setBigDecimal(firstIndex + 2, record.getAmount());
+        ps.setString(firstIndex + 3, record.getStatus());
+        ps.setTimestamp(firstIndex + 4, Timestamp.from(record.getCreatedAt()));
+    }
+
+    private int sumResults(int[] results) {
+        int sum = 0;
+        for (int result : results) {
+            if (result >= 0) {
+                sum += result;
+            } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                sum += 1;
+            }
+        }
+        return sum;
+    }
+
+    private static double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    /**
+     * 워커 스레드 수를 설정합니다.
+     *
+     * @param threadCount 워커 스레드 수 (1 이상)
+     * @throws IllegalArgumentException threadCount가 1 미만인 경우
+     */
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("threadCount must be at least 1, but was: " + threadCount);
+        }
+        if (dataSource instanceof HikariDataSource) {
+            int maxPoolSize = ((HikariDataSource) dataSource).getMaximumPoolSize();
+            if (threadCount > maxPoolSize) {
+                log.warn("threadCount({}) exceeds maximum-pool-size({}), workers will wait for connections",
+                        threadCount, maxPoolSize);
+            }
+        }
+        this.threadCount = threadCount;
+        log.debug("Thread count set to: {}", threadCount);
+    }
+
+    /**
+     * 현재 설정된 워커 스레드 수를 반환합니다.
+     *
+     * @return 워커 스레드 수
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * 마지막 실행의 워커별 통계를 반환합니다.
+     *
+     * @return 워커별 통계 목록 (워커 인덱스 순)
+     */
+    public List<WorkerStatistics> getLastWorkerStatistics() {
+        return lastWorkerStatistics;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        List<WorkerStatistics> statistics = lastWorkerStatistics;
+        if (statistics.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> workerTps = new ArrayList<>(statistics.size());
+        int commitCount = 0;
+        for (WorkerStatistics stat : statistics) {
+            workerTps.add(String.format("%.2f", stat.getTps()));
+            commitCount += stat.getCommitCount();
+        }
+
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Workers", String.valueOf(statistics.size()));
+        metrics.put("Worker TPS", workerTps.toString());
+        metrics.put("Commits", String.valueOf(commitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    /**
+     * 워커 한 개의 실행 통계.
+     */
+    public static final class WorkerStatistics {
+        private final int workerIndex;
+        private final int insertedCount;
+        private final long durationMs;
+        private final int commitCount;
+
+        WorkerStatistics(int workerIndex, int insertedCount, long durationMs, int commitCount) {
+            this.workerIndex = workerIndex;
+            this.insertedCount = insertedCount;
+            this.durationMs = durationMs;
+            this.commitCount = commitCount;
+        }
+
+        /**
+         * 워커 인덱스를 반환합니다.
+         *
+         * @return 0부터 시작하는 워커 인덱스
+         */
+        public int getWorkerIndex() {
+            return workerIndex;
+        }
+
+        /**
+         * 워커가 삽입한 레코드 수를 반환합니다.
+         *
+         * @return 삽입된 레코드 수
+         */
+        public int getInsertedCount() {
+            return insertedCount;
+        }
+
+        /**
+         * 워커 실행 시간을 반환합니다.
+         *
+         * @return 실행 시간 (ms)
+         */
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        /**
+         * 워커가 수행한 커밋 횟수를 반환합니다.
+         *
+         * @return 커밋 횟수
+         */
+        public int getCommitCount() {
+            return commitCount;
+        }
+
+        /**
+         * 워커의 TPS를 계산합니다.
+         *
+         * @return 워커 TPS
+         */
+        public double getTps() {
+            return calculateTps(insertedCount, durationMs);
+        }
+
+        @Override
+        public String toString() {
+            return "WorkerStatistics{" +
+                    "workerIndex=" + workerIndex +
+                    ", insertedCount=" + insertedCount +
+                    ", durationMs=" + durationMs +
+                    ", commitCount=" + commitCount +
+                    ", tps=" + String.format("%.2f", getTps()) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생산자/writer 파이프라인을 사용한 JDBC 배치 삽입 구현체.
+ *
+ * <p>생산자 스레드가 소스에서 다음 배치를 꺼내 ID 할당과 타입 변환까지 마친
+ * 바인딩 준비 상태로 만들어 bounded 큐에 넘기고, 호출 스레드(writer)는
+ * 큐에서 배치를 받아 바인딩과 executeBatch를 수행합니다.
+ * writer가 데이터베이스 응답을 기다리는 동안 생산자가 다음 배치를 준비하므로
+ * 두 단계의 실행 시간이 겹치게 됩니다.</p>
+ *
+ * <p>PreparedStatement와 Connection은 스레드 안전하지 않으므로 JDBC 호출은 모두
+ * writer 스레드에서만 수행합니다. 생산자는 값 변환만 담당합니다.</p>
+ *
+ * <p>특징:</p>
+ * <ul>
+ *   <li>큐 깊이 설정 가능 (benchmark.pipeline-queue-depth, 기본값: 2)</li>
+ *   <li>커밋 정책 지원 ({@link CommitPolicy}, 기본값: 단일 트랜잭션)</li>
+ *   <li>생산자/writer 실행 시간과 겹친 시간 측정 및 리포트 노출</li>
+ * </ul>
+ *
+ * <p>겹친 시간은 {@code 생산자 실행 시간 + writer 실행 시간 - 전체 경과 시간}으로 계산합니다.
+ * 큐 대기 시간은 실행 시간에서 제외되므로, 이 값은 두 단계가 동시에 실행된 시간의 하한입니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class PipelinedJdbcBatchInsertRepository implements BatchInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelinedJdbcBatchInsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JDBC-Pipelined";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (test_record_seq.NEXTVAL, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL_H2 =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL_CLIENT_ID =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idAllocator;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int queueDepth;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile PipelineStatistics lastStatistics;
+    private volatile int lastCommitCount;
+    private volatile IdBlockAllocator.Statistics lastIdStatistics = IdBlockAllocator.Statistics.EMPTY;
+
+    /**
+     * PipelinedJdbcBatchInsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     * @param properties 벤치마크 설정 (null 불가)
+     * @param idAllocator ID 블록 할당기 (null 불가)
+     */
+    public PipelinedJdbcBatchInsertRepository(DataSource dataSource, BenchmarkProperties properties,
+                                              IdBlockAllocator idAllocator) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator must not be null");
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        setQueueDepth(properties.getPipelineQueueDepth());
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    @Override
+    public int insertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to insert");
+            lastStatistics = null;
+            return 0;
+        }
+
+        log.info("Starting pipelined batch insert: records={}, batchSize={}, queueDepth={}",
+                records.size(), batchSize, queueDepth);
+        return insertRecords(records.iterator(), records.size() + " records");
+    }
+
+    @Override
+    public int insertStream(Iterator<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        log.info("Starting pipelined streaming insert: batchSize={}, queueDepth={}", batchSize, queueDepth);
+        return insertRecords(records, "streamed records");
+    }
+
+    private int insertRecords(Iterator<TestRecord> records, String description) {
+        long startNanos = System.nanoTime();
+
+        boolean clientSideIds = idAllocator.isEnabled();
+        CommitPolicy policy = commitPolicy;
+        IdBlockAllocator.Statistics idStatisticsBefore = idAllocator.snapshot();
+        BlockingQueue<PreparedBatch> queue = new ArrayBlockingQueue<>(queueDepth);
+        ExecutorService producer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jdbc-pipeline-producer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     clientSideIds ? INSERT_SQL_CLIENT_ID : (isH2Database ? INSERT_SQL_H2 : INSERT_SQL))) {
+
+            conn.setAutoCommit(policy.isAutoCommit());
+            CommitPolicy.Tracker commits = policy.tracker(conn::commit);
+
+            Future<Long> producerBusy = producer.submit(() -> produce(records, queue, clientSideIds));
+            int totalInserted = 0;
+            int batchCount = 0;
+            long writerBusyNanos = 0;
+            long writerWaitNanos = 0;
+
+            try {
+                while (true) {
+                    long waitStart = System.nanoTime();
+                    PreparedBatch batch = queue.take();
+                    long busyStart = System.nanoTime();
+                    writerWaitNanos += busyStart - waitStart;
+
+                    if (batch == PreparedBatch.END) {
+                        break;
+                    }
+
+                    for (int i = 0; i < batch.size; i++) {
+                        int index = 1;
+                        if (batch.ids != null) {
+                            ps.setLong(index++, batch.ids[i]);
+                        }
+                        ps.setString(index++, batch.data1[i]);
+                        ps.setString(index++, batch.data2[i]);
+                        ps.setBigDecimal(index++, batch.amounts[i]);
+                        ps.setString(index++, batch.statuses[i]);
+                        ps.setTimestamp(index, batch.createdAts[i]);
+                        ps.addBatch();
+                    }
+                    totalInserted += sumResults(ps.executeBatch());
+                    commits.batchCompleted();
+                    batchCount++;
+                    writerBusyNanos += System.nanoTime() - busyStart;
+                }
+
+                long producerBusyNanos = awaitProducer(producerBusy, description);
+                commits.complete();
+                lastCommitCount = commits.getCommitCount();
+
+                long wallNanos = System.nanoTime() - startNanos;
+                lastStatistics = new PipelineStatistics(batchCount, queueDepth, wallNanos,
+                        producerBusyNanos, writerBusyNanos, writerWaitNanos);
+                lastIdStatistics = idAllocator.snapshot().since(idStatisticsBefore);
+            } catch (SQLException | RuntimeException e) {
+                if (!policy.isAutoCommit()) {
+                    conn.rollback();
+                }
+                throw e;
+            }
+
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            log.info("Pipelined batch insert completed: totalInserted={}, duration={}ms, tps={}, {}",
+                    totalInserted, duration, calculateTps(totalInserted, duration), lastStatistics);
+
+            return totalInserted;
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to insert batch: " + description, e) {};
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while inserting batch: " + description, e) {};
+        } finally {
+            producer.shutdownNow();
+        }
+    }
+
+    /**
+     * 생산자 루프. 소스를 batchSize 단위로 변환하여 큐에 넣고 마지막에 종료 표식을 넣습니다.
+     *
+     * <p>writer가 실패하면 {@code shutdownNow()}로 생산자를 인터럽트하며, 이후로는 큐를 비우는 쪽이 없습니다.
+     * 이때 종료 표식을 넣으려 하면 가득 찬 큐에서 영원히 대기하므로 인터럽트로 끝난 경우에는 넣지 않습니다.</p>
+     *
+     * @return 큐 대기 시간을 제외한 생산자 실행 시간 (ns)
+     */
+    private long produce(Iterator<TestRecord> records, BlockingQueue<PreparedBatch> queue,
+                         boolean clientSideIds) throws InterruptedException {
+        long busyNanos = 0;
+        boolean interrupted = false;
+        try {
+            while (true) {
+                long busyStart = System.nanoTime();
+                if (!records.hasNext()) {
+                    busyNanos += System.nanoTime() - busyStart;
+                    break;
+                }
+                PreparedBatch batch = PreparedBatch.from(records, batchSize, clientSideIds ? idAllocator : null);
+                busyNanos += System.nanoTime() - busyStart;
+                queue.put(batch);
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+            throw e;
+        } finally {
+            // 생산자가 실패해도 writer가 큐에서 영원히 대기하지 않도록 종료 표식을 넣음 (writer가 중단시킨 경우 제외)
+            if (!interrupted) {
+                queue.put(PreparedBatch.END);
+            }
+        }
+        return busyNanos;
+    }
+
+    private long awaitProducer(Future<Long> producerBusy, String description) throws InterruptedException {
+        try {
+            return producerBusy.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataAccessException) {
+                throw (DataAccessException) cause;
+            }
+            throw new DataAccessException("Producer failed to prepare batch: " + description, cause) {};
+        }
+    }
+
+    private int sumResults(int[] results) {
+        int sum = 0;
+        for (int result : results) {
+            if (result >= 0) {
+                sum += result;
+            } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                sum += 1;
+            }
+        }
+        return sum;
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    /**
+     * hand-off 큐 깊이를 설정합니다.
+     *
+     * @param queueDepth 큐에 대기할 수 있는 준비된 배치 수 (1 이상)
+     * @throws IllegalArgumentException queueDepth가 1 미만인 경우
+     */
+    public void setQueueDepth(int queueDepth) {
+        if (queueDepth < 1) {
+            throw new IllegalArgumentException("queueDepth must be at least 1, but was: " + queueDepth);
+        }
+        this.queueDepth = queueDepth;
+        log.debug("Queue depth set to: {}", queueDepth);
+    }
+
+    /**
+     * 현재 설정된 hand-off 큐 깊이를 반환합니다.
+     *
+     * @return 큐 깊이
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * 마지막 실행의 파이프라인 통계를 반환합니다.
+     *
+     * @return 파이프라인 통계 (실행 기록이 없으면 null)
+     */
+    public PipelineStatistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        PipelineStatistics statistics = lastStatistics;
+        if (statistics == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Queue Depth", String.valueOf(statistics.getQueueDepth()));
+        metrics.put("Producer Busy", statistics.getProducerBusyMs() + "ms");
+        metrics.put("Writer Busy", statistics.getWriterBusyMs() + "ms");
+        metrics.put("Writer Wait", statistics.getWriterWaitMs() + "ms");
+        metrics.put("Overlap", String.format("%dms (%.1f%%)",
+                statistics.getOverlapMs(), statistics.getOverlapRatio() * 100));
+        metrics.put("Commits", String.valueOf(lastCommitCount));
+        metrics.putAll(lastIdStatistics.toMetrics());
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    /**
+     * 바인딩 준비가 끝난 배치. 컬럼별 배열로 값을 보관합니다.
+     */
+    private static final class PreparedBatch {
+
+        static final PreparedBatch END = new PreparedBatch(0, false);
+
+        final int size;
+        final long[] ids;
+        final String[] data1;
+        final String[] data2;
+        final BigDecimal[] amounts;
+        final String[] statuses;
+        final Timestamp[] createdAts;
+
+        private PreparedBatch(int capacity, boolean withIds) {
+            this.size = capacity;
+            this.ids = withIds ? new long[capacity] : null;
+            this.data1 = new String[capacity];
+            this.data2 = new String[capacity];
+            this.amounts = new BigDecimal[capacity];
+            this.statuses = new String[capacity];
+            this.createdAts = new Timestamp[capacity];
+        }
+
+        static PreparedBatch from(Iterator<TestRecord> records, int batchSize, IdBlockAllocator idAllocator) {
+            TestRecord[] chunk = new TestRecord[batchSize];
+            int count = 0;
+            while (count < batchSize && records.hasNext()) {
+                chunk[count++] = records.next();
+            }
+
+            PreparedBatch batch = new PreparedBatch(count, idAllocator != null);
+            if (idAllocator != null) {
+                System.arraycopy(idAllocator.allocate(count), 0, batch.ids, 0, count);
+            }
+            for (int i = 0; i < count; i++) {
+                TestRecord record = chunk[i];
+                batch.data1[i] = record.getData1();
+                batch.data2[i] = record.getData2();
+                batch.amounts[i] = record.getAmount();
+                batch.statuses[i] = record.getStatus();
+                batch.createdAts[i] = Timestamp.from(record.getCreatedAt());
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * 파이프라인 한 번 실행의 단계별 시간 통계.
+     */
+    public static final class PipelineStatistics {
+        private final int batchCount;
+        private final int queueDepth;
+        private final long wallNanos;
+        private final long producerBusyNanos;
+        private final long writerBusyNanos;
+        private final long writerWaitNanos;
+
+        PipelineStatistics(int batchCount, int queueDepth, long wallNanos,
+                           long producerBusyNanos, long writerBusyNanos, long writerWaitNanos) {
+            this.batchCount = batchCount;
+            this.queueDepth = queueDepth;
+            this.wallNanos = wallNanos;
+            this.producerBusyNanos = producerBusyNanos;
+            this.writerBusyNanos = writerBusyNanos;
+            this.writerWaitNanos = writerWaitNanos;
+        }
+
+        /**
+         * 실행된 배치 수를 반환합니다.
+         *
+         * @return 배치 수
+         */
+        public int getBatchCount() {
+            return batchCount;
+        }
+
+        /**
+         * 실행 시 사용한 큐 깊이를 반환합니다.
+         *
+         * @return 큐 깊이
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        /**
+         * 전체 경과 시간을 반환합니다.
+         *
+         * @return 경과 시간 (ms)
+         */
+        public long getWallMs() {
+            return TimeUnit.NANOSECONDS.toMillis(wallNanos);
+        }
+
+        /**
+         * 큐 대기를 제외한 생산자 실행 시간을 반환합니다.
+         *
+         * @return 생산자 실행 시간 (ms)
+         */
+        public long getProducerBusyMs() {
+            return TimeUnit.NANOSECONDS.toMillis(producerBusyNanos);
+        }
+
+        /**
+         * 큐 대기를 제외한 writer 실행 시간(바인딩 + executeBatch)을 반환합니다.
+         *
+         * @return writer 실행 시간 (ms)
+         */
+        public long getWriterBusyMs() {
+            return TimeUnit.NANOSECONDS.toMillis(writerBusyNanos);
+        }
+
+        /**
+         * writer가 준비된 배치를 기다린 시간을 반환합니다.
+         *
+         * @return writer 대기 시간 (ms)
+         */
+        public long getWriterWaitMs() {
+            return TimeUnit.NANOSECONDS.toMillis(writerWaitNanos);
+        }
+
+        /**
+         * 두 단계가 동시에 실행된 시간을 반환합니다.
+         *
+         * @return 겹친 시간 (ms, 0 이상)
+         */
+        public long getOverlapMs() {
+            return TimeUnit.NANOSECONDS.toMillis(overlapNanos());
+        }
+
+        /**
+         * 전체 경과 시간 중 두 단계가 겹친 비율을 반환합니다.
+         *
+         * @return 0.0 ~ 1.0 사이의 비율
+         */
+        public double getOverlapRatio() {
+            if (wallNanos == 0) {
+                return 0;
+            }
+            return (double) overlapNanos() / wallNanos;
+        }
+
+        private long overlapNanos() {
+            return Math.max(0L, producerBusyNanos + writerBusyNanos - wallNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "PipelineStatistics{" +
+                    "batchCount=" + batchCount +
+                    ", queueDepth=" + queueDepth +
+                    ", wallMs=" + getWallMs() +
+                    ", producerBusyMs=" + getProducerBusyMs() +
+                    ", writerBusyMs=" + getWriterBusyMs() +
+                    ", writerWaitMs=" + getWriterWaitMs() +
+                    ", overlapMs=" + getOverlapMs() +
+                    '}';
+        }
+    }
+}
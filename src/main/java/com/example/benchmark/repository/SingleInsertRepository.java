@@ -1,8 +1,11 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 단건 삽입 Repository 인터페이스.
@@ -34,6 +37,23 @@ public interface SingleInsertRepository {
      */
     int insertSingle(List<TestRecord> records);
 
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * <p>단건 삽입에서는 한 행이 하나의 배치로 취급되므로 PER_BATCH는 행마다 커밋합니다.</p>
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     * @throws NullPointerException commitPolicy가 null인 경우
+     */
+    void setCommitPolicy(CommitPolicy commitPolicy);
+
+    /**
+     * 현재 설정된 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책 (기본값: SINGLE_TRANSACTION)
+     */
+    CommitPolicy getCommitPolicy();
+
     /**
      * 테이블의 모든 데이터를 삭제합니다.
      *
@@ -54,4 +74,15 @@ public interface SingleInsertRepository {
      * @return 구현체 타입명 (예: "JDBC-Single", "MyBatis-Single")
      */
     String getTypeName();
+
+    /**
+     * 마지막 insertSingle 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * <p>기본 구현은 빈 맵을 반환합니다.</p>
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
 }
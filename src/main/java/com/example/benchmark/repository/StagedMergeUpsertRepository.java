@@ -0,0 +1,253 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 스테이징 테이블에 적재한 뒤 집합 단위 MERGE 한 번으로 반영하는 2단계 upsert 구현체.
+ *
+ * <p>처리 단계:</p>
+ * <ol>
+ *   <li>적재: {@code test_record_stage}에 batchSize마다 addBatch/executeBatch (인덱스 없는 단순 INSERT)</li>
+ *   <li>반영: {@code MERGE INTO test_record USING test_record_stage} 한 문장 실행 후 커밋</li>
+ * </ol>
+ *
+ * <p>Oracle의 스테이징 테이블은 {@code ON COMMIT DELETE ROWS} 전역 임시 테이블이므로 커밋 시 비워지고,
+ * H2에서는 일반 테이블이므로 MERGE 후 같은 트랜잭션에서 DELETE합니다.</p>
+ *
+ * <p>적재한 행은 커밋 전에 반영해야 하므로 {@link CommitPolicy}의 커밋 시점이 곧 MERGE 시점입니다.
+ * PER_BATCH는 배치마다, EVERY_N_BATCHES는 N개 배치마다, SINGLE_TRANSACTION은 전체를 한 번에 MERGE하므로
+ * 커밋 정책으로 MERGE 한 번이 처리하는 행 수를 조절할 수 있습니다.
+ * AUTO_COMMIT은 적재한 행이 커밋 시 사라지므로 PER_BATCH로 처리합니다.</p>
+ *
+ * <p>적재 시간과 MERGE 시간은 {@link #getLastRunMetrics()}에 따로 기록합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Repository
+public class StagedMergeUpsertRepository implements UpsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(StagedMergeUpsertRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String TYPE_NAME = "JDBC-StageMerge";
+
+    private static final String STAGE_INSERT_SQL =
+            "INSERT INTO test_record_stage (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String MERGE_SQL =
+            "MERGE INTO test_record t " +
+                    "USING test_record_stage s " +
+                    "ON (t.id = s.id) " +
+                    "WHEN MATCHED THEN UPDATE SET t.data1 = s.data1, t.data2 = s.data2, t.amount = s.amount, " +
+                    "t.status = s.status, t.created_at = s.created_at " +
+                    "WHEN NOT MATCHED THEN INSERT (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (s.id, s.data1, s.data2, s.amount, s.status, s.created_at)";
+
+    private static final String CLEAR_STAGE_SQL = "DELETE FROM test_record_stage";
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+    private volatile int lastMergeCount;
+    private volatile int lastMergedRows;
+    private volatile long lastStageMillis;
+    private volatile long lastMergeMillis;
+
+    /**
+     * StagedMergeUpsertRepository 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    public StagedMergeUpsertRepository(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    @Override
+    public int upsertBatch(List<TestRecord> records) {
+        if (records == null) {
+            throw new IllegalArgumentException("records must not be null");
+        }
+
+        if (records.isEmpty()) {
+            log.debug("Empty record list, nothing to upsert");
+            return 0;
+        }
+
+        log.info("Starting staged merge upsert: records={}, batchSize={}", records.size(), batchSize);
+        long startTime = System.currentTimeMillis();
+
+        CommitPolicy policy = commitPolicy.isAutoCommit() ? CommitPolicy.perBatch() : commitPolicy;
+        long[] mergeNanos = new long[1];
+        int[] totalMerged = new int[1];
+        long stageNanos = 0;
+        int pending = 0;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stage = conn.prepareStatement(STAGE_INSERT_SQL);
+             Statement merge = conn.createStatement()) {
+
+            conn.setAutoCommit(false);
+            CommitPolicy.Tracker commits = policy.tracker(() -> {
+                long mergeStart = System.nanoTime();
+                totalMerged[0] += merge.executeUpdate(MERGE_SQL);
+                if (isH2Database) {
+                    merge.executeUpdate(CLEAR_STAGE_SQL);
+                }
+                conn.commit();
+                mergeNanos[0] += System.nanoTime() - mergeStart;
+            });
+
+            try {
+                for (TestRecord record : records) {
+                    bind(stage, record);
+                    stage.addBatch();
+                    pending++;
+
+                    if (pending == batchSize) {
+                        long stageStart = System.nanoTime();
+                        stage.executeBatch();
+                        stageNanos += System.nanoTime() - stageStart;
+                        commits.batchCompleted();
+                        pending = 0;
+                        log.debug("Staged batch: merged so far={}", totalMerged[0]);
+                    }
+                }
+
+                // 남은 레코드 처리
+                if (pending > 0) {
+                    long stageStart = System.nanoTime();
+                    stage.executeBatch();
+                    stageNanos += System.nanoTime() - stageStart;
+                    commits.batchCompleted();
+                }
+
+                commits.complete();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            }
+
+            lastMergeCount = commits.getCommitCount();
+            lastMergedRows = totalMerged[0];
+            lastStageMillis = stageNanos / 1_000_000;
+            lastMergeMillis = mergeNanos[0] / 1_000_000;
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Staged merge upsert completed: totalMerged={}, duration={}ms, tps={}, merges={}, "
+                            + "stage={}ms, merge={}ms", totalMerged[0], duration,
+                    calculateTps(totalMerged[0], duration), lastMergeCount, lastStageMillis, lastMergeMillis);
+
+            return totalMerged[0];
+
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to stage and merge: " + records.size() + " records", e) {};
+        }
+    }
+
+    private void bind(PreparedStatement ps, TestRecord record) throws SQLException {
+        if (record.getId() == null) {
+            throw new IllegalArgumentException("record id must not be null for upsert: " + record);
+        }
+        ps.setLong(1, record.getId());
+        ps.setString(2, record.getData1());
+        ps.setString(3, record.getData2());
+        ps.setBigDecimal(4, record.getAmount());
+        ps.setString(5, record.getStatus());
+        ps.setTimestamp(6, Timestamp.from(record.getCreatedAt()));
+    }
+
+    private double calculateTps(int count, long durationMs) {
+        if (durationMs == 0) {
+            return 0;
+        }
+        return (count * 1000.0) / durationMs;
+    }
+
+    @Override
+    public Map<String, String> getLastRunMetrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        metrics.put("Merges", String.valueOf(lastMergeCount));
+        metrics.put("Rows/Merge", String.valueOf(lastMergeCount == 0 ? 0 : lastMergedRows / lastMergeCount));
+        metrics.put("Stage Time (ms)", String.valueOf(lastStageMillis));
+        metrics.put("Merge Time (ms)", String.valueOf(lastMergeMillis));
+        return metrics;
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    @Override
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    @Override
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.TableDefinition;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link TableDefinition}으로 선언한 테이블의 한 행({@code Object[]})을 PreparedStatement 파라미터로 바인딩합니다.
+ *
+ * <p>바인딩 순서는 펼쳐진 컬럼 순서이며 {@link JdbcTableBatchInsertRepository#insertSql(TableDefinition)}의
+ * 파라미터 순서와 같습니다. 컬럼 타입별 setter는 생성 시 한 번 정해 두고,
+ * null 값은 컬럼 타입에 맞는 SQL 타입으로 setNull합니다.</p>
+ *
+ * <p>인스턴스는 불변이며 여러 문장에서 함께 사용할 수 있습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class TableRowBinder {
+
+    private final TableDefinition.ColumnType[] types;
+
+    /**
+     * 펼쳐진 컬럼 목록으로 바인더를 생성합니다.
+     *
+     * @param columns 펼쳐진 컬럼 목록 (null 불가)
+     */
+    public TableRowBinder(List<TableDefinition.Column> columns) {
+        Objects.requireNonNull(columns, "columns must not be null");
+        this.types = new TableDefinition.ColumnType[columns.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = columns.get(i).getType();
+        }
+    }
+
+    /**
+     * 한 행을 바인딩합니다.
+     *
+     * @param ps 대상 문장 (null 불가)
+     * @param row 컬럼 순서의 값 배열 (null 불가, 길이는 컬럼 수)
+     * @param firstIndex 첫 파라미터 인덱스 (1부터)
+     * @throws SQLException 바인딩 실패 시
+     * @throws IllegalArgumentException 행 길이가 컬럼 수와 다른 경우
+     */
+    public void bind(PreparedStatement ps, Object[] row, int firstIndex) throws SQLException {
+        Objects.requireNonNull(ps, "ps must not be null");
+        Objects.requireNonNull(row, "row must not be null");
+        if (row.length != types.length) {
+            throw new IllegalArgumentException("row must have " + types.length + " values, but had: " + row.length);
+        }
+
+        for (int i = 0; i < types.length; i++) {
+            int index = firstIndex + i;
+            Object value = row[i];
+            switch (types[i]) {
+                case VARCHAR2:
+                case CHAR:
+                    if (value == null) {
+                        ps.setNull(index, types[i] == TableDefinition.ColumnType.CHAR ? Types.CHAR : Types.VARCHAR);
+                    } else {
+                        ps.setString(index, (String) value);
+                    }
+                    break;
+                case NUMBER:
+                    if (value == null) {
+                        ps.setNull(index, Types.NUMERIC);
+                    } else if (value instanceof Long) {
+                        ps.setLong(index, (Long) value);
+                    } else {
+                        ps.setBigDecimal(index, (BigDecimal) value);
+                    }
+                    break;
+                default:
+                    if (value == null) {
+                        ps.setNull(index, Types.TIMESTAMP);
+                    } else {
+                        ps.setTimestamp(index, (Timestamp) value);
+                    }
+            }
+        }
+    }
+
+    /**
+     * 바인딩하는 컬럼 수를 반환합니다.
+     *
+     * @return 컬럼 수
+     */
+    public int getColumnCount() {
+        return types.length;
+    }
+}
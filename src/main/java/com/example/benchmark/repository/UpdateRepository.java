@@ -0,0 +1,120 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 UPDATE Repository 인터페이스.
+ *
+ * <p>두 가지 갱신 패턴을 측정합니다.</p>
+ * <ul>
+ *   <li>{@link #updateBatch(List)} - 레코드마다 ID 기준 UPDATE를 addBatch/executeBatch</li>
+ *   <li>{@link #updateStatus(String, String)} - 상태 인덱스(idx_test_record_status)를 타는
+ *       집합 단위 UPDATE를 batchSize 행씩 나누어 반복</li>
+ * </ul>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link JdbcBatchUpdateRepository} - JDBC 기반 배치/청크 UPDATE</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface UpdateRepository {
+
+    /**
+     * 레코드 목록의 ID에 해당하는 행을 레코드 값으로 배치 갱신합니다.
+     *
+     * @param records 갱신할 레코드 목록 (null 불가, 모든 레코드에 id 필수)
+     * @return 갱신된 행 수
+     * @throws IllegalArgumentException records가 null이거나 id가 없는 레코드가 있는 경우
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    int updateBatch(List<TestRecord> records);
+
+    /**
+     * fromStatus 상태인 행을 모두 toStatus로 바꿉니다.
+     *
+     * <p>한 문장에 최대 batchSize 행씩 갱신하며, 문장 하나를 커밋 정책의 배치 하나로 취급합니다.</p>
+     *
+     * @param fromStatus 변경 전 상태 (null 불가)
+     * @param toStatus 변경 후 상태 (null 불가, fromStatus와 달라야 함)
+     * @return 갱신된 행 수
+     * @throws IllegalArgumentException 상태가 null이거나 서로 같은 경우
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    int updateStatus(String fromStatus, String toStatus);
+
+    /**
+     * 측정 전에 ID가 지정된 레코드를 적재합니다.
+     *
+     * <p>측정 대상이 아닌 준비 단계이며, 커밋 정책과 무관하게 한 트랜잭션으로 커밋합니다.</p>
+     *
+     * @param records 적재할 레코드 목록 (null 불가, 모든 레코드에 id 필수)
+     * @return 적재된 레코드 수
+     */
+    int seed(List<TestRecord> records);
+
+    /**
+     * 배치 크기를 설정합니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     * @throws IllegalArgumentException batchSize가 1 미만인 경우
+     */
+    void setBatchSize(int batchSize);
+
+    /**
+     * 현재 설정된 배치 크기를 반환합니다.
+     *
+     * @return 배치 크기
+     */
+    int getBatchSize();
+
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     * @throws NullPointerException commitPolicy가 null인 경우
+     */
+    void setCommitPolicy(CommitPolicy commitPolicy);
+
+    /**
+     * 현재 설정된 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책 (기본값: SINGLE_TRANSACTION)
+     */
+    CommitPolicy getCommitPolicy();
+
+    /**
+     * 테이블의 모든 데이터를 삭제합니다.
+     */
+    void truncateTable();
+
+    /**
+     * 테이블의 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    long count();
+
+    /**
+     * Repository 타입명을 반환합니다.
+     *
+     * @return 구현체 타입명 (예: "JDBC-Update")
+     */
+    String getTypeName();
+
+    /**
+     * 마지막 갱신 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 upsert Repository 인터페이스.
+ *
+ * <p>ID가 지정된 레코드를 키로 삼아, 이미 있는 행은 갱신하고 없는 행은 삽입합니다.
+ * 재전송처럼 같은 키가 반복해서 들어오는 멱등 적재를 측정하기 위한 인터페이스이며,
+ * {@link BatchInsertRepository}와 같은 배치 크기/커밋 정책 설정을 따릅니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link JdbcMergeUpsertRepository} - JDBC 기반 배치 MERGE</li>
+ *   <li>{@link MyBatisMergeUpsertRepository} - MyBatis BATCH Executor 기반 MERGE</li>
+ *   <li>{@link StagedMergeUpsertRepository} - 스테이징 테이블 적재 후 집합 단위 MERGE</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface UpsertRepository {
+
+    /**
+     * 레코드 목록을 배치로 upsert합니다.
+     *
+     * @param records upsert할 레코드 목록 (null 불가, 모든 레코드에 id 필수)
+     * @return 삽입 또는 갱신된 레코드 수
+     * @throws IllegalArgumentException records가 null이거나 id가 없는 레코드가 있는 경우
+     * @throws org.springframework.dao.DataAccessException 데이터 접근 오류 시
+     */
+    int upsertBatch(List<TestRecord> records);
+
+    /**
+     * 배치 크기를 설정합니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     * @throws IllegalArgumentException batchSize가 1 미만인 경우
+     */
+    void setBatchSize(int batchSize);
+
+    /**
+     * 현재 설정된 배치 크기를 반환합니다.
+     *
+     * @return 배치 크기
+     */
+    int getBatchSize();
+
+    /**
+     * 커밋 정책을 설정합니다.
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     * @throws NullPointerException commitPolicy가 null인 경우
+     */
+    void setCommitPolicy(CommitPolicy commitPolicy);
+
+    /**
+     * 현재 설정된 커밋 정책을 반환합니다.
+     *
+     * @return 커밋 정책 (기본값: SINGLE_TRANSACTION)
+     */
+    CommitPolicy getCommitPolicy();
+
+    /**
+     * 테이블의 모든 데이터를 삭제합니다.
+     */
+    void truncateTable();
+
+    /**
+     * 테이블의 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    long count();
+
+    /**
+     * Repository 타입명을 반환합니다.
+     *
+     * @return 구현체 타입명 (예: "JDBC-Merge")
+     */
+    String getTypeName();
+
+    /**
+     * 마지막 upsertBatch 실행의 구현체별 부가 지표를 반환합니다.
+     *
+     * @return 지표명과 값의 맵 (null 불가)
+     */
+    default Map<String, String> getLastRunMetrics() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.util.AllocationMeter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 수집 단계 구현체의 공통 기반 클래스.
+ *
+ * <p>소비자 스레드를 띄워 {@link JdbcIngestWriter#open()} 세션을 열고 {@link #consume(JdbcIngestWriter.Session)}에
+ * 소비 루프를 위임합니다. 루프가 정상 종료하면 남은 행을 실행해 커밋하고, 실패하면 롤백한 뒤
+ * {@link #onConsumerFailure()}로 기다리는 생산자를 풀어 줍니다. 실패 원인은 {@link #close()}에서 다시 던집니다.</p>
+ *
+ * <p>하위 클래스는 필드를 모두 초기화한 뒤 생성자 마지막에 {@link #start()}를 호출합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public abstract class AbstractIngestStage implements IngestStage {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractIngestStage.class);
+
+    private final JdbcIngestWriter writer;
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile RuntimeException failure;
+    private volatile long writtenCount;
+    private volatile long consumerAllocatedBytes = -1;
+
+    /**
+     * AbstractIngestStage 생성자.
+     *
+     * @param writer 소비자가 사용할 쓰기 도구 (null 불가)
+     */
+    protected AbstractIngestStage(JdbcIngestWriter writer) {
+        this.writer = Objects.requireNonNull(writer, "writer must not be null");
+        this.consumer = new Thread(this::runConsumer);
+        this.consumer.setDaemon(true);
+    }
+
+    /**
+     * 소비자 스레드를 시작합니다.
+     */
+    protected final void start() {
+        consumer.setName("ingest-consumer-" + getTypeName());
+        consumer.start();
+    }
+
+    /**
+     * 소비 루프. {@link #isRunning()}이 false가 되고 남은 행을 모두 넘겼을 때 반환합니다.
+     *
+     * @param session 쓰기 세션
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    protected abstract void consume(JdbcIngestWriter.Session session) throws InterruptedException;
+
+    /**
+     * 생산자 측 publish 구현. 상태 확인 후 호출됩니다.
+     */
+    protected abstract void doPublish(String data1, String data2, BigDecimal amount, String status,
+                                      Instant createdAt);
+
+    /**
+     * 소비자가 실패했을 때 기다리는 생산자를 깨웁니다.
+     */
+    protected abstract void onConsumerFailure();
+
+    /**
+     * 아직 close()가 호출되지 않았는지 반환합니다.
+     *
+     * @return 실행 중 여부
+     */
+    protected final boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 소비자가 실패했으면 생산자 측에서 던질 예외를 반환합니다.
+     *
+     * @return 실패를 알리는 예외 (실패하지 않았으면 null)
+     */
+    protected final IllegalStateException consumerFailure() {
+        RuntimeException cause = failure;
+        return cause == null ? null : new IllegalStateException("Ingest consumer failed", cause);
+    }
+
+    @Override
+    public final void publish(String data1, String data2, BigDecimal amount, String status, Instant createdAt) {
+        if (!running) {
+            throw new IllegalStateException("Ingest stage is closed");
+        }
+        IllegalStateException consumerFailure = consumerFailure();
+        if (consumerFailure != null) {
+            throw consumerFailure;
+        }
+        doPublish(data1, data2, amount, status, createdAt);
+    }
+
+    private void runConsumer() {
+        long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
+        JdbcIngestWriter.Session session = null;
+        try {
+            session = writer.open();
+            consume(session);
+            session.finish();
+            writtenCount = session.getWrittenCount();
+            log.debug("{} consumer finished: written={}, statements={}, commits={}", getTypeName(),
+                    session.getWrittenCount(), session.getStatementCount(), session.getCommitCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(session, new IllegalStateException("Ingest consumer interrupted", e));
+        } catch (RuntimeException e) {
+            fail(session, e);
+        } finally {
+            if (session != null) {
+                session.close();
+            }
+            if (allocatedBefore >= 0) {
+                consumerAllocatedBytes = AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore;
+            }
+        }
+    }
+
+    private void fail(JdbcIngestWriter.Session session, RuntimeException cause) {
+        log.warn("{} consumer failed", getTypeName(), cause);
+        if (session != null) {
+            session.abort();
+        }
+        failure = cause;
+        onConsumerFailure();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            consumer.interrupt();
+        }
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw cause;
+        }
+    }
+
+    @Override
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    @Override
+    public long getConsumerAllocatedBytes() {
+        return consumerAllocatedBytes;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ArrayBlockingQueue} 기반 수집 단계 (링 버퍼와 비교하기 위한 기준 구현).
+ *
+ * <p>생산자는 넘겨받은 값으로 행마다 {@link TestRecord}를 만들어 큐에 넣습니다. 큐에 넣은 객체는 소비자가 처리할
+ * 때까지 살아 있어야 하므로 재사용할 수 없습니다. 소비자는 첫 행을 기다린 뒤 쌓인 행을 drainTo로 한꺼번에 꺼내
+ * 바인딩하고, 큐가 비면 쌓인 배치를 바로 실행합니다 (링 버퍼 구현과 같은 smart batching).
+ * 큐의 대기는 내부 락과 Condition을 사용하므로 {@link com.example.benchmark.config.WaitStrategy}는 적용되지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class BlockingQueueIngestStage extends AbstractIngestStage {
+
+    private static final String TYPE_NAME = "ArrayBlockingQueue";
+    private static final long POLL_TIMEOUT_MILLIS = 50;
+
+    private final BlockingQueue<TestRecord> queue;
+    private final List<TestRecord> drained;
+
+    /**
+     * BlockingQueueIngestStage 생성자. 소비자 스레드를 시작합니다.
+     *
+     * @param writer 쓰기 도구 (null 불가)
+     * @param capacity 큐 용량 (1 이상)
+     * @throws IllegalArgumentException capacity가 1 미만인 경우
+     */
+    public BlockingQueueIngestStage(JdbcIngestWriter writer, int capacity) {
+        super(writer);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1, but was: " + capacity);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.drained = new ArrayList<>(capacity);
+        start();
+    }
+
+    @Override
+    protected void doPublish(String data1, String data2, BigDecimal amount, String status, Instant createdAt) {
+        TestRecord record = TestRecord.builder()
+                .data1(data1)
+                .data2(data2)
+                .amount(amount)
+                .status(status)
+                .createdAt(createdAt)
+                .build();
+        try {
+            // 소비자가 실패해도 빠져나올 수 있도록 제한 시간을 두고 반복
+            while (!queue.offer(record, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                IllegalStateException consumerFailure = consumerFailure();
+                if (consumerFailure != null) {
+                    throw consumerFailure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing to ingest queue", e);
+        }
+    }
+
+    @Override
+    protected void consume(JdbcIngestWriter.Session session) throws InterruptedException {
+        while (true) {
+            TestRecord first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                if (!isRunning() && queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+
+            add(session, first);
+            queue.drainTo(drained);
+            for (TestRecord record : drained) {
+                add(session, record);
+            }
+            drained.clear();
+            if (queue.isEmpty()) {
+                // 읽을 행을 모두 처리했으므로 쌓인 배치 실행
+                session.endOfBatch();
+            }
+        }
+    }
+
+    private void add(JdbcIngestWriter.Session session, TestRecord record) {
+        session.add(record.getData1(), record.getData2(), record.getAmount(), record.getStatus(),
+                record.getCreatedAt());
+    }
+
+    @Override
+    protected void onConsumerFailure() {
+        queue.clear();
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.repository.BatchInsertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시에 들어오는 단건 삽입을 모아 배치로 저장하는 write-behind 서비스 (group commit).
+ *
+ * <p>호출 스레드는 {@link #submit(TestRecord)}로 레코드 한 건을 넘기고 {@link CompletableFuture}를 받습니다.
+ * 백그라운드 flusher 스레드는 첫 레코드를 받은 뒤 maxRows 건이 모이거나 maxWait이 지날 때까지 기다렸다가,
+ * 모인 레코드를 {@link BatchInsertRepository#insertBatch(List)} 한 번으로 저장하고 각 Future를 완료합니다.
+ * 요청마다 커넥션을 빌리고 커밋하는 대신, 동시에 도착한 요청들이 커넥션 하나와 커밋 하나를 나눠 씁니다.</p>
+ *
+ * <p>사용 시 주의사항:</p>
+ * <ul>
+ *   <li>flush 한 번이 executeBatch 한 번이 되도록 delegate의 batchSize를 maxRows 이상으로 설정합니다.</li>
+ *   <li>Future는 flusher 스레드에서 완료되므로 의존 작업(thenApply 등)이 flusher를 지연시키지 않도록 합니다.</li>
+ *   <li>큐가 가득 차면 submit이 블로킹되어 호출 측에 배압(backpressure)이 전달됩니다.</li>
+ *   <li>flush가 실패하면 그 배치에 포함된 모든 Future가 같은 예외로 완료됩니다.</li>
+ *   <li>{@link #close()}는 남은 레코드를 모두 저장한 뒤 flusher를 종료합니다.</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class GroupCommitInsertService implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitInsertService.class);
+
+    private static final int QUEUE_CAPACITY_BATCHES = 16;
+    private static final long IDLE_POLL_MILLIS = 50;
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLIS);
+
+    private final BatchInsertRepository delegate;
+    private final int maxRows;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingInsert> queue;
+    private final Thread flusher;
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong fullFlushCount = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * GroupCommitInsertService 생성자. flusher 스레드를 바로 시작합니다.
+     *
+     * @param delegate 모인 레코드를 저장할 배치 삽입 Repository (null 불가)
+     * @param maxRows flush 한 번의 최대 레코드 수 (1 이상)
+     * @param maxWaitMillis 첫 레코드 도착 후 flush까지 기다리는 최대 시간 (0 이상, 0이면 대기 없이 도착한 만큼 flush)
+     * @throws IllegalArgumentException maxRows가 1 미만이거나 maxWaitMillis가 음수인 경우
+     */
+    public GroupCommitInsertService(BatchInsertRepository delegate, int maxRows, long maxWaitMillis) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("maxRows must be at least 1, but was: " + maxRows);
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("maxWaitMillis must not be negative, but was: " + maxWaitMillis);
+        }
+        this.maxRows = maxRows;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.queue = new ArrayBlockingQueue<>(maxRows * QUEUE_CAPACITY_BATCHES);
+        this.flusher = new Thread(this::runFlusher, "group-commit-flusher-" + delegate.getTypeName());
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 레코드 한 건을 저장 대기열에 넣습니다.
+     *
+     * @param record 저장할 레코드 (null 불가)
+     * @return 레코드가 포함된 배치가 저장(커밋)되면 완료되는 Future, 저장 실패 시 예외로 완료
+     * @throws IllegalArgumentException record가 null인 경우
+     * @throws IllegalStateException 서비스가 종료된 경우
+     */
+    public CompletableFuture<Void> submit(TestRecord record) {
+        if (record == null) {
+            throw new IllegalArgumentException("record must not be null");
+        }
+        if (!running) {
+            throw new IllegalStateException("GroupCommitInsertService is closed");
+        }
+
+        PendingInsert pending = new PendingInsert(record);
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+            return pending.future;
+        }
+
+        // close()와 경합하여 flusher가 이미 끝난 뒤 들어간 경우
+        if (!running && !flusher.isAlive() && queue.remove(pending)) {
+            pending.future.completeExceptionally(new IllegalStateException("GroupCommitInsertService is closed"));
+        }
+        return pending.future;
+    }
+
+    private void runFlusher() {
+        List<PendingInsert> batch = new ArrayList<>(maxRows);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failAll(batch, e);
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        log.debug("Group commit flusher stopped: flushes={}, rows={}", flushCount.get(), flushedRows.get());
+    }
+
+    /**
+     * maxRows 건이 모이거나 maxWait이 지날 때까지 대기열에서 레코드를 더 가져옵니다. 종료 중에는 기다리지 않습니다.
+     */
+    private void collect(List<PendingInsert> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxRows) {
+            queue.drainTo(batch, maxRows - batch.size());
+            if (batch.size() >= maxRows || !running) {
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            // 대기 중에도 close()를 알아챌 수 있도록 IDLE_POLL 단위로 나눠 기다림
+            PendingInsert next = queue.poll(Math.min(remaining, IDLE_POLL_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        List<TestRecord> records = new ArrayList<>(batch.size());
+        for (PendingInsert pending : batch) {
+            records.add(pending.record);
+        }
+
+        try {
+            delegate.insertBatch(records);
+        } catch (RuntimeException e) {
+            log.warn("Group commit flush failed: rows={}", records.size(), e);
+            failAll(batch, e);
+            return;
+        }
+
+        flushCount.incrementAndGet();
+        flushedRows.addAndGet(records.size());
+        if (records.size() >= maxRows) {
+            fullFlushCount.incrementAndGet();
+        }
+        for (PendingInsert pending : batch) {
+            pending.future.complete(null);
+        }
+    }
+
+    private void failAll(List<PendingInsert> batch, Throwable cause) {
+        for (PendingInsert pending : batch) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 지금까지 수행한 flush 횟수를 반환합니다.
+     *
+     * @return 성공한 flush 횟수
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * 지금까지 저장한 레코드 수를 반환합니다.
+     *
+     * @return 저장된 레코드 수
+     */
+    public long getFlushedRows() {
+        return flushedRows.get();
+    }
+
+    /**
+     * maxRows를 채워서 수행한 flush 횟수를 반환합니다. 나머지는 maxWait 경과 또는 종료로 수행된 flush입니다.
+     *
+     * @return maxRows를 채운 flush 횟수
+     */
+    public long getFullFlushCount() {
+        return fullFlushCount.get();
+    }
+
+    /**
+     * 새 레코드를 받지 않고, 대기 중인 레코드를 모두 저장한 뒤 flusher를 종료합니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.interrupt();
+        }
+
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining, new IllegalStateException("GroupCommitInsertService is closed"));
+    }
+
+    /**
+     * 대기 중인 레코드와 호출 측에 돌려준 Future.
+     */
+    private static final class PendingInsert {
+        private final TestRecord record;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingInsert(TestRecord record) {
+            this.record = record;
+        }
+    }
+}
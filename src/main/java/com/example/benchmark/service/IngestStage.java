@@ -0,0 +1,79 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 레코드 생산자와 DB 쓰기 스레드 사이의 수집(hand-off) 단계.
+ *
+ * <p>여러 생산자 스레드가 {@link #publish}로 행을 넘기면, 단계 내부의 소비자 스레드 하나가
+ * {@link JdbcIngestWriter.Session}으로 배치 삽입합니다. 생산자는 단계가 가득 차면 기다립니다.</p>
+ *
+ * <p>구현체:</p>
+ * <ul>
+ *   <li>{@link RingBufferIngestStage} - 미리 할당한 슬롯을 재사용하는 락 없는 링 버퍼</li>
+ *   <li>{@link BlockingQueueIngestStage} - 행마다 {@link TestRecord}를 만들어 넣는 {@code ArrayBlockingQueue}</li>
+ * </ul>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public interface IngestStage extends AutoCloseable {
+
+    /**
+     * 컬럼 값으로 한 행을 넘깁니다. 단계가 가득 차면 자리가 날 때까지 기다립니다.
+     *
+     * @param data1 data1 값
+     * @param data2 data2 값
+     * @param amount 금액
+     * @param status 상태
+     * @param createdAt 생성 시각 (null 불가)
+     * @throws IllegalStateException 단계가 종료되었거나 소비자가 실패한 경우
+     */
+    void publish(String data1, String data2, BigDecimal amount, String status, Instant createdAt);
+
+    /**
+     * 레코드 한 건의 컬럼 값을 넘깁니다 (id 제외).
+     *
+     * @param record 넘길 레코드 (null 불가)
+     * @throws IllegalArgumentException record가 null인 경우
+     * @throws IllegalStateException 단계가 종료되었거나 소비자가 실패한 경우
+     */
+    default void publish(TestRecord record) {
+        if (record == null) {
+            throw new IllegalArgumentException("record must not be null");
+        }
+        publish(record.getData1(), record.getData2(), record.getAmount(), record.getStatus(), record.getCreatedAt());
+    }
+
+    /**
+     * 넘겨받은 행을 모두 저장하고 커밋한 뒤 소비자 스레드를 종료합니다. 모든 생산자가 publish를 마친 뒤 호출합니다.
+     *
+     * @throws org.springframework.dao.DataAccessException 소비자가 저장 중 실패한 경우
+     */
+    @Override
+    void close();
+
+    /**
+     * 소비자가 저장한 행 수를 반환합니다. {@link #close()} 후에 확정됩니다.
+     *
+     * @return 저장된 행 수
+     */
+    long getWrittenCount();
+
+    /**
+     * 소비자 스레드가 실행 중 할당한 힙 바이트 수를 반환합니다. {@link #close()} 후에 확정됩니다.
+     *
+     * @return 할당 바이트 수 (측정을 지원하지 않으면 -1)
+     */
+    long getConsumerAllocatedBytes();
+
+    /**
+     * 단계 타입명을 반환합니다.
+     *
+     * @return 타입명 (예: "RingBuffer-MULTI-YIELDING")
+     */
+    String getTypeName();
+}
@@ -0,0 +1,306 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.config.CommitPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 수집 단계의 소비자 스레드가 사용하는 JDBC 배치 쓰기 도구.
+ *
+ * <p>{@link com.example.benchmark.repository.JdbcBatchInsertRepository}와 같은 INSERT 문과 커밋 정책을 사용하지만,
+ * 레코드 목록 대신 컬럼 값을 한 행씩 받습니다. 소비자는 {@link #open()}으로 받은 {@link Session}에
+ * 링 버퍼 슬롯이나 큐에서 꺼낸 값을 바로 바인딩하므로 중간 {@code List<TestRecord>}를 만들지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@Component
+public class JdbcIngestWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcIngestWriter.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (test_record_seq.NEXTVAL, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL_H2 =
+            "INSERT INTO test_record (id, data1, data2, amount, status, created_at) " +
+                    "VALUES (NEXTVAL('test_record_seq'), ?, ?, ?, ?, ?)";
+
+    private static final String TRUNCATE_SQL = "DELETE FROM test_record";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM test_record";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+    private boolean isH2Database;
+
+    /**
+     * JdbcIngestWriter 생성자.
+     *
+     * @param dataSource 데이터소스 (null 불가)
+     */
+    public JdbcIngestWriter(DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        detectDatabaseType();
+    }
+
+    private void detectDatabaseType() {
+        try (Connection conn = dataSource.getConnection()) {
+            String driverName = conn.getMetaData().getDriverName().toLowerCase();
+            this.isH2Database = driverName.contains("h2");
+            log.debug("Detected database driver: {}, isH2: {}", driverName, isH2Database);
+        } catch (SQLException e) {
+            log.warn("Failed to detect database type, defaulting to Oracle", e);
+            this.isH2Database = false;
+        }
+    }
+
+    /**
+     * 커넥션 하나를 열어 쓰기 세션을 시작합니다. 세션은 현재 배치 크기와 커밋 정책을 사용합니다.
+     *
+     * @return 새 세션 (사용 후 close 필수)
+     * @throws DataAccessException 커넥션을 열 수 없는 경우
+     */
+    public Session open() {
+        Connection conn = null;
+        try {
+            conn = dataSource.getConnection();
+            return new Session(conn, isH2Database ? INSERT_SQL_H2 : INSERT_SQL, batchSize, commitPolicy);
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw new DataAccessException("Failed to open ingest session", e) {};
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            log.warn("Failed to close ingest connection", e);
+        }
+    }
+
+    /**
+     * 배치 크기를 설정합니다. 이후 여는 세션부터 적용됩니다.
+     *
+     * @param batchSize 배치 크기 (1 이상)
+     * @throws IllegalArgumentException batchSize가 1 미만인 경우
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        log.debug("Batch size set to: {}", batchSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 커밋 정책을 설정합니다. 이후 여는 세션부터 적용됩니다.
+     *
+     * @param commitPolicy 커밋 정책 (null 불가)
+     */
+    public void setCommitPolicy(CommitPolicy commitPolicy) {
+        this.commitPolicy = Objects.requireNonNull(commitPolicy, "commitPolicy must not be null");
+        log.debug("Commit policy set to: {}", commitPolicy);
+    }
+
+    public CommitPolicy getCommitPolicy() {
+        return commitPolicy;
+    }
+
+    /**
+     * test_record 테이블의 모든 데이터를 삭제합니다.
+     */
+    public void truncateTable() {
+        log.info("Truncating test_record table");
+        jdbcTemplate.update(TRUNCATE_SQL);
+    }
+
+    /**
+     * test_record 테이블의 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    public long count() {
+        Long result = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * 커넥션 하나와 PreparedStatement 하나로 행을 쌓아 batchSize마다 executeBatch하는 쓰기 세션.
+     *
+     * <p>{@link #endOfBatch()}는 배치가 덜 찼더라도 쌓인 행을 실행합니다. 소비자가 읽을 레코드를 모두 처리했을 때
+     * 호출하면 부하가 낮을 때는 작은 배치로 지연 시간을 줄이고 부하가 높을 때는 큰 배치로 처리량을 높입니다
+     * (smart batching). 단일 스레드에서만 사용합니다.</p>
+     */
+    public static final class Session implements AutoCloseable {
+
+        private final Connection conn;
+        private final PreparedStatement ps;
+        private final CommitPolicy policy;
+        private final CommitPolicy.Tracker commits;
+        private final int batchSize;
+        private int pending;
+        private long writtenCount;
+        private int statementCount;
+
+        private Session(Connection conn, String sql, int batchSize, CommitPolicy policy) throws SQLException {
+            this.conn = conn;
+            this.batchSize = batchSize;
+            this.policy = policy;
+            conn.setAutoCommit(policy.isAutoCommit());
+            this.ps = conn.prepareStatement(sql);
+            this.commits = policy.tracker(conn::commit);
+        }
+
+        /**
+         * 한 행을 배치에 추가하고, batchSize에 도달하면 실행합니다.
+         *
+         * @param data1 data1 값
+         * @param data2 data2 값
+         * @param amount 금액
+         * @param status 상태
+         * @param createdAt 생성 시각 (null 불가)
+         * @throws DataAccessException SQL 실행 오류 시
+         */
+        public void add(String data1, String data2, BigDecimal amount, String status, Instant createdAt) {
+            try {
+                ps.setString(1, data1);
+                ps.setString(2, data2);
+                ps.setBigDecimal(3, amount);
+                ps.setString(4, status);
+                ps.setTimestamp(5, Timestamp.from(createdAt));
+                ps.addBatch();
+                if (++pending == batchSize) {
+                    executePending();
+                }
+            } catch (SQLException e) {
+                throw new DataAccessException("Failed to write ingest batch", e) {};
+            }
+        }
+
+        /**
+         * 쌓인 행이 있으면 배치 크기와 관계없이 실행합니다.
+         *
+         * @throws DataAccessException SQL 실행 오류 시
+         */
+        public void endOfBatch() {
+            if (pending == 0) {
+                return;
+            }
+            try {
+                executePending();
+            } catch (SQLException e) {
+                throw new DataAccessException("Failed to write ingest batch", e) {};
+            }
+        }
+
+        private void executePending() throws SQLException {
+            writtenCount += sumResults(ps.executeBatch());
+            statementCount++;
+            pending = 0;
+            commits.batchCompleted();
+        }
+
+        /**
+         * 남은 행을 실행하고 커밋 정책에 따라 마지막 커밋을 수행합니다.
+         *
+         * @throws DataAccessException SQL 실행 오류 시
+         */
+        public void finish() {
+            endOfBatch();
+            try {
+                commits.complete();
+            } catch (SQLException e) {
+                throw new DataAccessException("Failed to commit ingest session", e) {};
+            }
+        }
+
+        /**
+         * 커밋되지 않은 변경을 롤백합니다. 실패 처리 중 호출하므로 예외를 던지지 않습니다.
+         */
+        public void abort() {
+            if (policy.isAutoCommit()) {
+                return;
+            }
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                log.warn("Failed to roll back ingest session", e);
+            }
+        }
+
+        private int sumResults(int[] results) {
+            int sum = 0;
+            for (int result : results) {
+                if (result >= 0) {
+                    sum += result;
+                } else if (result == PreparedStatement.SUCCESS_NO_INFO) {
+                    sum++;
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * 지금까지 실행된 행 수를 반환합니다.
+         *
+         * @return 실행된 행 수
+         */
+        public long getWrittenCount() {
+            return writtenCount;
+        }
+
+        /**
+         * 지금까지 실행한 executeBatch 횟수를 반환합니다.
+         *
+         * @return executeBatch 횟수
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * 지금까지 수행한 커밋 횟수를 반환합니다.
+         *
+         * @return 커밋 횟수
+         */
+        public int getCommitCount() {
+            return commits.getCommitCount();
+        }
+
+        @Override
+        public void close() {
+            try {
+                ps.close();
+            } catch (SQLException e) {
+                log.warn("Failed to close ingest statement", e);
+            }
+            closeQuietly(conn);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.config.WaitStrategy;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미리 할당한 {@link RecordSlot} 배열로 생산자와 소비자 하나를 잇는 락 없는 링 버퍼 (Disruptor 방식).
+ *
+ * <p>생산자 흐름: {@link #next()}로 시퀀스를 받고, {@link #get(long)} 슬롯에 값을 쓴 뒤 {@link #publish(long)}합니다.
+ * 소비자 흐름: {@link #getHighestPublished(long)}로 연속으로 게시된 구간을 찾아 처리한 뒤 {@link #release(long)}로
+ * 슬롯을 반납합니다. 생산자는 소비자가 반납하지 않은 슬롯을 덮어쓰지 않도록 기다립니다.</p>
+ *
+ * <p>생산자 종류:</p>
+ * <ul>
+ *   <li>{@link ProducerType#SINGLE} - 생산자 스레드가 하나뿐이라고 가정하고 CAS 없이 시퀀스를 증가</li>
+ *   <li>{@link ProducerType#MULTI} - 여러 생산자가 원자적으로 시퀀스를 받고, 슬롯별 게시 표시로 순서가 뒤바뀐 게시를 처리</li>
+ * </ul>
+ *
+ * <p>기다리는 동안에는 {@link WaitStrategy}를 따르며, {@link #halt()} 후에는 기다리던 생산자가
+ * {@link IllegalStateException}으로 빠져나옵니다. 소비자는 하나만 지원합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class RecordRingBuffer {
+
+    /**
+     * 생산자 스레드 구성.
+     */
+    public enum ProducerType {
+        /**
+         * 생산자 스레드 하나.
+         */
+        SINGLE,
+
+        /**
+         * 여러 생산자 스레드.
+         */
+        MULTI
+    }
+
+    private final RecordSlot[] slots;
+    private final int mask;
+    private final int indexShift;
+    private final AtomicIntegerArray publishedRounds;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong claimSequence = new AtomicLong(-1);
+    private final AtomicLong consumerSequence = new AtomicLong(-1);
+    private volatile boolean halted;
+
+    /**
+     * RecordRingBuffer 생성자. 모든 슬롯을 미리 할당합니다.
+     *
+     * @param bufferSize 슬롯 수 (2의 거듭제곱)
+     * @param producerType 생산자 구성 (null 불가)
+     * @param waitStrategy 대기 전략 (null 불가)
+     * @throws IllegalArgumentException bufferSize가 2의 거듭제곱이 아닌 경우
+     */
+    public RecordRingBuffer(int bufferSize, ProducerType producerType, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of two, but was: " + bufferSize);
+        }
+        this.producerType = Objects.requireNonNull(producerType, "producerType must not be null");
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy must not be null");
+        this.slots = new RecordSlot[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            slots[i] = new RecordSlot();
+        }
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.publishedRounds = new AtomicIntegerArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            publishedRounds.set(i, -1);
+        }
+    }
+
+    /**
+     * 다음 시퀀스를 받습니다. 해당 슬롯이 아직 소비되지 않았으면 반납될 때까지 기다립니다.
+     *
+     * @return 받은 시퀀스
+     * @throws IllegalStateException 기다리는 중 {@link #halt()}된 경우
+     */
+    public long next() {
+        long sequence;
+        if (producerType == ProducerType.SINGLE) {
+            sequence = claimSequence.get() + 1;
+            claimSequence.lazySet(sequence);
+        } else {
+            sequence = claimSequence.incrementAndGet();
+        }
+
+        long wrapPoint = sequence - slots.length;
+        int attempt = 0;
+        while (wrapPoint > consumerSequence.get()) {
+            if (halted) {
+                throw new IllegalStateException("Ring buffer halted");
+            }
+            waitStrategy.idle(attempt++);
+        }
+        return sequence;
+    }
+
+    /**
+     * 시퀀스에 해당하는 슬롯을 반환합니다.
+     *
+     * @param sequence 시퀀스
+     * @return 슬롯
+     */
+    public RecordSlot get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * 슬롯에 값을 다 쓴 시퀀스를 게시하여 소비자가 읽을 수 있게 합니다.
+     *
+     * @param sequence {@link #next()}로 받은 시퀀스
+     */
+    public void publish(long sequence) {
+        publishedRounds.lazySet((int) sequence & mask, (int) (sequence >>> indexShift));
+    }
+
+    /**
+     * lowerBound부터 빈틈없이 게시된 마지막 시퀀스를 반환합니다.
+     *
+     * @param lowerBound 소비자가 다음에 읽을 시퀀스
+     * @return 연속으로 게시된 마지막 시퀀스 (lowerBound가 아직 게시되지 않았으면 lowerBound - 1)
+     */
+    public long getHighestPublished(long lowerBound) {
+        long claimed = claimSequence.get();
+        for (long sequence = lowerBound; sequence <= claimed; sequence++) {
+            if (publishedRounds.get((int) sequence & mask) != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * sequence까지의 슬롯을 소비했음을 알려 생산자가 재사용할 수 있게 합니다.
+     *
+     * @param sequence 소비를 마친 마지막 시퀀스
+     */
+    public void release(long sequence) {
+        consumerSequence.lazySet(sequence);
+    }
+
+    /**
+     * 지금까지 생산자가 받은 마지막 시퀀스를 반환합니다.
+     *
+     * @return 마지막으로 받은 시퀀스 (없으면 -1)
+     */
+    public long getClaimedSequence() {
+        return claimSequence.get();
+    }
+
+    /**
+     * 기다리는 생산자를 깨워 더 이상 진행하지 않게 합니다. 소비자가 실패했을 때 사용합니다.
+     */
+    public void halt() {
+        halted = true;
+    }
+
+    /**
+     * 슬롯 수를 반환합니다.
+     *
+     * @return 슬롯 수
+     */
+    public int getBufferSize() {
+        return slots.length;
+    }
+
+    /**
+     * 생산자 구성을 반환합니다.
+     *
+     * @return 생산자 구성
+     */
+    public ProducerType getProducerType() {
+        return producerType;
+    }
+
+    /**
+     * 대기 전략을 반환합니다.
+     *
+     * @return 대기 전략
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * {@link RecordRingBuffer}에 미리 할당되어 재사용되는 가변 레코드 슬롯.
+ *
+ * <p>생산자는 시퀀스를 받은 슬롯에 컬럼 값을 쓰고 게시하며, 소비자는 게시된 슬롯의 값을 바인딩한 뒤 슬롯을 반납합니다.
+ * 레코드마다 {@link TestRecord}를 새로 만들지 않으므로 수집 단계에서 이벤트 객체 할당이 생기지 않습니다.
+ * ID는 저장 시 시퀀스로 발급하므로 슬롯에 두지 않습니다.</p>
+ *
+ * <p>스레드 안전하지 않습니다. 가시성은 {@link RecordRingBuffer#publish(long)}와
+ * {@link RecordRingBuffer#release(long)}가 보장합니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class RecordSlot {
+
+    private String data1;
+    private String data2;
+    private BigDecimal amount;
+    private String status;
+    private Instant createdAt;
+
+    RecordSlot() {
+    }
+
+    /**
+     * 슬롯의 컬럼 값을 설정합니다.
+     *
+     * @param data1 data1 값
+     * @param data2 data2 값
+     * @param amount 금액
+     * @param status 상태
+     * @param createdAt 생성 시각
+     */
+    public void set(String data1, String data2, BigDecimal amount, String status, Instant createdAt) {
+        this.data1 = data1;
+        this.data2 = data2;
+        this.amount = amount;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 레코드의 컬럼 값을 슬롯에 복사합니다 (id 제외).
+     *
+     * @param record 복사할 레코드 (null 불가)
+     */
+    public void copyFrom(TestRecord record) {
+        set(record.getData1(), record.getData2(), record.getAmount(), record.getStatus(), record.getCreatedAt());
+    }
+
+    public String getData1() {
+        return data1;
+    }
+
+    public String getData2() {
+        return data2;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.config.WaitStrategy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * {@link RecordRingBuffer} 기반 수집 단계.
+ *
+ * <p>생산자는 시퀀스를 받은 슬롯에 컬럼 값을 쓰고 게시하므로 행마다 객체를 만들지 않습니다.
+ * 소비자는 연속으로 게시된 구간을 한 번에 읽어 바인딩하고, 읽을 행이 없어지면 쌓인 배치를 바로 실행합니다
+ * (smart batching). 생산자와 소비자 모두 설정한 {@link WaitStrategy}로 기다립니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public class RingBufferIngestStage extends AbstractIngestStage {
+
+    private final RecordRingBuffer ringBuffer;
+
+    /**
+     * RingBufferIngestStage 생성자. 슬롯을 미리 할당하고 소비자 스레드를 시작합니다.
+     *
+     * @param writer 쓰기 도구 (null 불가)
+     * @param bufferSize 슬롯 수 (2의 거듭제곱)
+     * @param producerType 생산자 구성 (null 불가, 생산자 스레드가 둘 이상이면 MULTI)
+     * @param waitStrategy 대기 전략 (null 불가)
+     * @throws IllegalArgumentException bufferSize가 2의 거듭제곱이 아닌 경우
+     */
+    public RingBufferIngestStage(JdbcIngestWriter writer, int bufferSize, RecordRingBuffer.ProducerType producerType,
+                                 WaitStrategy waitStrategy) {
+        this(writer, new RecordRingBuffer(bufferSize, producerType, waitStrategy));
+    }
+
+    private RingBufferIngestStage(JdbcIngestWriter writer, RecordRingBuffer ringBuffer) {
+        super(writer);
+        this.ringBuffer = ringBuffer;
+        start();
+    }
+
+    @Override
+    protected void doPublish(String data1, String data2, BigDecimal amount, String status, Instant createdAt) {
+        long sequence;
+        try {
+            sequence = ringBuffer.next();
+        } catch (IllegalStateException e) {
+            IllegalStateException consumerFailure = consumerFailure();
+            throw consumerFailure != null ? consumerFailure : e;
+        }
+        ringBuffer.get(sequence).set(data1, data2, amount, status, createdAt);
+        ringBuffer.publish(sequence);
+    }
+
+    @Override
+    protected void consume(JdbcIngestWriter.Session session) {
+        WaitStrategy waitStrategy = ringBuffer.getWaitStrategy();
+        long nextSequence = 0;
+        int attempt = 0;
+
+        while (true) {
+            long available = ringBuffer.getHighestPublished(nextSequence);
+            if (available < nextSequence) {
+                if (attempt == 0) {
+                    // 읽을 행을 모두 처리했으므로 쌓인 배치 실행
+                    session.endOfBatch();
+                }
+                if (!isRunning() && ringBuffer.getClaimedSequence() < nextSequence) {
+                    return;
+                }
+                waitStrategy.idle(attempt++);
+                continue;
+            }
+
+            attempt = 0;
+            for (long sequence = nextSequence; sequence <= available; sequence++) {
+                RecordSlot slot = ringBuffer.get(sequence);
+                session.add(slot.getData1(), slot.getData2(), slot.getAmount(), slot.getStatus(), slot.getCreatedAt());
+            }
+            ringBuffer.release(available);
+            nextSequence = available + 1;
+        }
+    }
+
+    @Override
+    protected void onConsumerFailure() {
+        ringBuffer.halt();
+    }
+
+    @Override
+    public String getTypeName() {
+        return "RingBuffer-" + ringBuffer.getProducerType() + "-" + ringBuffer.getWaitStrategy();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.benchmark.util;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * test_record 행을 CSV 파일로 쓰는 스트리밍 작성기.
+ *
+ * <p>컬럼 값을 받아 버퍼에 바로 쓰므로, 조회 측이 {@link TestRecord}나 행 문자열을 만들지 않고도
+ * ResultSet 컬럼을 그대로 내보낼 수 있습니다. 쉼표, 큰따옴표, 줄바꿈이 포함된 값만 따옴표로 감쌉니다.</p>
+ *
+ * <p>첫 행을 쓴 시각을 기록하여 내보내기의 첫 행 도달 시간(time-to-first-row)을 계산할 수 있습니다.
+ * 스레드 안전하지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class CsvExportWriter implements Closeable {
+
+    /**
+     * CSV 헤더 행.
+     */
+    public static final String HEADER = "id,data1,data2,amount,status,created_at";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private long rowCount;
+    private long firstRowNanos;
+
+    /**
+     * 파일을 새로 만들어(또는 덮어써서) 헤더를 쓴 작성기를 생성합니다.
+     *
+     * @param target 출력 파일 경로 (null 불가)
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public CsvExportWriter(Path target) throws IOException {
+        Objects.requireNonNull(target, "target must not be null");
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(target), StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    /**
+     * 컬럼 값으로 한 행을 씁니다.
+     *
+     * @param id 레코드 ID
+     * @param data1 data1 값
+     * @param data2 data2 값 (null이면 빈 값)
+     * @param amount 금액 (null이면 빈 값)
+     * @param status 상태 (null이면 빈 값)
+     * @param createdAt 생성 시각 (null이면 빈 값, ISO-8601 UTC로 기록)
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeRow(long id, String data1, String data2, BigDecimal amount, String status, Instant createdAt)
+            throws IOException {
+        if (rowCount == 0) {
+            firstRowNanos = System.nanoTime();
+        }
+        writer.write(Long.toString(id));
+        writer.write(',');
+        writeField(data1);
+        writer.write(',');
+        writeField(data2);
+        writer.write(',');
+        if (amount != null) {
+            writer.write(amount.toPlainString());
+        }
+        writer.write(',');
+        writeField(status);
+        writer.write(',');
+        if (createdAt != null) {
+            writer.write(createdAt.toString());
+        }
+        writer.write('\n');
+        rowCount++;
+    }
+
+    /**
+     * 레코드 한 건을 씁니다.
+     *
+     * @param record 쓸 레코드 (null 불가, id 필수)
+     * @throws IOException 쓰기 실패 시
+     */
+    public void writeRecord(TestRecord record) throws IOException {
+        writeRow(record.getId(), record.getData1(), record.getData2(), record.getAmount(), record.getStatus(),
+                record.getCreatedAt());
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * 지금까지 쓴 데이터 행 수를 반환합니다 (헤더 제외).
+     *
+     * @return 행 수
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 첫 데이터 행을 쓴 시각을 반환합니다.
+     *
+     * @return {@link System#nanoTime()} 기준 시각 (아직 쓴 행이 없으면 0)
+     */
+    public long getFirstRowNanos() {
+        return firstRowNanos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.benchmark.util;
+
+import com.example.benchmark.domain.TestRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * test_record 입력 데이터를 담는 바이너리 데이터셋 파일.
+ *
+ * <p>한 번 생성한 입력을 파일로 저장해 두고, 여러 Repository와 반복, 실행에서 같은 입력을 재사용하기 위한
+ * 형식입니다. 읽을 때는 파일 전체를 읽기 전용 {@link MappedByteBuffer}로 매핑하고
+ * {@link #iterator()}가 한 건씩 디코딩하므로, 전체 레코드를 힙에 올리지 않습니다.</p>
+ *
+ * <p>형식 (big-endian):</p>
+ * <pre>
+ * header : int magic("TRDS"), int version, long seed, int recordCount
+ * record : byte flags(id, data2, amount, status 존재 여부)
+ *          [long id] utf8 data1 [utf8 data2] [byte scale, long unscaled amount] [utf8 status]
+ *          long createdAt epochSecond, int createdAt nano
+ * utf8   : unsigned short 바이트 길이 + UTF-8 바이트
+ * </pre>
+ *
+ * <p>매핑 한 개로 읽으므로 파일 크기는 2GB 미만이어야 합니다. 인스턴스는 불변이며
+ * {@link #iterator()}가 반환하는 Iterator마다 독립된 읽기 위치를 가집니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class RecordDatasetFile {
+
+    private static final int MAGIC = 0x54524453;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int FLAG_ID = 1;
+    private static final int FLAG_DATA2 = 1 << 1;
+    private static final int FLAG_AMOUNT = 1 << 2;
+    private static final int FLAG_STATUS = 1 << 3;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final long seed;
+    private final int recordCount;
+
+    private RecordDatasetFile(Path path, ByteBuffer buffer, long seed, int recordCount) {
+        this.path = path;
+        this.buffer = buffer;
+        this.seed = seed;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * 레코드 소스를 데이터셋 파일로 씁니다.
+     *
+     * <p>같은 디렉터리의 임시 파일에 모두 쓴 뒤 대상 경로로 옮기므로,
+     * 쓰기가 중간에 실패해도 불완전한 파일이 대상 경로에 남지 않습니다.</p>
+     *
+     * @param target 대상 파일 경로 (null 불가, 있으면 덮어씀)
+     * @param records 쓸 레코드 소스 (null 불가, 정확히 recordCount 건)
+     * @param recordCount 레코드 수 (0 이상)
+     * @param seed 데이터를 생성한 seed (헤더에 기록)
+     * @throws IOException 쓰기 실패 시
+     * @throws IllegalArgumentException 소스의 레코드 수가 recordCount와 다르거나 값이 형식 범위를 벗어나는 경우
+     */
+    public static void write(Path target, Iterator<TestRecord> records, int recordCount, long seed)
+            throws IOException {
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(records, "records must not be null");
+        if (recordCount < 0) {
+            throw new IllegalArgumentException("recordCount must be non-negative, but was: " + recordCount);
+        }
+
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(seed);
+                out.writeInt(recordCount);
+
+                int written = 0;
+                while (records.hasNext()) {
+                    if (written == recordCount) {
+                        throw new IllegalArgumentException("records has more than recordCount(" + recordCount + ")");
+                    }
+                    writeRecord(out, records.next());
+                    written++;
+                }
+                if (written != recordCount) {
+                    throw new IllegalArgumentException(
+                            "records must contain recordCount(" + recordCount + ") records, but had: " + written);
+                }
+            }
+            if (Files.size(temp) > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("dataset file must be smaller than 2GB, but was: "
+                        + Files.size(temp) + " bytes");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, TestRecord record) throws IOException {
+        int flags = (record.getId() != null ? FLAG_ID : 0)
+                | (record.getData2() != null ? FLAG_DATA2 : 0)
+                | (record.getAmount() != null ? FLAG_AMOUNT : 0)
+                | (record.getStatus() != null ? FLAG_STATUS : 0);
+        out.writeByte(flags);
+        if (record.getId() != null) {
+            out.writeLong(record.getId());
+        }
+        writeString(out, record.getData1());
+        if (record.getData2() != null) {
+            writeString(out, record.getData2());
+        }
+        if (record.getAmount() != null) {
+            BigDecimal amount = record.getAmount();
+            if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("amount scale must fit in a byte, but was: " + amount.scale());
+            }
+            out.writeByte(amount.scale());
+            out.writeLong(amount.unscaledValue().longValueExact());
+        }
+        if (record.getStatus() != null) {
+            writeString(out, record.getStatus());
+        }
+        out.writeLong(record.getCreatedAt().getEpochSecond());
+        out.writeInt(record.getCreatedAt().getNano());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("string must be at most " + MAX_STRING_BYTES
+                    + " UTF-8 bytes, but was: " + bytes.length);
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * 데이터셋 파일을 읽기 전용으로 매핑합니다.
+     *
+     * <p>매핑 후 파일 채널은 닫히며, 매핑은 인스턴스가 GC될 때 해제됩니다.</p>
+     *
+     * @param path 데이터셋 파일 경로 (null 불가)
+     * @return 매핑된 데이터셋
+     * @throws IOException 파일을 열 수 없거나 데이터셋 형식이 아닌 경우
+     */
+    public static RecordDatasetFile open(Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a dataset file (size=" + size + "): " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a dataset file (bad magic): " + path);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported dataset version " + version + ": " + path);
+        }
+        long seed = buffer.getLong(8);
+        int recordCount = buffer.getInt(16);
+        if (recordCount < 0) {
+            throw new IOException("Corrupt dataset header (recordCount=" + recordCount + "): " + path);
+        }
+        return new RecordDatasetFile(path, buffer, seed, recordCount);
+    }
+
+    /**
+     * 레코드를 파일 순서대로 한 건씩 디코딩하는 Iterator를 반환합니다.
+     *
+     * <p>Iterator마다 매핑 버퍼의 독립된 뷰를 사용하므로 여러 Iterator를 동시에 쓸 수 있습니다.
+     * 각 Iterator 자체는 스레드 안전하지 않습니다.</p>
+     *
+     * @return 레코드 Iterator
+     */
+    public Iterator<TestRecord> iterator() {
+        ByteBuffer view = buffer.duplicate();
+        view.position(HEADER_SIZE);
+        return new Iterator<TestRecord>() {
+            private final byte[] scratch = new byte[MAX_STRING_BYTES];
+            private int decoded;
+
+            @Override
+            public boolean hasNext() {
+                return decoded < recordCount;
+            }
+
+            @Override
+            public TestRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                decoded++;
+                return readRecord(view, scratch);
+            }
+        };
+    }
+
+    private static TestRecord readRecord(ByteBuffer in, byte[] scratch) {
+        int flags = in.get();
+        TestRecord.Builder builder = TestRecord.builder();
+        if ((flags & FLAG_ID) != 0) {
+            builder.id(in.getLong());
+        }
+        builder.data1(readString(in, scratch));
+        if ((flags & FLAG_DATA2) != 0) {
+            builder.data2(readString(in, scratch));
+        }
+        if ((flags & FLAG_AMOUNT) != 0) {
+            int scale = in.get();
+            builder.amount(BigDecimal.valueOf(in.getLong(), scale));
+        }
+        if ((flags & FLAG_STATUS) != 0) {
+            builder.status(readString(in, scratch));
+        }
+        long epochSecond = in.getLong();
+        return builder.createdAt(Instant.ofEpochSecond(epochSecond, in.getInt())).build();
+    }
+
+    private static String readString(ByteBuffer in, byte[] scratch) {
+        int length = in.getShort() & 0xFFFF;
+        in.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 파일 경로를 반환합니다.
+     *
+     * @return 데이터셋 파일 경로
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 데이터를 생성한 seed를 반환합니다.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 레코드 수를 반환합니다.
+     *
+     * @return 레코드 수
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 파일 크기를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public long getSizeBytes() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.benchmark.util;
+
+import com.example.benchmark.config.DataProfile;
+import com.example.benchmark.config.TableDefinition;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * {@link TableDefinition}으로 선언한 테이블의 테스트 행 생성기.
+ *
+ * <p>행은 펼쳐진 컬럼 순서의 {@code Object[]}이며 값의 타입은 컬럼 타입에 따라 정해집니다.</p>
+ * <ul>
+ *   <li>VARCHAR2: 1자 이상, 컬럼 바이트 수에 들어가는 최대 문자 수 이하의 임의 길이 {@link String}</li>
+ *   <li>CHAR: 컬럼 바이트 수에 들어가는 최대 문자 수의 {@link String}</li>
+ *   <li>NUMBER: scale이 0이고 자릿수가 18 이하이면 {@link Long}, 그 외에는 {@link BigDecimal}</li>
+ *   <li>DATE, TIMESTAMP: 기준 시각 이전 1년 안의 {@link Timestamp} (DATE는 초 단위)</li>
+ * </ul>
+ *
+ * <p>문자열은 {@link DataProfile}의 문자 집합을 따르며, 바이트 수는 AL32UTF8 기준(한글 3바이트)으로 계산합니다.
+ * 기본 키가 아닌 nullable 컬럼은 프로파일의 data2NullRatio 확률로 null이 됩니다.
+ * 기본 키 컬럼은 행 번호(1부터)로 채우므로 한 번의 생성 안에서 키가 겹치지 않습니다.</p>
+ *
+ * <p>같은 seed에서는 항상 같은 행을 같은 순서로 생성합니다. 스레드 안전하지 않습니다.</p>
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+public final class TableRowGenerator {
+
+    private static final char[] CHARACTERS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final char HANGUL_FIRST = '\uAC00';
+    private static final int HANGUL_COUNT = '\uD7A3' - HANGUL_FIRST + 1;
+    private static final int MULTIBYTE_CHAR_BYTES = 3;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final long SECONDS_PER_YEAR = 365L * 24 * 60 * 60;
+
+    private final List<TableDefinition.Column> columns;
+    private final boolean[] primaryKey;
+    private final DataProfile profile;
+    private final SplittableRandom seeds;
+
+    /**
+     * 현재 시간을 seed로 사용하는 생성자.
+     *
+     * @param definition 테이블 정의 (null 불가)
+     * @param profile 데이터 프로파일 (null 불가)
+     * @throws IllegalArgumentException 정의나 프로파일이 유효하지 않은 경우
+     */
+    public TableRowGenerator(TableDefinition definition, DataProfile profile) {
+        this(definition, profile, System.nanoTime());
+    }
+
+    /**
+     * seed를 지정하는 생성자.
+     *
+     * @param definition 테이블 정의 (null 불가)
+     * @param profile 데이터 프로파일 (null 불가)
+     * @param seed 랜덤 생성기 seed
+     * @throws IllegalArgumentException 정의나 프로파일이 유효하지 않은 경우
+     */
+    public TableRowGenerator(TableDefinition definition, DataProfile profile, long seed) {
+        Objects.requireNonNull(definition, "definition must not be null").validate();
+        this.profile = Objects.requireNonNull(profile, "profile must not be null").validate();
+        this.columns = definition.expandColumns();
+        this.primaryKey = new boolean[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            primaryKey[i] = definition.isPrimaryKey(columns.get(i).getName());
+        }
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * 지정된 개수만큼 행 리스트를 생성합니다.
+     *
+     * @param count 생성할 행 수 (0 이상)
+     * @return 행 리스트
+     * @throws IllegalArgumentException count가 음수인 경우
+     */
+    public List<Object[]> generate(int count) {
+        Iterator<Object[]> source = iterate(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        source.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    /**
+     * 지정된 개수만큼 행을 지연 생성하는 Iterator를 반환합니다.
+     *
+     * @param count 생성할 행 수 (0 이상)
+     * @return 행 Iterator
+     * @throws IllegalArgumentException count가 음수인 경우
+     */
+    public Iterator<Object[]> iterate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative, but was: " + count);
+        }
+
+        SplittableRandom rnd = seeds.split();
+        long baseSeconds = Instant.now().getEpochSecond();
+        return new Iterator<Object[]>() {
+            private int generated;
+
+            @Override
+            public boolean hasNext() {
+                return generated < count;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                generated++;
+                return generateRow(rnd, generated, baseSeconds);
+            }
+        };
+    }
+
+    /**
+     * 펼쳐진 컬럼 수를 반환합니다.
+     *
+     * @return 컬럼 수
+     */
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    private Object[] generateRow(SplittableRandom rnd, long rowNumber, long baseSeconds) {
+        Object[] row = new Object[columns.size()];
+        for (int i = 0; i < row.length; i++) {
+            TableDefinition.Column column = columns.get(i);
+            if (primaryKey[i]) {
+                row[i] = keyValue(column, rowNumber, baseSeconds);
+            } else if (column.isNullable() && rnd.nextDouble() < profile.getData2NullRatio()) {
+                row[i] = null;
+            } else {
+                row[i] = randomValue(rnd, column, baseSeconds);
+            }
+        }
+        return row;
+    }
+
+    private Object keyValue(TableDefinition.Column column, long rowNumber, long baseSeconds) {
+        switch (column.getType()) {
+            case NUMBER:
+                return column.getScale() == 0 && column.getSize() <= MAX_LONG_DIGITS
+                        ? (Object) rowNumber : BigDecimal.valueOf(rowNumber);
+            case DATE:
+            case TIMESTAMP:
+                return new Timestamp((baseSeconds - rowNumber) * 1000L);
+            default:
+                return String.valueOf(rowNumber);
+        }
+    }
+
+    private Object randomValue(SplittableRandom rnd, TableDefinition.Column column, long baseSeconds) {
+        switch (column.getType()) {
+            case VARCHAR2:
+                return randomString(rnd, 1 + rnd.nextInt(maxChars(column)));
+            case CHAR:
+                return randomString(rnd, maxChars(column));
+            case NUMBER:
+                long bound = pow10(Math.min(column.getSize(), MAX_LONG_DIGITS));
+                long unscaled = rnd.nextLong(bound);
+                return column.getScale() == 0 && column.getSize() <= MAX_LONG_DIGITS
+                        ? (Object) unscaled : BigDecimal.valueOf(unscaled, column.getScale());
+            case DATE:
+                return new Timestamp((baseSeconds - rnd.nextLong(SECONDS_PER_YEAR)) * 1000L);
+            default:
+                Timestamp timestamp = new Timestamp((baseSeconds - rnd.nextLong(SECONDS_PER_YEAR)) * 1000L);
+                timestamp.setNanos(rnd.nextInt(1_000_000) * 1000);
+                return timestamp;
+        }
+    }
+
+    /**
+     * 컬럼 바이트 수에 들어가는 최대 문자 수. 한글이 섞일 수 있으면 글자당 3바이트로 계산합니다.
+     */
+    private int maxChars(TableDefinition.Column column) {
+        int bytesPerChar = profile.getCharacterSet() == DataProfile.CharacterSet.ASCII ? 1 : MULTIBYTE_CHAR_BYTES;
+        return Math.max(1, column.getSize() / bytesPerChar);
+    }
+
+    private String randomString(SplittableRandom rnd, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            switch (profile.getCharacterSet()) {
+                case HANGUL:
+                    chars[i] = (char) (HANGUL_FIRST + rnd.nextInt(HANGUL_COUNT));
+                    break;
+                case MIXED:
+                    chars[i] = rnd.nextBoolean()
+                            ? (char) (HANGUL_FIRST + rnd.nextInt(HANGUL_COUNT))
+                            : CHARACTERS[rnd.nextInt(CHARACTERS.length)];
+                    break;
+                default:
+                    chars[i] = CHARACTERS[rnd.nextInt(CHARACTERS.length)];
+            }
+        }
+        return new String(chars);
+    }
+
+    private static long pow10(int digits) {
+        long value = 1L;
+        for (int i = 0; i < digits; i++) {
+            value *= 10L;
+        }
+        return value;
+    }
+}
@@ -1,15 +1,33 @@
 package com.example.benchmark.util;
 
+import com.example.benchmark.config.DataProfile;
 import com.example.benchmark.domain.TestRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 벤치마크용 테스트 데이터 생성기.
@@ -17,6 +35,22 @@ import java.util.Random;
  * <p>지정된 개수만큼 랜덤 TestRecord 인스턴스를 생성합니다.
  * 재현 가능한 테스트를 위해 seed 설정이 가능합니다.</p>
  *
+ * <p>{@link #iterate(int)}와 {@link #stream(int)}은 요청 시점에 한 건씩 생성하는
+ * 지연 모드로, recordCount와 무관하게 메모리 사용량이 일정합니다.
+ * 같은 seed에서 지연 모드와 {@link #generate(int)}는 동일한 순서의 레코드를 만듭니다.</p>
+ *
+ * <p>레코드는 {@value #CHUNK_SIZE}건 단위 청크로 나누어 생성합니다. 호출마다 seed 난수에서 청크 seed 목록을 뽑고
+ * 청크마다 그 seed로 만든 {@link SplittableRandom}을 쓰므로, 각 레코드의 값은 청크 번호와 청크 안의 위치로만
+ * 정해집니다. 따라서 청크를 공용 fork-join 풀에서 병렬로 채워도 순차 생성과 비트 단위로 같은 결과가 나오며,
+ * {@link #generate(int)}는 청크가 둘 이상이고 풀 병렬도가 1보다 크면 자동으로 병렬 생성합니다.</p>
+ *
+ * <p>{@link #generateUpserts(int, long, double)}는 ID가 지정된 레코드를 만들어
+ * 기존 키와 신규 키가 지정된 비율로 섞인 upsert 입력을 생성합니다.
+ * {@link #generateHistory(int, Instant, Instant)}는 생성 시각이 구간에 고르게 퍼진 과거 데이터 정리용 입력을 생성합니다.</p>
+ *
+ * <p>문자열 길이, data2 null 비율, 문자 집합, status 분포는 생성자에 전달한 {@link DataProfile}을 따르며,
+ * 지정하지 않으면 {@link DataProfile#defaults()}를 사용합니다.</p>
+ *
  * @author Developer Agent
  * @since 1.0
  */
@@ -25,20 +59,40 @@ public final class TestDataGenerator {
     private static final Logger log = LoggerFactory.getLogger(TestDataGenerator.class);
 
     private static final String[] STATUSES = {"ACTIVE", "INACTIVE", "PENDING", "COMPLETED"};
-    private static final int DATA1_LENGTH = 50;
-    private static final int DATA2_LENGTH = 100;
     private static final double MAX_AMOUNT = 1000000.0;
-    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final char[] CHARACTERS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final char HANGUL_FIRST = '\uAC00';
+    private static final int HANGUL_COUNT = '\uD7A3' - HANGUL_FIRST + 1;
+
+    /**
+     * 한 청크의 레코드 수. 청크마다 독립된 난수 스트림을 씁니다.
+     */
+    static final int CHUNK_SIZE = 4096;
 
     private final Random random;
+    private final DataProfile profile;
+    private final double[] statusCdf;
 
     /**
      * 기본 생성자.
      *
-     * <p>현재 시간을 seed로 사용합니다.</p>
+     * <p>현재 시간을 seed로, 기본 데이터 프로파일을 사용합니다.</p>
      */
     public TestDataGenerator() {
-        this.random = new Random();
+        this(DataProfile.defaults());
+    }
+
+    /**
+     * 데이터 프로파일을 지정하는 생성자.
+     *
+     * <p>현재 시간을 seed로 사용합니다.</p>
+     *
+     * @param profile 데이터 프로파일 (null 불가)
+     * @throws IllegalArgumentException 프로파일 설정 값이 유효하지 않은 경우
+     */
+    public TestDataGenerator(DataProfile profile) {
+        this(new Random(), profile);
     }
 
     /**
@@ -47,31 +101,70 @@ public final class TestDataGenerator {
      * @param seed 랜덤 생성기 seed
      */
     public TestDataGenerator(long seed) {
-        this.random = new Random(seed);
-        log.debug("TestDataGenerator initialized with seed: {}", seed);
+        this(seed, DataProfile.defaults());
+    }
+
+    /**
+     * seed와 데이터 프로파일을 지정하는 생성자.
+     *
+     * @param seed 랜덤 생성기 seed
+     * @param profile 데이터 프로파일 (null 불가)
+     * @throws IllegalArgumentException 프로파일 설정 값이 유효하지 않은 경우
+     */
+    public TestDataGenerator(long seed, DataProfile profile) {
+        this(new Random(seed), profile);
+        log.debug("TestDataGenerator initialized with seed: {}, profile: {}", seed, profile.getName());
+    }
+
+    private TestDataGenerator(Random random, DataProfile profile) {
+        this.random = random;
+        this.profile = Objects.requireNonNull(profile, "profile must not be null").validate();
+        this.statusCdf = statusCdf(profile);
+    }
+
+    /**
+     * 사용하는 데이터 프로파일을 반환합니다.
+     *
+     * @return 데이터 프로파일
+     */
+    public DataProfile getProfile() {
+        return profile;
     }
 
     /**
      * 지정된 개수만큼 TestRecord 리스트를 생성합니다.
      *
+     * <p>청크가 둘 이상이고 공용 fork-join 풀의 병렬도가 1보다 크면 병렬로 생성합니다.
+     * 결과는 병렬 여부와 관계없이 같습니다.</p>
+     *
      * @param count 생성할 레코드 수 (0 이상)
      * @return TestRecord 리스트
      * @throws IllegalArgumentException count가 음수인 경우
      */
     public List<TestRecord> generate(int count) {
+        return generate(count, count > CHUNK_SIZE && ForkJoinPool.getCommonPoolParallelism() > 1);
+    }
+
+    /**
+     * 지정된 개수만큼 TestRecord 리스트를 순차 또는 병렬로 생성합니다.
+     *
+     * <p>같은 seed 상태에서 parallel 값과 관계없이 동일한 레코드를 같은 순서로 반환합니다.</p>
+     *
+     * @param count 생성할 레코드 수 (0 이상)
+     * @param parallel true면 청크를 공용 fork-join 풀에서 병렬로 생성
+     * @return TestRecord 리스트
+     * @throws IllegalArgumentException count가 음수인 경우
+     */
+    public List<TestRecord> generate(int count, boolean parallel) {
         if (count < 0) {
             throw new IllegalArgumentException("count must be non-negative, but was: " + count);
         }
 
-        log.debug("Generating {} test records", count);
+        log.debug("Generating {} test records (parallel={})", count, parallel);
         long startTime = System.currentTimeMillis();
 
-        List<TestRecord> records = new ArrayList<>(count);
         Instant now = Instant.now();
-
-        for (int i = 0; i < count; i++) {
-            records.add(generateRecord(now));
-        }
+        List<TestRecord> records = generateRows(count, parallel, i -> null, i -> now);
 
         long duration = System.currentTimeMillis() - startTime;
         log.debug("Generated {} records in {}ms", count, duration);
@@ -79,33 +172,244 @@ public final class TestDataGenerator {
         return records;
     }
 
-    private TestRecord generateRecord(Instant baseTime) {
+    /**
+     * 지정된 개수만큼 레코드를 지연 생성하는 Iterator를 반환합니다.
+     *
+     * <p>next() 호출 시점에 레코드를 한 건씩 생성하므로 전체 목록을 메모리에 적재하지 않습니다.
+     * 청크 seed는 호출 시점에 정해지고 청크 경계마다 다음 청크의 난수를 만들므로,
+     * 같은 seed 상태에서 {@link #generate(int)}와 같은 레코드를 만듭니다.
+     * 반환된 Iterator는 스레드 안전하지 않습니다.</p>
+     *
+     * @param count 생성할 레코드 수 (0 이상)
+     * @return 레코드 Iterator
+     * @throws IllegalArgumentException count가 음수인 경우
+     */
+    public Iterator<TestRecord> iterate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative, but was: " + count);
+        }
+
+        Instant now = Instant.now();
+        SplittableRandom chunkSeeds = new SplittableRandom(random.nextLong());
+        return new Iterator<TestRecord>() {
+            private int generated;
+            private SplittableRandom chunkRandom;
+
+            @Override
+            public boolean hasNext() {
+                return generated < count;
+            }
+
+            @Override
+            public TestRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (generated % CHUNK_SIZE == 0) {
+                    chunkRandom = new SplittableRandom(chunkSeeds.nextLong());
+                }
+                generated++;
+                return generateRecord(chunkRandom, now, null);
+            }
+        };
+    }
+
+    /**
+     * 지정된 개수만큼 레코드를 지연 생성하는 순차 Stream을 반환합니다.
+     *
+     * @param count 생성할 레코드 수 (0 이상)
+     * @return 레코드 Stream
+     * @throws IllegalArgumentException count가 음수인 경우
+     * @see #iterate(int)
+     */
+    public Stream<TestRecord> stream(int count) {
+        Spliterator<TestRecord> spliterator = Spliterators.spliterator(iterate(count), count,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * 기존 키와 신규 키가 섞인 upsert용 레코드 리스트를 생성합니다.
+     *
+     * <p>ID 1..existingKeyCount가 이미 테이블에 있다고 가정하고,
+     * {@code round(count * updateRatio)}건은 그 범위에 고르게 퍼진 서로 다른 기존 키를,
+     * 나머지는 existingKeyCount + 1부터 시작하는 신규 키를 받습니다. 키 순서는 섞어서 반환합니다.
+     * {@code generateUpserts(n, 0, 0.0)}은 ID 1..n의 신규 레코드를 만들므로 시드 데이터로 사용할 수 있습니다.</p>
+     *
+     * @param count 생성할 레코드 수 (0 이상)
+     * @param existingKeyCount 이미 존재하는 키 수 (0 이상)
+     * @param updateRatio 기존 키 비율 (0.0 이상 1.0 이하)
+     * @return ID가 지정된 TestRecord 리스트
+     * @throws IllegalArgumentException 인자가 범위를 벗어나거나 기존 키가 부족한 경우
+     */
+    public List<TestRecord> generateUpserts(int count, long existingKeyCount, double updateRatio) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative, but was: " + count);
+        }
+        if (existingKeyCount < 0) {
+            throw new IllegalArgumentException("existingKeyCount must be non-negative, but was: " + existingKeyCount);
+        }
+        if (updateRatio < 0.0 || updateRatio > 1.0) {
+            throw new IllegalArgumentException("updateRatio must be between 0.0 and 1.0, but was: " + updateRatio);
+        }
+        int updates = (int) Math.round(count * updateRatio);
+        if (updates > existingKeyCount) {
+            throw new IllegalArgumentException("existingKeyCount must be at least " + updates
+                    + " for updateRatio " + updateRatio + ", but was: " + existingKeyCount);
+        }
+
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < updates; i++) {
+            ids.add(1 + (i * existingKeyCount) / updates);
+        }
+        for (int i = 0; i < count - updates; i++) {
+            ids.add(existingKeyCount + 1 + i);
+        }
+        Collections.shuffle(ids, random);
+
+        Instant now = Instant.now();
+        List<TestRecord> records = generateRows(count, false, ids::get, i -> now);
+
+        log.debug("Generated {} upsert records: existing keys={}, new keys={}", count, updates, count - updates);
+        return records;
+    }
+
+    /**
+     * 생성 시각이 구간에 고르게 퍼진 이력 레코드 리스트를 생성합니다.
+     *
+     * <p>레코드 i(0부터)는 ID {@code i + 1}과 생성 시각 {@code from + (to - from) * i / count}를 받으므로,
+     * 구간 안의 임의 시각을 기준으로 과거 데이터 삭제 범위를 비율로 정할 수 있습니다.</p>
+     *
+     * @param count 생성할 레코드 수 (0 이상)
+     * @param from 가장 오래된 생성 시각 (null 불가)
+     * @param to 구간 끝 시각, 이 시각의 레코드는 만들지 않음 (from 이후, null 불가)
+     * @return ID와 생성 시각이 지정된 TestRecord 리스트 (생성 시각 오름차순)
+     * @throws IllegalArgumentException count가 음수이거나 to가 from보다 이른 경우
+     */
+    public List<TestRecord> generateHistory(int count, Instant from, Instant to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative, but was: " + count);
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from(" + from + "), but was: " + to);
+        }
+
+        long spanMillis = Duration.between(from, to).toMillis();
+        List<TestRecord> records = generateRows(count, false,
+                i -> (long) i + 1, i -> from.plusMillis(spanMillis * i / count));
+
+        log.debug("Generated {} history records: from={}, to={}", count, from, to);
+        return records;
+    }
+
+    /**
+     * 청크 단위로 레코드를 생성합니다.
+     *
+     * <p>청크 seed는 호출마다 seed 난수에서 한 번 뽑은 값으로 순서대로 정하므로,
+     * 청크를 어느 스레드가 어떤 순서로 채우든 결과 배열은 같습니다.</p>
+     */
+    private List<TestRecord> generateRows(int count, boolean parallel,
+                                          IntFunction<Long> ids, IntFunction<Instant> createdAts) {
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom chunkSeeds = new SplittableRandom(random.nextLong());
+        long[] seeds = new long[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            seeds[chunk] = chunkSeeds.nextLong();
+        }
+
+        TestRecord[] records = new TestRecord[count];
+        IntStream chunks = IntStream.range(0, chunkCount);
+        if (parallel) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            SplittableRandom chunkRandom = new SplittableRandom(seeds[chunk]);
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                records[i] = generateRecord(chunkRandom, createdAts.apply(i), ids.apply(i));
+            }
+        });
+        return new ArrayList<>(Arrays.asList(records));
+    }
+
+    private TestRecord generateRecord(SplittableRandom rnd, Instant baseTime, Long id) {
         return TestRecord.builder()
-                .data1(generateRandomString(DATA1_LENGTH))
-                .data2(random.nextBoolean() ? generateRandomString(DATA2_LENGTH) : null)
-                .amount(generateRandomAmount())
-                .status(STATUSES[random.nextInt(STATUSES.length)])
+                .id(id)
+                .data1(generateRandomString(rnd, profile.getData1MinLength(), profile.getData1MaxLength()))
+                .data2(rnd.nextDouble() >= profile.getData2NullRatio()
+                        ? generateRandomString(rnd, profile.getData2MinLength(), profile.getData2MaxLength())
+                        : null)
+                .amount(generateRandomAmount(rnd))
+                .status(STATUSES[nextStatusIndex(rnd)])
                 .createdAt(baseTime)
                 .build();
     }
 
-    private String generateRandomString(int length) {
-        StringBuilder sb = new StringBuilder(length);
+    private String generateRandomString(SplittableRandom rnd, int minLength, int maxLength) {
+        int length = minLength == maxLength ? minLength : minLength + rnd.nextInt(maxLength - minLength + 1);
+        char[] chars = new char[length];
         for (int i = 0; i < length; i++) {
-            sb.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+            chars[i] = nextCharacter(rnd);
         }
-        return sb.toString();
+        return new String(chars);
     }
 
-    private BigDecimal generateRandomAmount() {
-        double value = random.nextDouble() * MAX_AMOUNT;
+    private char nextCharacter(SplittableRandom rnd) {
+        switch (profile.getCharacterSet()) {
+            case HANGUL:
+                return (char) (HANGUL_FIRST + rnd.nextInt(HANGUL_COUNT));
+            case MIXED:
+                return rnd.nextBoolean()
+                        ? (char) (HANGUL_FIRST + rnd.nextInt(HANGUL_COUNT))
+                        : CHARACTERS[rnd.nextInt(CHARACTERS.length)];
+            default:
+                return CHARACTERS[rnd.nextInt(CHARACTERS.length)];
+        }
+    }
+
+    private int nextStatusIndex(SplittableRandom rnd) {
+        if (statusCdf == null) {
+            return rnd.nextInt(STATUSES.length);
+        }
+        double u = rnd.nextDouble();
+        for (int i = 0; i < statusCdf.length - 1; i++) {
+            if (u < statusCdf[i]) {
+                return i;
+            }
+        }
+        return statusCdf.length - 1;
+    }
+
+    /**
+     * ZIPF 분포의 status 누적 확률을 계산합니다. UNIFORM이면 null을 반환합니다.
+     */
+    private static double[] statusCdf(DataProfile profile) {
+        if (profile.getStatusDistribution() != DataProfile.Distribution.ZIPF) {
+            return null;
+        }
+        double[] cdf = new double[STATUSES.length];
+        double total = 0.0;
+        for (int k = 0; k < STATUSES.length; k++) {
+            total += 1.0 / Math.pow(k + 1, profile.getZipfExponent());
+            cdf[k] = total;
+        }
+        for (int k = 0; k < cdf.length; k++) {
+            cdf[k] /= total;
+        }
+        return cdf;
+    }
+
+    private BigDecimal generateRandomAmount(SplittableRandom rnd) {
+        double value = rnd.nextDouble() * MAX_AMOUNT;
         return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
     }
 
     /**
      * 고정된 seed로 재현 가능한 레코드 리스트를 생성합니다.
      *
-     * <p>같은 count와 seed로 호출하면 항상 동일한 결과를 반환합니다.</p>
+     * <p>같은 count와 seed로 호출하면 병렬 생성 여부와 관계없이 항상 동일한 결과를 반환합니다.</p>
      *
      * @param count 생성할 레코드 수
      * @param seed 랜덤 생성기 seed
@@ -115,6 +419,67 @@ public final class TestDataGenerator {
         return new TestDataGenerator(seed).generate(count);
     }
 
+    /**
+     * 기본 데이터 프로파일로 seed와 count로 정해지는 데이터셋 파일을 준비하고 경로를 반환합니다.
+     *
+     * @param directory 데이터셋 디렉터리 (null 불가, 없으면 생성)
+     * @param count 레코드 수 (0 이상)
+     * @param seed 랜덤 생성기 seed
+     * @return 데이터셋 파일 경로
+     * @throws IOException 파일을 쓸 수 없는 경우
+     * @throws IllegalArgumentException count가 음수인 경우
+     * @see #writeDataset(Path, int, long, DataProfile)
+     */
+    public static Path writeDataset(Path directory, int count, long seed) throws IOException {
+        return writeDataset(directory, count, seed, DataProfile.defaults());
+    }
+
+    /**
+     * seed, count, 데이터 프로파일로 정해지는 데이터셋 파일을 준비하고 경로를 반환합니다.
+     *
+     * <p>파일명은 {@code test_record-<프로파일 이름>-<프로파일 지문>-<seed>-<count>.dat}입니다.
+     * 디렉터리에 같은 파일이 이미 있으면 그대로 재사용하고,
+     * 없거나 읽을 수 없으면 {@code new TestDataGenerator(seed, profile).iterate(count)}로 한 건씩 생성해 씁니다.
+     * 따라서 같은 seed, count, 프로파일 정의로 준비한 파일은 실행이 달라도 같은 레코드를 담고,
+     * 프로파일 정의를 바꾸면 지문이 달라져 새 파일을 만듭니다.</p>
+     *
+     * @param directory 데이터셋 디렉터리 (null 불가, 없으면 생성)
+     * @param count 레코드 수 (0 이상)
+     * @param seed 랜덤 생성기 seed
+     * @param profile 데이터 프로파일 (null 불가)
+     * @return 데이터셋 파일 경로
+     * @throws IOException 파일을 쓸 수 없는 경우
+     * @throws IllegalArgumentException count가 음수이거나 프로파일 설정 값이 유효하지 않은 경우
+     * @see RecordDatasetFile
+     */
+    public static Path writeDataset(Path directory, int count, long seed, DataProfile profile) throws IOException {
+        Objects.requireNonNull(directory, "directory must not be null");
+        Objects.requireNonNull(profile, "profile must not be null");
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative, but was: " + count);
+        }
+
+        Path target = directory.resolve("test_record-" + profile.getName() + "-" + profile.fingerprint()
+                + "-" + seed + "-" + count + ".dat");
+        if (Files.exists(target)) {
+            try {
+                RecordDatasetFile existing = RecordDatasetFile.open(target);
+                if (existing.getSeed() == seed && existing.getRecordCount() == count) {
+                    log.debug("Reusing dataset file: {}", target);
+                    return target;
+                }
+            } catch (IOException e) {
+                log.warn("Regenerating unreadable dataset file: {}", target, e);
+            }
+        }
+
+        long startTime = System.currentTimeMillis();
+        RecordDatasetFile.write(target, new TestDataGenerator(seed, profile).iterate(count), count, seed);
+        log.info("Wrote dataset file: {} ({} records, {} bytes) in {}ms",
+                target, count, Files.size(target), System.currentTimeMillis() - startTime);
+        return target;
+    }
+
     /**
      * 기본 설정으로 레코드 리스트를 생성합니다.
      *
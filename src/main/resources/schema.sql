@@ -12,6 +12,13 @@ CREATE SEQUENCE test_record_seq
     NOCACHE
     NOCYCLE;
 
+-- JPA pooled optimizer용 시퀀스 (INCREMENT BY는 엔티티의 allocationSize와 같아야 함)
+CREATE SEQUENCE test_record_jpa_seq
+    START WITH 1
+    INCREMENT BY 50
+    NOCACHE
+    NOCYCLE;
+
 -- Create Table
 CREATE TABLE test_record (
     id NUMBER(19) PRIMARY KEY,
@@ -26,6 +33,26 @@ CREATE TABLE test_record (
 CREATE INDEX idx_test_record_status ON test_record(status);
 CREATE INDEX idx_test_record_created_at ON test_record(created_at);
 
+-- Staging Table for stage-then-MERGE upsert (커밋 시 비워지는 세션 전용 임시 테이블)
+CREATE GLOBAL TEMPORARY TABLE test_record_stage (
+    id NUMBER(19) NOT NULL,
+    data1 VARCHAR2(100) NOT NULL,
+    data2 VARCHAR2(200),
+    amount NUMBER(18,2),
+    status VARCHAR2(20),
+    created_at TIMESTAMP NOT NULL
+) ON COMMIT DELETE ROWS;
+
+-- Source Table for INSERT ... SELECT copy workload
+CREATE TABLE test_record_source (
+    id NUMBER(19) PRIMARY KEY,
+    data1 VARCHAR2(100) NOT NULL,
+    data2 VARCHAR2(200),
+    amount NUMBER(18,2),
+    status VARCHAR2(20),
+    created_at TIMESTAMP NOT NULL
+);
+
 -- Comments
 COMMENT ON TABLE test_record IS '벤치마크 테스트용 테이블';
 COMMENT ON COLUMN test_record.id IS '레코드 식별자';
@@ -22,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -185,7 +186,7 @@ class BenchmarkIntegrationTest {
 
             CapturingReportGenerator reportGenerator = new CapturingReportGenerator();
 
-            BenchmarkRunner runner = new BenchmarkRunner(
+            BenchmarkRunner runner = createRunner(
                     testProperties, batchRepos, singleRepos, reportGenerator);
 
             // when & then
@@ -219,7 +220,7 @@ class BenchmarkIntegrationTest {
 
             CapturingReportGenerator reportGenerator = new CapturingReportGenerator();
 
-            BenchmarkRunner runner = new BenchmarkRunner(
+            BenchmarkRunner runner = createRunner(
                     testProperties, batchRepos, singleRepos, reportGenerator);
 
             // when & then
@@ -366,9 +367,9 @@ class BenchmarkIntegrationTest {
             CapturingReportGenerator reportGenerator1 = new CapturingReportGenerator();
             CapturingReportGenerator reportGenerator2 = new CapturingReportGenerator();
 
-            BenchmarkRunner runner1 = new BenchmarkRunner(
+            BenchmarkRunner runner1 = createRunner(
                     testProperties, batchRepos, singleRepos, reportGenerator1);
-            BenchmarkRunner runner2 = new BenchmarkRunner(
+            BenchmarkRunner runner2 = createRunner(
                     testProperties, batchRepos, singleRepos, reportGenerator2);
 
             // when
@@ -389,6 +390,19 @@ class BenchmarkIntegrationTest {
         }
     }
 
+    /**
+     * 배치/단건 삽입 Repository만으로 BenchmarkRunner 생성.
+     */
+    private static BenchmarkRunner createRunner(BenchmarkProperties properties,
+                                                List<BatchInsertRepository> batchRepositories,
+                                                List<SingleInsertRepository> singleRepositories,
+                                                BenchmarkReportGenerator reportGenerator) {
+        return new BenchmarkRunner(properties, batchRepositories, singleRepositories,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), null, null, reportGenerator);
+    }
+
     /**
      * 테스트용 리포트 생성기 - 결과 캡처.
      */
@@ -0,0 +1,158 @@
+package com.example.benchmark.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BatchSizeTuner 테스트 클래스.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("BatchSizeTuner 테스트")
+class BatchSizeTunerTest {
+
+    private static final int ROWS_PER_PROBE = 10_000;
+
+    /**
+     * 처리량 함수로 튜너를 수렴할 때까지 구동합니다.
+     */
+    private static void drive(BatchSizeTuner tuner, IntToDoubleFunction rowsPerSecond) {
+        for (int i = 0; i < 100 && !tuner.isConverged(); i++) {
+            int size = tuner.nextBatchSize();
+            long nanos = (long) (ROWS_PER_PROBE / rowsPerSecond.applyAsDouble(size) * 1_000_000_000L);
+            tuner.record(size, ROWS_PER_PROBE, ROWS_PER_PROBE / size, nanos);
+        }
+    }
+
+    @Nested
+    @DisplayName("탐색 테스트")
+    class SearchTest {
+
+        @Test
+        @DisplayName("정상: 단봉 처리량 곡선의 최고점 근처로 수렴")
+        void shouldConvergeNearPeak() {
+            // given - 800에서 최고점인 처리량 곡선
+            BatchSizeTuner tuner = new BatchSizeTuner(100, 10, 10000, 0);
+
+            // when
+            drive(tuner, size -> 100_000 / (1 + Math.pow(Math.log(size / 800.0), 2)));
+
+            // then
+            assertThat(tuner.isConverged()).isTrue();
+            assertThat(tuner.getBestBatchSize()).isBetween(500, 1300);
+            assertThat(tuner.nextBatchSize()).isEqualTo(tuner.getBestBatchSize());
+            assertThat(tuner.getTrajectory()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("정상: 처리량이 계속 증가해도 최대 크기를 넘지 않음")
+        void shouldRespectMaxBatchSize() {
+            // given
+            BatchSizeTuner tuner = new BatchSizeTuner(100, 10, 1000, 0);
+
+            // when
+            drive(tuner, size -> size * 100.0);
+
+            // then
+            assertThat(tuner.getBestBatchSize()).isEqualTo(1000);
+            assertThat(tuner.getTrajectory()).allSatisfy(step -> assertThat(step.getBatchSize()).isBetween(10, 1000));
+        }
+
+        @Test
+        @DisplayName("정상: 지연 시간 가드레일을 넘는 크기는 채택하지 않음")
+        void shouldRejectCandidatesExceedingLatency() {
+            // given - 처리량은 크기에 따라 계속 증가하지만 배치당 지연도 함께 증가
+            BatchSizeTuner tuner = new BatchSizeTuner(100, 10, 10000, 20);
+
+            // when
+            drive(tuner, size -> 2000 * Math.sqrt(size));
+
+            // then - 배치당 지연 = sqrt(size) / 2000 초 <= 20ms 를 만족하는 최대 크기는 1600
+            assertThat(tuner.getBestBatchSize()).isLessThanOrEqualTo(1600);
+            assertThat(tuner.getTrajectory()).anySatisfy(step -> assertThat(step.isWithinLatency()).isFalse());
+        }
+
+        @Test
+        @DisplayName("정상: 시작 크기가 지연 시간을 넘으면 제한을 만족하는 크기로 이동")
+        void shouldShrinkWhenInitialSizeExceedsLatency() {
+            // given - 시작 크기 5000의 배치당 지연은 약 35ms
+            BatchSizeTuner tuner = new BatchSizeTuner(5000, 10, 10000, 20);
+
+            // when
+            drive(tuner, size -> 2000 * Math.sqrt(size));
+
+            // then
+            assertThat(tuner.isConverged()).isTrue();
+            assertThat(tuner.getTrajectory().get(0).isWithinLatency()).isFalse();
+            assertThat(tuner.getBestBatchSize()).isLessThanOrEqualTo(1600);
+            assertThat(tuner.getTrajectory())
+                    .filteredOn(step -> step.getBatchSize() == tuner.getBestBatchSize())
+                    .allSatisfy(step -> assertThat(step.isWithinLatency()).isTrue());
+        }
+
+        @Test
+        @DisplayName("경계: 모든 크기가 지연 시간을 넘으면 최소 크기 보고")
+        void shouldFallBackToMinBatchSizeWhenNothingMeetsLatency() {
+            // given - 최소 크기 10의 배치당 지연도 약 1.6ms
+            BatchSizeTuner tuner = new BatchSizeTuner(1000, 10, 10000, 1);
+
+            // when
+            drive(tuner, size -> 2000 * Math.sqrt(size));
+
+            // then
+            assertThat(tuner.isConverged()).isTrue();
+            assertThat(tuner.getBestBatchSize()).isEqualTo(10);
+            assertThat(tuner.getTrajectory()).noneSatisfy(step -> assertThat(step.isWithinLatency()).isTrue());
+        }
+
+        @Test
+        @DisplayName("정상: 이력 문자열은 측정 순서대로 크기와 처리량 포함")
+        void shouldFormatTrajectory() {
+            // given
+            BatchSizeTuner tuner = new BatchSizeTuner(100, 10, 1000, 0);
+
+            // when
+            tuner.record(100, 1000, 10, 1_000_000_000L);
+            tuner.record(200, 1000, 5, 500_000_000L);
+
+            // then
+            assertThat(tuner.formatTrajectory()).isEqualTo("100@1000 -> 200@2000");
+            assertThat(tuner.nextBatchSize()).isEqualTo(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("생성자 테스트")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("정상: 시작 크기가 범위를 벗어나면 범위 안으로 조정")
+        void shouldClampInitialBatchSize() {
+            assertThat(new BatchSizeTuner(5, 10, 100, 0).nextBatchSize()).isEqualTo(10);
+            assertThat(new BatchSizeTuner(500, 10, 100, 0).nextBatchSize()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("예외: 최대 크기가 최소 크기보다 작은 경우")
+        void shouldThrowExceptionForInvalidRange() {
+            assertThatThrownBy(() -> new BatchSizeTuner(100, 200, 100, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("maxBatchSize");
+        }
+
+        @Test
+        @DisplayName("예외: 최소 크기가 1 미만인 경우")
+        void shouldThrowExceptionForInvalidMin() {
+            assertThatThrownBy(() -> new BatchSizeTuner(100, 0, 100, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("minBatchSize");
+        }
+    }
+}
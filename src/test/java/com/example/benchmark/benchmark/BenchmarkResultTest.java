@@ -1,5 +1,6 @@
 package com.example.benchmark.benchmark;
 
+import com.example.benchmark.config.Workload;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,33 @@ class BenchmarkResultTest {
             assertThat(result.getDurations()).containsExactly(100L, 150L, 125L);
         }
 
+        @Test
+        @DisplayName("정상: 워크로드 미지정 시 INSERT")
+        void shouldDefaultToInsertWorkload() {
+            // given & when
+            BenchmarkResult result = BenchmarkResult.builder()
+                    .repositoryType("JDBC_BATCH")
+                    .executedAt(Instant.now())
+                    .build();
+
+            // then
+            assertThat(result.getWorkload()).isEqualTo(Workload.INSERT);
+        }
+
+        @Test
+        @DisplayName("정상: 데이터 프로파일 미지정 시 default")
+        void shouldDefaultToDefaultDataProfile() {
+            // given & when
+            BenchmarkResult result = BenchmarkResult.builder()
+                    .repositoryType("JDBC_BATCH")
+                    .executedAt(Instant.now())
+                    .build();
+
+            // then
+            assertThat(result.getDataProfile()).isEqualTo("default");
+            assertThat(result.toString()).contains("dataProfile=default");
+        }
+
         @Test
         @DisplayName("예외: repositoryType이 null인 경우")
         void shouldThrowExceptionWhenRepositoryTypeIsNull() {
@@ -274,6 +302,23 @@ class BenchmarkResultTest {
             assertThatThrownBy(() -> result.getDurations().add(300L))
                     .isInstanceOf(UnsupportedOperationException.class);
         }
+
+        @Test
+        @DisplayName("정상: metrics 맵은 불변이며 입력 순서 유지")
+        void shouldReturnUnmodifiableOrderedMetrics() {
+            // given
+            BenchmarkResult result = BenchmarkResult.builder()
+                    .repositoryType("JDBC_PARALLEL")
+                    .addMetric("Workers", "4")
+                    .addMetric("Worker TPS", "[100.00, 200.00]")
+                    .executedAt(Instant.now())
+                    .build();
+
+            // when & then
+            assertThat(result.getMetrics().keySet()).containsExactly("Workers", "Worker TPS");
+            assertThatThrownBy(() -> result.getMetrics().put("x", "y"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
     }
 
     @Nested
@@ -1,22 +1,48 @@
 package com.example.benchmark.benchmark;
 
 import com.example.benchmark.config.BenchmarkProperties;
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.config.DataProfile;
+import com.example.benchmark.config.TableDefinition;
+import com.example.benchmark.config.WaitStrategy;
+import com.example.benchmark.config.Workload;
+import com.example.benchmark.domain.ColumnarRecordBatch;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.repository.BatchInsertRepository;
+import com.example.benchmark.repository.ColumnarBatchInsertRepository;
+import com.example.benchmark.repository.CopyRepository;
+import com.example.benchmark.repository.DeleteRepository;
+import com.example.benchmark.repository.ExportRepository;
+import com.example.benchmark.repository.JdbcTableBatchInsertRepository;
+import com.example.benchmark.repository.LookupRepository;
 import com.example.benchmark.repository.SingleInsertRepository;
+import com.example.benchmark.repository.UpdateRepository;
+import com.example.benchmark.repository.UpsertRepository;
+import com.example.benchmark.service.JdbcIngestWriter;
+import com.example.benchmark.util.AllocationMeter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * BenchmarkRunner 테스트.
@@ -45,6 +71,10 @@ class BenchmarkRunnerTest {
         mockReportGenerator = new MockBenchmarkReportGenerator();
     }
 
+    private RunnerBuilder runnerBuilder() {
+        return new RunnerBuilder();
+    }
+
     @Nested
     @DisplayName("생성자")
     class ConstructorTest {
@@ -53,61 +83,65 @@ class BenchmarkRunnerTest {
         @DisplayName("정상: 유효한 파라미터로 생성")
         void shouldCreateWithValidParameters() {
             // when & then
-            assertThatCode(() -> new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.singletonList(mockSingleRepository),
-                    mockReportGenerator
-            )).doesNotThrowAnyException();
+            assertThatCode(() -> runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build()).doesNotThrowAnyException();
         }
 
         @Test
         @DisplayName("예외: null properties")
         void shouldThrowExceptionForNullProperties() {
-            assertThatThrownBy(() -> new BenchmarkRunner(
-                    null,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.singletonList(mockSingleRepository),
-                    mockReportGenerator
-            )).isInstanceOf(NullPointerException.class)
+            assertThatThrownBy(() -> runnerBuilder()
+                    .properties(null)
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build()).isInstanceOf(NullPointerException.class)
               .hasMessageContaining("properties");
         }
 
         @Test
         @DisplayName("예외: null batchRepositories")
         void shouldThrowExceptionForNullBatchRepositories() {
-            assertThatThrownBy(() -> new BenchmarkRunner(
-                    properties,
-                    null,
-                    Collections.singletonList(mockSingleRepository),
-                    mockReportGenerator
-            )).isInstanceOf(NullPointerException.class)
+            assertThatThrownBy(() -> runnerBuilder()
+                    .batchRepositories(null)
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build()).isInstanceOf(NullPointerException.class)
               .hasMessageContaining("batchRepositories");
         }
 
         @Test
         @DisplayName("예외: null singleRepositories")
         void shouldThrowExceptionForNullSingleRepositories() {
-            assertThatThrownBy(() -> new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    null,
-                    mockReportGenerator
-            )).isInstanceOf(NullPointerException.class)
+            assertThatThrownBy(() -> runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(null)
+                    .build()).isInstanceOf(NullPointerException.class)
               .hasMessageContaining("singleRepositories");
         }
 
         @Test
         @DisplayName("예외: null reportGenerator")
         void shouldThrowExceptionForNullReportGenerator() {
-            assertThatThrownBy(() -> new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.singletonList(mockSingleRepository),
-                    null
-            )).isInstanceOf(NullPointerException.class)
+            assertThatThrownBy(() -> runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .reportGenerator(null)
+                    .build()).isInstanceOf(NullPointerException.class)
               .hasMessageContaining("reportGenerator");
         }
+
+        @Test
+        @DisplayName("예외: 정의되지 않은 데이터 프로파일")
+        void shouldThrowExceptionForUnknownDataProfile() {
+            properties.setDataProfile("unknown");
+
+            assertThatThrownBy(() -> runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build()).isInstanceOf(IllegalArgumentException.class)
+              .hasMessageContaining("unknown");
+        }
     }
 
     @Nested
@@ -118,12 +152,10 @@ class BenchmarkRunnerTest {
         @DisplayName("정상: 벤치마크 실행 및 리포트 생성")
         void shouldRunBenchmarkAndGenerateReport() throws Exception {
             // given
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.singletonList(mockSingleRepository),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
 
             // when
             runner.run();
@@ -137,12 +169,7 @@ class BenchmarkRunnerTest {
         @DisplayName("정상: 빈 repository 목록으로 실행")
         void shouldRunWithEmptyRepositories() throws Exception {
             // given
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder().build();
 
             // when
             runner.run();
@@ -157,12 +184,10 @@ class BenchmarkRunnerTest {
         void shouldSkipWarmupWhenZero() throws Exception {
             // given
             properties.setWarmupCount(0);
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.singletonList(mockSingleRepository),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
 
             // when
             runner.run();
@@ -180,12 +205,10 @@ class BenchmarkRunnerTest {
             MockSingleInsertRepository singleRepo1 = new MockSingleInsertRepository("JDBC Single");
             MockSingleInsertRepository singleRepo2 = new MockSingleInsertRepository("MyBatis Single");
 
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Arrays.asList(batchRepo1, batchRepo2),
-                    Arrays.asList(singleRepo1, singleRepo2),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Arrays.asList(batchRepo1, batchRepo2))
+                    .singleRepositories(Arrays.asList(singleRepo1, singleRepo2))
+                    .build();
 
             // when
             runner.run();
@@ -199,12 +222,9 @@ class BenchmarkRunnerTest {
         void shouldLimitSingleInsertRecordCount() throws Exception {
             // given
             properties.setRecordCount(10000); // 10000건 요청하지만 single은 1000건으로 제한
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Collections.emptyList(),
-                    Collections.singletonList(mockSingleRepository),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder()
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
 
             // when
             runner.run();
@@ -224,12 +244,9 @@ class BenchmarkRunnerTest {
             // given
             properties.setIterations(3);
             properties.setWarmupCount(0); // warmup 비활성화
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.emptyList(),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .build();
 
             // when
             runner.run();
@@ -242,12 +259,9 @@ class BenchmarkRunnerTest {
         @DisplayName("정상: 결과에 올바른 repository type 포함")
         void shouldIncludeCorrectRepositoryType() throws Exception {
             // given
-            BenchmarkRunner runner = new BenchmarkRunner(
-                    properties,
-                    Collections.singletonList(mockBatchRepository),
-                    Collections.emptyList(),
-                    mockReportGenerator
-            );
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .build();
 
             // when
             runner.run();
@@ -256,92 +270,1422 @@ class BenchmarkRunnerTest {
             assertThat(mockReportGenerator.getResults().get(0).getRepositoryType())
                     .isEqualTo("JDBC Batch");
         }
+
+        @Test
+        @DisplayName("정상: 설정된 커밋 정책을 repository에 적용하고 결과에 기록")
+        void shouldApplyConfiguredCommitPolicy() throws Exception {
+            // given
+            properties.setCommitPolicy(CommitPolicy.Mode.EVERY_N_BATCHES);
+            properties.setCommitEveryBatches(5);
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockBatchRepository.getCommitPolicy()).isEqualTo(CommitPolicy.everyNBatches(5));
+            assertThat(mockSingleRepository.getCommitPolicy()).isEqualTo(CommitPolicy.everyNBatches(5));
+            assertThat(mockReportGenerator.getResults())
+                    .allSatisfy(result -> assertThat(result.getCommitPolicy()).isEqualTo(CommitPolicy.everyNBatches(5)));
+        }
+
+        @Test
+        @DisplayName("정상: 설정된 데이터 프로파일로 생성하고 결과에 기록")
+        void shouldRecordDataProfile() throws Exception {
+            // given
+            DataProfile korean = new DataProfile();
+            korean.setCharacterSet(DataProfile.CharacterSet.HANGUL);
+            korean.setData1MaxLength(60);
+            properties.getDataProfiles().put("korean", korean);
+            properties.setDataProfile("korean");
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            MockCapturingBatchInsertRepository repository = new MockCapturingBatchInsertRepository("JDBC Batch");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(repository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(repository.getInserted().get(1))
+                    .allSatisfy(record -> assertThat(record.getData1()).matches("[\\uAC00-\\uD7A3]{50,60}"));
+            assertThat(mockReportGenerator.getResults())
+                    .isNotEmpty()
+                    .allSatisfy(result -> assertThat(result.getDataProfile()).isEqualTo("korean"));
+        }
+
+        @Test
+        @DisplayName("정상: 자동 튜닝 시 튜닝 결과와 이력을 결과에 기록")
+        void shouldReportTunedBatchSize() throws Exception {
+            // given
+            properties.setAutoTune(true);
+            properties.setAutoTuneMinBatchSize(10);
+            properties.setAutoTuneMaxBatchSize(400);
+            properties.setRecordCount(5000);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            BenchmarkResult result = mockReportGenerator.getResults().get(0);
+            assertThat(result.getBatchSize()).isBetween(10, 400);
+            assertThat(mockBatchRepository.getBatchSize()).isEqualTo(result.getBatchSize());
+            assertThat(result.getMetrics()).containsKeys("Tuned Batch Size", "Tuning Trajectory");
+        }
+
+        @Test
+        @DisplayName("정상: 스트리밍 모드는 insertStream으로 배치 단위 삽입")
+        void shouldInsertThroughStreamWhenStreamingEnabled() throws Exception {
+            // given
+            properties.setStreaming(true);
+            properties.setWarmupCount(0);
+            properties.setRecordCount(250);
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then - batchSize 100 기준 100 + 100 + 50
+            assertThat(mockBatchRepository.getInsertCount()).isEqualTo(3);
+            assertThat(mockReportGenerator.getResults().get(0).getMetrics())
+                    .containsEntry("Input", "streaming");
+        }
     }
 
-    // ========== Mock Classes ==========
+    @Nested
+    @DisplayName("UPSERT 워크로드")
+    class UpsertWorkloadTest {
 
-    /**
-     * 테스트용 BatchInsertRepository Mock.
-     */
-    private static class MockBatchInsertRepository implements BatchInsertRepository {
-        private final String typeName;
-        private int batchSize = 1000;
-        private int insertCount = 0;
+        @Test
+        @DisplayName("정상: 갱신 비율마다 결과 생성")
+        void shouldProduceResultPerUpdateRatio() throws Exception {
+            // given
+            MockUpsertRepository upsertRepository = new MockUpsertRepository("JDBC-Merge");
+            properties.setWorkloads(EnumSet.of(Workload.INSERT, Workload.UPSERT));
+            properties.setUpsertUpdateRatios(Arrays.asList(0.2, 0.8));
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .upsertRepositories(Collections.singletonList(upsertRepository))
+                    .build();
 
-        MockBatchInsertRepository(String typeName) {
-            this.typeName = typeName;
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0).getWorkload()).isEqualTo(Workload.INSERT);
+            assertThat(results.get(1).getRepositoryType()).isEqualTo("JDBC-Merge (update 20%)");
+            assertThat(results.get(1).getWorkload()).isEqualTo(Workload.UPSERT);
+            assertThat(results.get(1).getMetrics())
+                    .containsEntry("Updated Rows", "20")
+                    .containsEntry("Inserted Rows", "80");
+            assertThat(results.get(2).getRepositoryType()).isEqualTo("JDBC-Merge (update 80%)");
         }
 
-        @Override
-        public int insertBatch(List<TestRecord> records) {
-            insertCount++;
-            return records.size();
+        @Test
+        @DisplayName("정상: 측정 배치는 기존 키와 신규 키를 비율대로 포함")
+        void shouldMixExistingAndNewKeys() throws Exception {
+            // given
+            MockUpsertRepository upsertRepository = new MockUpsertRepository("JDBC-Merge");
+            properties.setWorkloads(Collections.singleton(Workload.UPSERT));
+            properties.setUpsertUpdateRatios(Collections.singletonList(0.3));
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .upsertRepositories(Collections.singletonList(upsertRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then - 마지막 호출이 측정 배치 (기존 키 1..100)
+            List<TestRecord> measured = upsertRepository.getLastRecords();
+            assertThat(measured).hasSize(100);
+            assertThat(measured).filteredOn(record -> record.getId() <= 100).hasSize(30);
         }
 
-        @Override
-        public void setBatchSize(int batchSize) {
-            this.batchSize = batchSize;
+        @Test
+        @DisplayName("정상: 워크로드에서 제외하면 실행하지 않음")
+        void shouldSkipExcludedWorkloads() throws Exception {
+            // given
+            MockUpsertRepository upsertRepository = new MockUpsertRepository("JDBC-Merge");
+            properties.setWorkloads(Collections.singleton(Workload.UPSERT));
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .upsertRepositories(Collections.singletonList(upsertRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockBatchRepository.getInsertCount()).isZero();
+            assertThat(mockSingleRepository.getLastRecordCount()).isZero();
+            assertThat(mockReportGenerator.getResults())
+                    .allSatisfy(result -> assertThat(result.getWorkload()).isEqualTo(Workload.UPSERT));
         }
+    }
 
-        @Override
-        public int getBatchSize() {
-            return batchSize;
+    @Nested
+    @DisplayName("UPDATE/DELETE 워크로드")
+    class MaintenanceWorkloadTest {
+
+        @Test
+        @DisplayName("정상: ID 기준과 상태 기준 UPDATE 결과를 각각 생성")
+        void shouldProduceUpdateResults() throws Exception {
+            // given
+            MockUpdateRepository updateRepository = new MockUpdateRepository();
+            properties.setWorkloads(Collections.singleton(Workload.UPDATE));
+            BenchmarkRunner runner = runnerBuilder()
+                    .updateRepositories(Collections.singletonList(updateRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).extracting(BenchmarkResult::getRepositoryType)
+                    .containsExactly("JDBC-Update (by id)", "JDBC-Update (by status)");
+            assertThat(results).allSatisfy(result -> assertThat(result.getWorkload()).isEqualTo(Workload.UPDATE));
+            assertThat(updateRepository.getLastUpdated()).hasSize(100);
+            assertThat(results.get(1).getRecordCount()).isEqualTo(MockUpdateRepository.STATUS_MATCHES);
         }
 
-        @Override
-        public void truncateTable() {
-            // no-op
+        @Test
+        @DisplayName("정상: purgeRatio 비율에 해당하는 기준 시각으로 DELETE")
+        void shouldDeleteWithCutoffFromPurgeRatio() throws Exception {
+            // given
+            MockDeleteRepository deleteRepository = new MockDeleteRepository();
+            properties.setWorkloads(Collections.singleton(Workload.DELETE));
+            properties.setPurgeRatio(0.25);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .deleteRepositories(Collections.singletonList(deleteRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            BenchmarkResult result = mockReportGenerator.getResults().get(0);
+            assertThat(result.getWorkload()).isEqualTo(Workload.DELETE);
+            assertThat(result.getRecordCount()).isEqualTo(25);
+            assertThat(result.getMetrics()).containsEntry("Purge Ratio", "0.25");
         }
 
-        @Override
-        public long count() {
-            return 0;
+        @Test
+        @DisplayName("예외: 범위를 벗어난 purgeRatio")
+        void shouldRejectInvalidPurgeRatio() {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.DELETE));
+            properties.setPurgeRatio(1.5);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .deleteRepositories(Collections.singletonList(new MockDeleteRepository()))
+                    .build();
+
+            // when & then
+            assertThatThrownBy(runner::run)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("purgeRatio");
         }
+    }
 
-        @Override
-        public String getTypeName() {
-            return typeName;
+    @Nested
+    @DisplayName("COPY 워크로드")
+    class CopyWorkloadTest {
+
+        @Test
+        @DisplayName("정상: 원본을 적재한 뒤 복사 시간을 측정하고 원본을 정리")
+        void shouldSeedSourceAndMeasureCopy() throws Exception {
+            // given
+            MockCopyRepository copyRepository = new MockCopyRepository();
+            properties.setWorkloads(Collections.singleton(Workload.COPY));
+            properties.setIterations(2);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .copyRepositories(Collections.singletonList(copyRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            BenchmarkResult result = mockReportGenerator.getResults().get(0);
+            assertThat(result.getWorkload()).isEqualTo(Workload.COPY);
+            assertThat(result.getRepositoryType()).isEqualTo("SQL-InsertSelect");
+            assertThat(result.getDurations()).hasSize(2);
+            assertThat(copyRepository.getCopyCount()).isEqualTo(2);
+            assertThat(copyRepository.getSourceSize()).isZero();
         }
+    }
 
-        int getInsertCount() {
-            return insertCount;
+    @Nested
+    @DisplayName("READ 워크로드")
+    class ReadWorkloadTest {
+
+        @Test
+        @DisplayName("정상: fetchSize마다 결과를 만들고 힙 최대 사용량을 기록")
+        void shouldMeasureEachFetchSize() throws Exception {
+            // given
+            MockExportRepository exportRepository = new MockExportRepository();
+            properties.setWorkloads(Collections.singleton(Workload.READ));
+            properties.setExportFetchSizes(Arrays.asList(10, 100));
+            properties.setIterations(2);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .exportRepositories(Collections.singletonList(exportRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).getWorkload()).isEqualTo(Workload.READ);
+            assertThat(results.get(0).getRepositoryType()).isEqualTo("JDBC-Cursor (fetch 10)");
+            assertThat(results.get(0).getBatchSize()).isEqualTo(10);
+            assertThat(results.get(0).getDurations()).hasSize(2);
+            assertThat(results.get(0).getMetrics()).containsKey("Heap High-Water (MB)");
+            assertThat(results.get(1).getRepositoryType()).isEqualTo("JDBC-Cursor (fetch 100)");
+            assertThat(exportRepository.getFetchSizes()).containsExactly(10, 10, 100, 100);
+        }
+
+        @Test
+        @DisplayName("정상: 내보낸 임시 파일을 측정 후 삭제")
+        void shouldDeleteExportFiles() throws Exception {
+            // given
+            MockExportRepository exportRepository = new MockExportRepository();
+            properties.setWorkloads(Collections.singleton(Workload.READ));
+            properties.setExportFetchSizes(Collections.singletonList(10));
+            BenchmarkRunner runner = runnerBuilder()
+                    .exportRepositories(Collections.singletonList(exportRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(exportRepository.getTargets()).hasSize(2);
+            assertThat(exportRepository.getTargets()).allSatisfy(target -> assertThat(target).doesNotExist());
         }
     }
 
-    /**
-     * 테스트용 SingleInsertRepository Mock.
-     */
-    private static class MockSingleInsertRepository implements SingleInsertRepository {
-        private final String typeName;
-        private int lastRecordCount = 0;
+    @Nested
+    @DisplayName("컬럼 배치 삽입")
+    class ColumnarInsertTest {
 
-        MockSingleInsertRepository(String typeName) {
-            this.typeName = typeName;
+        @Test
+        @DisplayName("정상: 컬럼 배치 지원 Repository는 행 경로 뒤에 컬럼 경로 결과를 추가하고 행당 할당량 기록")
+        void shouldMeasureColumnarPathAfterRowPath() throws Exception {
+            // given
+            assumeTrue(AllocationMeter.isSupported());
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setColumnarInsert(true);
+            properties.setIterations(2);
+            MockColumnarBatchInsertRepository columnarRepository = new MockColumnarBatchInsertRepository("JDBC Batch");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Arrays.asList(columnarRepository, mockBatchRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).extracting(BenchmarkResult::getRepositoryType).containsExactly(
+                    "JDBC Batch", "JDBC Batch (columnar)", "JDBC Batch");
+            assertThat(results.get(0).getMetrics())
+                    .containsEntry("Input", "materialized")
+                    .containsKey("Bytes/Row");
+            assertThat(results.get(1).getMetrics())
+                    .containsEntry("Input", "columnar")
+                    .containsKey("Bytes/Row");
+            assertThat(results.get(1).getDurations()).hasSize(2);
+            assertThat(results.get(2).getMetrics()).doesNotContainKey("Bytes/Row");
+            // 웜업 1회 + 측정 2회
+            assertThat(columnarRepository.getColumnarRows()).isEqualTo(10 + 100 * 2);
         }
 
-        @Override
-        public int insertSingle(List<TestRecord> records) {
-            lastRecordCount = records.size();
-            return records.size();
+        @Test
+        @DisplayName("정상: columnarInsert가 꺼져 있으면 컬럼 경로 생략")
+        void shouldSkipWhenDisabled() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            MockColumnarBatchInsertRepository columnarRepository = new MockColumnarBatchInsertRepository("JDBC Batch");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(columnarRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).hasSize(1);
+            assertThat(mockReportGenerator.getResults().get(0).getMetrics()).doesNotContainKey("Bytes/Row");
+            assertThat(columnarRepository.getColumnarRows()).isZero();
         }
+    }
 
-        @Override
-        public void truncateTable() {
-            // no-op
+    @Nested
+    @DisplayName("입력 데이터셋 파일")
+    class DatasetTest {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("정상: 모든 배치 엔진과 반복이 같은 데이터셋 입력을 받고 결과에 파일명 기록")
+        void shouldFeedSameInputToAllEngines() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setDatasetDirectory(tempDir.toString());
+            properties.setDatasetSeed(11L);
+            properties.setIterations(2);
+            MockCapturingBatchInsertRepository jdbc = new MockCapturingBatchInsertRepository("JDBC Batch");
+            MockCapturingBatchInsertRepository myBatis = new MockCapturingBatchInsertRepository("MyBatis Batch");
+            BenchmarkRunner runner = runnerBuilder().batchRepositories(Arrays.asList(jdbc, myBatis)).build();
+
+            // when
+            runner.run();
+
+            // then - 웜업 입력을 제외한 측정 입력 4개가 모두 같음
+            List<List<TestRecord>> measured = new ArrayList<>();
+            measured.addAll(jdbc.getInserted().subList(1, 3));
+            measured.addAll(myBatis.getInserted().subList(1, 3));
+            assertThat(measured).hasSize(4).allSatisfy(records -> {
+                assertThat(records).hasSize(100);
+                assertThat(records).isEqualTo(measured.get(0));
+            });
+            String fileName = "test_record-default-" + DataProfile.defaults().fingerprint() + "-11-100.dat";
+            assertThat(tempDir.resolve(fileName)).exists();
+            assertThat(mockReportGenerator.getResults()).allSatisfy(result ->
+                    assertThat(result.getMetrics()).containsEntry("Dataset", fileName));
         }
 
-        @Override
-        public long count() {
-            return 0;
+        @Test
+        @DisplayName("정상: 스트리밍 모드에서는 매핑된 데이터셋을 insertStream으로 전달")
+        void shouldStreamDatasetWhenStreaming() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setDatasetDirectory(tempDir.toString());
+            properties.setStreaming(true);
+            properties.setWarmupCount(0);
+            properties.setBatchSize(40);
+            MockCapturingBatchInsertRepository jdbc = new MockCapturingBatchInsertRepository("JDBC Batch");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(jdbc))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then - 기본 insertStream이 batchSize 단위로 나눠 insertBatch 호출
+            assertThat(jdbc.getInserted()).extracting(List::size).containsExactly(40, 40, 20);
+            assertThat(mockReportGenerator.getResults().get(0).getMetrics())
+                    .containsEntry("Input", "streaming")
+                    .containsKey("Dataset");
         }
+    }
 
-        @Override
-        public String getTypeName() {
-            return typeName;
+    @Nested
+    @DisplayName("단건 삽입 스레드 확장")
+    class SingleScalingTest {
+
+        @Test
+        @DisplayName("정상: 1부터 두 배씩 늘린 스레드 수마다 결과 생성")
+        void shouldMeasureEachThreadCount() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setSingleScalingMaxThreads(3);
+            properties.setSingleScalingRecordCount(50);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).extracting(BenchmarkResult::getRepositoryType).containsExactly(
+                    "JDBC Single",
+                    "JDBC Single (threads 1)",
+                    "JDBC Single (threads 2)",
+                    "JDBC Single (threads 3)");
+            BenchmarkResult scaled = results.get(3);
+            assertThat(scaled.getRecordCount()).isEqualTo(50);
+            assertThat(scaled.getBatchSize()).isEqualTo(1);
+            assertThat(scaled.getMetrics())
+                    .containsEntry("Threads", "3")
+                    .containsKeys("Latency p50 (ms)", "Latency p99 (ms)")
+                    .doesNotContainKey("Pool Size");
+            // 단건 측정 100건 + 스레드 수별 50건씩 3회
+            assertThat(mockSingleRepository.getTotalInserted()).isEqualTo(100 + 50 * 3);
         }
 
-        int getLastRecordCount() {
-            return lastRecordCount;
+        @Test
+        @DisplayName("정상: 최대 스레드 수가 0이면 스레드 확장 측정 생략")
+        void shouldSkipWhenMaxThreadsIsZero() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setSingleScalingMaxThreads(0);
+            BenchmarkRunner runner = runnerBuilder()
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("정상: 스레드 수 목록은 두 배씩 늘리고 최댓값으로 끝남")
+        void shouldDoubleThreadCountsUpToMax() {
+            assertThat(BenchmarkRunner.scalingThreadCounts(8)).containsExactly(1, 2, 4, 8);
+            assertThat(BenchmarkRunner.scalingThreadCounts(6)).containsExactly(1, 2, 4, 6);
+            assertThat(BenchmarkRunner.scalingThreadCounts(1)).containsExactly(1);
+            assertThat(BenchmarkRunner.scalingThreadCounts(0)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("group commit 비교")
+    class GroupCommitTest {
+
+        @Test
+        @DisplayName("정상: group commit 결과와 같은 스레드 수의 직접 단건 삽입 결과 생성")
+        void shouldCompareGroupCommitWithDirectSingleInsert() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setWarmupCount(0);
+            properties.setSingleScalingRecordCount(30);
+            properties.setGroupCommitSubmitters(3);
+            properties.setGroupCommitMaxRows(10);
+            properties.setGroupCommitWriterType("JDBC Batch");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).extracting(BenchmarkResult::getRepositoryType).containsExactly(
+                    "JDBC Batch",
+                    "JDBC Single",
+                    "GroupCommit JDBC Batch (threads 3)",
+                    "JDBC Single (threads 3)");
+            BenchmarkResult groupCommit = results.get(2);
+            assertThat(groupCommit.getRecordCount()).isEqualTo(30);
+            assertThat(groupCommit.getBatchSize()).isEqualTo(10);
+            assertThat(groupCommit.getCommitPolicy()).isEqualTo(CommitPolicy.singleTransaction());
+            assertThat(groupCommit.getMetrics())
+                    .containsEntry("Threads", "3")
+                    .containsKeys("Latency p50 (ms)", "Latency p99 (ms)", "Flushes", "Rows/Flush", "Full Flushes");
+            assertThat(mockBatchRepository.getBatchSize()).isEqualTo(10);
+            // 배치 측정 1회 + flush마다 insertBatch 1회 (최대 30회)
+            assertThat(mockBatchRepository.getInsertCount() - 1)
+                    .isEqualTo(Integer.parseInt(groupCommit.getMetrics().get("Flushes")));
+        }
+
+        @Test
+        @DisplayName("정상: 스레드 확장 측정에 같은 스레드 수가 있으면 직접 단건 삽입을 다시 측정하지 않음")
+        void shouldNotRepeatDirectMeasurementCoveredByScaling() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setWarmupCount(0);
+            properties.setSingleScalingMaxThreads(2);
+            properties.setSingleScalingRecordCount(20);
+            properties.setGroupCommitSubmitters(2);
+            properties.setGroupCommitWriterType("JDBC Batch");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).extracting(BenchmarkResult::getRepositoryType).containsExactly(
+                    "JDBC Batch",
+                    "JDBC Single",
+                    "JDBC Single (threads 1)",
+                    "JDBC Single (threads 2)",
+                    "GroupCommit JDBC Batch (threads 2)");
+        }
+
+        @Test
+        @DisplayName("정상: 일치하는 배치 삽입 구현체가 없으면 group commit 측정 생략")
+        void shouldSkipWhenWriterTypeDoesNotMatch() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INSERT));
+            properties.setGroupCommitSubmitters(2);
+            properties.setSingleScalingRecordCount(20);
+            properties.setGroupCommitWriterType("Unknown");
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .singleRepositories(Collections.singletonList(mockSingleRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).extracting(BenchmarkResult::getRepositoryType)
+                    .doesNotContain("GroupCommit JDBC Batch (threads 2)")
+                    .contains("JDBC Single (threads 2)");
+        }
+    }
+
+    @Nested
+    @DisplayName("INGEST 워크로드")
+    class IngestWorkloadTest {
+
+        @Test
+        @DisplayName("정상: 대기 전략별 링 버퍼와 ArrayBlockingQueue 결과 생성")
+        void shouldMeasureRingBufferAndBlockingQueue() throws Exception {
+            // given
+            DriverManagerDataSource dataSource = createIngestDataSource("runner_ingest");
+            properties.setWorkloads(Collections.singleton(Workload.INGEST));
+            properties.setWarmupCount(0);
+            properties.setIngestProducerThreads(2);
+            properties.setIngestBufferSize(64);
+            properties.setIngestWaitStrategies(Arrays.asList(WaitStrategy.YIELDING, WaitStrategy.SLEEPING));
+            BenchmarkRunner runner = createIngestRunner(dataSource);
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).extracting(BenchmarkResult::getRepositoryType).containsExactly(
+                    "RingBuffer-MULTI-YIELDING",
+                    "RingBuffer-MULTI-SLEEPING",
+                    "ArrayBlockingQueue");
+            assertThat(results).allSatisfy(result -> {
+                assertThat(result.getWorkload()).isEqualTo(Workload.INGEST);
+                assertThat(result.getRecordCount()).isEqualTo(100);
+                assertThat(result.getMetrics())
+                        .containsEntry("Producers", "2")
+                        .containsEntry("Buffer Size", "64");
+            });
+            assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM test_record", Long.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("정상: 생산자가 하나면 SINGLE 생산자 링 버퍼로 측정")
+        void shouldUseSingleProducerRingBuffer() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INGEST));
+            properties.setWarmupCount(0);
+            properties.setIngestProducerThreads(1);
+            properties.setIngestBufferSize(32);
+            properties.setIngestWaitStrategies(Collections.singletonList(WaitStrategy.BUSY_SPIN));
+            BenchmarkRunner runner = createIngestRunner(createIngestDataSource("runner_ingest_single"));
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).extracting(BenchmarkResult::getRepositoryType)
+                    .containsExactly("RingBuffer-SINGLE-BUSY_SPIN", "ArrayBlockingQueue");
+        }
+
+        @Test
+        @DisplayName("정상: 수집 쓰기 도구가 없으면 INGEST 워크로드 생략")
+        void shouldSkipWithoutIngestWriter() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.INGEST));
+            BenchmarkRunner runner = runnerBuilder()
+                    .batchRepositories(Collections.singletonList(mockBatchRepository))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).isEmpty();
+        }
+
+        private DriverManagerDataSource createIngestDataSource(String name) {
+            DriverManagerDataSource dataSource =
+                    new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS test_record_seq");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS test_record (id BIGINT PRIMARY KEY, "
+                    + "data1 VARCHAR(100) NOT NULL, data2 VARCHAR(200), amount DECIMAL(18,2), "
+                    + "status VARCHAR(20), created_at TIMESTAMP NOT NULL)");
+            return dataSource;
+        }
+
+        private BenchmarkRunner createIngestRunner(DataSource dataSource) {
+            return runnerBuilder()
+                    .ingestWriter(new JdbcIngestWriter(dataSource))
+                    .dataSource(dataSource)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("TABLE 워크로드")
+    class TableWorkloadTest {
+
+        @Test
+        @DisplayName("정상: 선언한 테이블마다 결과를 만들고 측정 후 테이블 삭제")
+        void shouldMeasureDeclaredTablesAndDropThem() throws Exception {
+            // given
+            DriverManagerDataSource dataSource =
+                    new DriverManagerDataSource("jdbc:h2:mem:runner_table;MODE=Oracle;DB_CLOSE_DELAY=-1");
+            properties.setWorkloads(Collections.singleton(Workload.TABLE));
+            BenchmarkRunner runner = runnerBuilder()
+                    .tableRepositories(Arrays.asList(
+                            new JdbcTableBatchInsertRepository(dataSource, tableDefinition("bench_narrow", 1)),
+                            new JdbcTableBatchInsertRepository(dataSource, tableDefinition("bench_wide", 20))))
+                    .build();
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).extracting(BenchmarkResult::getRepositoryType)
+                    .containsExactly("JDBC-Batch (bench_narrow)", "JDBC-Batch (bench_wide)");
+            assertThat(results).allSatisfy(result -> {
+                assertThat(result.getWorkload()).isEqualTo(Workload.TABLE);
+                assertThat(result.getRecordCount()).isEqualTo(100);
+                assertThat(result.getDataProfile()).isEqualTo(DataProfile.DEFAULT_NAME);
+            });
+            assertThat(results.get(0).getMetrics()).containsEntry("Columns", "3");
+            assertThat(results.get(1).getMetrics()).containsEntry("Columns", "22");
+            assertThat(new JdbcTemplate(dataSource).queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME LIKE 'BENCH_%'", Long.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("정상: 선언한 테이블이 없으면 결과 없음")
+        void shouldSkipWithoutTables() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.TABLE));
+            BenchmarkRunner runner = runnerBuilder().build();
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).isEmpty();
+        }
+
+        private TableDefinition tableDefinition(String name, int attributeCount) {
+            TableDefinition.Column attribute = new TableDefinition.Column(
+                    "attr", TableDefinition.ColumnType.VARCHAR2, 50, true);
+            attribute.setCount(attributeCount);
+            TableDefinition definition = new TableDefinition();
+            definition.setName(name);
+            definition.setColumns(new ArrayList<>(Arrays.asList(
+                    new TableDefinition.Column("id", TableDefinition.ColumnType.NUMBER, 18, false),
+                    attribute,
+                    new TableDefinition.Column("created_at", TableDefinition.ColumnType.TIMESTAMP, 0, false))));
+            definition.setPrimaryKey(new ArrayList<>(Collections.singletonList("id")));
+            return definition;
+        }
+    }
+
+    @Nested
+    @DisplayName("MIXED 워크로드")
+    class MixedWorkloadTest {
+
+        @Test
+        @DisplayName("정상: 기준 구간과 부하 구간의 조회 지연을 각각 기록")
+        void shouldRecordBaselineAndLoadedLatency() throws Exception {
+            // given
+            MockLookupRepository lookupRepository = new MockLookupRepository();
+            properties.setWorkloads(Collections.singleton(Workload.MIXED));
+            properties.setMixedWriterType("JDBC Batch");
+            properties.setMixedWriterThreads(2);
+            properties.setMixedReaderThreads(3);
+            properties.setMixedBaselineQueries(10);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = createMixedRunner(lookupRepository,
+                    Arrays.asList(mockBatchRepository, new MockBatchInsertRepository("MyBatis Batch")));
+
+            // when
+            runner.run();
+
+            // then
+            List<BenchmarkResult> results = mockReportGenerator.getResults();
+            assertThat(results).hasSize(1);
+            BenchmarkResult result = results.get(0);
+            assertThat(result.getWorkload()).isEqualTo(Workload.MIXED);
+            assertThat(result.getRepositoryType()).isEqualTo("JDBC Batch + JDBC-Lookup (2w/3r)");
+            assertThat(result.getMetrics())
+                    .containsEntry("Baseline Queries", "30")
+                    .containsKeys("Baseline p99 (ms)", "Loaded p99 (ms)", "p99 Inflation");
+            assertThat(Integer.parseInt(result.getMetrics().get("Loaded Queries"))).isGreaterThanOrEqualTo(3);
+            // 적재 1회 + 쓰기 스레드 2개
+            assertThat(mockBatchRepository.getInsertCount()).isEqualTo(3);
+            assertThat(lookupRepository.getStatusQueries()).isPositive();
+            assertThat(lookupRepository.getRangeQueries()).isPositive();
+        }
+
+        @Test
+        @DisplayName("정상: 쓰기 구현체 타입명이 비어 있으면 모든 배치 구현체로 측정")
+        void shouldUseAllWritersWhenTypeIsBlank() throws Exception {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.MIXED));
+            properties.setMixedWriterType("");
+            properties.setMixedBaselineQueries(2);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = createMixedRunner(new MockLookupRepository(),
+                    Arrays.asList(mockBatchRepository, new MockBatchInsertRepository("MyBatis Batch")));
+
+            // when
+            runner.run();
+
+            // then
+            assertThat(mockReportGenerator.getResults()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("예외: 1 미만의 조회 스레드 수")
+        void shouldThrowExceptionForInvalidReaderThreads() {
+            // given
+            properties.setWorkloads(Collections.singleton(Workload.MIXED));
+            properties.setMixedWriterType("JDBC Batch");
+            properties.setMixedReaderThreads(0);
+            properties.setWarmupCount(0);
+            BenchmarkRunner runner = createMixedRunner(new MockLookupRepository(),
+                    Collections.singletonList(mockBatchRepository));
+
+            // when & then
+            assertThatThrownBy(runner::run)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("mixedReaderThreads");
+        }
+
+        private BenchmarkRunner createMixedRunner(LookupRepository lookupRepository,
+                                                  List<BatchInsertRepository> writers) {
+            return runnerBuilder()
+                    .batchRepositories(writers)
+                    .lookupRepositories(Collections.singletonList(lookupRepository))
+                    .build();
+        }
+    }
+
+    // ========== Test Helpers ==========
+
+    /**
+     * 테스트용 BenchmarkRunner 생성 도우미.
+     *
+     * <p>지정하지 않은 Repository 목록은 빈 목록, 설정과 리포트 생성기는 테스트 공통 필드를 사용합니다.</p>
+     */
+    private class RunnerBuilder {
+        private BenchmarkProperties properties = BenchmarkRunnerTest.this.properties;
+        private List<BatchInsertRepository> batchRepositories = Collections.emptyList();
+        private List<SingleInsertRepository> singleRepositories = Collections.emptyList();
+        private List<UpsertRepository> upsertRepositories = Collections.emptyList();
+        private List<UpdateRepository> updateRepositories = Collections.emptyList();
+        private List<DeleteRepository> deleteRepositories = Collections.emptyList();
+        private List<CopyRepository> copyRepositories = Collections.emptyList();
+        private List<ExportRepository> exportRepositories = Collections.emptyList();
+        private List<LookupRepository> lookupRepositories = Collections.emptyList();
+        private List<JdbcTableBatchInsertRepository> tableRepositories = Collections.emptyList();
+        private JdbcIngestWriter ingestWriter;
+        private DataSource dataSource;
+        private BenchmarkReportGenerator reportGenerator = mockReportGenerator;
+
+        RunnerBuilder properties(BenchmarkProperties properties) {
+            this.properties = properties;
+            return this;
+        }
+
+        RunnerBuilder batchRepositories(List<BatchInsertRepository> batchRepositories) {
+            this.batchRepositories = batchRepositories;
+            return this;
+        }
+
+        RunnerBuilder singleRepositories(List<SingleInsertRepository> singleRepositories) {
+            this.singleRepositories = singleRepositories;
+            return this;
+        }
+
+        RunnerBuilder upsertRepositories(List<UpsertRepository> upsertRepositories) {
+            this.upsertRepositories = upsertRepositories;
+            return this;
+        }
+
+        RunnerBuilder updateRepositories(List<UpdateRepository> updateRepositories) {
+            this.updateRepositories = updateRepositories;
+            return this;
+        }
+
+        RunnerBuilder deleteRepositories(List<DeleteRepository> deleteRepositories) {
+            this.deleteRepositories = deleteRepositories;
+            return this;
+        }
+
+        RunnerBuilder copyRepositories(List<CopyRepository> copyRepositories) {
+            this.copyRepositories = copyRepositories;
+            return this;
+        }
+
+        RunnerBuilder exportRepositories(List<ExportRepository> exportRepositories) {
+            this.exportRepositories = exportRepositories;
+            return this;
+        }
+
+        RunnerBuilder lookupRepositories(List<LookupRepository> lookupRepositories) {
+            this.lookupRepositories = lookupRepositories;
+            return this;
+        }
+
+        RunnerBuilder tableRepositories(List<JdbcTableBatchInsertRepository> tableRepositories) {
+            this.tableRepositories = tableRepositories;
+            return this;
+        }
+
+        RunnerBuilder ingestWriter(JdbcIngestWriter ingestWriter) {
+            this.ingestWriter = ingestWriter;
+            return this;
+        }
+
+        RunnerBuilder dataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        RunnerBuilder reportGenerator(BenchmarkReportGenerator reportGenerator) {
+            this.reportGenerator = reportGenerator;
+            return this;
+        }
+
+        BenchmarkRunner build() {
+            return new BenchmarkRunner(properties, batchRepositories, singleRepositories, upsertRepositories,
+                    updateRepositories, deleteRepositories, copyRepositories, exportRepositories,
+                    lookupRepositories, tableRepositories, ingestWriter, dataSource, reportGenerator);
+        }
+    }
+
+    // ========== Mock Classes ==========
+
+    /**
+     * 테스트용 BatchInsertRepository Mock.
+     */
+    private static class MockBatchInsertRepository implements BatchInsertRepository {
+        private final String typeName;
+        private int batchSize = 1000;
+        private final AtomicInteger insertCount = new AtomicInteger();
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+
+        MockBatchInsertRepository(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public int insertBatch(List<TestRecord> records) {
+            insertCount.incrementAndGet();
+            return records.size();
+        }
+
+        @Override
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public void setCommitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+        }
+
+        @Override
+        public CommitPolicy getCommitPolicy() {
+            return commitPolicy;
+        }
+
+        @Override
+        public void truncateTable() {
+            // no-op
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public String getTypeName() {
+            return typeName;
+        }
+
+        int getInsertCount() {
+            return insertCount.get();
+        }
+    }
+
+    /**
+     * 테스트용 입력 기록 BatchInsertRepository Mock.
+     */
+    private static class MockCapturingBatchInsertRepository extends MockBatchInsertRepository {
+        private final List<List<TestRecord>> inserted = new ArrayList<>();
+
+        MockCapturingBatchInsertRepository(String typeName) {
+            super(typeName);
+        }
+
+        @Override
+        public int insertBatch(List<TestRecord> records) {
+            inserted.add(new ArrayList<>(records));
+            return super.insertBatch(records);
+        }
+
+        List<List<TestRecord>> getInserted() {
+            return inserted;
+        }
+    }
+
+    /**
+     * 테스트용 ColumnarBatchInsertRepository Mock.
+     */
+    private static class MockColumnarBatchInsertRepository extends MockBatchInsertRepository
+            implements ColumnarBatchInsertRepository {
+        private final AtomicInteger columnarRows = new AtomicInteger();
+
+        MockColumnarBatchInsertRepository(String typeName) {
+            super(typeName);
+        }
+
+        @Override
+        public int insertColumnar(ColumnarRecordBatch batch) {
+            columnarRows.addAndGet(batch.size());
+            return batch.size();
+        }
+
+        int getColumnarRows() {
+            return columnarRows.get();
+        }
+    }
+
+    /**
+     * 테스트용 SingleInsertRepository Mock.
+     */
+    private static class MockSingleInsertRepository implements SingleInsertRepository {
+        private final String typeName;
+        private int lastRecordCount = 0;
+        private final AtomicInteger totalInserted = new AtomicInteger();
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+
+        MockSingleInsertRepository(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public int insertSingle(List<TestRecord> records) {
+            lastRecordCount = records.size();
+            totalInserted.addAndGet(records.size());
+            return records.size();
+        }
+
+        int getTotalInserted() {
+            return totalInserted.get();
+        }
+
+        @Override
+        public void setCommitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+        }
+
+        @Override
+        public CommitPolicy getCommitPolicy() {
+            return commitPolicy;
+        }
+
+        @Override
+        public void truncateTable() {
+            // no-op
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public String getTypeName() {
+            return typeName;
+        }
+
+        int getLastRecordCount() {
+            return lastRecordCount;
+        }
+    }
+
+    /**
+     * 테스트용 UpsertRepository Mock.
+     */
+    private static class MockUpsertRepository implements UpsertRepository {
+        private final String typeName;
+        private int batchSize = 1000;
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+        private List<TestRecord> lastRecords = Collections.emptyList();
+
+        MockUpsertRepository(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public int upsertBatch(List<TestRecord> records) {
+            lastRecords = records;
+            return records.size();
+        }
+
+        @Override
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public void setCommitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+        }
+
+        @Override
+        public CommitPolicy getCommitPolicy() {
+            return commitPolicy;
+        }
+
+        @Override
+        public void truncateTable() {
+            // no-op
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public String getTypeName() {
+            return typeName;
+        }
+
+        List<TestRecord> getLastRecords() {
+            return lastRecords;
+        }
+    }
+
+    /**
+     * 테스트용 UpdateRepository Mock.
+     */
+    private static class MockUpdateRepository implements UpdateRepository {
+        static final int STATUS_MATCHES = 42;
+
+        private int batchSize = 1000;
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+        private List<TestRecord> lastUpdated = Collections.emptyList();
+
+        @Override
+        public int updateBatch(List<TestRecord> records) {
+            lastUpdated = records;
+            return records.size();
+        }
+
+        @Override
+        public int updateStatus(String fromStatus, String toStatus) {
+            return STATUS_MATCHES;
+        }
+
+        @Override
+        public int seed(List<TestRecord> records) {
+            return records.size();
+        }
+
+        @Override
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public void setCommitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+        }
+
+        @Override
+        public CommitPolicy getCommitPolicy() {
+            return commitPolicy;
+        }
+
+        @Override
+        public void truncateTable() {
+            // no-op
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "JDBC-Update";
+        }
+
+        List<TestRecord> getLastUpdated() {
+            return lastUpdated;
+        }
+    }
+
+    /**
+     * 테스트용 DeleteRepository Mock.
+     *
+     * <p>적재한 이력 중 기준 시각 이전 레코드 수를 삭제 건수로 반환합니다.</p>
+     */
+    private static class MockDeleteRepository implements DeleteRepository {
+        private int batchSize = 1000;
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+        private List<TestRecord> seeded = Collections.emptyList();
+
+        @Override
+        public int deleteCreatedBefore(Instant cutoff) {
+            return (int) seeded.stream().filter(record -> record.getCreatedAt().isBefore(cutoff)).count();
+        }
+
+        @Override
+        public int seed(List<TestRecord> records) {
+            seeded = records;
+            return records.size();
+        }
+
+        @Override
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public void setCommitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+        }
+
+        @Override
+        public CommitPolicy getCommitPolicy() {
+            return commitPolicy;
+        }
+
+        @Override
+        public void truncateTable() {
+            // no-op
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "JDBC-Purge";
+        }
+    }
+
+    /**
+     * 테스트용 CopyRepository Mock.
+     */
+    private static class MockCopyRepository implements CopyRepository {
+        private int batchSize = 1000;
+        private CommitPolicy commitPolicy = CommitPolicy.singleTransaction();
+        private int sourceSize;
+        private int copyCount;
+
+        @Override
+        public int seedSource(List<TestRecord> records) {
+            sourceSize = records.size();
+            return sourceSize;
+        }
+
+        @Override
+        public int copy() {
+            copyCount++;
+            return sourceSize;
+        }
+
+        @Override
+        public void clearSource() {
+            sourceSize = 0;
+        }
+
+        @Override
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public void setCommitPolicy(CommitPolicy commitPolicy) {
+            this.commitPolicy = commitPolicy;
+        }
+
+        @Override
+        public CommitPolicy getCommitPolicy() {
+            return commitPolicy;
+        }
+
+        @Override
+        public void truncateTable() {
+            // no-op
+        }
+
+        @Override
+        public long count() {
+            return 0;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "SQL-InsertSelect";
+        }
+
+        int getSourceSize() {
+            return sourceSize;
+        }
+
+        int getCopyCount() {
+            return copyCount;
+        }
+    }
+
+    /**
+     * 테스트용 ExportRepository Mock.
+     */
+    private static class MockExportRepository implements ExportRepository {
+        private int fetchSize = 1000;
+        private int tableSize;
+        private final List<Integer> fetchSizes = new ArrayList<>();
+        private final List<Path> targets = new ArrayList<>();
+
+        @Override
+        public int seed(List<TestRecord> records) {
+            tableSize = records.size();
+            return tableSize;
+        }
+
+        @Override
+        public long export(Path target) {
+            fetchSizes.add(fetchSize);
+            targets.add(target);
+            assertThat(Files.exists(target)).isTrue();
+            return tableSize;
+        }
+
+        @Override
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+
+        @Override
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        @Override
+        public void truncateTable() {
+            tableSize = 0;
+        }
+
+        @Override
+        public long count() {
+            return tableSize;
+        }
+
+        @Override
+        public String getTypeName() {
+            return "JDBC-Cursor";
+        }
+
+        List<Integer> getFetchSizes() {
+            return fetchSizes;
+        }
+
+        List<Path> getTargets() {
+            return targets;
+        }
+    }
+
+    /**
+     * 테스트용 LookupRepository Mock.
+     */
+    private static class MockLookupRepository implements LookupRepository {
+        private final AtomicInteger statusQueries = new AtomicInteger();
+        private final AtomicInteger rangeQueries = new AtomicInteger();
+
+        @Override
+        public List<TestRecord> findByStatus(String status, int limit) {
+            statusQueries.incrementAndGet();
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<TestRecord> findCreatedBetween(Instant from, Instant to, int limit) {
+            rangeQueries.incrementAndGet();
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getTypeName() {
+            return "JDBC-Lookup";
+        }
+
+        int getStatusQueries() {
+            return statusQueries.get();
+        }
+
+        int getRangeQueries() {
+            return rangeQueries.get();
         }
     }
 
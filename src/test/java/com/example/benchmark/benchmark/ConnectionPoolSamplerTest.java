@@ -0,0 +1,107 @@
+package com.example.benchmark.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConnectionPoolSampler 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("ConnectionPoolSampler 테스트")
+class ConnectionPoolSamplerTest {
+
+    @Nested
+    @DisplayName("sample 메서드")
+    class SampleTest {
+
+        @Test
+        @DisplayName("정상: 사용 중인 커넥션 수의 최댓값을 기록하고 reset으로 초기화")
+        void shouldRecordPeakActiveConnections() throws Exception {
+            // given
+            try (HikariDataSource dataSource = new HikariDataSource()) {
+                dataSource.setJdbcUrl("jdbc:h2:mem:poolsampler;DB_CLOSE_DELAY=-1");
+                dataSource.setMaximumPoolSize(3);
+                ConnectionPoolSampler sampler = ConnectionPoolSampler.of(dataSource);
+
+                // when
+                try (Connection first = dataSource.getConnection();
+                     Connection second = dataSource.getConnection()) {
+                    sampler.sample();
+                }
+                sampler.sample();
+
+                // then
+                assertThat(sampler.isAvailable()).isTrue();
+                assertThat(sampler.getMaximumPoolSize()).isEqualTo(3);
+                assertThat(sampler.getPeakActiveConnections()).isEqualTo(2);
+                assertThat(sampler.getPeakThreadsAwaiting()).isZero();
+
+                sampler.reset();
+                assertThat(sampler.getPeakActiveConnections()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("경계: HikariCP가 아니면 아무것도 기록하지 않음")
+        void shouldIgnoreNonHikariDataSource() {
+            // given
+            ConnectionPoolSampler sampler = ConnectionPoolSampler.of(null);
+
+            // when
+            sampler.sample();
+
+            // then
+            assertThat(sampler.isAvailable()).isFalse();
+            assertThat(sampler.getMaximumPoolSize()).isZero();
+            assertThat(sampler.getPeakActiveConnections()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("startSampling 메서드")
+    class StartSamplingTest {
+
+        @Test
+        @DisplayName("정상: 별도 스레드에서 표본을 추출하므로 커넥션을 쥔 유일한 스레드도 활성으로 기록")
+        void shouldCountConnectionHeldBySingleThread() throws Exception {
+            // given
+            try (HikariDataSource dataSource = new HikariDataSource()) {
+                dataSource.setJdbcUrl("jdbc:h2:mem:poolsampler_periodic;DB_CLOSE_DELAY=-1");
+                dataSource.setMaximumPoolSize(3);
+                ConnectionPoolSampler sampler = ConnectionPoolSampler.of(dataSource);
+
+                // when
+                try (ConnectionPoolSampler.Sampling ignored = sampler.startSampling(Duration.ofMillis(1))) {
+                    try (Connection connection = dataSource.getConnection()) {
+                        Thread.sleep(50);
+                    }
+                }
+
+                // then
+                assertThat(sampler.getPeakActiveConnections()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("경계: HikariCP가 아니면 스레드 없이 아무것도 기록하지 않음")
+        void shouldDoNothingForNonHikariDataSource() {
+            // given
+            ConnectionPoolSampler sampler = ConnectionPoolSampler.of(null);
+
+            // when
+            sampler.startSampling(Duration.ofMillis(1)).close();
+
+            // then
+            assertThat(sampler.getPeakActiveConnections()).isZero();
+        }
+    }
+}
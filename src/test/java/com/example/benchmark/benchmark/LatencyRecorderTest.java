@@ -0,0 +1,106 @@
+package com.example.benchmark.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LatencyRecorder 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("LatencyRecorder 테스트")
+class LatencyRecorderTest {
+
+    @Nested
+    @DisplayName("getPercentileNanos 메서드")
+    class GetPercentileTest {
+
+        @Test
+        @DisplayName("정상: nearest-rank 방식으로 백분위수 계산")
+        void shouldCalculateNearestRankPercentile() {
+            // given
+            LatencyRecorder recorder = new LatencyRecorder();
+            for (int i = 100; i >= 1; i--) {
+                recorder.record(i);
+            }
+
+            // when & then
+            assertThat(recorder.getPercentileNanos(50)).isEqualTo(50);
+            assertThat(recorder.getPercentileNanos(99)).isEqualTo(99);
+            assertThat(recorder.getPercentileNanos(0.1)).isEqualTo(1);
+            assertThat(recorder.getMaxNanos()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("정상: 나노초를 밀리초로 변환")
+        void shouldConvertToMillis() {
+            // given
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorder.record(1_500_000);
+
+            // when & then
+            assertThat(recorder.getPercentileMillis(50)).isEqualTo(1.5);
+        }
+
+        @Test
+        @DisplayName("경계: 표본이 없으면 0 반환")
+        void shouldReturnZeroWhenEmpty() {
+            assertThat(new LatencyRecorder().getPercentileNanos(99)).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: 범위를 벗어난 백분위")
+        void shouldThrowExceptionForInvalidPercentile() {
+            LatencyRecorder recorder = new LatencyRecorder();
+
+            assertThatThrownBy(() -> recorder.getPercentileNanos(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("percentile");
+            assertThatThrownBy(() -> recorder.getPercentileNanos(100.5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("merge 메서드")
+    class MergeTest {
+
+        @Test
+        @DisplayName("정상: 다른 기록기의 표본을 합치고 용량을 늘림")
+        void shouldMergeSamples() {
+            // given
+            LatencyRecorder first = new LatencyRecorder();
+            LatencyRecorder second = new LatencyRecorder();
+            for (int i = 0; i < 2000; i++) {
+                first.record(1);
+                second.record(3);
+            }
+
+            // when
+            first.merge(second);
+
+            // then
+            assertThat(first.getCount()).isEqualTo(4000);
+            assertThat(first.getPercentileNanos(50)).isEqualTo(1);
+            assertThat(first.getPercentileNanos(51)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("record 메서드")
+    class RecordTest {
+
+        @Test
+        @DisplayName("예외: 음수 지연 시간")
+        void shouldThrowExceptionForNegativeLatency() {
+            assertThatThrownBy(() -> new LatencyRecorder().record(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("latencyNanos");
+        }
+    }
+}
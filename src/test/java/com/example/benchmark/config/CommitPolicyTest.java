@@ -0,0 +1,127 @@
+package com.example.benchmark.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CommitPolicy 테스트 클래스.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("CommitPolicy 테스트")
+class CommitPolicyTest {
+
+    @Nested
+    @DisplayName("of 메서드")
+    class OfTest {
+
+        @Test
+        @DisplayName("정상: 모드별 정책 생성")
+        void shouldCreatePolicyForEachMode() {
+            assertThat(CommitPolicy.of(CommitPolicy.Mode.AUTO_COMMIT, 10)).isEqualTo(CommitPolicy.autoCommit());
+            assertThat(CommitPolicy.of(CommitPolicy.Mode.PER_BATCH, 10)).isEqualTo(CommitPolicy.perBatch());
+            assertThat(CommitPolicy.of(CommitPolicy.Mode.EVERY_N_BATCHES, 10))
+                    .isEqualTo(CommitPolicy.everyNBatches(10));
+            assertThat(CommitPolicy.of(CommitPolicy.Mode.SINGLE_TRANSACTION, 10))
+                    .isEqualTo(CommitPolicy.singleTransaction());
+        }
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES 외 모드는 배치 수를 무시")
+        void shouldIgnoreBatchCountForOtherModes() {
+            assertThat(CommitPolicy.of(CommitPolicy.Mode.PER_BATCH, 0).getBatchesPerCommit()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("예외: EVERY_N_BATCHES에 1 미만 배치 수")
+        void shouldThrowExceptionForInvalidBatchCount() {
+            assertThatThrownBy(() -> CommitPolicy.everyNBatches(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("batchesPerCommit");
+        }
+
+        @Test
+        @DisplayName("예외: null 모드")
+        void shouldThrowExceptionForNullMode() {
+            assertThatThrownBy(() -> CommitPolicy.of(null, 1))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tracker 테스트")
+    class TrackerTest {
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES는 N개마다 커밋하고 나머지를 complete에서 커밋")
+        void shouldCommitEveryNBatchesAndRemainder() throws Exception {
+            // given
+            List<Integer> commitPoints = new ArrayList<>();
+            int[] batches = {0};
+            CommitPolicy.Tracker tracker = CommitPolicy.everyNBatches(3).tracker(() -> commitPoints.add(batches[0]));
+
+            // when
+            for (int i = 0; i < 7; i++) {
+                batches[0]++;
+                tracker.batchCompleted();
+            }
+            tracker.complete();
+
+            // then
+            assertThat(commitPoints).containsExactly(3, 6, 7);
+            assertThat(tracker.getCommitCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("정상: 마지막 배치에서 이미 커밋한 경우 complete는 커밋하지 않음")
+        void shouldNotCommitTwiceOnComplete() throws Exception {
+            // given
+            CommitPolicy.Tracker tracker = CommitPolicy.perBatch().tracker(() -> { });
+
+            // when
+            tracker.batchCompleted();
+            tracker.batchCompleted();
+            tracker.complete();
+
+            // then
+            assertThat(tracker.getCommitCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("정상: AUTO_COMMIT은 명시적으로 커밋하지 않음")
+        void shouldNeverCommitForAutoCommit() throws Exception {
+            // given
+            CommitPolicy.Tracker tracker = CommitPolicy.autoCommit().tracker(() -> {
+                throw new IllegalStateException("must not commit");
+            });
+
+            // when
+            tracker.batchCompleted();
+            tracker.complete();
+
+            // then
+            assertThat(tracker.getCompletedBatches()).isEqualTo(1);
+            assertThat(tracker.getCommitCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("toString 테스트")
+    class ToStringTest {
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES는 배치 수 포함")
+        void shouldIncludeBatchCount() {
+            assertThat(CommitPolicy.everyNBatches(10).toString()).isEqualTo("EVERY_N_BATCHES(10)");
+            assertThat(CommitPolicy.perBatch().toString()).isEqualTo("PER_BATCH");
+        }
+    }
+}
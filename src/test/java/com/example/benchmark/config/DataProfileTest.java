@@ -0,0 +1,131 @@
+package com.example.benchmark.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DataProfile 테스트 클래스.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("DataProfile 테스트")
+class DataProfileTest {
+
+    @Nested
+    @DisplayName("validate 메서드")
+    class ValidateTest {
+
+        @Test
+        @DisplayName("정상: 기본 프로파일은 유효")
+        void shouldAcceptDefaults() {
+            DataProfile profile = DataProfile.defaults().validate();
+
+            assertThat(profile.getName()).isEqualTo(DataProfile.DEFAULT_NAME);
+            assertThat(profile.getData1MinLength()).isEqualTo(50);
+            assertThat(profile.getData2MaxLength()).isEqualTo(100);
+            assertThat(profile.getData2NullRatio()).isEqualTo(0.5);
+            assertThat(profile.getCharacterSet()).isEqualTo(DataProfile.CharacterSet.ASCII);
+            assertThat(profile.getStatusDistribution()).isEqualTo(DataProfile.Distribution.UNIFORM);
+        }
+
+        @Test
+        @DisplayName("예외: data2 최소 길이가 최대 길이보다 큼")
+        void shouldRejectInvertedLengthRange() {
+            DataProfile profile = new DataProfile();
+            profile.setData2MinLength(120);
+
+            assertThatThrownBy(profile::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("data2");
+        }
+
+        @Test
+        @DisplayName("예외: 범위를 벗어난 null 비율")
+        void shouldRejectInvalidNullRatio() {
+            DataProfile profile = new DataProfile();
+            profile.setData2NullRatio(1.5);
+
+            assertThatThrownBy(profile::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("data2NullRatio");
+        }
+
+        @Test
+        @DisplayName("예외: 0 이하 ZIPF 지수")
+        void shouldRejectNonPositiveZipfExponent() {
+            DataProfile profile = new DataProfile();
+            profile.setZipfExponent(0.0);
+
+            assertThatThrownBy(profile::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("zipfExponent");
+        }
+    }
+
+    @Nested
+    @DisplayName("fingerprint 메서드")
+    class FingerprintTest {
+
+        @Test
+        @DisplayName("정상: 이름과 무관하게 설정 값이 같으면 같은 지문")
+        void shouldIgnoreName() {
+            DataProfile renamed = DataProfile.defaults();
+            renamed.setName("copy");
+
+            assertThat(renamed.fingerprint()).isEqualTo(DataProfile.defaults().fingerprint()).hasSize(8);
+        }
+
+        @Test
+        @DisplayName("정상: 설정 값이 다르면 다른 지문")
+        void shouldChangeWithDefinition() {
+            DataProfile hangul = DataProfile.defaults();
+            hangul.setCharacterSet(DataProfile.CharacterSet.HANGUL);
+
+            assertThat(hangul.fingerprint()).isNotEqualTo(DataProfile.defaults().fingerprint());
+        }
+    }
+
+    @Nested
+    @DisplayName("BenchmarkProperties.toDataProfile 메서드")
+    class ToDataProfileTest {
+
+        @Test
+        @DisplayName("정상: 정의되지 않은 default는 기본 프로파일")
+        void shouldReturnDefaultsWhenUndefined() {
+            BenchmarkProperties properties = new BenchmarkProperties();
+
+            assertThat(properties.toDataProfile().fingerprint()).isEqualTo(DataProfile.defaults().fingerprint());
+        }
+
+        @Test
+        @DisplayName("정상: 이름으로 정의를 찾아 키를 이름으로 설정")
+        void shouldResolveNamedProfile() {
+            BenchmarkProperties properties = new BenchmarkProperties();
+            DataProfile korean = new DataProfile();
+            korean.setCharacterSet(DataProfile.CharacterSet.HANGUL);
+            properties.getDataProfiles().put("korean", korean);
+            properties.setDataProfile("korean");
+
+            DataProfile profile = properties.toDataProfile();
+
+            assertThat(profile.getName()).isEqualTo("korean");
+            assertThat(profile.getCharacterSet()).isEqualTo(DataProfile.CharacterSet.HANGUL);
+        }
+
+        @Test
+        @DisplayName("예외: 정의되지 않은 프로파일 이름")
+        void shouldRejectUnknownProfile() {
+            BenchmarkProperties properties = new BenchmarkProperties();
+            properties.setDataProfile("wide");
+
+            assertThatThrownBy(properties::toDataProfile)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("wide");
+        }
+    }
+}
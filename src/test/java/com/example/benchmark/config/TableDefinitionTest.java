@@ -0,0 +1,179 @@
+package com.example.benchmark.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TableDefinition 테스트 클래스.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("TableDefinition 테스트")
+class TableDefinitionTest {
+
+    private static TableDefinition orders() {
+        TableDefinition.Column attribute = new TableDefinition.Column("attr", TableDefinition.ColumnType.VARCHAR2, 100, true);
+        attribute.setCount(3);
+        TableDefinition.Column amount = new TableDefinition.Column("amount", TableDefinition.ColumnType.NUMBER, 15, true);
+        amount.setScale(2);
+
+        TableDefinition definition = new TableDefinition();
+        definition.setName("orders");
+        definition.setColumns(new ArrayList<>(Arrays.asList(
+                new TableDefinition.Column("id", TableDefinition.ColumnType.NUMBER, 18, false),
+                attribute,
+                amount,
+                new TableDefinition.Column("created_at", TableDefinition.ColumnType.TIMESTAMP, 0, false))));
+        definition.setPrimaryKey(new ArrayList<>(Collections.singletonList("id")));
+        return definition;
+    }
+
+    @Nested
+    @DisplayName("expandColumns 메서드")
+    class ExpandColumnsTest {
+
+        @Test
+        @DisplayName("정상: count가 2 이상인 컬럼을 이름 뒤 번호로 펼침")
+        void shouldExpandRepeatedColumns() {
+            // when
+            List<TableDefinition.Column> columns = orders().expandColumns();
+
+            // then
+            assertThat(columns).extracting(TableDefinition.Column::getName)
+                    .containsExactly("id", "attr1", "attr2", "attr3", "amount", "created_at");
+            assertThat(columns.get(2).getSize()).isEqualTo(100);
+            assertThat(columns.get(4).getScale()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("toSqlType 메서드")
+    class ToSqlTypeTest {
+
+        @Test
+        @DisplayName("정상: 타입별 DDL 표현")
+        void shouldRenderSqlTypes() {
+            // given
+            TableDefinition.Column amount = new TableDefinition.Column("amount", TableDefinition.ColumnType.NUMBER, 15, true);
+            amount.setScale(2);
+
+            // when & then
+            assertThat(new TableDefinition.Column("a", TableDefinition.ColumnType.VARCHAR2, 100, true).toSqlType())
+                    .isEqualTo("VARCHAR2(100)");
+            assertThat(new TableDefinition.Column("b", TableDefinition.ColumnType.CHAR, 8, true).toSqlType())
+                    .isEqualTo("CHAR(8)");
+            assertThat(new TableDefinition.Column("c", TableDefinition.ColumnType.NUMBER, 18, true).toSqlType())
+                    .isEqualTo("NUMBER(18)");
+            assertThat(amount.toSqlType()).isEqualTo("NUMBER(15,2)");
+            assertThat(new TableDefinition.Column("d", TableDefinition.ColumnType.DATE, 0, true).toSqlType())
+                    .isEqualTo("DATE");
+        }
+    }
+
+    @Nested
+    @DisplayName("validate 메서드")
+    class ValidateTest {
+
+        @Test
+        @DisplayName("정상: 유효한 정의는 자신을 반환")
+        void shouldAcceptValidDefinition() {
+            TableDefinition definition = orders();
+
+            assertThat(definition.validate()).isSameAs(definition);
+        }
+
+        @Test
+        @DisplayName("예외: 컬럼이 없음")
+        void shouldRejectEmptyColumns() {
+            TableDefinition definition = orders();
+            definition.setColumns(new ArrayList<>());
+
+            assertThatThrownBy(definition::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("at least one column");
+        }
+
+        @Test
+        @DisplayName("예외: 식별자가 아닌 테이블명")
+        void shouldRejectInvalidTableName() {
+            TableDefinition definition = orders();
+            definition.setName("orders; DROP TABLE test_record");
+
+            assertThatThrownBy(definition::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("table name");
+        }
+
+        @Test
+        @DisplayName("예외: 펼친 뒤 중복되는 컬럼명")
+        void shouldRejectDuplicateExpandedColumn() {
+            TableDefinition definition = orders();
+            definition.getColumns().add(new TableDefinition.Column("ATTR2", TableDefinition.ColumnType.CHAR, 1, true));
+
+            assertThatThrownBy(definition::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("duplicate column ATTR2");
+        }
+
+        @Test
+        @DisplayName("예외: 허용 범위를 넘는 VARCHAR2 크기")
+        void shouldRejectOversizedVarchar() {
+            TableDefinition definition = orders();
+            definition.getColumns().get(1).setSize(4001);
+
+            assertThatThrownBy(definition::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("size of VARCHAR2");
+        }
+
+        @Test
+        @DisplayName("예외: 없는 컬럼을 참조하는 인덱스")
+        void shouldRejectIndexOnUnknownColumn() {
+            TableDefinition.Index index = new TableDefinition.Index();
+            index.setName("idx_orders_status");
+            index.setColumns(Collections.singletonList("status"));
+            TableDefinition definition = orders();
+            definition.getIndexes().add(index);
+
+            assertThatThrownBy(definition::validate)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("unknown column status");
+        }
+    }
+
+    @Nested
+    @DisplayName("BenchmarkProperties.toTableDefinitions 메서드")
+    class ToTableDefinitionsTest {
+
+        @Test
+        @DisplayName("정상: 키를 테이블명으로 설정해 선언 순서대로 반환")
+        void shouldNameDefinitionsByKey() {
+            // given
+            BenchmarkProperties properties = new BenchmarkProperties();
+            properties.getTables().put("orders", orders());
+            properties.getTables().put("order_lines", orders());
+
+            // when
+            List<TableDefinition> definitions = properties.toTableDefinitions();
+
+            // then
+            assertThat(definitions).extracting(TableDefinition::getName).containsExactly("orders", "order_lines");
+        }
+
+        @Test
+        @DisplayName("정상: 선언이 없으면 빈 목록")
+        void shouldReturnEmptyWhenUndefined() {
+            assertThat(new BenchmarkProperties().toTableDefinitions()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.benchmark.config;
+
+import com.example.benchmark.repository.JdbcTableBatchInsertRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TableRepositoryConfiguration 테스트 클래스.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("TableRepositoryConfiguration 테스트")
+class TableRepositoryConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(TableRepositoryConfiguration.class)
+            .withBean(DataSource.class, () ->
+                    new DriverManagerDataSource("jdbc:h2:mem:table_config;MODE=Oracle;DB_CLOSE_DELAY=-1"));
+
+    private static String[] table(String name, String primaryKey) {
+        String prefix = "benchmark.tables." + name + ".";
+        return new String[]{
+                prefix + "columns[0].name=id",
+                prefix + "columns[0].type=NUMBER",
+                prefix + "columns[0].size=18",
+                prefix + "columns[0].nullable=false",
+                prefix + "columns[1].name=attr",
+                prefix + "columns[1].type=VARCHAR2",
+                prefix + "columns[1].size=50",
+                prefix + "columns[1].count=3",
+                prefix + "primary-key[0]=" + primaryKey};
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        List<String> values = new ArrayList<>();
+        values.addAll(Arrays.asList(first));
+        values.addAll(Arrays.asList(second));
+        return values.toArray(new String[0]);
+    }
+
+    @Nested
+    @DisplayName("Repository Bean 등록")
+    class RegistrationTest {
+
+        @Test
+        @DisplayName("정상: 선언한 테이블마다 선언 순서대로 Bean 등록")
+        void shouldRegisterRepositoryPerDeclaredTable() {
+            contextRunner
+                    .withPropertyValues(concat(table("bench_narrow", "id"), table("bench_wide", "id")))
+                    .run(context -> {
+                        assertThat(context).hasNotFailed();
+                        List<JdbcTableBatchInsertRepository> repositories = new ArrayList<>(
+                                context.getBeansOfType(JdbcTableBatchInsertRepository.class).values());
+                        assertThat(repositories).extracting(JdbcTableBatchInsertRepository::getTypeName)
+                                .containsExactly("JDBC-Batch (bench_narrow)", "JDBC-Batch (bench_wide)");
+                        assertThat(repositories.get(0).getDefinition().expandColumns()).hasSize(4);
+                    });
+        }
+
+        @Test
+        @DisplayName("정상: 선언이 없으면 Bean 없음")
+        void shouldRegisterNothingWithoutTables() {
+            contextRunner.run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).doesNotHaveBean(JdbcTableBatchInsertRepository.class);
+            });
+        }
+
+        @Test
+        @DisplayName("예외: 유효하지 않은 테이블 정의는 시작 실패")
+        void shouldFailOnInvalidTableDefinition() {
+            contextRunner
+                    .withPropertyValues(table("bench_invalid", "missing"))
+                    .run(context -> assertThat(context).hasFailed()
+                            .getFailure()
+                            .isInstanceOf(IllegalArgumentException.class)
+                            .hasMessageContaining("missing"));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.benchmark.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ColumnarRecordBatch 단위 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("ColumnarRecordBatch 테스트")
+class ColumnarRecordBatchTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00.123456789Z");
+
+    private static TestRecord record(String data1, BigDecimal amount, String status) {
+        return TestRecord.builder()
+                .id(99L)
+                .data1(data1)
+                .data2(data1 + "-2")
+                .amount(amount)
+                .status(status)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("add 메서드")
+    class AddTest {
+
+        @Test
+        @DisplayName("정상: 레코드 값을 컬럼 배열로 변환")
+        void shouldStoreColumnValues() {
+            // given
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(2);
+
+            // when
+            batch.add(record("a", new BigDecimal("12.345"), "ACTIVE"));
+
+            // then
+            assertThat(batch.size()).isEqualTo(1);
+            assertThat(batch.getData1(0)).isEqualTo("a");
+            assertThat(batch.getData2(0)).isEqualTo("a-2");
+            assertThat(batch.getAmountUnscaled(0)).isEqualTo(1235L);
+            assertThat(batch.getStatus(0)).isEqualTo("ACTIVE");
+            assertThat(batch.getCreatedAtEpochNanos(0)).isEqualTo(1_704_067_200_123_456_789L);
+        }
+
+        @Test
+        @DisplayName("정상: null 금액은 NULL_AMOUNT로 저장")
+        void shouldStoreNullAmount() {
+            // given
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(1);
+
+            // when
+            batch.add(record("a", null, "ACTIVE"));
+
+            // then
+            assertThat(batch.getAmountUnscaled(0)).isEqualTo(ColumnarRecordBatch.NULL_AMOUNT);
+        }
+
+        @Test
+        @DisplayName("정상: 같은 상태는 사전에 한 번만 등록되고 같은 인스턴스 반환")
+        void shouldDictionaryEncodeStatus() {
+            // given
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(4);
+
+            // when
+            batch.add(record("a", BigDecimal.ONE, new String("ACTIVE")));
+            batch.add(record("b", BigDecimal.ONE, new String("ACTIVE")));
+            batch.add(record("c", BigDecimal.ONE, "INACTIVE"));
+            batch.add("d", null, 100L, null, 0L);
+
+            // then
+            assertThat(batch.getStatusDictionarySize()).isEqualTo(2);
+            assertThat(batch.getStatus(0)).isSameAs(batch.getStatus(1));
+            assertThat(batch.getStatus(2)).isEqualTo("INACTIVE");
+            assertThat(batch.getStatus(3)).isNull();
+        }
+
+        @Test
+        @DisplayName("예외: 용량 초과")
+        void shouldThrowWhenFull() {
+            // given
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(1);
+            batch.add(record("a", BigDecimal.ONE, "ACTIVE"));
+
+            // when & then
+            assertThatThrownBy(() -> batch.add(record("b", BigDecimal.ONE, "ACTIVE")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("capacity=1");
+        }
+
+        @Test
+        @DisplayName("예외: null data1")
+        void shouldThrowForNullData1() {
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(1);
+
+            assertThatThrownBy(() -> batch.add(null, null, 0L, null, 0L))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("data1");
+        }
+    }
+
+    @Nested
+    @DisplayName("from 메서드")
+    class FromTest {
+
+        @Test
+        @DisplayName("정상: 목록 크기만큼 용량을 잡고 모두 담음")
+        void shouldCopyAllRecords() {
+            // when
+            ColumnarRecordBatch batch = ColumnarRecordBatch.from(Arrays.asList(
+                    record("a", BigDecimal.ONE, "ACTIVE"), record("b", BigDecimal.TEN, "ACTIVE")));
+
+            // then
+            assertThat(batch.size()).isEqualTo(2);
+            assertThat(batch.capacity()).isEqualTo(2);
+            assertThat(batch.getAmountUnscaled(1)).isEqualTo(1000L);
+        }
+
+        @Test
+        @DisplayName("예외: 빈 목록")
+        void shouldThrowForEmptyList() {
+            assertThatThrownBy(() -> ColumnarRecordBatch.from(Collections.emptyList()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("clear 메서드")
+    class ClearTest {
+
+        @Test
+        @DisplayName("정상: 행을 비우고 같은 용량으로 재사용")
+        void shouldResetSizeAndKeepDictionary() {
+            // given
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(1);
+            batch.add(record("a", BigDecimal.ONE, "ACTIVE"));
+
+            // when
+            batch.clear();
+            batch.add(record("b", BigDecimal.ONE, "ACTIVE"));
+
+            // then
+            assertThat(batch.size()).isEqualTo(1);
+            assertThat(batch.getData1(0)).isEqualTo("b");
+            assertThat(batch.getStatusDictionarySize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("예외: 비운 뒤 이전 행 접근")
+        void shouldRejectClearedRow() {
+            // given
+            ColumnarRecordBatch batch = new ColumnarRecordBatch(1);
+            batch.add(record("a", BigDecimal.ONE, "ACTIVE"));
+
+            // when
+            batch.clear();
+
+            // then
+            assertThatThrownBy(() -> batch.getData1(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("변환 메서드")
+    class ConversionTest {
+
+        @Test
+        @DisplayName("정상: 금액은 소수점 2자리 HALF_UP으로 반올림")
+        void shouldScaleAmountHalfUp() {
+            assertThat(ColumnarRecordBatch.toUnscaled(new BigDecimal("0.005"))).isEqualTo(1L);
+            assertThat(ColumnarRecordBatch.toUnscaled(new BigDecimal("-0.05"))).isEqualTo(-5L);
+            assertThat(ColumnarRecordBatch.toUnscaled(null)).isEqualTo(ColumnarRecordBatch.NULL_AMOUNT);
+        }
+
+        @Test
+        @DisplayName("정상: epoch 이전 시각도 나노초로 변환")
+        void shouldConvertInstantBeforeEpoch() {
+            assertThat(ColumnarRecordBatch.toEpochNanos(Instant.parse("1969-12-31T23:59:59.5Z")))
+                    .isEqualTo(-500_000_000L);
+        }
+
+        @Test
+        @DisplayName("예외: 0 이하의 용량")
+        void shouldRejectNonPositiveCapacity() {
+            assertThatThrownBy(() -> new ColumnarRecordBatch(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("capacity must be at least 1, but was: 0");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.benchmark.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IdBlockAllocator 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("IdBlockAllocator 테스트")
+class IdBlockAllocatorTest {
+
+    @Autowired
+    private IdBlockAllocator allocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("allocate 메서드")
+    class AllocateTest {
+
+        @Test
+        @DisplayName("정상: 블록 크기보다 많은 ID를 중복 없이 오름차순 할당")
+        void shouldAllocateUniqueAscendingIdsAcrossBlocks() {
+            // given
+            int count = allocator.getBlockSize() * 2 + 7;
+
+            // when
+            long[] ids = allocator.allocate(count);
+
+            // then
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+        }
+
+        @Test
+        @DisplayName("정상: 블록당 시퀀스 라운드 트립 한 번")
+        void shouldUseOneRoundTripPerBlock() {
+            // given - 현재 블록을 소진하여 새 블록부터 시작
+            allocator.allocate(allocator.getBlockSize());
+            IdBlockAllocator.Statistics before = allocator.snapshot();
+
+            // when
+            allocator.allocate(allocator.getBlockSize() * 3);
+            IdBlockAllocator.Statistics delta = allocator.snapshot().since(before);
+
+            // then
+            assertThat(delta.getAllocatedIds()).isEqualTo(allocator.getBlockSize() * 3L);
+            assertThat(delta.getSequenceRoundTrips()).isBetween(3L, 4L);
+            assertThat(delta.getSavedRoundTrips())
+                    .isEqualTo(delta.getAllocatedIds() - delta.getSequenceRoundTrips());
+        }
+
+        @Test
+        @DisplayName("정상: 블록 예약 뒤 행 단위 NEXTVAL이 발급하는 ID와 겹치지 않음")
+        void shouldNotOverlapIdsIssuedByRowNextval() {
+            // given - 현재 블록을 소진하여 새 블록부터 시작
+            allocator.allocate(allocator.getBlockSize());
+            Set<Long> allocated = new HashSet<>();
+            for (long id : allocator.allocate(allocator.getBlockSize())) {
+                allocated.add(id);
+            }
+            long maxAllocated = Collections.max(allocated);
+
+            // when - 같은 시퀀스를 쓰는 다른 구현체가 블록의 가장 큰 ID를 지날 때까지 행 단위 NEXTVAL 호출
+            List<Long> rowIds = new ArrayList<>();
+            long rowId;
+            do {
+                rowId = jdbcTemplate.queryForObject("SELECT NEXTVAL('test_record_seq')", Long.class);
+                rowIds.add(rowId);
+            } while (rowId <= maxAllocated);
+
+            // then
+            assertThat(rowIds).doesNotContainAnyElementsOf(allocated);
+        }
+
+        @Test
+        @DisplayName("정상: 동시 할당 시 ID 중복 없음")
+        void shouldAllocateUniqueIdsConcurrently() throws Exception {
+            // given
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        ids.add(allocator.nextId());
+                    }
+                    for (long id : allocator.allocate(37)) {
+                        ids.add(id);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(4 * (250 + 37));
+        }
+
+        @Test
+        @DisplayName("예외: 음수 개수 요청")
+        void shouldThrowExceptionForNegativeCount() {
+            assertThatThrownBy(() -> allocator.allocate(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("count");
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics 클래스")
+    class StatisticsTest {
+
+        @Test
+        @DisplayName("경계: 할당이 없으면 빈 지표")
+        void shouldReturnEmptyMetricsWithoutAllocation() {
+            assertThat(IdBlockAllocator.Statistics.EMPTY.toMetrics()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("정상: 절약된 라운드 트립 지표 포함")
+        void shouldIncludeSavedRoundTrips() {
+            // given
+            IdBlockAllocator.Statistics before = allocator.snapshot();
+            allocator.allocate(10);
+
+            // when
+            IdBlockAllocator.Statistics delta = allocator.snapshot().since(before);
+
+            // then
+            assertThat(delta.toMetrics()).containsEntry("Client IDs", "10")
+                    .containsKey("Round Trips Saved");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InsertSelectCopyRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("InsertSelectCopyRepository 테스트")
+class InsertSelectCopyRepositoryTest {
+
+    @Autowired
+    private InsertSelectCopyRepository repository;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+        repository.clearSource();
+    }
+
+    @Nested
+    @DisplayName("copy 메서드")
+    class CopyTest {
+
+        @Test
+        @DisplayName("정상: 원본의 모든 행을 복사")
+        void shouldCopyAllSourceRows() {
+            // given
+            repository.seedSource(dataGenerator.generateUpserts(250, 0, 0.0));
+
+            // when
+            int result = repository.copy();
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "1");
+        }
+
+        @Test
+        @DisplayName("정상: 배치마다 커밋")
+        void shouldCommitPerBatch() {
+            // given
+            repository.seedSource(dataGenerator.generateUpserts(250, 0, 0.0));
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+
+            // when
+            repository.copy();
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "1");
+        }
+
+        @Test
+        @DisplayName("경계: 원본이 비어 있으면 0 반환")
+        void shouldReturnZeroForEmptySource() {
+            assertThat(repository.copy()).isZero();
+            assertThat(repository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("SQL-InsertSelect");
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.ColumnarRecordBatch;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,6 +39,12 @@ class JdbcBatchInsertRepositoryTest {
     @Autowired
     private JdbcBatchInsertRepository repository;
 
+    @Autowired
+    private IdBlockAllocator idAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private TestDataGenerator dataGenerator;
 
     @BeforeEach
@@ -38,6 +53,12 @@ class JdbcBatchInsertRepositoryTest {
         dataGenerator = new TestDataGenerator(12345L);
     }
 
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+        idAllocator.setEnabled(false);
+    }
+
     @Nested
     @DisplayName("insertBatch 메서드")
     class InsertBatchTest {
@@ -182,6 +203,220 @@ class JdbcBatchInsertRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 배치 단위로 모두 삽입")
+        void shouldInsertAllStreamedRecords() {
+            // given
+            repository.setBatchSize(40);
+
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(130));
+
+            // then
+            assertThat(result).isEqualTo(130);
+            assertThat(repository.count()).isEqualTo(130);
+        }
+
+        @Test
+        @DisplayName("경계: 빈 소스는 0 반환")
+        void shouldReturnZeroForEmptySource() {
+            // given & when
+            int result = repository.insertStream(Collections.emptyIterator());
+
+            // then
+            assertThat(result).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 소스")
+        void shouldThrowExceptionWhenSourceIsNull() {
+            // when & then
+            assertThatThrownBy(() -> repository.insertStream(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("insertColumnar 메서드")
+    class InsertColumnarTest {
+
+        @Test
+        @DisplayName("정상: 컬럼 배치를 배치 단위로 모두 삽입")
+        void shouldInsertAllColumnarRows() {
+            // given
+            repository.setBatchSize(40);
+            ColumnarRecordBatch batch = ColumnarRecordBatch.from(dataGenerator.generate(130));
+
+            // when
+            int result = repository.insertColumnar(batch);
+
+            // then
+            assertThat(result).isEqualTo(130);
+            assertThat(repository.count()).isEqualTo(130);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "1");
+        }
+
+        @Test
+        @DisplayName("정상: unscaled 금액과 나노초 시각이 행 경로와 같은 값으로 저장")
+        void shouldRoundTripAmountAndCreatedAt() {
+            // given
+            Instant createdAt = Instant.parse("2024-03-01T12:34:56.123456Z");
+            List<TestRecord> records = Arrays.asList(
+                    record("a", new BigDecimal("1234.567"), createdAt),
+                    record("b", new BigDecimal("-0.05"), createdAt.minusSeconds(1)),
+                    record("c", null, Instant.parse("1969-12-31T23:59:59.5Z")));
+
+            // when
+            repository.insertColumnar(ColumnarRecordBatch.from(records));
+
+            // then
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT data1, amount, status, created_at FROM test_record ORDER BY data1");
+            assertThat(rows).hasSize(3);
+            assertThat((BigDecimal) rows.get(0).get("AMOUNT")).isEqualByComparingTo("1234.57");
+            assertThat((BigDecimal) rows.get(1).get("AMOUNT")).isEqualByComparingTo("-0.05");
+            assertThat(rows.get(2).get("AMOUNT")).isNull();
+            assertThat(rows.get(0).get("STATUS")).isEqualTo("ACTIVE");
+            assertThat(((Timestamp) rows.get(0).get("CREATED_AT")).toInstant()).isEqualTo(createdAt);
+            assertThat(((Timestamp) rows.get(1).get("CREATED_AT")).toInstant()).isEqualTo(createdAt.minusSeconds(1));
+            assertThat(((Timestamp) rows.get(2).get("CREATED_AT")).toInstant())
+                    .isEqualTo(Instant.parse("1969-12-31T23:59:59.5Z"));
+        }
+
+        @Test
+        @DisplayName("정상: 클라이언트 측 ID 할당과 함께 삽입")
+        void shouldInsertWithAllocatedIds() {
+            // given
+            idAllocator.setEnabled(true);
+            repository.setBatchSize(50);
+            ColumnarRecordBatch batch = ColumnarRecordBatch.from(dataGenerator.generate(120));
+
+            // when
+            int result = repository.insertColumnar(batch);
+
+            // then
+            assertThat(result).isEqualTo(120);
+            assertThat(repository.count()).isEqualTo(120);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Client IDs", "120");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 배치는 0 반환")
+        void shouldReturnZeroForEmptyBatch() {
+            // given & when
+            int result = repository.insertColumnar(new ColumnarRecordBatch(10));
+
+            // then
+            assertThat(result).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 배치")
+        void shouldThrowExceptionWhenBatchIsNull() {
+            // when & then
+            assertThatThrownBy(() -> repository.insertColumnar(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private TestRecord record(String data1, BigDecimal amount, Instant createdAt) {
+            return TestRecord.builder()
+                    .data1(data1)
+                    .amount(amount)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("커밋 정책")
+    class CommitPolicyTest {
+
+        @Test
+        @DisplayName("정상: PER_BATCH는 배치마다 커밋")
+        void shouldCommitPerBatch() {
+            // given
+            repository.setBatchSize(50);
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generate(220);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(220);
+            assertThat(repository.count()).isEqualTo(220);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "5");
+        }
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES는 N개 배치마다 커밋하고 남은 배치를 마지막에 커밋")
+        void shouldCommitEveryNBatches() {
+            // given
+            repository.setBatchSize(50);
+            repository.setCommitPolicy(CommitPolicy.everyNBatches(2));
+            List<TestRecord> records = dataGenerator.generate(220);
+
+            // when
+            repository.insertBatch(records);
+
+            // then - 5개 배치: 2, 4번째 배치 후 + 마지막
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("정상: AUTO_COMMIT은 명시적 커밋 없이 삽입")
+        void shouldInsertWithAutoCommit() {
+            // given
+            repository.setBatchSize(50);
+            repository.setCommitPolicy(CommitPolicy.autoCommit());
+            List<TestRecord> records = dataGenerator.generate(120);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(120);
+            assertThat(repository.count()).isEqualTo(120);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "0");
+        }
+
+        @Test
+        @DisplayName("예외: null 커밋 정책")
+        void shouldThrowExceptionForNullPolicy() {
+            assertThatThrownBy(() -> repository.setCommitPolicy(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("commitPolicy");
+        }
+    }
+
+    @Nested
+    @DisplayName("클라이언트 측 ID 할당")
+    class ClientSideIdTest {
+
+        @Test
+        @DisplayName("정상: 블록 할당 ID로 삽입하고 절약된 라운드 트립 보고")
+        void shouldInsertWithAllocatedIds() {
+            // given
+            idAllocator.setEnabled(true);
+            repository.setBatchSize(50);
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Client IDs", "250")
+                    .containsKey("Round Trips Saved");
+        }
+    }
+
     @Nested
     @DisplayName("setBatchSize 메서드")
     class SetBatchSizeTest {
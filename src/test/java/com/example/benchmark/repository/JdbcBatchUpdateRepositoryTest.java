@@ -0,0 +1,183 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcBatchUpdateRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcBatchUpdateRepository 테스트")
+class JdbcBatchUpdateRepositoryTest {
+
+    @Autowired
+    private JdbcBatchUpdateRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    @Nested
+    @DisplayName("updateBatch 메서드")
+    class UpdateBatchTest {
+
+        @Test
+        @DisplayName("정상: ID에 해당하는 행을 새 값으로 갱신")
+        void shouldUpdateRowsById() {
+            // given
+            repository.seed(dataGenerator.generateUpserts(250, 0, 0.0));
+            List<TestRecord> records = dataGenerator.generateUpserts(250, 250, 1.0);
+            TestRecord sample = records.get(0);
+
+            // when
+            int result = repository.updateBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(jdbcTemplate.queryForObject("SELECT data1 FROM test_record WHERE id = ?",
+                    String.class, sample.getId())).isEqualTo(sample.getData1());
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "3");
+        }
+
+        @Test
+        @DisplayName("정상: 없는 ID는 갱신하지 않음")
+        void shouldIgnoreMissingIds() {
+            // given
+            repository.seed(dataGenerator.generateUpserts(50, 0, 0.0));
+            List<TestRecord> records = dataGenerator.generateUpserts(100, 50, 0.5);
+
+            // when
+            int result = repository.updateBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(50);
+            assertThat(repository.count()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("정상: 배치마다 커밋")
+        void shouldCommitPerBatch() {
+            // given
+            repository.seed(dataGenerator.generateUpserts(250, 0, 0.0));
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+
+            // when
+            repository.updateBatch(dataGenerator.generateUpserts(250, 250, 1.0));
+
+            // then
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.updateBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: ID가 없는 레코드")
+        void shouldThrowExceptionForMissingId() {
+            assertThatThrownBy(() -> repository.updateBatch(dataGenerator.generate(10)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("id");
+        }
+    }
+
+    @Nested
+    @DisplayName("updateStatus 메서드")
+    class UpdateStatusTest {
+
+        @Test
+        @DisplayName("정상: 대상 상태의 행을 청크 단위로 모두 변경")
+        void shouldUpdateAllMatchingRowsInChunks() {
+            // given
+            repository.seed(dataGenerator.generateUpserts(1000, 0, 0.0));
+            Long pending = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM test_record WHERE status = 'PENDING'", Long.class);
+
+            // when
+            int result = repository.updateStatus("PENDING", "COMPLETED");
+
+            // then
+            assertThat(result).isEqualTo(pending.intValue());
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM test_record WHERE status = 'PENDING'", Long.class)).isZero();
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Statements", String.valueOf(pending / 100 + 1));
+        }
+
+        @Test
+        @DisplayName("정상: 청크마다 커밋")
+        void shouldCommitPerChunk() {
+            // given
+            repository.seed(dataGenerator.generateUpserts(1000, 0, 0.0));
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+
+            // when
+            repository.updateStatus("ACTIVE", "INACTIVE");
+
+            // then
+            assertThat(repository.getLastRunMetrics().get("Commits"))
+                    .isEqualTo(repository.getLastRunMetrics().get("Statements"));
+        }
+
+        @Test
+        @DisplayName("경계: 대상 행이 없으면 0 반환")
+        void shouldReturnZeroWhenNothingMatches() {
+            assertThat(repository.updateStatus("PENDING", "COMPLETED")).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: 같은 상태로 변경")
+        void shouldThrowExceptionForSameStatus() {
+            assertThatThrownBy(() -> repository.updateStatus("ACTIVE", "ACTIVE"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("toStatus");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Update");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcChunkedDeleteRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcChunkedDeleteRepository 테스트")
+class JdbcChunkedDeleteRepositoryTest {
+
+    @Autowired
+    private JdbcChunkedDeleteRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    @Nested
+    @DisplayName("deleteCreatedBefore 메서드")
+    class DeleteCreatedBeforeTest {
+
+        @Test
+        @DisplayName("정상: 기준 시각 이전 행만 청크 단위로 삭제")
+        void shouldDeleteRowsBeforeCutoffInChunks() {
+            // given
+            Instant from = Instant.parse("2024-01-01T00:00:00Z");
+            List<TestRecord> history = dataGenerator.generateHistory(1000, from, from.plus(Duration.ofDays(100)));
+            repository.seed(history);
+
+            // when - 처음 40일분(400건) 삭제
+            int result = repository.deleteCreatedBefore(from.plus(Duration.ofDays(40)));
+
+            // then
+            assertThat(result).isEqualTo(400);
+            assertThat(repository.count()).isEqualTo(600);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "5");
+        }
+
+        @Test
+        @DisplayName("정상: 청크마다 커밋")
+        void shouldCommitPerChunk() {
+            // given
+            Instant from = Instant.parse("2024-01-01T00:00:00Z");
+            repository.seed(dataGenerator.generateHistory(250, from, from.plus(Duration.ofDays(10))));
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+
+            // when
+            int result = repository.deleteCreatedBefore(from.plus(Duration.ofDays(10)));
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("경계: 대상 행이 없으면 0 반환")
+        void shouldReturnZeroWhenNothingMatches() {
+            assertThat(repository.deleteCreatedBefore(Instant.now())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 기준 시각")
+        void shouldThrowExceptionForNullCutoff() {
+            assertThatThrownBy(() -> repository.deleteCreatedBefore(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cutoff");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Purge");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.CsvExportWriter;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcCursorExportRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcCursorExportRepository 테스트")
+class JdbcCursorExportRepositoryTest {
+
+    @Autowired
+    private JdbcCursorExportRepository repository;
+
+    @TempDir
+    Path tempDir;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setFetchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.truncateTable();
+    }
+
+    @Nested
+    @DisplayName("export 메서드")
+    class ExportTest {
+
+        @Test
+        @DisplayName("정상: 모든 행을 헤더와 함께 CSV로 기록")
+        void shouldExportAllRows() throws Exception {
+            // given
+            List<TestRecord> records = dataGenerator.generateUpserts(250, 0, 0.0);
+            repository.seed(records);
+            Path target = tempDir.resolve("export.csv");
+
+            // when
+            long result = repository.export(target);
+
+            // then
+            List<String> lines = Files.readAllLines(target, StandardCharsets.UTF_8);
+            assertThat(result).isEqualTo(250);
+            assertThat(lines).hasSize(251);
+            assertThat(lines.get(0)).isEqualTo(CsvExportWriter.HEADER);
+            assertThat(lines).anyMatch(line -> line.startsWith(records.get(0).getId() + ","
+                    + records.get(0).getData1() + ","));
+        }
+
+        @Test
+        @DisplayName("정상: fetchSize, 첫 행 도달 시간, 파일 크기를 지표로 기록")
+        void shouldReportExportMetrics() throws Exception {
+            // given
+            repository.seed(dataGenerator.generateUpserts(50, 0, 0.0));
+            repository.setFetchSize(20);
+            Path target = tempDir.resolve("export.csv");
+
+            // when
+            repository.export(target);
+
+            // then
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Fetch Size", "20")
+                    .containsKey("Time To First Row (ms)")
+                    .containsEntry("Export Bytes", String.valueOf(Files.size(target)));
+        }
+
+        @Test
+        @DisplayName("경계: 빈 테이블은 헤더만 기록하고 0 반환")
+        void shouldWriteHeaderOnlyForEmptyTable() throws Exception {
+            // given
+            Path target = tempDir.resolve("empty.csv");
+
+            // when
+            long result = repository.export(target);
+
+            // then
+            assertThat(result).isZero();
+            assertThat(Files.readAllLines(target, StandardCharsets.UTF_8)).containsExactly(CsvExportWriter.HEADER);
+        }
+
+        @Test
+        @DisplayName("예외: null 대상 경로")
+        void shouldThrowExceptionForNullTarget() {
+            assertThatThrownBy(() -> repository.export(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("target");
+        }
+    }
+
+    @Nested
+    @DisplayName("setFetchSize 메서드")
+    class SetFetchSizeTest {
+
+        @Test
+        @DisplayName("예외: 1 미만의 fetchSize")
+        void shouldThrowExceptionForInvalidFetchSize() {
+            assertThatThrownBy(() -> repository.setFetchSize(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("fetchSize");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Cursor");
+        }
+    }
+}
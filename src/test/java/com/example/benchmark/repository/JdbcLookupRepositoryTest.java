@@ -0,0 +1,136 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcLookupRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcLookupRepository 테스트")
+class JdbcLookupRepositoryTest {
+
+    private static final Instant TO = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant FROM = TO.minus(Duration.ofDays(100));
+
+    @Autowired
+    private JdbcLookupRepository repository;
+
+    @Autowired
+    private JdbcBatchInsertRepository insertRepository;
+
+    private List<TestRecord> records;
+
+    @BeforeEach
+    void setUp() {
+        insertRepository.truncateTable();
+        records = new TestDataGenerator(12345L).generateHistory(200, FROM, TO);
+        insertRepository.insertBatch(records);
+    }
+
+    @AfterEach
+    void tearDown() {
+        insertRepository.truncateTable();
+    }
+
+    @Nested
+    @DisplayName("findByStatus 메서드")
+    class FindByStatusTest {
+
+        @Test
+        @DisplayName("정상: 상태가 일치하는 행만 조회")
+        void shouldFindRowsWithStatus() {
+            // given
+            long expected = records.stream().filter(r -> "PENDING".equals(r.getStatus())).count();
+
+            // when
+            List<TestRecord> result = repository.findByStatus("PENDING", 1000);
+
+            // then
+            assertThat(result).hasSize((int) expected);
+            assertThat(result).allMatch(r -> "PENDING".equals(r.getStatus()));
+        }
+
+        @Test
+        @DisplayName("정상: limit 건까지만 조회")
+        void shouldLimitRows() {
+            assertThat(repository.findByStatus("PENDING", 5)).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("예외: 1 미만의 limit")
+        void shouldThrowExceptionForInvalidLimit() {
+            assertThatThrownBy(() -> repository.findByStatus("PENDING", 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("limit");
+        }
+
+        @Test
+        @DisplayName("예외: null 상태")
+        void shouldThrowExceptionForNullStatus() {
+            assertThatThrownBy(() -> repository.findByStatus(null, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("status");
+        }
+    }
+
+    @Nested
+    @DisplayName("findCreatedBetween 메서드")
+    class FindCreatedBetweenTest {
+
+        @Test
+        @DisplayName("정상: 생성 시각이 [from, to) 구간인 행만 조회")
+        void shouldFindRowsInRange() {
+            // given
+            Instant from = FROM.plus(Duration.ofDays(10));
+            Instant to = FROM.plus(Duration.ofDays(20));
+            long expected = records.stream()
+                    .filter(r -> !r.getCreatedAt().isBefore(from) && r.getCreatedAt().isBefore(to))
+                    .count();
+
+            // when
+            List<TestRecord> result = repository.findCreatedBetween(from, to, 1000);
+
+            // then
+            assertThat(expected).isPositive();
+            assertThat(result).hasSize((int) expected);
+        }
+
+        @Test
+        @DisplayName("예외: null 구간")
+        void shouldThrowExceptionForNullRange() {
+            assertThatThrownBy(() -> repository.findCreatedBetween(null, TO, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Lookup");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcMultiRowInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcMultiRowInsertRepository 테스트")
+class JdbcMultiRowInsertRepositoryTest {
+
+    @Autowired
+    private JdbcMultiRowInsertRepository repository;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setRowsPerStatement(20);
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 문장당 행 수의 배수 삽입")
+        void shouldInsertExactMultipleOfRowsPerStatement() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(200);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(200);
+            assertThat(repository.count()).isEqualTo(200);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "10");
+        }
+
+        @Test
+        @DisplayName("정상: 남은 행은 별도 문장으로 삽입")
+        void shouldInsertRemainderWithTailStatement() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(207);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(207);
+            assertThat(repository.count()).isEqualTo(207);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "11");
+        }
+
+        @Test
+        @DisplayName("경계: 문장당 행 수보다 적은 레코드")
+        void shouldInsertFewerRecordsThanRowsPerStatement() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(7);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(7);
+            assertThat(repository.count()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("경계: 배치 크기가 문장당 행 수보다 작아도 삽입")
+        void shouldInsertWhenBatchSizeSmallerThanRowsPerStatement() {
+            // given
+            repository.setBatchSize(5);
+            List<TestRecord> records = dataGenerator.generate(65);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(65);
+            assertThat(repository.count()).isEqualTo(65);
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("setRowsPerStatement 메서드")
+    class SetRowsPerStatementTest {
+
+        @Test
+        @DisplayName("정상: 문장당 행 수 설정")
+        void shouldSetRowsPerStatement() {
+            repository.setRowsPerStatement(50);
+
+            assertThat(repository.getRowsPerStatement()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("예외: 범위를 벗어난 문장당 행 수")
+        void shouldThrowExceptionForOutOfRange() {
+            assertThatThrownBy(() -> repository.setRowsPerStatement(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rowsPerStatement");
+
+            assertThatThrownBy(() -> repository.setRowsPerStatement(1001))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-MultiRow");
+        }
+    }
+}
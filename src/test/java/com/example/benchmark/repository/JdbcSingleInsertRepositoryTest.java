@@ -1,7 +1,9 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -38,6 +40,11 @@ class JdbcSingleInsertRepositoryTest {
         dataGenerator = new TestDataGenerator(12345L);
     }
 
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
     @Nested
     @DisplayName("insertSingle 메서드")
     class InsertSingleTest {
@@ -121,6 +128,40 @@ class JdbcSingleInsertRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("커밋 정책")
+    class CommitPolicyTest {
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES는 N행마다 커밋")
+        void shouldCommitEveryNRows() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.everyNBatches(10));
+            List<TestRecord> records = dataGenerator.generate(35);
+
+            // when
+            int result = repository.insertSingle(records);
+
+            // then
+            assertThat(result).isEqualTo(35);
+            assertThat(repository.count()).isEqualTo(35);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "4");
+        }
+
+        @Test
+        @DisplayName("정상: SINGLE_TRANSACTION은 한 번만 커밋")
+        void shouldCommitOnce() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(20);
+
+            // when
+            repository.insertSingle(records);
+
+            // then
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "1");
+        }
+    }
+
     @Nested
     @DisplayName("truncateTable 메서드")
     class TruncateTableTest {
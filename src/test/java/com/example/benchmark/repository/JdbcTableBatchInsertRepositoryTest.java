@@ -0,0 +1,201 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.config.DataProfile;
+import com.example.benchmark.config.TableDefinition;
+import com.example.benchmark.util.TableRowGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcTableBatchInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("JdbcTableBatchInsertRepository 테스트")
+class JdbcTableBatchInsertRepositoryTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TableDefinition definition;
+    private JdbcTableBatchInsertRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:table_batch;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        definition = orders();
+        repository = new JdbcTableBatchInsertRepository(dataSource, definition);
+        repository.createTable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.dropTable();
+    }
+
+    private static TableDefinition orders() {
+        TableDefinition.Column attribute = new TableDefinition.Column("attr", TableDefinition.ColumnType.VARCHAR2, 40, true);
+        attribute.setCount(3);
+        TableDefinition.Column amount = new TableDefinition.Column("amount", TableDefinition.ColumnType.NUMBER, 15, true);
+        amount.setScale(2);
+        TableDefinition.Index index = new TableDefinition.Index();
+        index.setName("idx_orders_code");
+        index.setColumns(Arrays.asList("code", "created_at"));
+
+        TableDefinition definition = new TableDefinition();
+        definition.setName("orders");
+        definition.setColumns(new ArrayList<>(Arrays.asList(
+                new TableDefinition.Column("id", TableDefinition.ColumnType.NUMBER, 18, false),
+                new TableDefinition.Column("code", TableDefinition.ColumnType.CHAR, 8, false),
+                attribute,
+                amount,
+                new TableDefinition.Column("created_at", TableDefinition.ColumnType.TIMESTAMP, 0, false))));
+        definition.setPrimaryKey(new ArrayList<>(Collections.singletonList("id")));
+        definition.setIndexes(new ArrayList<>(Collections.singletonList(index)));
+        return definition;
+    }
+
+    @Nested
+    @DisplayName("SQL 생성")
+    class SqlTest {
+
+        @Test
+        @DisplayName("정상: 펼친 컬럼, NOT NULL, 기본 키를 포함한 CREATE TABLE")
+        void shouldBuildCreateTableSql() {
+            assertThat(JdbcTableBatchInsertRepository.createTableSql(definition)).isEqualTo(
+                    "CREATE TABLE orders (id NUMBER(18) NOT NULL, code CHAR(8) NOT NULL, "
+                            + "attr1 VARCHAR2(40), attr2 VARCHAR2(40), attr3 VARCHAR2(40), amount NUMBER(15,2), "
+                            + "created_at TIMESTAMP NOT NULL, PRIMARY KEY (id))");
+        }
+
+        @Test
+        @DisplayName("정상: 인덱스와 INSERT 문")
+        void shouldBuildIndexAndInsertSql() {
+            assertThat(JdbcTableBatchInsertRepository.createIndexSql(definition))
+                    .containsExactly("CREATE INDEX idx_orders_code ON orders (code, created_at)");
+            assertThat(JdbcTableBatchInsertRepository.insertSql(definition)).isEqualTo(
+                    "INSERT INTO orders (id, code, attr1, attr2, attr3, amount, created_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 생성한 행을 배치 삽입하고 커밋 횟수와 컬럼 수 기록")
+        void shouldInsertGeneratedRows() {
+            // given
+            List<Object[]> rows = new TableRowGenerator(definition, DataProfile.defaults(), 12345L).generate(250);
+            repository.setBatchSize(100);
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+
+            // when
+            int result = repository.insertBatch(rows);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            Map<String, String> metrics = repository.getLastRunMetrics();
+            assertThat(metrics).containsEntry("Commits", "3").containsEntry("Columns", "7");
+        }
+
+        @Test
+        @DisplayName("정상: null과 타입별 값을 그대로 저장")
+        void shouldBindTypedValuesAndNulls() {
+            // given
+            Timestamp createdAt = Timestamp.valueOf("2024-01-02 03:04:05.123456");
+            Object[] row = {1L, "ABCDEFGH", "a", null, "c", new BigDecimal("12.34"), createdAt};
+
+            // when
+            repository.insertBatch(Collections.singletonList(row));
+
+            // then
+            Map<String, Object> stored = jdbcTemplate.queryForMap("SELECT * FROM orders WHERE id = 1");
+            assertThat(stored.get("ATTR2")).isNull();
+            assertThat(stored.get("CODE")).isEqualTo("ABCDEFGH");
+            assertThat((BigDecimal) stored.get("AMOUNT")).isEqualByComparingTo("12.34");
+            assertThat(stored.get("CREATED_AT")).isEqualTo(createdAt);
+        }
+
+        @Test
+        @DisplayName("정상: 빈 리스트는 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: 컬럼 수와 다른 길이의 행")
+        void shouldRejectRowWithWrongLength() {
+            List<Object[]> rows = Collections.singletonList(new Object[]{1L, "ABCDEFGH"});
+
+            assertThatThrownBy(() -> repository.insertBatch(rows))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("row must have 7 values");
+        }
+
+        @Test
+        @DisplayName("예외: null 리스트")
+        void shouldRejectNullRows() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rows");
+        }
+    }
+
+    @Nested
+    @DisplayName("테이블 관리")
+    class TableLifecycleTest {
+
+        @Test
+        @DisplayName("정상: createTable은 기존 테이블을 지우고 다시 생성")
+        void shouldRecreateExistingTable() {
+            // given
+            repository.insertBatch(new TableRowGenerator(definition, DataProfile.defaults(), 1L).generate(10));
+
+            // when
+            repository.createTable();
+
+            // then
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("정상: dropTable 후 테이블 없음, 반복 호출해도 예외 없음")
+        void shouldDropTableIdempotently() {
+            // when
+            repository.dropTable();
+            repository.dropTable();
+
+            // then
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'ORDERS'", Long.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("정상: 타입명에 테이블명 포함")
+        void shouldIncludeTableNameInTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Batch (orders)");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcTemplateBatchInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JdbcTemplateBatchInsertRepository 테스트")
+class JdbcTemplateBatchInsertRepositoryTest {
+
+    @Autowired
+    private JdbcTemplateBatchInsertRepository repository;
+
+    @Autowired
+    private IdBlockAllocator idAllocator;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idAllocator.setEnabled(false);
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 배치 크기로 나누어 떨어지지 않는 레코드 삽입")
+        void shouldInsertAllRecords() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Chunks", "3");
+        }
+
+        @Test
+        @DisplayName("정상: 클라이언트 측 ID로 삽입")
+        void shouldInsertWithAllocatedIds() {
+            // given
+            idAllocator.setEnabled(true);
+            List<TestRecord> records = dataGenerator.generate(150);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(150);
+            assertThat(repository.count()).isEqualTo(150);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Client IDs", "150");
+        }
+
+        @Test
+        @DisplayName("정상: 청크마다 커밋")
+        void shouldCommitPerChunk() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("정상: autocommit 정책에서도 모든 레코드 삽입")
+        void shouldInsertWithAutoCommit() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.autoCommit());
+            List<TestRecord> records = dataGenerator.generate(150);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(150);
+            assertThat(repository.count()).isEqualTo(150);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "0");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 청크 단위로 삽입")
+        void shouldInsertStreamedRecords() {
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(321));
+
+            // then
+            assertThat(result).isEqualTo(321);
+            assertThat(repository.count()).isEqualTo(321);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JdbcTemplate-Batch");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JooqLoaderInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JooqLoaderInsertRepository 테스트")
+class JooqLoaderInsertRepositoryTest {
+
+    @Autowired
+    private JooqLoaderInsertRepository repository;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        repository.setBulkSize(10);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: bulk와 batch를 함께 사용하여 삽입")
+        void shouldInsertWithBulkAndBatch() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Bulk Size", "10")
+                    .containsEntry("Executions", "3")
+                    .containsEntry("Commits", "1")
+                    .containsEntry("Client IDs", "250");
+        }
+
+        @Test
+        @DisplayName("정상: bulk 없이 batch만 사용하여 삽입")
+        void shouldInsertWithoutBulk() {
+            // given
+            repository.setBulkSize(1);
+            List<TestRecord> records = dataGenerator.generate(150);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(150);
+            assertThat(repository.count()).isEqualTo(150);
+        }
+
+        @Test
+        @DisplayName("정상: 배치마다 커밋 (commitEach)")
+        void shouldCommitEachBatch() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("정상: autocommit 정책은 Loader 커밋 없이 삽입")
+        void shouldInsertWithAutoCommit() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.autoCommit());
+            List<TestRecord> records = dataGenerator.generate(150);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(150);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "0");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 Loader로 삽입")
+        void shouldInsertStreamedRecords() {
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(321));
+
+            // then
+            assertThat(result).isEqualTo(321);
+            assertThat(repository.count()).isEqualTo(321);
+        }
+    }
+
+    @Nested
+    @DisplayName("setBulkSize 메서드")
+    class SetBulkSizeTest {
+
+        @Test
+        @DisplayName("예외: 1 미만의 bulk 크기")
+        void shouldThrowExceptionForInvalidBulkSize() {
+            assertThatThrownBy(() -> repository.setBulkSize(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("bulkSize");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("jOOQ-Loader");
+        }
+    }
+}
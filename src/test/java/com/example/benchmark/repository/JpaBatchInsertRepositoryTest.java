@@ -0,0 +1,141 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JpaBatchInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("JpaBatchInsertRepository 테스트")
+class JpaBatchInsertRepositoryTest {
+
+    @Autowired
+    private JpaBatchInsertRepository repository;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: batchSize마다 flush하며 모든 레코드 삽입")
+        void shouldInsertAllRecords() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Flushes", "3")
+                    .containsEntry("Commits", "1");
+        }
+
+        @Test
+        @DisplayName("정상: N개 배치마다 커밋")
+        void shouldCommitEveryNBatches() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.everyNBatches(2));
+            List<TestRecord> records = dataGenerator.generate(500);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(500);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("정상: autocommit 정책은 flush마다 커밋")
+        void shouldCommitPerFlushForAutoCommit() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.autoCommit());
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 flush 단위로 삽입")
+        void shouldInsertStreamedRecords() {
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(321));
+
+            // then
+            assertThat(result).isEqualTo(321);
+            assertThat(repository.count()).isEqualTo(321);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JPA-Batch");
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.util.TestDataGenerator;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -30,6 +35,9 @@ class MyBatisBatchInsertRepositoryTest {
     @Autowired
     private MyBatisBatchInsertRepository repository;
 
+    @Autowired
+    private IdBlockAllocator idAllocator;
+
     private TestDataGenerator dataGenerator;
 
     @BeforeEach
@@ -38,6 +46,24 @@ class MyBatisBatchInsertRepositoryTest {
         dataGenerator = new TestDataGenerator(12345L);
     }
 
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+        idAllocator.setEnabled(false);
+    }
+
+    /**
+     * data1 VARCHAR(100)을 넘는 레코드로 바꿔 해당 위치가 속한 배치를 실패시킵니다.
+     */
+    private static List<TestRecord> withOversizedRecordAt(List<TestRecord> records, int index) {
+        List<TestRecord> modified = new ArrayList<>(records);
+        modified.set(index, TestRecord.builder()
+                .data1(String.join("", Collections.nCopies(101, "x")))
+                .createdAt(Instant.now())
+                .build());
+        return modified;
+    }
+
     @Nested
     @DisplayName("insertBatch 메서드")
     class InsertBatchTest {
@@ -122,6 +148,138 @@ class MyBatisBatchInsertRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 배치 단위로 모두 삽입")
+        void shouldInsertAllStreamedRecords() {
+            // given
+            repository.setBatchSize(40);
+
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(130));
+
+            // then
+            assertThat(result).isEqualTo(130);
+            assertThat(repository.count()).isEqualTo(130);
+        }
+
+        @Test
+        @DisplayName("경계: 빈 소스는 0 반환")
+        void shouldReturnZeroForEmptySource() {
+            // given & when
+            int result = repository.insertStream(Collections.emptyIterator());
+
+            // then
+            assertThat(result).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 소스")
+        void shouldThrowExceptionWhenSourceIsNull() {
+            // when & then
+            assertThatThrownBy(() -> repository.insertStream(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("커밋 정책")
+    class CommitPolicyTest {
+
+        @Test
+        @DisplayName("정상: SINGLE_TRANSACTION은 실패한 배치가 있으면 앞선 배치까지 모두 롤백")
+        void shouldRollBackEverythingInSingleTransaction() {
+            // given
+            repository.setBatchSize(50);
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(120), 119);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("정상: PER_BATCH는 커밋된 배치를 남기고 실패한 배치만 롤백")
+        void shouldKeepCommittedBatchesPerBatch() {
+            // given
+            repository.setBatchSize(50);
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(120), 119);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES는 N개 배치마다 커밋된 행만 남김")
+        void shouldKeepRowsCommittedEveryNBatches() {
+            // given - 50건씩 5개 배치 중 마지막 배치 실패, 2, 4번째 배치 후 커밋
+            repository.setBatchSize(50);
+            repository.setCommitPolicy(CommitPolicy.everyNBatches(2));
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(220), 219);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("정상: AUTO_COMMIT은 명시적 커밋 없이 삽입")
+        void shouldInsertWithAutoCommit() {
+            // given
+            repository.setBatchSize(50);
+            repository.setCommitPolicy(CommitPolicy.autoCommit());
+            List<TestRecord> records = dataGenerator.generate(120);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(120);
+            assertThat(repository.count()).isEqualTo(120);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "0");
+        }
+
+        @Test
+        @DisplayName("예외: null 커밋 정책")
+        void shouldThrowExceptionForNullPolicy() {
+            assertThatThrownBy(() -> repository.setCommitPolicy(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("commitPolicy");
+        }
+    }
+
+    @Nested
+    @DisplayName("클라이언트 측 ID 할당")
+    class ClientSideIdTest {
+
+        @Test
+        @DisplayName("정상: 블록 할당 ID로 삽입하고 절약된 라운드 트립 보고")
+        void shouldInsertWithAllocatedIds() {
+            // given
+            idAllocator.setEnabled(true);
+            repository.setBatchSize(50);
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Client IDs", "250")
+                    .containsKey("Round Trips Saved");
+        }
+    }
+
     @Nested
     @DisplayName("setBatchSize 메서드")
     class SetBatchSizeTest {
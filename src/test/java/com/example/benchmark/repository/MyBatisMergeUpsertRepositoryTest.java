@@ -0,0 +1,188 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MyBatisMergeUpsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("MyBatisMergeUpsertRepository 테스트")
+class MyBatisMergeUpsertRepositoryTest {
+
+    @Autowired
+    private MyBatisMergeUpsertRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    /**
+     * 같은 ID에 amount NUMBER(18,2) 범위를 넘는 레코드로 바꿔 해당 위치가 속한 배치를 실패시킵니다.
+     * (MERGE 원본 절의 CAST가 긴 문자열은 잘라내므로 data1 길이 초과로는 실패하지 않음)
+     */
+    private static List<TestRecord> withOverflowingAmountAt(List<TestRecord> records, int index) {
+        List<TestRecord> modified = new ArrayList<>(records);
+        modified.set(index, TestRecord.builder()
+                .id(records.get(index).getId())
+                .data1("overflow")
+                .amount(new BigDecimal("1E20"))
+                .createdAt(Instant.now())
+                .build());
+        return modified;
+    }
+
+    @Nested
+    @DisplayName("upsertBatch 메서드")
+    class UpsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 빈 테이블에는 모두 삽입")
+        void shouldInsertNewKeys() {
+            // given
+            List<TestRecord> records = dataGenerator.generateUpserts(150, 0, 0.0);
+
+            // when
+            int result = repository.upsertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(150);
+            assertThat(repository.count()).isEqualTo(150);
+        }
+
+        @Test
+        @DisplayName("정상: 기존 키는 갱신하고 신규 키만 삽입")
+        void shouldUpdateExistingAndInsertNewKeys() {
+            // given
+            repository.upsertBatch(dataGenerator.generateUpserts(200, 0, 0.0));
+            List<TestRecord> records = dataGenerator.generateUpserts(100, 200, 0.8);
+            TestRecord updated = records.stream()
+                    .filter(record -> record.getId() <= 200)
+                    .findFirst()
+                    .orElseThrow(IllegalStateException::new);
+
+            // when
+            int result = repository.upsertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(100);
+            assertThat(repository.count()).isEqualTo(220);
+            assertThat(jdbcTemplate.queryForObject("SELECT data1 FROM test_record WHERE id = ?",
+                    String.class, updated.getId())).isEqualTo(updated.getData1());
+        }
+
+        @Test
+        @DisplayName("정상: 배치마다 커밋")
+        void shouldCommitPerBatch() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generateUpserts(250, 0, 0.0);
+
+            // when
+            repository.upsertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("정상: PER_BATCH는 커밋된 배치의 행을 남기고 실패한 배치만 롤백")
+        void shouldKeepCommittedBatchesPerBatch() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = withOverflowingAmountAt(dataGenerator.generateUpserts(250, 0, 0.0), 249);
+
+            // when & then
+            assertThatThrownBy(() -> repository.upsertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("정상: SINGLE_TRANSACTION은 실패하면 앞선 배치까지 모두 롤백")
+        void shouldRollBackEverythingInSingleTransaction() {
+            // given
+            List<TestRecord> records = withOverflowingAmountAt(dataGenerator.generateUpserts(250, 0, 0.0), 249);
+
+            // when & then
+            assertThatThrownBy(() -> repository.upsertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.upsertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: ID가 없는 레코드")
+        void shouldThrowExceptionForMissingId() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(10);
+
+            // when & then
+            assertThatThrownBy(() -> repository.upsertBatch(records))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("id");
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.upsertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("MyBatis-Merge");
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MyBatisMultiRowInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("MyBatisMultiRowInsertRepository 테스트")
+class MyBatisMultiRowInsertRepositoryTest {
+
+    @Autowired
+    private MyBatisMultiRowInsertRepository repository;
+
+    @Autowired
+    private IdBlockAllocator idAllocator;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setRowsPerStatement(20);
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idAllocator.setEnabled(false);
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    /**
+     * data1 VARCHAR(100)을 넘는 레코드로 바꿔 해당 위치가 속한 문장을 실패시킵니다.
+     */
+    private static List<TestRecord> withOversizedRecordAt(List<TestRecord> records, int index) {
+        List<TestRecord> modified = new ArrayList<>(records);
+        modified.set(index, TestRecord.builder()
+                .data1(String.join("", Collections.nCopies(101, "x")))
+                .createdAt(Instant.now())
+                .build());
+        return modified;
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 문장당 행 수의 배수 삽입")
+        void shouldInsertExactMultipleOfRowsPerStatement() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(200);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(200);
+            assertThat(repository.count()).isEqualTo(200);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "10");
+        }
+
+        @Test
+        @DisplayName("정상: 남은 행은 마지막 청크 문장으로 삽입")
+        void shouldInsertRemainderWithTailStatement() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(207);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(207);
+            assertThat(repository.count()).isEqualTo(207);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "11");
+        }
+
+        @Test
+        @DisplayName("정상: 클라이언트 측 ID로 삽입")
+        void shouldInsertWithAllocatedIds() {
+            // given
+            idAllocator.setEnabled(true);
+            List<TestRecord> records = dataGenerator.generate(150);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(150);
+            assertThat(repository.count()).isEqualTo(150);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Client IDs", "150");
+        }
+
+        @Test
+        @DisplayName("정상: 배치 크기 분량의 문장마다 커밋")
+        void shouldCommitPerBatchOfStatements() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Commits", "3");
+        }
+
+        @Test
+        @DisplayName("정상: PER_BATCH는 커밋된 배치의 행을 남기고 실패한 배치만 롤백")
+        void shouldKeepCommittedBatchesPerBatch() {
+            // given - 20행 문장 5개가 한 배치, 세 번째 배치의 마지막 문장 실패
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(250), 249);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("정상: SINGLE_TRANSACTION은 실패하면 앞선 문장까지 모두 롤백")
+        void shouldRollBackEverythingInSingleTransaction() {
+            // given
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(250), 249);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertBatch(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 청크 단위로 삽입")
+        void shouldInsertStreamedRecords() {
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(133));
+
+            // then
+            assertThat(result).isEqualTo(133);
+            assertThat(repository.count()).isEqualTo(133);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Statements", "7");
+        }
+    }
+
+    @Nested
+    @DisplayName("setRowsPerStatement 메서드")
+    class SetRowsPerStatementTest {
+
+        @Test
+        @DisplayName("예외: 범위를 벗어난 문장당 행 수")
+        void shouldThrowExceptionForOutOfRange() {
+            assertThatThrownBy(() -> repository.setRowsPerStatement(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("rowsPerStatement");
+
+            assertThatThrownBy(() -> repository.setRowsPerStatement(1001))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("MyBatis-MultiRow");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.util.CsvExportWriter;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MyBatisResultHandlerExportRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("MyBatisResultHandlerExportRepository 테스트")
+class MyBatisResultHandlerExportRepositoryTest {
+
+    @Autowired
+    private MyBatisResultHandlerExportRepository repository;
+
+    @Autowired
+    private JdbcCursorExportRepository jdbcRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setFetchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.truncateTable();
+    }
+
+    @Nested
+    @DisplayName("export 메서드")
+    class ExportTest {
+
+        @Test
+        @DisplayName("정상: JDBC 커서와 같은 내용의 CSV를 기록")
+        void shouldExportSameContentAsJdbcCursor() throws Exception {
+            // given
+            repository.seed(dataGenerator.generateUpserts(250, 0, 0.0));
+            Path target = tempDir.resolve("mybatis.csv");
+            Path expected = tempDir.resolve("jdbc.csv");
+            jdbcRepository.export(expected);
+
+            // when
+            long result = repository.export(target);
+
+            // then
+            List<String> lines = Files.readAllLines(target, StandardCharsets.UTF_8);
+            assertThat(result).isEqualTo(250);
+            assertThat(lines.get(0)).isEqualTo(CsvExportWriter.HEADER);
+            assertThat(lines).containsExactlyInAnyOrderElementsOf(
+                    Files.readAllLines(expected, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("정상: fetchSize를 바꿔도 모든 행을 기록하고 지표에 반영")
+        void shouldExportWithDifferentFetchSizes() {
+            // given
+            repository.seed(dataGenerator.generateUpserts(120, 0, 0.0));
+
+            // when
+            repository.setFetchSize(7);
+            long first = repository.export(tempDir.resolve("fetch7.csv"));
+            repository.setFetchSize(50);
+            long second = repository.export(tempDir.resolve("fetch50.csv"));
+
+            // then
+            assertThat(first).isEqualTo(120);
+            assertThat(second).isEqualTo(120);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Fetch Size", "50");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 테이블은 0 반환")
+        void shouldReturnZeroForEmptyTable() {
+            assertThat(repository.export(tempDir.resolve("empty.csv"))).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("MyBatis-ResultHandler");
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.benchmark.repository;
 
+import com.example.benchmark.config.CommitPolicy;
 import com.example.benchmark.domain.TestRecord;
 import com.example.benchmark.util.TestDataGenerator;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -38,6 +43,23 @@ class MyBatisSingleInsertRepositoryTest {
         dataGenerator = new TestDataGenerator(12345L);
     }
 
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    /**
+     * data1 VARCHAR(100)을 넘는 레코드로 바꿔 해당 행의 INSERT를 실패시킵니다.
+     */
+    private static List<TestRecord> withOversizedRecordAt(List<TestRecord> records, int index) {
+        List<TestRecord> modified = new ArrayList<>(records);
+        modified.set(index, TestRecord.builder()
+                .data1(String.join("", Collections.nCopies(101, "x")))
+                .createdAt(Instant.now())
+                .build());
+        return modified;
+    }
+
     @Nested
     @DisplayName("insertSingle 메서드")
     class InsertSingleTest {
@@ -93,6 +115,49 @@ class MyBatisSingleInsertRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("커밋 정책")
+    class CommitPolicyTest {
+
+        @Test
+        @DisplayName("정상: EVERY_N_BATCHES는 N행마다 커밋된 행만 남김")
+        void shouldKeepRowsCommittedEveryNRows() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.everyNBatches(10));
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(35), 34);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertSingle(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("정상: SINGLE_TRANSACTION은 실패하면 앞선 행까지 모두 롤백")
+        void shouldRollBackEverythingInSingleTransaction() {
+            // given
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(20), 19);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertSingle(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("정상: PER_BATCH는 실패한 행 앞의 행을 모두 남김")
+        void shouldKeepPrecedingRowsPerBatch() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = withOversizedRecordAt(dataGenerator.generate(20), 19);
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertSingle(records))
+                    .isInstanceOf(PersistenceException.class);
+            assertThat(repository.count()).isEqualTo(19);
+        }
+    }
+
     @Nested
     @DisplayName("truncateTable 메서드")
     class TruncateTableTest {
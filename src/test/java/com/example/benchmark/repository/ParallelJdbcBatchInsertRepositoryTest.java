@@ -0,0 +1,140 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ParallelJdbcBatchInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ParallelJdbcBatchInsertRepository 테스트")
+class ParallelJdbcBatchInsertRepositoryTest {
+
+    @Autowired
+    private ParallelJdbcBatchInsertRepository repository;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setThreadCount(4);
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 워커 수로 나누어 떨어지지 않는 레코드 삽입")
+        void shouldInsertUnevenPartitions() {
+            // given
+            repository.setBatchSize(30);
+            List<TestRecord> records = dataGenerator.generate(1001);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(1001);
+            assertThat(repository.count()).isEqualTo(1001);
+        }
+
+        @Test
+        @DisplayName("정상: 워커별 통계가 삽입 건수 합계와 일치")
+        void shouldReportPerWorkerStatistics() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(400);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            List<ParallelJdbcBatchInsertRepository.WorkerStatistics> statistics =
+                    repository.getLastWorkerStatistics();
+            assertThat(statistics).hasSize(4);
+            assertThat(statistics.stream().mapToInt(s -> s.getInsertedCount()).sum()).isEqualTo(400);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Workers", "4");
+        }
+
+        @Test
+        @DisplayName("경계: 레코드 수가 워커 수보다 적으면 레코드 수만큼 워커 사용")
+        void shouldLimitWorkersToRecordCount() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(2);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(2);
+            assertThat(repository.getLastWorkerStatistics()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+            assertThat(repository.getLastWorkerStatistics()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("setThreadCount 메서드")
+    class SetThreadCountTest {
+
+        @Test
+        @DisplayName("정상: 워커 수 설정")
+        void shouldSetThreadCount() {
+            repository.setThreadCount(2);
+
+            assertThat(repository.getThreadCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("예외: 0 이하의 워커 수")
+        void shouldThrowExceptionForInvalidThreadCount() {
+            assertThatThrownBy(() -> repository.setThreadCount(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("threadCount");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Parallel");
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PipelinedJdbcBatchInsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("PipelinedJdbcBatchInsertRepository 테스트")
+class PipelinedJdbcBatchInsertRepositoryTest {
+
+    @Autowired
+    private PipelinedJdbcBatchInsertRepository repository;
+
+    @Autowired
+    private IdBlockAllocator idAllocator;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setQueueDepth(2);
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idAllocator.setEnabled(false);
+    }
+
+    @Nested
+    @DisplayName("insertBatch 메서드")
+    class InsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 배치 크기로 나누어 떨어지지 않는 레코드 삽입")
+        void shouldInsertAllRecords() {
+            // given
+            repository.setBatchSize(30);
+            List<TestRecord> records = dataGenerator.generate(301);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(301);
+            assertThat(repository.count()).isEqualTo(301);
+            assertThat(repository.getLastStatistics().getBatchCount()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("정상: 단계별 시간과 겹친 시간을 지표로 보고")
+        void shouldReportOverlapMetrics() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(500);
+
+            // when
+            repository.insertBatch(records);
+
+            // then
+            PipelinedJdbcBatchInsertRepository.PipelineStatistics statistics = repository.getLastStatistics();
+            assertThat(statistics.getOverlapRatio()).isBetween(0.0, 1.0);
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Queue Depth", "2")
+                    .containsKeys("Producer Busy", "Writer Busy", "Writer Wait", "Overlap");
+        }
+
+        @Test
+        @DisplayName("정상: 클라이언트 측 ID를 생산자 스레드에서 할당")
+        void shouldInsertWithAllocatedIds() {
+            // given
+            idAllocator.setEnabled(true);
+            List<TestRecord> records = dataGenerator.generate(250);
+
+            // when
+            int result = repository.insertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Client IDs", "250");
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.insertBatch(Collections.emptyList())).isZero();
+            assertThat(repository.getLastRunMetrics()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.insertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("insertStream 메서드")
+    class InsertStreamTest {
+
+        @Test
+        @DisplayName("정상: 지연 생성 소스를 파이프라인으로 삽입")
+        void shouldInsertStreamedRecords() {
+            // given
+            repository.setQueueDepth(1);
+
+            // when
+            int result = repository.insertStream(dataGenerator.iterate(420));
+
+            // then
+            assertThat(result).isEqualTo(420);
+            assertThat(repository.count()).isEqualTo(420);
+        }
+
+        @Test
+        @DisplayName("예외: 생산자 실패 시 롤백 후 예외 전파")
+        void shouldRollbackWhenProducerFails() {
+            // given
+            Iterator<TestRecord> failing = new Iterator<TestRecord>() {
+                private final Iterator<TestRecord> delegate = dataGenerator.iterate(1000);
+                private int served;
+
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public TestRecord next() {
+                    if (++served > 250) {
+                        throw new IllegalStateException("source failed");
+                    }
+                    return delegate.next();
+                }
+            };
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertStream(failing))
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: 생산자가 가득 찬 큐에서 대기 중에 writer가 실패해도 생산자 스레드 종료")
+        void shouldStopProducerWhenWriterFails() throws InterruptedException {
+            // given
+            repository.setQueueDepth(1);
+            List<TestRecord> records = new ArrayList<>(dataGenerator.generate(1000));
+            // data1 VARCHAR(100)을 넘는 첫 레코드로 첫 executeBatch 실패
+            records.set(0, TestRecord.builder()
+                    .data1(String.join("", Collections.nCopies(101, "x")))
+                    .createdAt(Instant.now())
+                    .build());
+
+            // when & then
+            assertThatThrownBy(() -> repository.insertBatch(records))
+                    .isInstanceOf(DataAccessException.class);
+            for (Thread thread : producerThreads()) {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+            assertThat(producerThreads()).noneMatch(Thread::isAlive);
+            assertThat(repository.count()).isZero();
+        }
+
+        private List<Thread> producerThreads() {
+            List<Thread> threads = new ArrayList<>();
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().equals("jdbc-pipeline-producer")) {
+                    threads.add(thread);
+                }
+            }
+            return threads;
+        }
+    }
+
+    @Nested
+    @DisplayName("setQueueDepth 메서드")
+    class SetQueueDepthTest {
+
+        @Test
+        @DisplayName("정상: 큐 깊이 설정")
+        void shouldSetQueueDepth() {
+            repository.setQueueDepth(4);
+
+            assertThat(repository.getQueueDepth()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("예외: 0 이하의 큐 깊이")
+        void shouldThrowExceptionForInvalidQueueDepth() {
+            assertThatThrownBy(() -> repository.setQueueDepth(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("queueDepth");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-Pipelined");
+        }
+    }
+}
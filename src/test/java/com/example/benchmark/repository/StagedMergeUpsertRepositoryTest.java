@@ -0,0 +1,176 @@
+package com.example.benchmark.repository;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StagedMergeUpsertRepository 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("StagedMergeUpsertRepository 테스트")
+class StagedMergeUpsertRepositoryTest {
+
+    @Autowired
+    private StagedMergeUpsertRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(100);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.setCommitPolicy(CommitPolicy.singleTransaction());
+    }
+
+    @Nested
+    @DisplayName("upsertBatch 메서드")
+    class UpsertBatchTest {
+
+        @Test
+        @DisplayName("정상: 빈 테이블에는 모두 삽입")
+        void shouldInsertNewKeys() {
+            // given
+            List<TestRecord> records = dataGenerator.generateUpserts(150, 0, 0.0);
+
+            // when
+            int result = repository.upsertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(150);
+            assertThat(repository.count()).isEqualTo(150);
+        }
+
+        @Test
+        @DisplayName("정상: 기존 키는 갱신하고 신규 키만 삽입")
+        void shouldUpdateExistingAndInsertNewKeys() {
+            // given
+            repository.upsertBatch(dataGenerator.generateUpserts(200, 0, 0.0));
+            List<TestRecord> records = dataGenerator.generateUpserts(100, 200, 0.8);
+            TestRecord updated = records.stream()
+                    .filter(record -> record.getId() <= 200)
+                    .findFirst()
+                    .orElseThrow(IllegalStateException::new);
+
+            // when
+            int result = repository.upsertBatch(records);
+
+            // then
+            assertThat(result).isEqualTo(100);
+            assertThat(repository.count()).isEqualTo(220);
+            assertThat(jdbcTemplate.queryForObject("SELECT data1 FROM test_record WHERE id = ?",
+                    String.class, updated.getId())).isEqualTo(updated.getData1());
+        }
+
+        @Test
+        @DisplayName("정상: 단일 트랜잭션은 MERGE 한 번으로 반영")
+        void shouldMergeOnceInSingleTransaction() {
+            // given
+            List<TestRecord> records = dataGenerator.generateUpserts(250, 0, 0.0);
+
+            // when
+            repository.upsertBatch(records);
+
+            // then
+            assertThat(repository.getLastRunMetrics())
+                    .containsEntry("Merges", "1")
+                    .containsEntry("Rows/Merge", "250")
+                    .containsKeys("Stage Time (ms)", "Merge Time (ms)");
+        }
+
+        @Test
+        @DisplayName("정상: 커밋 정책의 커밋 시점마다 MERGE")
+        void shouldMergeAtEachCommit() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generateUpserts(250, 0, 0.0);
+
+            // when
+            repository.upsertBatch(records);
+
+            // then
+            assertThat(repository.count()).isEqualTo(250);
+            assertThat(repository.getLastRunMetrics()).containsEntry("Merges", "3");
+        }
+
+        @Test
+        @DisplayName("정상: 반영 후 스테이징 테이블은 비어 있음")
+        void shouldLeaveStagingTableEmpty() {
+            // given
+            repository.setCommitPolicy(CommitPolicy.everyNBatches(2));
+
+            // when
+            repository.upsertBatch(dataGenerator.generateUpserts(250, 0, 0.0));
+
+            // then
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_record_stage", Long.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("경계: 빈 리스트 입력 시 0 반환")
+        void shouldReturnZeroForEmptyList() {
+            assertThat(repository.upsertBatch(Collections.emptyList())).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: ID가 없는 레코드")
+        void shouldThrowExceptionForMissingId() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(10);
+
+            // when & then
+            assertThatThrownBy(() -> repository.upsertBatch(records))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("id");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_record_stage", Long.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            assertThatThrownBy(() -> repository.upsertBatch(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 타입명 반환")
+        void shouldReturnTypeName() {
+            assertThat(repository.getTypeName()).isEqualTo("JDBC-StageMerge");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.StringUtils;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BlockingQueueIngestStage 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("BlockingQueueIngestStage 테스트")
+class BlockingQueueIngestStageTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcIngestWriter writer;
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        writer = new JdbcIngestWriter(dataSource);
+        writer.setBatchSize(50);
+        writer.truncateTable();
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.truncateTable();
+    }
+
+    @Nested
+    @DisplayName("생성자")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("예외: capacity가 1 미만인 경우")
+        void shouldThrowExceptionForInvalidCapacity() {
+            assertThatThrownBy(() -> new BlockingQueueIngestStage(writer, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("capacity");
+        }
+    }
+
+    @Nested
+    @DisplayName("publish 메서드")
+    class PublishTest {
+
+        @Test
+        @DisplayName("정상: 여러 생산자가 넘긴 행을 모두 저장")
+        void shouldWriteAllRecordsFromMultipleProducers() throws Exception {
+            // given - 큐 용량(64)보다 많은 300건을 3개 스레드가 나눠 넘김
+            List<TestRecord> records = dataGenerator.generate(300);
+            ExecutorService producers = Executors.newFixedThreadPool(3);
+            BlockingQueueIngestStage stage = new BlockingQueueIngestStage(writer, 64);
+
+            try {
+                // when
+                List<Future<?>> futures = new ArrayList<>();
+                for (int producer = 0; producer < 3; producer++) {
+                    List<TestRecord> slice = records.subList(producer * 100, (producer + 1) * 100);
+                    futures.add(producers.submit(() -> slice.forEach(stage::publish)));
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+                stage.close();
+
+                // then
+                assertThat(stage.getWrittenCount()).isEqualTo(300);
+                assertThat(writer.count()).isEqualTo(300);
+            } finally {
+                producers.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("예외: 저장이 실패하면 close()가 원인을 던짐")
+        void shouldSurfaceConsumerFailure() {
+            // given - status 컬럼 길이(20)를 넘는 행
+            BlockingQueueIngestStage stage = new BlockingQueueIngestStage(writer, 8);
+            stage.publish("data1", null, BigDecimal.ONE, StringUtils.repeat("X", 30), Instant.now());
+
+            // when & then
+            assertThatThrownBy(stage::close).isInstanceOf(DataAccessException.class);
+            assertThat(writer.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: 종료 후 publish하면 IllegalStateException")
+        void shouldRejectPublishAfterClose() {
+            // given
+            BlockingQueueIngestStage stage = new BlockingQueueIngestStage(writer, 8);
+            stage.close();
+
+            // when & then
+            assertThatThrownBy(() -> stage.publish(dataGenerator.generate(1).get(0)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("closed");
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.repository.JdbcBatchInsertRepository;
+import com.example.benchmark.util.StringUtils;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GroupCommitInsertService 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("GroupCommitInsertService 테스트")
+class GroupCommitInsertServiceTest {
+
+    private static final long LONG_WAIT_MILLIS = 60_000;
+
+    @Autowired
+    private JdbcBatchInsertRepository repository;
+
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        repository.truncateTable();
+        repository.setBatchSize(1000);
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.truncateTable();
+    }
+
+    @Nested
+    @DisplayName("생성자")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("예외: delegate가 null인 경우")
+        void shouldThrowExceptionForNullDelegate() {
+            assertThatThrownBy(() -> new GroupCommitInsertService(null, 10, 5))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("delegate");
+        }
+
+        @Test
+        @DisplayName("예외: maxRows가 1 미만인 경우")
+        void shouldThrowExceptionForInvalidMaxRows() {
+            assertThatThrownBy(() -> new GroupCommitInsertService(repository, 0, 5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("maxRows");
+        }
+
+        @Test
+        @DisplayName("예외: maxWaitMillis가 음수인 경우")
+        void shouldThrowExceptionForNegativeMaxWait() {
+            assertThatThrownBy(() -> new GroupCommitInsertService(repository, 10, -1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("maxWaitMillis");
+        }
+    }
+
+    @Nested
+    @DisplayName("submit 메서드")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("정상: 동시에 제출한 단건 삽입을 배치로 모아 모두 저장")
+        void shouldCoalesceConcurrentSubmissions() throws Exception {
+            // given - 8개 스레드가 25건씩 제출
+            List<TestRecord> records = dataGenerator.generate(200);
+            ExecutorService submitters = Executors.newFixedThreadPool(8);
+
+            try (GroupCommitInsertService service = new GroupCommitInsertService(repository, 20, 20)) {
+                // when
+                List<Future<?>> workers = new ArrayList<>();
+                for (int worker = 0; worker < 8; worker++) {
+                    List<TestRecord> slice = records.subList(worker * 25, (worker + 1) * 25);
+                    workers.add(submitters.submit(() -> slice.forEach(record -> service.submit(record).join())));
+                }
+                for (Future<?> worker : workers) {
+                    worker.get(30, TimeUnit.SECONDS);
+                }
+
+                // then
+                assertThat(repository.count()).isEqualTo(200);
+                assertThat(service.getFlushedRows()).isEqualTo(200);
+                assertThat(service.getFlushCount()).isLessThan(200);
+            } finally {
+                submitters.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("정상: maxRows가 차면 maxWait을 기다리지 않고 flush")
+        void shouldFlushWhenMaxRowsReached() throws Exception {
+            // given
+            List<TestRecord> records = dataGenerator.generate(10);
+
+            try (GroupCommitInsertService service = new GroupCommitInsertService(repository, 10, LONG_WAIT_MILLIS)) {
+                // when
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (TestRecord record : records) {
+                    futures.add(service.submit(record));
+                }
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+                // then
+                assertThat(service.getFlushCount()).isEqualTo(1);
+                assertThat(service.getFullFlushCount()).isEqualTo(1);
+                assertThat(repository.count()).isEqualTo(10);
+            }
+        }
+
+        @Test
+        @DisplayName("정상: maxRows에 못 미쳐도 maxWait이 지나면 flush")
+        void shouldFlushWhenMaxWaitElapsed() throws Exception {
+            // given
+            TestRecord record = dataGenerator.generate(1).get(0);
+
+            try (GroupCommitInsertService service = new GroupCommitInsertService(repository, 100, 10)) {
+                // when
+                service.submit(record).get(10, TimeUnit.SECONDS);
+
+                // then
+                assertThat(service.getFlushCount()).isEqualTo(1);
+                assertThat(service.getFullFlushCount()).isZero();
+                assertThat(repository.count()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("예외: flush가 실패하면 같은 배치의 Future가 예외로 완료")
+        void shouldCompleteExceptionallyWhenFlushFails() {
+            // given - status 컬럼 길이(20)를 넘는 레코드
+            TestRecord invalid = TestRecord.builder()
+                    .data1("data1")
+                    .amount(BigDecimal.ONE)
+                    .status(StringUtils.repeat("X", 30))
+                    .createdAt(Instant.now())
+                    .build();
+
+            try (GroupCommitInsertService service = new GroupCommitInsertService(repository, 100, 10)) {
+                // when
+                CompletableFuture<Void> future = service.submit(invalid);
+
+                // then
+                assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(DataAccessException.class);
+                assertThat(service.getFlushCount()).isZero();
+            }
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNull() {
+            try (GroupCommitInsertService service = new GroupCommitInsertService(repository, 10, 5)) {
+                assertThatThrownBy(() -> service.submit(null))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("null");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("close 메서드")
+    class CloseTest {
+
+        @Test
+        @DisplayName("정상: 대기 중인 레코드를 저장한 뒤 종료")
+        void shouldFlushPendingRecordsOnClose() throws Exception {
+            // given - maxRows와 maxWait 모두 도달하지 않는 설정
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            GroupCommitInsertService service = new GroupCommitInsertService(repository, 100, LONG_WAIT_MILLIS);
+            for (TestRecord record : dataGenerator.generate(3)) {
+                futures.add(service.submit(record));
+            }
+
+            // when
+            service.close();
+
+            // then
+            for (CompletableFuture<Void> future : futures) {
+                assertThat(future).isCompleted();
+                future.get();
+            }
+            assertThat(repository.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("예외: 종료 후 제출하면 IllegalStateException")
+        void shouldRejectSubmitAfterClose() {
+            // given
+            GroupCommitInsertService service = new GroupCommitInsertService(repository, 10, 5);
+            service.close();
+            TestRecord record = dataGenerator.generate(1).get(0);
+
+            // when & then
+            assertThatThrownBy(() -> service.submit(record))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("closed");
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.config.WaitStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RecordRingBuffer 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("RecordRingBuffer 테스트")
+class RecordRingBufferTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("생성자")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("예외: bufferSize가 2의 거듭제곱이 아닌 경우")
+        void shouldThrowExceptionForNonPowerOfTwo() {
+            assertThatThrownBy(() -> new RecordRingBuffer(6, RecordRingBuffer.ProducerType.SINGLE,
+                    WaitStrategy.YIELDING))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("power of two");
+        }
+
+        @Test
+        @DisplayName("예외: bufferSize가 0인 경우")
+        void shouldThrowExceptionForZero() {
+            assertThatThrownBy(() -> new RecordRingBuffer(0, RecordRingBuffer.ProducerType.SINGLE,
+                    WaitStrategy.YIELDING))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("예외: waitStrategy가 null인 경우")
+        void shouldThrowExceptionForNullWaitStrategy() {
+            assertThatThrownBy(() -> new RecordRingBuffer(8, RecordRingBuffer.ProducerType.SINGLE, null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("waitStrategy");
+        }
+    }
+
+    @Nested
+    @DisplayName("게시와 소비")
+    class PublishTest {
+
+        @Test
+        @DisplayName("정상: 게시된 연속 구간까지만 읽을 수 있음")
+        void shouldExposeOnlyContiguousPublishedSequences() {
+            // given
+            RecordRingBuffer ringBuffer = new RecordRingBuffer(8, RecordRingBuffer.ProducerType.MULTI,
+                    WaitStrategy.BUSY_SPIN);
+            long first = ringBuffer.next();
+            long second = ringBuffer.next();
+            long third = ringBuffer.next();
+
+            // when - 두 번째를 건너뛰고 게시
+            ringBuffer.publish(first);
+            ringBuffer.publish(third);
+
+            // then
+            assertThat(ringBuffer.getHighestPublished(0)).isEqualTo(first);
+            ringBuffer.publish(second);
+            assertThat(ringBuffer.getHighestPublished(0)).isEqualTo(third);
+            assertThat(ringBuffer.getHighestPublished(third + 1)).isEqualTo(third);
+        }
+
+        @Test
+        @DisplayName("정상: 반납된 슬롯을 같은 객체로 재사용")
+        void shouldReuseSlotsAfterRelease() {
+            // given
+            RecordRingBuffer ringBuffer = new RecordRingBuffer(2, RecordRingBuffer.ProducerType.SINGLE,
+                    WaitStrategy.BUSY_SPIN);
+            long first = ringBuffer.next();
+            RecordSlot slot = ringBuffer.get(first);
+            slot.set("a", null, BigDecimal.ONE, "ACTIVE", CREATED_AT);
+            ringBuffer.publish(first);
+            ringBuffer.publish(ringBuffer.next());
+
+            // when
+            ringBuffer.release(ringBuffer.getHighestPublished(0));
+            long wrapped = ringBuffer.next();
+
+            // then
+            assertThat(wrapped).isEqualTo(2);
+            assertThat(ringBuffer.get(wrapped)).isSameAs(slot);
+            assertThat(ringBuffer.getHighestPublished(wrapped)).isEqualTo(wrapped - 1);
+        }
+
+        @Test
+        @DisplayName("정상: 여러 생산자가 게시한 값을 소비자가 빠짐없이 읽음")
+        void shouldDeliverAllValuesFromMultipleProducers() throws Exception {
+            // given - 슬롯보다 많은 값을 넣어 생산자가 반납을 기다리게 함
+            RecordRingBuffer ringBuffer = new RecordRingBuffer(16, RecordRingBuffer.ProducerType.MULTI,
+                    WaitStrategy.SLEEPING);
+            int producerCount = 3;
+            int perProducer = 200;
+            ExecutorService producers = Executors.newFixedThreadPool(producerCount);
+
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int producer = 0; producer < producerCount; producer++) {
+                    String prefix = "p" + producer + "-";
+                    futures.add(producers.submit(() -> {
+                        for (int i = 0; i < perProducer; i++) {
+                            long sequence = ringBuffer.next();
+                            ringBuffer.get(sequence).set(prefix + i, null, null, "ACTIVE", CREATED_AT);
+                            ringBuffer.publish(sequence);
+                        }
+                    }));
+                }
+
+                // when
+                Set<String> received = new HashSet<>();
+                long nextSequence = 0;
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                while (received.size() < producerCount * perProducer && System.nanoTime() < deadline) {
+                    long available = ringBuffer.getHighestPublished(nextSequence);
+                    for (long sequence = nextSequence; sequence <= available; sequence++) {
+                        received.add(ringBuffer.get(sequence).getData1());
+                    }
+                    if (available >= nextSequence) {
+                        ringBuffer.release(available);
+                        nextSequence = available + 1;
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+
+                // then
+                assertThat(received).hasSize(producerCount * perProducer);
+                assertThat(ringBuffer.getClaimedSequence()).isEqualTo(producerCount * perProducer - 1);
+            } finally {
+                producers.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("halt 메서드")
+    class HaltTest {
+
+        @Test
+        @DisplayName("예외: 가득 찬 버퍼를 기다리던 생산자가 IllegalStateException으로 빠져나옴")
+        void shouldReleaseWaitingProducer() throws Exception {
+            // given
+            RecordRingBuffer ringBuffer = new RecordRingBuffer(1, RecordRingBuffer.ProducerType.SINGLE,
+                    WaitStrategy.SLEEPING);
+            ringBuffer.publish(ringBuffer.next());
+            ExecutorService producer = Executors.newSingleThreadExecutor();
+
+            try {
+                Future<Long> blocked = producer.submit(ringBuffer::next);
+
+                // when
+                ringBuffer.halt();
+
+                // then
+                assertThatThrownBy(() -> blocked.get(10, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(IllegalStateException.class);
+            } finally {
+                producer.shutdownNow();
+            }
+        }
+    }
+}
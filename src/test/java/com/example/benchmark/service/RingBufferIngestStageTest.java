@@ -0,0 +1,172 @@
+package com.example.benchmark.service;
+
+import com.example.benchmark.config.CommitPolicy;
+import com.example.benchmark.config.WaitStrategy;
+import com.example.benchmark.domain.TestRecord;
+import com.example.benchmark.util.StringUtils;
+import com.example.benchmark.util.TestDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RingBufferIngestStage 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("RingBufferIngestStage 테스트")
+class RingBufferIngestStageTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcIngestWriter writer;
+    private TestDataGenerator dataGenerator;
+
+    @BeforeEach
+    void setUp() {
+        writer = new JdbcIngestWriter(dataSource);
+        writer.setBatchSize(50);
+        writer.truncateTable();
+        dataGenerator = new TestDataGenerator(12345L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.truncateTable();
+    }
+
+    @Nested
+    @DisplayName("publish 메서드")
+    class PublishTest {
+
+        @Test
+        @DisplayName("정상: 대기 전략마다 여러 생산자가 넘긴 행을 모두 저장")
+        void shouldWriteAllRecordsFromMultipleProducers() throws Exception {
+            for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+                // given - 슬롯(64)보다 많은 300건을 3개 스레드가 나눠 넘김
+                writer.truncateTable();
+                List<TestRecord> records = dataGenerator.generate(300);
+                ExecutorService producers = Executors.newFixedThreadPool(3);
+                RingBufferIngestStage stage = new RingBufferIngestStage(writer, 64,
+                        RecordRingBuffer.ProducerType.MULTI, waitStrategy);
+
+                try {
+                    // when
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (int producer = 0; producer < 3; producer++) {
+                        List<TestRecord> slice = records.subList(producer * 100, (producer + 1) * 100);
+                        futures.add(producers.submit(() -> slice.forEach(stage::publish)));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get(30, TimeUnit.SECONDS);
+                    }
+                    stage.close();
+
+                    // then
+                    assertThat(stage.getWrittenCount()).as(waitStrategy.name()).isEqualTo(300);
+                    assertThat(writer.count()).as(waitStrategy.name()).isEqualTo(300);
+                } finally {
+                    producers.shutdownNow();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("정상: 단일 생산자 구성으로 저장")
+        void shouldWriteRecordsFromSingleProducer() {
+            // given
+            List<TestRecord> records = dataGenerator.generate(120);
+
+            // when
+            try (RingBufferIngestStage stage = new RingBufferIngestStage(writer, 32,
+                    RecordRingBuffer.ProducerType.SINGLE, WaitStrategy.YIELDING)) {
+                records.forEach(stage::publish);
+            }
+
+            // then
+            assertThat(writer.count()).isEqualTo(120);
+        }
+
+        @Test
+        @DisplayName("정상: 커밋 정책에 따라 커밋하고 종료 시 남은 행 저장")
+        void shouldRespectCommitPolicy() {
+            // given
+            writer.setCommitPolicy(CommitPolicy.perBatch());
+            List<TestRecord> records = dataGenerator.generate(75);
+            RingBufferIngestStage stage = new RingBufferIngestStage(writer, 128,
+                    RecordRingBuffer.ProducerType.SINGLE, WaitStrategy.SLEEPING);
+
+            // when
+            records.forEach(stage::publish);
+            stage.close();
+
+            // then
+            assertThat(stage.getWrittenCount()).isEqualTo(75);
+            assertThat(writer.count()).isEqualTo(75);
+            writer.setCommitPolicy(CommitPolicy.singleTransaction());
+        }
+
+        @Test
+        @DisplayName("예외: 저장이 실패하면 close()가 원인을 던지고 이후 publish는 IllegalStateException")
+        void shouldSurfaceConsumerFailure() {
+            // given - status 컬럼 길이(20)를 넘는 행
+            RingBufferIngestStage stage = new RingBufferIngestStage(writer, 8,
+                    RecordRingBuffer.ProducerType.SINGLE, WaitStrategy.SLEEPING);
+            stage.publish("data1", null, BigDecimal.ONE, StringUtils.repeat("X", 30), Instant.now());
+
+            // when & then
+            assertThatThrownBy(stage::close).isInstanceOf(DataAccessException.class);
+            assertThatThrownBy(() -> stage.publish(dataGenerator.generate(1).get(0)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(writer.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("예외: null 레코드 입력 시 IllegalArgumentException")
+        void shouldThrowExceptionForNullRecord() {
+            try (RingBufferIngestStage stage = new RingBufferIngestStage(writer, 8,
+                    RecordRingBuffer.ProducerType.SINGLE, WaitStrategy.SLEEPING)) {
+                assertThatThrownBy(() -> stage.publish((TestRecord) null))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("null");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getTypeName 메서드")
+    class GetTypeNameTest {
+
+        @Test
+        @DisplayName("정상: 생산자 구성과 대기 전략을 포함한 타입명")
+        void shouldIncludeProducerTypeAndWaitStrategy() {
+            try (RingBufferIngestStage stage = new RingBufferIngestStage(writer, 8,
+                    RecordRingBuffer.ProducerType.MULTI, WaitStrategy.YIELDING)) {
+                assertThat(stage.getTypeName()).isEqualTo("RingBuffer-MULTI-YIELDING");
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.benchmark.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * AllocationMeter 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("AllocationMeter 테스트")
+class AllocationMeterTest {
+
+    @Nested
+    @DisplayName("currentThreadAllocatedBytes 메서드")
+    class CurrentThreadAllocatedBytesTest {
+
+        @Test
+        @DisplayName("정상: 배열을 할당하면 누적 할당량이 그만큼 증가")
+        void shouldIncreaseAfterAllocation() {
+            assumeTrue(AllocationMeter.isSupported());
+
+            // given
+            long before = AllocationMeter.currentThreadAllocatedBytes();
+
+            // when
+            byte[] allocated = new byte[1024 * 1024];
+
+            // then
+            long after = AllocationMeter.currentThreadAllocatedBytes();
+            assertThat(allocated).hasSize(1024 * 1024);
+            assertThat(after - before).isGreaterThanOrEqualTo(1024 * 1024);
+        }
+    }
+}
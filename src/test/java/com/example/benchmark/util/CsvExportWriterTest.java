@@ -0,0 +1,95 @@
+package com.example.benchmark.util;
+
+import com.example.benchmark.domain.TestRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CsvExportWriter 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("CsvExportWriter 테스트")
+class CsvExportWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("writeRow 메서드")
+    class WriteRowTest {
+
+        @Test
+        @DisplayName("정상: 헤더 다음에 컬럼 값을 쉼표로 구분하여 기록")
+        void shouldWriteHeaderAndRow() throws Exception {
+            // given
+            Path target = tempDir.resolve("rows.csv");
+
+            // when
+            try (CsvExportWriter writer = new CsvExportWriter(target)) {
+                writer.writeRow(1L, "a", "b", new BigDecimal("12.50"), "PENDING",
+                        Instant.parse("2024-01-02T03:04:05Z"));
+            }
+
+            // then
+            assertThat(Files.readAllLines(target, StandardCharsets.UTF_8)).containsExactly(
+                    CsvExportWriter.HEADER,
+                    "1,a,b,12.50,PENDING,2024-01-02T03:04:05Z");
+        }
+
+        @Test
+        @DisplayName("정상: 쉼표나 큰따옴표가 포함된 값만 따옴표로 감쌈")
+        void shouldQuoteSpecialCharacters() throws Exception {
+            // given
+            Path target = tempDir.resolve("quoted.csv");
+
+            // when
+            try (CsvExportWriter writer = new CsvExportWriter(target)) {
+                writer.writeRow(2L, "x,y", "say \"hi\"", null, null, null);
+            }
+
+            // then
+            assertThat(Files.readAllLines(target, StandardCharsets.UTF_8))
+                    .containsExactly(CsvExportWriter.HEADER, "2,\"x,y\",\"say \"\"hi\"\"\",,,");
+        }
+
+        @Test
+        @DisplayName("정상: 행 수와 첫 행 기록 시각을 추적")
+        void shouldTrackRowCountAndFirstRow() throws Exception {
+            // given
+            long before = System.nanoTime();
+            TestRecord record = new TestDataGenerator(1L).generateUpserts(1, 0, 0.0).get(0);
+
+            // when
+            try (CsvExportWriter writer = new CsvExportWriter(tempDir.resolve("count.csv"))) {
+                assertThat(writer.getFirstRowNanos()).isZero();
+                writer.writeRecord(record);
+                writer.writeRecord(record);
+
+                // then
+                assertThat(writer.getRowCount()).isEqualTo(2);
+                assertThat(writer.getFirstRowNanos()).isGreaterThanOrEqualTo(before);
+            }
+        }
+
+        @Test
+        @DisplayName("예외: null 대상 경로")
+        void shouldThrowExceptionForNullTarget() {
+            assertThatThrownBy(() -> new CsvExportWriter(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("target");
+        }
+    }
+}
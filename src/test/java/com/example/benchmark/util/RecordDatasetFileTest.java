@@ -0,0 +1,138 @@
+package com.example.benchmark.util;
+
+import com.example.benchmark.domain.TestRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RecordDatasetFile 테스트.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("RecordDatasetFile 테스트")
+class RecordDatasetFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<TestRecord> readAll(RecordDatasetFile dataset) {
+        List<TestRecord> records = new ArrayList<>();
+        dataset.iterator().forEachRemaining(records::add);
+        return records;
+    }
+
+    @Nested
+    @DisplayName("write/open 왕복")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("정상: 모든 필드와 null 값을 그대로 복원")
+        void shouldRoundTripAllFields() throws Exception {
+            // given
+            Path target = tempDir.resolve("records.dat");
+            List<TestRecord> records = Arrays.asList(
+                    TestRecord.builder().id(7L).data1("a").data2("b").amount(new BigDecimal("-12.50"))
+                            .status("PENDING").createdAt(Instant.parse("2024-01-02T03:04:05.123456789Z")).build(),
+                    TestRecord.builder().data1("한글 데이터").amount(new BigDecimal("1E+3"))
+                            .createdAt(Instant.parse("1969-12-31T23:59:59.5Z")).build(),
+                    TestRecord.builder().data1("c").createdAt(Instant.EPOCH).build());
+
+            // when
+            RecordDatasetFile.write(target, records.iterator(), records.size(), 99L);
+            RecordDatasetFile dataset = RecordDatasetFile.open(target);
+
+            // then
+            assertThat(dataset.getSeed()).isEqualTo(99L);
+            assertThat(dataset.getRecordCount()).isEqualTo(3);
+            assertThat(dataset.getSizeBytes()).isEqualTo(Files.size(target));
+            assertThat(readAll(dataset)).containsExactlyElementsOf(records);
+        }
+
+        @Test
+        @DisplayName("정상: Iterator마다 처음부터 독립적으로 읽음")
+        void shouldReadWithIndependentIterators() throws Exception {
+            // given
+            Path target = tempDir.resolve("generated.dat");
+            List<TestRecord> records = new TestDataGenerator(3L).generate(50);
+            RecordDatasetFile.write(target, records.iterator(), records.size(), 3L);
+            RecordDatasetFile dataset = RecordDatasetFile.open(target);
+
+            // when
+            Iterator<TestRecord> first = dataset.iterator();
+            first.next();
+            first.next();
+            Iterator<TestRecord> second = dataset.iterator();
+
+            // then
+            assertThat(second.next()).isEqualTo(records.get(0));
+            assertThat(first.next()).isEqualTo(records.get(2));
+            assertThat(readAll(dataset)).containsExactlyElementsOf(records);
+        }
+
+        @Test
+        @DisplayName("경계: 0건 데이터셋")
+        void shouldHandleEmptyDataset() throws Exception {
+            // given
+            Path target = tempDir.resolve("empty.dat");
+
+            // when
+            RecordDatasetFile.write(target, new ArrayList<TestRecord>().iterator(), 0, 1L);
+            Iterator<TestRecord> iterator = RecordDatasetFile.open(target).iterator();
+
+            // then
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("예외 처리")
+    class FailureTest {
+
+        @Test
+        @DisplayName("예외: 레코드 수가 recordCount와 다르면 대상 파일을 만들지 않음")
+        void shouldNotLeaveFileOnCountMismatch() {
+            // given
+            Path target = tempDir.resolve("short.dat");
+            List<TestRecord> records = new TestDataGenerator(1L).generate(3);
+
+            // when & then
+            assertThatThrownBy(() -> RecordDatasetFile.write(target, records.iterator(), 5, 1L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("but had: 3");
+            assertThat(target).doesNotExist();
+            assertThat(tempDir.toFile().list()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("예외: 데이터셋 형식이 아닌 파일")
+        void shouldRejectForeignFile() throws Exception {
+            // given
+            Path target = tempDir.resolve("foreign.dat");
+            Files.write(target, "id,data1,data2,amount,status,created_at\n".getBytes(StandardCharsets.UTF_8));
+
+            // when & then
+            assertThatThrownBy(() -> RecordDatasetFile.open(target))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("bad magic");
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.benchmark.util;
+
+import com.example.benchmark.config.DataProfile;
+import com.example.benchmark.config.TableDefinition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TableRowGenerator 테스트 클래스.
+ *
+ * @author Developer Agent
+ * @since 1.0
+ */
+@DisplayName("TableRowGenerator 테스트")
+class TableRowGeneratorTest {
+
+    private static TableDefinition orders() {
+        TableDefinition.Column amount = new TableDefinition.Column("amount", TableDefinition.ColumnType.NUMBER, 15, false);
+        amount.setScale(2);
+
+        TableDefinition definition = new TableDefinition();
+        definition.setName("orders");
+        definition.setColumns(new ArrayList<>(Arrays.asList(
+                new TableDefinition.Column("id", TableDefinition.ColumnType.NUMBER, 18, false),
+                new TableDefinition.Column("code", TableDefinition.ColumnType.CHAR, 8, false),
+                new TableDefinition.Column("note", TableDefinition.ColumnType.VARCHAR2, 30, true),
+                amount,
+                new TableDefinition.Column("quantity", TableDefinition.ColumnType.NUMBER, 5, false),
+                new TableDefinition.Column("ordered_on", TableDefinition.ColumnType.DATE, 0, false))));
+        definition.setPrimaryKey(new ArrayList<>(Collections.singletonList("id")));
+        return definition;
+    }
+
+    @Nested
+    @DisplayName("generate 메서드")
+    class GenerateTest {
+
+        @Test
+        @DisplayName("정상: 컬럼 타입별 값과 행 번호 기본 키")
+        void shouldGenerateTypedValues() {
+            // given
+            DataProfile profile = DataProfile.defaults();
+            profile.setData2NullRatio(0.0);
+            TableRowGenerator generator = new TableRowGenerator(orders(), profile, 12345L);
+
+            // when
+            List<Object[]> rows = generator.generate(50);
+
+            // then
+            assertThat(generator.getColumnCount()).isEqualTo(6);
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                assertThat(row[0]).isEqualTo((long) (i + 1));
+                assertThat((String) row[1]).hasSize(8);
+                assertThat((String) row[2]).isNotEmpty().hasSizeLessThanOrEqualTo(30);
+                assertThat(row[3]).isInstanceOf(BigDecimal.class);
+                assertThat(((BigDecimal) row[3]).scale()).isEqualTo(2);
+                assertThat((Long) row[4]).isBetween(0L, 99_999L);
+                assertThat(((Timestamp) row[5]).getNanos()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("정상: nullable 컬럼만 null 비율대로 null")
+        void shouldOnlyNullNullableColumns() {
+            // given
+            DataProfile profile = DataProfile.defaults();
+            profile.setData2NullRatio(1.0);
+
+            // when
+            List<Object[]> rows = new TableRowGenerator(orders(), profile, 12345L).generate(20);
+
+            // then
+            assertThat(rows).allSatisfy(row -> {
+                assertThat(row[2]).isNull();
+                assertThat(row[1]).isNotNull();
+                assertThat(row[5]).isNotNull();
+            });
+        }
+
+        @Test
+        @DisplayName("정상: 한글 문자열은 컬럼 바이트 수 안에서 생성")
+        void shouldFitHangulIntoColumnBytes() {
+            // given
+            DataProfile profile = DataProfile.defaults();
+            profile.setCharacterSet(DataProfile.CharacterSet.HANGUL);
+            profile.setData2NullRatio(0.0);
+
+            // when
+            List<Object[]> rows = new TableRowGenerator(orders(), profile, 12345L).generate(50);
+
+            // then
+            assertThat(rows).allSatisfy(row -> {
+                assertThat(((String) row[1]).getBytes(StandardCharsets.UTF_8)).hasSizeLessThanOrEqualTo(8);
+                assertThat(((String) row[2]).getBytes(StandardCharsets.UTF_8)).hasSizeLessThanOrEqualTo(30);
+                assertThat((String) row[2]).matches("[\\uAC00-\\uD7A3]+");
+            });
+        }
+
+        @Test
+        @DisplayName("정상: 같은 seed는 같은 행 생성")
+        void shouldBeDeterministicForSameSeed() {
+            // when
+            List<Object[]> first = new TableRowGenerator(orders(), DataProfile.defaults(), 42L).generate(20);
+            List<Object[]> second = new TableRowGenerator(orders(), DataProfile.defaults(), 42L).generate(20);
+
+            // then
+            for (int i = 0; i < first.size(); i++) {
+                assertThat(Arrays.copyOf(second.get(i), 5)).containsExactly(Arrays.copyOf(first.get(i), 5));
+            }
+        }
+
+        @Test
+        @DisplayName("예외: 음수 개수")
+        void shouldRejectNegativeCount() {
+            TableRowGenerator generator = new TableRowGenerator(orders(), DataProfile.defaults(), 1L);
+
+            assertThatThrownBy(() -> generator.generate(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("count");
+        }
+    }
+}
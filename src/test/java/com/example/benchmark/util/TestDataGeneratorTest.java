@@ -1,11 +1,24 @@
 package com.example.benchmark.util;
 
+import com.example.benchmark.config.DataProfile;
 import com.example.benchmark.domain.TestRecord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -130,6 +143,168 @@ class TestDataGeneratorTest {
         }
     }
 
+    @Nested
+    @DisplayName("데이터 프로파일")
+    class DataProfileTest {
+
+        @Test
+        @DisplayName("정상: 길이 범위와 한글 문자 집합을 따름")
+        void shouldFollowLengthRangeAndHangul() {
+            // given
+            DataProfile profile = new DataProfile();
+            profile.setData1MinLength(5);
+            profile.setData1MaxLength(10);
+            profile.setData2MinLength(20);
+            profile.setData2MaxLength(20);
+            profile.setData2NullRatio(0.0);
+            profile.setCharacterSet(DataProfile.CharacterSet.HANGUL);
+
+            // when
+            List<TestRecord> records = new TestDataGenerator(7L, profile).generate(500);
+
+            // then
+            assertThat(records).allSatisfy(record -> {
+                assertThat(record.getData1().length()).isBetween(5, 10);
+                assertThat(record.getData1().chars()).allMatch(c -> c >= '\uAC00' && c <= '\uD7A3');
+                assertThat(record.getData2()).hasSize(20);
+            });
+            assertThat(records).extracting(record -> record.getData1().length()).contains(5, 10);
+        }
+
+        @Test
+        @DisplayName("정상: data2 null 비율 1.0이면 모두 null")
+        void shouldApplyNullRatio() {
+            // given
+            DataProfile profile = new DataProfile();
+            profile.setData2NullRatio(1.0);
+
+            // when
+            List<TestRecord> records = new TestDataGenerator(7L, profile).generate(200);
+
+            // then
+            assertThat(records).extracting(TestRecord::getData2).containsOnlyNulls();
+        }
+
+        @Test
+        @DisplayName("정상: ZIPF 분포는 첫 번째 status에 몰림")
+        void shouldSkewStatusWithZipf() {
+            // given
+            DataProfile profile = new DataProfile();
+            profile.setStatusDistribution(DataProfile.Distribution.ZIPF);
+            profile.setZipfExponent(2.0);
+
+            // when
+            List<TestRecord> records = new TestDataGenerator(7L, profile).generate(10000);
+
+            // then - 1/(1 + 1/4 + 1/9 + 1/16) ≈ 70%
+            long active = records.stream().filter(record -> "ACTIVE".equals(record.getStatus())).count();
+            long completed = records.stream().filter(record -> "COMPLETED".equals(record.getStatus())).count();
+            assertThat(active).isBetween(6500L, 7500L);
+            assertThat(completed).isLessThan(active / 5);
+        }
+
+        @Test
+        @DisplayName("예외: 유효하지 않은 프로파일")
+        void shouldRejectInvalidProfile() {
+            // given
+            DataProfile profile = new DataProfile();
+            profile.setData1MinLength(10);
+            profile.setData1MaxLength(5);
+
+            // when & then
+            assertThatThrownBy(() -> new TestDataGenerator(profile))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("data1");
+        }
+
+        @Test
+        @DisplayName("정상: 프로파일마다 다른 데이터셋 파일 사용")
+        void shouldKeepDatasetPerProfile(@TempDir Path tempDir) throws Exception {
+            // given
+            DataProfile korean = new DataProfile();
+            korean.setName("korean");
+            korean.setCharacterSet(DataProfile.CharacterSet.HANGUL);
+            korean.setData1MaxLength(60);
+
+            // when
+            Path defaultFile = TestDataGenerator.writeDataset(tempDir, 10, 5L);
+            Path koreanFile = TestDataGenerator.writeDataset(tempDir, 10, 5L, korean);
+            korean.setData1MaxLength(70);
+            Path redefinedFile = TestDataGenerator.writeDataset(tempDir, 10, 5L, korean);
+
+            // then
+            assertThat(koreanFile.getFileName().toString()).startsWith("test_record-korean-");
+            assertThat(koreanFile).isNotEqualTo(defaultFile);
+            assertThat(redefinedFile).isNotEqualTo(koreanFile);
+            assertThat(RecordDatasetFile.open(koreanFile).iterator().next().getData1())
+                    .matches("[\\uAC00-\\uD7A3]{50,60}");
+        }
+    }
+
+    @Nested
+    @DisplayName("writeDataset 정적 메서드")
+    class WriteDatasetTest {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("정상: 같은 seed의 iterate와 동일한 레코드를 파일로 저장")
+        void shouldWriteSameRecordsAsIterate() throws Exception {
+            // given
+            Iterator<TestRecord> expected = new TestDataGenerator(5L).iterate(20);
+
+            // when
+            Path file = TestDataGenerator.writeDataset(tempDir, 20, 5L);
+
+            // then
+            assertThat(file.getFileName().toString())
+                    .isEqualTo("test_record-default-" + DataProfile.defaults().fingerprint() + "-5-20.dat");
+            List<TestRecord> actual = new ArrayList<>();
+            RecordDatasetFile.open(file).iterator().forEachRemaining(actual::add);
+            assertThat(actual).hasSize(20);
+            for (TestRecord record : actual) {
+                TestRecord generated = expected.next();
+                assertThat(record.getData1()).isEqualTo(generated.getData1());
+                assertThat(record.getData2()).isEqualTo(generated.getData2());
+                assertThat(record.getAmount()).isEqualTo(generated.getAmount());
+                assertThat(record.getStatus()).isEqualTo(generated.getStatus());
+            }
+        }
+
+        @Test
+        @DisplayName("정상: 같은 seed와 개수의 파일이 있으면 다시 쓰지 않고 재사용")
+        void shouldReuseExistingFile() throws Exception {
+            // given
+            Path file = TestDataGenerator.writeDataset(tempDir, 10, 5L);
+            FileTime marker = FileTime.fromMillis(0);
+            Files.setLastModifiedTime(file, marker);
+
+            // when
+            Path reused = TestDataGenerator.writeDataset(tempDir, 10, 5L);
+            Path other = TestDataGenerator.writeDataset(tempDir, 11, 5L);
+
+            // then
+            assertThat(reused).isEqualTo(file);
+            assertThat(Files.getLastModifiedTime(reused)).isEqualTo(marker);
+            assertThat(other).isNotEqualTo(file);
+        }
+
+        @Test
+        @DisplayName("정상: 읽을 수 없는 파일은 새로 생성")
+        void shouldRegenerateCorruptFile() throws Exception {
+            // given
+            Files.write(tempDir.resolve("test_record-default-" + DataProfile.defaults().fingerprint() + "-5-10.dat"),
+                    new byte[]{1, 2, 3});
+
+            // when
+            Path file = TestDataGenerator.writeDataset(tempDir, 10, 5L);
+
+            // then
+            assertThat(RecordDatasetFile.open(file).getRecordCount()).isEqualTo(10);
+        }
+    }
+
     @Nested
     @DisplayName("generateDefault 정적 메서드")
     class GenerateDefaultTest {
@@ -148,6 +323,202 @@ class TestDataGeneratorTest {
         }
     }
 
+    @Nested
+    @DisplayName("청크 병렬 생성")
+    class ParallelGenerationTest {
+
+        private final int count = TestDataGenerator.CHUNK_SIZE * 3 + 17;
+
+        @Test
+        @DisplayName("정상: 같은 seed에서 병렬 생성은 순차 생성과 동일한 레코드를 같은 순서로 반환")
+        void shouldMatchSequentialGeneration() throws Exception {
+            // given
+            List<TestRecord> sequential = new TestDataGenerator(42L).generate(count, false);
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            // when - 전용 풀에서 실행하여 단일 코어 환경에서도 여러 스레드로 청크를 채움
+            List<TestRecord> parallel;
+            try {
+                parallel = pool.submit(() -> new TestDataGenerator(42L).generate(count, true)).get();
+            } finally {
+                pool.shutdown();
+            }
+
+            // then
+            assertSameValues(parallel, sequential);
+        }
+
+        @Test
+        @DisplayName("정상: 연속 호출은 서로 다른 레코드를 생성하고 순서도 seed로 재현됨")
+        void shouldAdvanceBetweenCalls() {
+            // given
+            TestDataGenerator first = new TestDataGenerator(42L);
+            TestDataGenerator second = new TestDataGenerator(42L);
+
+            // when
+            List<TestRecord> firstCall = first.generate(10, true);
+            List<TestRecord> secondCall = first.generate(10, false);
+
+            // then
+            assertThat(secondCall.get(0).getData1()).isNotEqualTo(firstCall.get(0).getData1());
+            assertSameValues(second.generate(10, false), firstCall);
+            assertSameValues(second.generate(10, true), secondCall);
+        }
+
+        @Test
+        @DisplayName("정상: iterate는 청크 경계를 넘어서도 generate와 같은 레코드 생성")
+        void shouldIterateAcrossChunkBoundary() {
+            // given
+            List<TestRecord> expected = new TestDataGenerator(7L).generate(count, true);
+            List<TestRecord> actual = new TestDataGenerator(7L).stream(count).collect(Collectors.toList());
+
+            // then
+            assertSameValues(actual, expected);
+        }
+
+        private void assertSameValues(List<TestRecord> actual, List<TestRecord> expected) {
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.get(i).getData1()).isEqualTo(expected.get(i).getData1());
+                assertThat(actual.get(i).getData2()).isEqualTo(expected.get(i).getData2());
+                assertThat(actual.get(i).getAmount()).isEqualTo(expected.get(i).getAmount());
+                assertThat(actual.get(i).getStatus()).isEqualTo(expected.get(i).getStatus());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("지연 생성")
+    class LazyGenerationTest {
+
+        @Test
+        @DisplayName("정상: 같은 seed에서 iterate는 generate와 동일한 순서의 레코드 생성")
+        void shouldIterateSameRecordsAsGenerate() {
+            // given
+            List<TestRecord> expected = new TestDataGenerator(7L).generate(30);
+            Iterator<TestRecord> iterator = new TestDataGenerator(7L).iterate(30);
+
+            // when & then
+            for (TestRecord record : expected) {
+                assertThat(iterator.hasNext()).isTrue();
+                TestRecord actual = iterator.next();
+                assertThat(actual.getData1()).isEqualTo(record.getData1());
+                assertThat(actual.getAmount()).isEqualTo(record.getAmount());
+                assertThat(actual.getStatus()).isEqualTo(record.getStatus());
+            }
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        @DisplayName("정상: stream은 지정된 개수만큼 레코드 생성")
+        void shouldStreamSpecifiedNumberOfRecords() {
+            // given
+            TestDataGenerator generator = new TestDataGenerator(7L);
+
+            // when
+            List<TestRecord> records = generator.stream(40).collect(Collectors.toList());
+
+            // then
+            assertThat(records).hasSize(40);
+            assertThat(records).allSatisfy(record -> assertThat(record.getData1()).isNotBlank());
+        }
+
+        @Test
+        @DisplayName("예외: 음수 개수로 iterate 호출")
+        void shouldThrowExceptionForNegativeCount() {
+            // given
+            TestDataGenerator generator = new TestDataGenerator();
+
+            // when & then
+            assertThatThrownBy(() -> generator.iterate(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("generateUpserts 메서드")
+    class GenerateUpsertsTest {
+
+        @Test
+        @DisplayName("정상: 갱신 비율만큼 기존 키, 나머지는 신규 키")
+        void shouldSplitExistingAndNewKeys() {
+            // given
+            TestDataGenerator generator = new TestDataGenerator(7L);
+
+            // when
+            List<TestRecord> records = generator.generateUpserts(100, 500, 0.2);
+
+            // then
+            List<Long> ids = records.stream().map(TestRecord::getId).collect(Collectors.toList());
+            assertThat(ids).hasSize(100).doesNotHaveDuplicates();
+            assertThat(ids).filteredOn(id -> id <= 500).hasSize(20);
+            assertThat(ids).filteredOn(id -> id > 500).allSatisfy(id -> assertThat(id).isLessThanOrEqualTo(580));
+        }
+
+        @Test
+        @DisplayName("정상: 기존 키가 없으면 1부터 시작하는 신규 키 생성")
+        void shouldGenerateSeedKeys() {
+            // when
+            List<TestRecord> records = new TestDataGenerator(7L).generateUpserts(50, 0, 0.0);
+
+            // then
+            assertThat(records).extracting(TestRecord::getId)
+                    .containsExactlyInAnyOrderElementsOf(
+                            LongStream.rangeClosed(1, 50).boxed().collect(Collectors.toList()));
+        }
+
+        @Test
+        @DisplayName("예외: 기존 키가 갱신 건수보다 적음")
+        void shouldThrowExceptionForInsufficientExistingKeys() {
+            assertThatThrownBy(() -> new TestDataGenerator().generateUpserts(100, 10, 0.5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("existingKeyCount");
+        }
+
+        @Test
+        @DisplayName("예외: 범위를 벗어난 갱신 비율")
+        void shouldThrowExceptionForInvalidRatio() {
+            assertThatThrownBy(() -> new TestDataGenerator().generateUpserts(10, 10, 1.5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("updateRatio");
+        }
+    }
+
+    @Nested
+    @DisplayName("generateHistory 메서드")
+    class GenerateHistoryTest {
+
+        @Test
+        @DisplayName("정상: 생성 시각을 구간에 고르게 배치하고 ID는 1부터 부여")
+        void shouldSpreadCreatedAtAcrossRange() {
+            // given
+            Instant from = Instant.parse("2024-01-01T00:00:00Z");
+            Instant to = from.plus(Duration.ofDays(10));
+
+            // when
+            List<TestRecord> records = new TestDataGenerator(7L).generateHistory(10, from, to);
+
+            // then
+            assertThat(records).extracting(TestRecord::getId)
+                    .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(records.get(0).getCreatedAt()).isEqualTo(from);
+            assertThat(records.get(9).getCreatedAt()).isEqualTo(from.plus(Duration.ofDays(9)));
+        }
+
+        @Test
+        @DisplayName("예외: 구간 끝이 시작보다 이름")
+        void shouldThrowExceptionForReversedRange() {
+            // given
+            Instant from = Instant.parse("2024-01-01T00:00:00Z");
+
+            // when & then
+            assertThatThrownBy(() -> new TestDataGenerator().generateHistory(10, from, from.minusSeconds(1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("to");
+        }
+    }
+
     @Nested
     @DisplayName("생성자 테스트")
     class ConstructorTest {
@@ -3,11 +3,17 @@
 
 -- Drop existing objects
 DROP TABLE IF EXISTS test_record;
+DROP TABLE IF EXISTS test_record_stage;
+DROP TABLE IF EXISTS test_record_source;
 DROP SEQUENCE IF EXISTS test_record_seq;
+DROP SEQUENCE IF EXISTS test_record_jpa_seq;
 
 -- Create Sequence
 CREATE SEQUENCE test_record_seq START WITH 1 INCREMENT BY 1;
 
+-- JPA pooled optimizer용 시퀀스 (INCREMENT BY는 allocationSize와 같아야 함)
+CREATE SEQUENCE test_record_jpa_seq START WITH 1 INCREMENT BY 50;
+
 -- Create Table
 CREATE TABLE test_record (
     id BIGINT PRIMARY KEY,
@@ -21,3 +27,23 @@ CREATE TABLE test_record (
 -- Create Index for Performance
 CREATE INDEX idx_test_record_status ON test_record(status);
 CREATE INDEX idx_test_record_created_at ON test_record(created_at);
+
+-- Staging Table for stage-then-MERGE upsert (Oracle은 전역 임시 테이블, H2는 일반 테이블)
+CREATE TABLE test_record_stage (
+    id BIGINT NOT NULL,
+    data1 VARCHAR(100) NOT NULL,
+    data2 VARCHAR(200),
+    amount DECIMAL(18,2),
+    status VARCHAR(20),
+    created_at TIMESTAMP NOT NULL
+);
+
+-- Source Table for INSERT ... SELECT copy workload
+CREATE TABLE test_record_source (
+    id BIGINT PRIMARY KEY,
+    data1 VARCHAR(100) NOT NULL,
+    data2 VARCHAR(200),
+    amount DECIMAL(18,2),
+    status VARCHAR(20),
+    created_at TIMESTAMP NOT NULL
+);